@@ -40,6 +40,11 @@ public class AssetsController {
                     **최대 파일 크기**: 30MB (31,457,280 bytes)
 
                     **URL 유효 시간**: 15분
+
+                    **체크섬 (선택)**
+                    - `checksum`에 파일의 SHA-256(hex)을 함께 보내면 S3가 업로드된 내용의 일치 여부를 검증합니다.
+                      이 경우 업로드 시 `x-amz-checksum-sha256` 헤더(base64)를 함께 전송해야 합니다.
+                    - 이미 저장된 동일 파일은 업로드 완료 알림 이후 서버에서 공유되어 용량을 절약합니다.
                     """
     )
     @ApiResponses({
@@ -23,11 +23,21 @@ public class UploadUrlRequest {
     @Max(value = 31457280, message = "파일 크기는 30MB를 초과할 수 없습니다.")
     private Long fileSize;
 
+    // 선택: 파일 콘텐츠 SHA-256 (hex). 전달 시 S3가 업로드 내용과 체크섬 일치 여부를 검증하고,
+    // 업로드 확인 단계에서 같은 내용의 기존 객체가 있으면 그 객체를 공유하고 새로 올린 객체는 삭제한다.
+    @Pattern(regexp = "^[a-fA-F0-9]{64}$", message = "체크섬은 SHA-256 hex 문자열이어야 합니다.")
+    private String checksum;
+
     // 테스트용 생성자
     public UploadUrlRequest(Long noteId, String fileName, String mimeType, Long fileSize) {
+        this(noteId, fileName, mimeType, fileSize, null);
+    }
+
+    public UploadUrlRequest(Long noteId, String fileName, String mimeType, Long fileSize, String checksum) {
         this.noteId = noteId;
         this.fileName = fileName;
         this.mimeType = mimeType;
         this.fileSize = fileSize;
+        this.checksum = checksum;
     }
 }
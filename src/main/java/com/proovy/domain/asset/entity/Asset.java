@@ -12,7 +12,9 @@ import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "assets")
+@Table(name = "assets", indexes = {
+        @Index(name = "idx_assets_note", columnList = "note_id, id")
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @EntityListeners(AuditingEntityListener.class)
@@ -43,6 +45,11 @@ public class Asset {
     @Column(length = 500)
     private String thumbnailS3Key; // 썸네일 S3 경로
 
+    @Column(length = 64)
+    private String checksum; // 콘텐츠 SHA-256 (hex), 업로드 확인 시 기록
+
+    private Long blobId; // 공유 S3 객체(AssetBlob) ID, 중복 제거 대상이 아니면 null
+
     @Column(nullable = false, length = 20)
     @Enumerated(EnumType.STRING)
     private AssetSource source; // upload, ai_generated
@@ -62,6 +69,8 @@ public class Asset {
     @Column(columnDefinition = "TEXT")
     private String ocrText; // OCR 결과 (JSON 형태)
 
+    private LocalDateTime ocrRequestedAt; // OCR 처리 요청 시각 (업로드 확인 시점)
+
     private LocalDateTime ocrProcessedAt; // OCR 처리 완료 시각
 
     @CreatedDate
@@ -109,6 +118,27 @@ public class Asset {
     public void markAsUploaded() {
         this.status = AssetStatus.UPLOADED;
         this.ocrStatus = OcrStatus.processing;
+        this.ocrRequestedAt = LocalDateTime.now();
+    }
+
+    /**
+     * 콘텐츠 해시 기반 공유 객체에 연결
+     * 동일한 파일이 이미 저장되어 있으면 s3Key가 기존 객체 경로로 바뀐다.
+     */
+    public void linkBlob(AssetBlob blob) {
+        this.blobId = blob.getId();
+        this.checksum = blob.getChecksum();
+        this.s3Key = blob.getS3Key();
+    }
+
+    /**
+     * OCR 캐시 조회용 체크섬 기록
+     * 업로드 확인 시 기록된 체크섬은 덮어쓰지 않는다.
+     */
+    public void recordFingerprint(String checksum) {
+        if (this.checksum == null) {
+            this.checksum = checksum;
+        }
     }
 
     /**
@@ -0,0 +1,63 @@
+package com.proovy.domain.asset.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.annotation.LastModifiedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import java.time.LocalDateTime;
+
+/**
+ * 콘텐츠 해시(SHA-256) 기준으로 공유되는 S3 원본 객체
+ * 동일한 파일을 업로드한 여러 Asset이 하나의 S3 객체를 참조하며,
+ * refCount가 0이 되는 시점에만 S3 객체를 삭제한다.
+ */
+@Entity
+@Table(name = "asset_blobs", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_asset_blob_checksum", columnNames = "checksum")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@EntityListeners(AuditingEntityListener.class)
+public class AssetBlob {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, length = 64)
+    private String checksum; // SHA-256 (hex, 소문자)
+
+    @Column(name = "s3_key", nullable = false, length = 500)
+    private String s3Key; // 공유 S3 저장 경로
+
+    @Column(name = "file_size", nullable = false)
+    private Long fileSize; // bytes 단위
+
+    @Column(name = "mime_type", nullable = false, length = 100)
+    private String mimeType;
+
+    @Column(name = "ref_count", nullable = false)
+    private Integer refCount; // 참조 중인 Asset 수
+
+    @CreatedDate
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @LastModifiedDate
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    @Builder
+    public AssetBlob(String checksum, String s3Key, Long fileSize, String mimeType, Integer refCount) {
+        this.checksum = checksum;
+        this.s3Key = s3Key;
+        this.fileSize = fileSize;
+        this.mimeType = mimeType;
+        this.refCount = refCount != null ? refCount : 1;
+    }
+}
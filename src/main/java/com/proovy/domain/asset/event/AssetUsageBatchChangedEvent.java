@@ -0,0 +1,18 @@
+package com.proovy.domain.asset.event;
+
+import com.proovy.domain.asset.repository.projection.AssetDeletionView;
+
+import java.util.List;
+
+/**
+ * 여러 자산의 사용량 변경을 한 번에 알리는 도메인 이벤트 (일괄 삭제용)
+ * 수신 측은 (사용자, 노트)별로 증감량을 합산해 노트당 1회, 사용자 합계 1회만 반영한다.
+ */
+public record AssetUsageBatchChangedEvent(List<AssetUsageChangedEvent> changes) {
+
+    public static AssetUsageBatchChangedEvent deleted(List<AssetDeletionView> assets) {
+        return new AssetUsageBatchChangedEvent(assets.stream()
+                .map(AssetUsageChangedEvent::deleted)
+                .toList());
+    }
+}
@@ -0,0 +1,52 @@
+package com.proovy.domain.asset.event;
+
+import com.proovy.domain.asset.entity.Asset;
+import com.proovy.domain.asset.entity.AssetStatus;
+import com.proovy.domain.asset.repository.projection.AssetDeletionView;
+
+/**
+ * 자산 생성/상태 변경/삭제로 스토리지 사용량이 바뀌었음을 알리는 도메인 이벤트
+ * fromStatus가 null이면 새로 생성, toStatus가 null이면 삭제를 의미한다.
+ */
+public record AssetUsageChangedEvent(
+        Long userId,
+        Long noteId,
+        String mimeType,
+        long fileSize,
+        AssetStatus fromStatus,
+        AssetStatus toStatus
+) {
+    public static AssetUsageChangedEvent created(Asset asset) {
+        return of(asset, null, asset.getStatus());
+    }
+
+    public static AssetUsageChangedEvent statusChanged(Asset asset, AssetStatus fromStatus) {
+        return of(asset, fromStatus, asset.getStatus());
+    }
+
+    public static AssetUsageChangedEvent deleted(Asset asset) {
+        return of(asset, asset.getStatus(), null);
+    }
+
+    public static AssetUsageChangedEvent deleted(AssetDeletionView asset) {
+        return new AssetUsageChangedEvent(
+                asset.getUserId(),
+                asset.getNoteId(),
+                asset.getMimeType(),
+                asset.getFileSize(),
+                asset.getStatus(),
+                null
+        );
+    }
+
+    private static AssetUsageChangedEvent of(Asset asset, AssetStatus fromStatus, AssetStatus toStatus) {
+        return new AssetUsageChangedEvent(
+                asset.getUserId(),
+                asset.getNoteId(),
+                asset.getMimeType(),
+                asset.getFileSize(),
+                fromStatus,
+                toStatus
+        );
+    }
+}
@@ -0,0 +1,42 @@
+package com.proovy.domain.asset.repository;
+
+import com.proovy.domain.asset.entity.AssetBlob;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface AssetBlobRepository extends JpaRepository<AssetBlob, Long> {
+
+    /**
+     * 체크섬 기준 공유 객체 등록 또는 참조 획득 (원자적 upsert)
+     * 이미 존재하면 refCount를 1 증가시키고, 없으면 전달한 s3Key로 새로 등록한다.
+     * 반환된 s3Key가 전달한 값과 다르면 기존 객체를 공유하게 된 것이다.
+     */
+    @Query(value = "INSERT INTO asset_blobs (checksum, s3_key, file_size, mime_type, ref_count, created_at, updated_at) " +
+                   "VALUES (:checksum, :s3Key, :fileSize, :mimeType, 1, now(), now()) " +
+                   "ON CONFLICT (checksum) DO UPDATE SET ref_count = asset_blobs.ref_count + 1, updated_at = now() " +
+                   "RETURNING *",
+           nativeQuery = true)
+    AssetBlob upsertAndAcquire(@Param("checksum") String checksum,
+                               @Param("s3Key") String s3Key,
+                               @Param("fileSize") Long fileSize,
+                               @Param("mimeType") String mimeType);
+
+    /**
+     * 참조 반환 (refCount를 count만큼 감소)
+     */
+    @Modifying
+    @Query("UPDATE AssetBlob b SET b.refCount = b.refCount - :count, b.updatedAt = CURRENT_TIMESTAMP " +
+           "WHERE b.id = :id")
+    int release(@Param("id") Long id, @Param("count") int count);
+
+    /**
+     * 더 이상 참조되지 않는 공유 객체 조회
+     */
+    @Query("SELECT b FROM AssetBlob b WHERE b.id IN :ids AND b.refCount <= 0")
+    List<AssetBlob> findUnreferencedByIdIn(@Param("ids") Collection<Long> ids);
+}
@@ -1,21 +1,30 @@
 package com.proovy.domain.asset.repository;
 
 import com.proovy.domain.asset.entity.Asset;
-import com.proovy.domain.asset.entity.AssetStatus;
+import com.proovy.domain.asset.repository.projection.AssetBlobRefView;
+import com.proovy.domain.asset.repository.projection.AssetDeletionView;
+import com.proovy.domain.asset.repository.projection.AssetOcrTextView;
+import com.proovy.domain.asset.repository.projection.AssetSummaryView;
+import com.proovy.domain.asset.repository.projection.AssetUsageBreakdownView;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
-import java.util.Map;
+import java.util.Optional;
 
 public interface AssetRepository extends JpaRepository<Asset, Long> {
 
     /**
-     * 여러 자산 ID로 조회 (일괄 삭제용)
+     * 자산의 OCR 상태와 텍스트 조회 (AI 컨텍스트 구성용, 텍스트는 OCR 완료 시에만 존재)
      */
-    List<Asset> findAllByIdIn(List<Long> ids);
+    @Query("SELECT a.id AS id, a.fileName AS fileName, a.ocrStatus AS ocrStatus, a.ocrText AS ocrText FROM Asset a " +
+           "WHERE a.id IN :ids")
+    List<AssetOcrTextView> findOcrTextsByIdIn(@Param("ids") Collection<Long> ids);
 
     /**
      * 특정 사용자의 자산인지 확인
@@ -24,14 +33,16 @@ public interface AssetRepository extends JpaRepository<Asset, Long> {
     long countByIdInAndUserId(@Param("ids") List<Long> ids, @Param("userId") Long userId);
 
     /**
-     * 특정 사용자의 특정 자산들 조회
+     * 자산 삭제 정보를 조회하며 행 잠금 (일괄 삭제용, 엔티티 로딩 없이)
+     * 잠근 자산만 참조 반환/삭제하므로 동시 삭제 요청에서도 공유 객체 참조가 두 번 반환되지 않는다.
      */
-    List<Asset> findAllByIdInAndUserId(List<Long> ids, Long userId);
-
-    /**
-     * 특정 사용자의 자산 목록 조회
-     */
-    List<Asset> findAllByUserId(Long userId);
+    @Query(value = "SELECT a.id AS \"id\", a.user_id AS \"userId\", a.note_id AS \"noteId\", " +
+                   "a.mime_type AS \"mimeType\", a.file_size AS \"fileSize\", a.status AS \"status\", " +
+                   "a.s3_key AS \"s3Key\", a.thumbnail_s3_key AS \"thumbnailS3Key\", a.blob_id AS \"blobId\" " +
+                   "FROM assets a WHERE a.id IN (:ids) " +
+                   "ORDER BY a.id FOR UPDATE",
+           nativeQuery = true)
+    List<AssetDeletionView> lockDeletionViewsByIdIn(@Param("ids") Collection<Long> ids);
 
     /**
      * 특정 노트의 자산 목록 조회
@@ -44,36 +55,84 @@ public interface AssetRepository extends JpaRepository<Asset, Long> {
     long countByNoteId(Long noteId);
 
     /**
-     * 여러 노트의 자산 개수를 한 번에 조회 (배치 쿼리)
-     * @param noteIds 노트 ID 목록
-     * @return Map<노트ID, 자산개수>
+     * 사용자의 노트/MIME 타입/상태별 자산 용량/개수 집계 (스토리지 요약 재계산용)
+     */
+    @Query("SELECT a.noteId AS noteId, a.mimeType AS mimeType, a.status AS status, " +
+           "COALESCE(SUM(a.fileSize), 0) AS usedBytes, COUNT(a) AS assetCount " +
+           "FROM Asset a " +
+           "WHERE a.userId = :userId " +
+           "GROUP BY a.noteId, a.mimeType, a.status")
+    List<AssetUsageBreakdownView> sumUsageBreakdownByUserId(@Param("userId") Long userId);
+
+    /**
+     * 노트별 최신 자산 ID를 최대 limit개씩 조회 (스토리지 첫 페이지용)
+     */
+    @Query(value = "SELECT ranked.id FROM (" +
+                   "SELECT a.id, ROW_NUMBER() OVER (PARTITION BY a.note_id ORDER BY a.id DESC) AS rn " +
+                   "FROM assets a WHERE a.note_id IN (:noteIds)" +
+                   ") ranked WHERE ranked.rn <= :limit",
+           nativeQuery = true)
+    List<Long> findTopIdsPerNote(@Param("noteIds") List<Long> noteIds, @Param("limit") int limit);
+
+    /**
+     * 자산 ID 목록으로 경량 정보 조회 (최신순)
+     */
+    @Query("SELECT a.id AS id, a.noteId AS noteId, a.fileName AS fileName, a.mimeType AS mimeType, " +
+           "a.source AS source, a.thumbnailS3Key AS thumbnailS3Key " +
+           "FROM Asset a WHERE a.id IN :ids ORDER BY a.id DESC")
+    List<AssetSummaryView> findSummariesByIdIn(@Param("ids") List<Long> ids);
+
+    /**
+     * 사용자의 자산 ID 목록으로 경량 정보 조회 (노트 생성 시 언급 자산 확인용)
+     */
+    @Query("SELECT a.id AS id, a.noteId AS noteId, a.fileName AS fileName, a.mimeType AS mimeType, " +
+           "a.source AS source, a.thumbnailS3Key AS thumbnailS3Key " +
+           "FROM Asset a WHERE a.id IN :ids AND a.userId = :userId")
+    List<AssetSummaryView> findSummariesByIdInAndUserId(@Param("ids") List<Long> ids, @Param("userId") Long userId);
+
+    /**
+     * 노트의 자산 경량 정보 keyset 페이지 조회 (cursor보다 작은 ID, 최신순)
      */
-    @Query("SELECT a.noteId AS noteId, COUNT(a) AS count " +
+    @Query("SELECT a.id AS id, a.noteId AS noteId, a.fileName AS fileName, a.mimeType AS mimeType, " +
+           "a.source AS source, a.thumbnailS3Key AS thumbnailS3Key " +
            "FROM Asset a " +
-           "WHERE a.noteId IN :noteIds " +
-           "GROUP BY a.noteId")
-    List<Map<String, Object>> countByNoteIdIn(@Param("noteIds") List<Long> noteIds);
+           "WHERE a.noteId = :noteId AND a.id < :cursor " +
+           "ORDER BY a.id DESC")
+    List<AssetSummaryView> findSummariesByNoteId(@Param("noteId") Long noteId,
+                                                 @Param("cursor") Long cursor,
+                                                 Pageable pageable);
 
     /**
-     * 특정 노트의 특정 상태 자산 파일 크기 합계 조회
+     * 같은 공유 객체(AssetBlob)를 참조하는 자산 중 특정 OCR 상태인 자산 하나 조회 (OCR 결과 재사용)
      */
-    @Query("SELECT COALESCE(SUM(a.fileSize), 0) FROM Asset a WHERE a.noteId = :noteId AND a.status = :status")
-    Long sumFileSizeByNoteIdAndStatus(@Param("noteId") Long noteId, @Param("status") AssetStatus status);
+    Optional<Asset> findFirstByBlobIdAndOcrStatus(Long blobId, Asset.OcrStatus ocrStatus);
 
     /**
-     * 특정 사용자의 UPLOADED 상태 자산 파일 크기 합계 조회
-     * (PENDING, FAILED 상태는 실제 S3에 저장되지 않으므로 제외)
+     * threshold 이전부터 OCR 처리 중인 자산을 failed로 일괄 변경 (타임아웃 처리용, 엔티티 로딩 없이)
+     * 엔티티 수정과 같게 updatedAt과 version도 함께 갱신한다.
      */
-    @Query("SELECT COALESCE(SUM(a.fileSize), 0) FROM Asset a WHERE a.userId = :userId AND a.status = 'UPLOADED'")
-    Long sumFileSizeByUserId(@Param("userId") Long userId);
+    @Modifying
+    @Query("UPDATE Asset a SET a.ocrStatus = com.proovy.domain.asset.entity.Asset.OcrStatus.failed, " +
+           "a.updatedAt = :now, a.version = COALESCE(a.version, 0) + 1 " +
+           "WHERE a.ocrStatus = com.proovy.domain.asset.entity.Asset.OcrStatus.processing " +
+           "AND a.updatedAt < :threshold")
+    int failTimedOutOcr(@Param("threshold") LocalDateTime threshold, @Param("now") LocalDateTime now);
 
     /**
-     * OCR 상태가 특정 값이고 updatedAt이 특정 시각 이전인 자산 목록 조회 (타임아웃 처리용)
+     * 노트 자산의 S3 참조 정보를 최대 limit개 조회하며 행 잠금 (회원 탈퇴 청크 삭제용)
+     * 잠근 자산만 참조 반환/삭제하므로 같은 자산의 공유 객체 참조가 두 번 반환되지 않는다.
      */
-    List<Asset> findByOcrStatusAndUpdatedAtBefore(Asset.OcrStatus ocrStatus, LocalDateTime threshold);
+    @Query(value = "SELECT a.id AS \"id\", a.s3_key AS \"s3Key\", " +
+                   "a.thumbnail_s3_key AS \"thumbnailS3Key\", a.blob_id AS \"blobId\" " +
+                   "FROM assets a WHERE a.note_id = :noteId " +
+                   "ORDER BY a.id LIMIT :limit FOR UPDATE",
+           nativeQuery = true)
+    List<AssetBlobRefView> lockBlobRefsByNoteId(@Param("noteId") Long noteId, @Param("limit") int limit);
 
     /**
-     * 특정 사용자의 모든 자산 삭제 (회원 탈퇴용)
+     * 자산 일괄 삭제 (엔티티 로딩 없이)
      */
-    void deleteAllByUserId(Long userId);
+    @Modifying
+    @Query("DELETE FROM Asset a WHERE a.id IN :ids")
+    int deleteAllByIdIn(@Param("ids") Collection<Long> ids);
 }
@@ -0,0 +1,15 @@
+package com.proovy.domain.asset.repository.projection;
+
+/**
+ * 자산 삭제 시 필요한 S3 참조 정보 (OCR 텍스트 등 큰 컬럼 제외)
+ */
+public interface AssetBlobRefView {
+
+    Long getId();
+
+    String getS3Key();
+
+    String getThumbnailS3Key();
+
+    Long getBlobId();
+}
@@ -0,0 +1,19 @@
+package com.proovy.domain.asset.repository.projection;
+
+import com.proovy.domain.asset.entity.AssetStatus;
+
+/**
+ * 자산 삭제 시 필요한 정보 (S3 참조 + 스토리지 사용량 반영용 필드)
+ */
+public interface AssetDeletionView extends AssetBlobRefView {
+
+    Long getUserId();
+
+    Long getNoteId();
+
+    String getMimeType();
+
+    Long getFileSize();
+
+    AssetStatus getStatus();
+}
@@ -0,0 +1,22 @@
+package com.proovy.domain.asset.repository.projection;
+
+import com.proovy.domain.asset.entity.Asset;
+
+/**
+ * AI 컨텍스트용 자산 OCR 텍스트
+ */
+public interface AssetOcrTextView {
+
+    Long getId();
+
+    String getFileName();
+
+    Asset.OcrStatus getOcrStatus();
+
+    // OCR 대기/진행 중이면 아직 컨텍스트에 넣을 수 없음
+    default boolean isOcrInProgress() {
+        return getOcrStatus() == Asset.OcrStatus.pending || getOcrStatus() == Asset.OcrStatus.processing;
+    }
+
+    String getOcrText();
+}
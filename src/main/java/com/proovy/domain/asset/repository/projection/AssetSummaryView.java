@@ -0,0 +1,21 @@
+package com.proovy.domain.asset.repository.projection;
+
+import com.proovy.domain.asset.entity.Asset;
+
+/**
+ * 스토리지 화면용 자산 경량 조회 (OCR 텍스트 등 대용량 컬럼 제외)
+ */
+public interface AssetSummaryView {
+
+    Long getId();
+
+    Long getNoteId();
+
+    String getFileName();
+
+    String getMimeType();
+
+    Asset.AssetSource getSource();
+
+    String getThumbnailS3Key();
+}
@@ -0,0 +1,19 @@
+package com.proovy.domain.asset.repository.projection;
+
+import com.proovy.domain.asset.entity.AssetStatus;
+
+/**
+ * 노트/MIME 타입/상태별 자산 용량 집계 결과 (스토리지 요약 재계산용)
+ */
+public interface AssetUsageBreakdownView {
+
+    Long getNoteId();
+
+    String getMimeType();
+
+    AssetStatus getStatus();
+
+    Long getUsedBytes();
+
+    Long getAssetCount();
+}
@@ -0,0 +1,110 @@
+package com.proovy.domain.asset.service;
+
+import com.proovy.domain.asset.entity.Asset;
+import com.proovy.domain.asset.entity.AssetBlob;
+import com.proovy.domain.asset.repository.AssetBlobRepository;
+import com.proovy.domain.asset.repository.projection.AssetBlobRefView;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/**
+ * 콘텐츠 해시 기반 S3 객체 공유 (중복 제거) 관리
+ * 참조 카운트 증감은 모두 DB 원자 연산으로 처리한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class AssetBlobService {
+
+    private final AssetBlobRepository assetBlobRepository;
+
+    /**
+     * 업로드 확인 시 공유 객체 등록
+     * 동일 체크섬이 이미 있으면 기존 객체를 공유하고, 새로 올라온 사본의 S3 키를 반환한다.
+     * @param asset 업로드가 확인된 자산 (s3Key는 방금 업로드된 경로)
+     * @param checksum S3가 검증한 SHA-256 (hex)
+     * @return 삭제해야 할 중복 사본의 S3 키 (새로 등록된 경우 empty)
+     */
+    public Optional<String> register(Asset asset, String checksum) {
+        String uploadedS3Key = asset.getS3Key();
+        AssetBlob blob = assetBlobRepository.upsertAndAcquire(
+                normalize(checksum), uploadedS3Key, asset.getFileSize(), asset.getMimeType());
+
+        asset.linkBlob(blob);
+
+        if (blob.getS3Key().equals(uploadedS3Key)) {
+            return Optional.empty();
+        }
+
+        log.info("[Asset] 중복 파일 감지, 기존 객체 공유 - assetId: {}, blobId: {}", asset.getId(), blob.getId());
+        return Optional.of(uploadedS3Key);
+    }
+
+    /**
+     * 자산 삭제 시 참조 반환
+     * 공유 객체는 refCount가 0이 된 경우에만 S3 키를 반환한다.
+     * @param assets 삭제할 자산 목록
+     * @return 실제로 삭제해야 할 S3 키 목록 (원본 + 썸네일)
+     */
+    public List<String> release(Collection<Asset> assets) {
+        return releaseRefs(assets.stream()
+                .map(asset -> new BlobRef(asset.getS3Key(), asset.getThumbnailS3Key(), asset.getBlobId()))
+                .toList());
+    }
+
+    /**
+     * 자산 삭제 시 참조 반환 (엔티티 대신 S3 참조 정보만 조회한 경우)
+     * @return 실제로 삭제해야 할 S3 키 목록 (원본 + 썸네일)
+     */
+    public List<String> releaseViews(Collection<? extends AssetBlobRefView> assets) {
+        return releaseRefs(assets.stream()
+                .map(asset -> new BlobRef(asset.getS3Key(), asset.getThumbnailS3Key(), asset.getBlobId()))
+                .toList());
+    }
+
+    private record BlobRef(String s3Key, String thumbnailS3Key, Long blobId) {
+    }
+
+    private List<String> releaseRefs(List<BlobRef> assets) {
+        List<String> s3KeysToDelete = new ArrayList<>();
+
+        for (BlobRef asset : assets) {
+            if (asset.blobId() == null && asset.s3Key() != null) {
+                s3KeysToDelete.add(asset.s3Key());
+            }
+            if (asset.thumbnailS3Key() != null) {
+                s3KeysToDelete.add(asset.thumbnailS3Key());
+            }
+        }
+
+        Map<Long, Long> releaseCounts = assets.stream()
+                .filter(asset -> asset.blobId() != null)
+                .collect(Collectors.groupingBy(BlobRef::blobId, Collectors.counting()));
+
+        if (releaseCounts.isEmpty()) {
+            return s3KeysToDelete;
+        }
+
+        releaseCounts.forEach((blobId, count) -> assetBlobRepository.release(blobId, count.intValue()));
+
+        List<AssetBlob> unreferenced = assetBlobRepository.findUnreferencedByIdIn(releaseCounts.keySet());
+        unreferenced.forEach(blob -> s3KeysToDelete.add(blob.getS3Key()));
+        assetBlobRepository.deleteAllInBatch(unreferenced);
+
+        return s3KeysToDelete;
+    }
+
+    private String normalize(String checksum) {
+        return checksum.toLowerCase();
+    }
+}
@@ -47,6 +47,22 @@ public interface AssetsService {
      */
     void deleteAsset(Long userId, Long assetId);
 
+    /**
+     * OCR 처리 완료 (AI 서버 콜백 또는 OCR 캐시 적중)
+     * 결과는 문서 지문 기준 OCR 캐시에도 등록된다.
+     * @param assetId 자산 ID
+     * @param ocrText OCR 결과 (JSON)
+     * @param totalPages 총 페이지 수
+     */
+    void completeOcr(Long assetId, String ocrText, Integer totalPages);
+
+    /**
+     * OCR 캐시 조회용 문서 지문 기록
+     * @param assetId 자산 ID
+     * @param checksum 파일 전체 SHA-256 (hex)
+     */
+    void recordOcrFingerprint(Long assetId, String checksum);
+
     /**
      * OCR 처리 실패로 상태 변경
      * @param assetId 자산 ID
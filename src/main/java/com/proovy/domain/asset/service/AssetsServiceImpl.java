@@ -8,27 +8,32 @@ import com.proovy.domain.asset.dto.response.UploadConfirmResponse;
 import com.proovy.domain.asset.dto.response.UploadUrlResponse;
 import com.proovy.domain.asset.entity.Asset;
 import com.proovy.domain.asset.entity.AssetStatus;
+import com.proovy.domain.asset.event.AssetUsageChangedEvent;
 import com.proovy.domain.asset.repository.AssetRepository;
 import com.proovy.domain.note.entity.Note;
 import com.proovy.domain.note.repository.NoteRepository;
+import com.proovy.domain.ocr.service.OcrResultCacheService;
 import com.proovy.domain.user.entity.PlanType;
-import com.proovy.domain.user.repository.UserPlanRepository;
+import com.proovy.domain.user.service.PlanResolver;
+import com.proovy.domain.user.service.QuotaReservationService;
 import com.proovy.global.exception.BusinessException;
+import com.proovy.global.infra.s3.S3DeleteOutboxHandler;
 import com.proovy.global.infra.s3.S3Service;
+import com.proovy.global.metrics.OperationMetrics;
+import com.proovy.global.outbox.OutboxPublisher;
+import com.proovy.global.profiling.UploadConfirmEvent;
 import com.proovy.global.response.ErrorCode;
+import io.micrometer.core.instrument.Tags;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Value;
-import org.springframework.context.ApplicationContext;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.transaction.support.TransactionSynchronization;
-import org.springframework.transaction.support.TransactionSynchronizationManager;
-import org.springframework.web.reactive.function.client.WebClient;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
@@ -42,24 +47,18 @@ public class AssetsServiceImpl implements AssetsService {
     private final AssetRepository assetRepository;
     private final NoteRepository noteRepository;
     private final S3Service s3Service;
-    private final UserPlanRepository userPlanRepository;
+    private final PlanResolver planResolver;
+    private final AssetBlobService assetBlobService;
+    private final OcrResultCacheService ocrResultCacheService;
+    private final QuotaReservationService quotaReservationService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final OperationMetrics operationMetrics;
+    private final OutboxPublisher outboxPublisher;
 
     private static final int PRESIGNED_URL_DURATION_MINUTES = 15;
-    private static final long BYTES_PER_MB = 1024L * 1024L;
     private static final int OCR_TIMEOUT_MINUTES = 30; // OCR 처리 타임아웃
-    private static final long NOTE_STORAGE_LIMIT = 536_870_912L; // 512MB
-    private final WebClient webClient;
-    private final ApplicationContext applicationContext;
-
-    @Value("${proovy.ai.server-url:http://localhost:8081}")
-    private String aiServerUrl;
-
-    /**
-     * Self-injection을 통해 트랜잭션 프록시를 가져옴
-     */
-    private AssetsService getSelf() {
-        return applicationContext.getBean(AssetsService.class);
-    }
+    private static final String OCR_TURNAROUND_METRIC = "proovy.ocr.turnaround";
+    private static final String AGGREGATE_ASSET = "asset";
 
     @Override
     @Transactional
@@ -67,15 +66,10 @@ public class AssetsServiceImpl implements AssetsService {
         // 1. 파일 형식 검증 (PDF, PNG, JPEG만 허용)
         validateMimeType(request.getMimeType());
 
-        // 2. 파일 크기 검증
-        PlanType planType = userPlanRepository.findActivePlanTypeByUserId(userId)
-                .orElse(PlanType.FREE);
-        validateFileSize(request.getFileSize(), planType);
-
-        // 3. 파일명 검증
+        // 2. 파일명 검증
         validateFileName(request.getFileName());
 
-        // 4. 노트 존재 및 권한 검증
+        // 3. 노트 존재 및 권한 검증
         Note note = noteRepository.findById(request.getNoteId())
                 .orElseThrow(() -> new BusinessException(ErrorCode.NOTE4041));
 
@@ -83,13 +77,16 @@ public class AssetsServiceImpl implements AssetsService {
             throw new BusinessException(ErrorCode.NOTE4031);
         }
 
-        // 5. 노트별 스토리지 용량 검증
-        validateStorageCapacity(request.getNoteId(), request.getFileSize());
+        // 4. 파일 크기 + 사용자/노트 스토리지 용량 예약 (사용량 요약은 자산 이벤트로 같은 트랜잭션에서 갱신)
+        PlanType planType = planResolver.resolvePlanType(userId);
+        quotaReservationService.reserveStorage(userId, request.getNoteId(), request.getFileSize(), planType);
 
-        // 6. S3 Key 생성
+        // 5. S3 Key 생성
+        // 동일 파일 공유는 S3가 실제 업로드된 객체의 체크섬을 검증한 뒤(업로드 확인 단계)에만 수행한다.
+        // 클라이언트가 보낸 체크섬만으로 공유하면 해시만 아는 사용자가 다른 사용자의 파일을 받을 수 있다.
         String s3Key = generateS3Key(userId, request.getNoteId(), request.getFileName());
 
-        // 7. Asset 엔티티 생성 (PENDING 상태)
+        // 6. Asset 엔티티 생성 (PENDING 상태)
         LocalDateTime expiresAt = LocalDateTime.now().plusMinutes(PRESIGNED_URL_DURATION_MINUTES);
 
         Asset asset = Asset.builder()
@@ -105,11 +102,13 @@ public class AssetsServiceImpl implements AssetsService {
                 .build();
 
         Asset savedAsset = assetRepository.save(asset);
+        eventPublisher.publishEvent(AssetUsageChangedEvent.created(savedAsset));
 
-        // 8. Presigned URL 생성
+        // 7. Presigned URL 생성 (체크섬 전달 시 S3가 내용 일치 여부 검증)
         String presignedUrl = s3Service.generatePresignedUploadUrl(
                 s3Key,
                 request.getMimeType(),
+                request.getChecksum(),
                 PRESIGNED_URL_DURATION_MINUTES
         );
 
@@ -119,16 +118,45 @@ public class AssetsServiceImpl implements AssetsService {
         return UploadUrlResponse.of(savedAsset.getId(), presignedUrl, expiresAt);
     }
 
-    private void validateMimeType(String mimeType) {
-        if (!AllowedMimeType.isAllowed(mimeType)) {
-            throw new BusinessException(ErrorCode.ASSET4001);
+    /**
+     * 같은 공유 객체를 참조하는 자산의 OCR 결과 재사용
+     * @return 재사용 여부
+     */
+    private boolean reuseSharedOcrResult(Asset asset) {
+        if (asset.getBlobId() == null) {
+            return false;
+        }
+
+        return assetRepository.findFirstByBlobIdAndOcrStatus(asset.getBlobId(), Asset.OcrStatus.completed)
+                .map(source -> {
+                    asset.completeOcr(source.getOcrText(), source.getTotalPages());
+                    return true;
+                })
+                .orElse(false);
+    }
+
+    /**
+     * OCR 처리 요청을 아웃박스에 기록 (커밋 이후 OcrDispatchOutboxHandler가 처리)
+     */
+    private void appendOcrRequest(Asset asset) {
+        outboxPublisher.append(AGGREGATE_ASSET, asset.getId(), OcrDispatchOutboxHandler.EVENT_TYPE,
+                new OcrDispatchOutboxHandler.Payload(
+                        asset.getId(), asset.getS3Key(), asset.getMimeType(), asset.getChecksum()));
+    }
+
+    /**
+     * 더 이상 참조되지 않는 S3 객체 삭제를 아웃박스에 기록
+     */
+    private void appendS3Deletion(Long assetId, List<String> s3Keys) {
+        if (!s3Keys.isEmpty()) {
+            outboxPublisher.append(AGGREGATE_ASSET, assetId, S3DeleteOutboxHandler.EVENT_TYPE,
+                    new S3DeleteOutboxHandler.Payload(s3Keys));
         }
     }
 
-    private void validateFileSize(Long fileSize, PlanType planType) {
-        long maxFileSize = (long) planType.getSingleFileLimitMb() * BYTES_PER_MB;
-        if (fileSize > maxFileSize) {
-            throw new BusinessException(ErrorCode.ASSET4002);
+    private void validateMimeType(String mimeType) {
+        if (!AllowedMimeType.isAllowed(mimeType)) {
+            throw new BusinessException(ErrorCode.ASSET4001);
         }
     }
 
@@ -140,17 +168,6 @@ public class AssetsServiceImpl implements AssetsService {
         }
     }
 
-    private void validateStorageCapacity(Long noteId, Long fileSize) {
-        Long uploadedSize = assetRepository.sumFileSizeByNoteIdAndStatus(noteId, AssetStatus.UPLOADED);
-        Long pendingSize = assetRepository.sumFileSizeByNoteIdAndStatus(noteId, AssetStatus.PENDING);
-
-        long currentUsage = (uploadedSize != null ? uploadedSize : 0L) + (pendingSize != null ? pendingSize : 0L);
-
-        if (currentUsage + fileSize > NOTE_STORAGE_LIMIT) {
-            throw new BusinessException(ErrorCode.STORAGE4005);
-        }
-    }
-
     private String generateS3Key(Long userId, Long noteId, String fileName) {
         String uuid = UUID.randomUUID().toString();
         return String.format("users/%d/notes/%d/assets/%s_%s",
@@ -189,6 +206,10 @@ public class AssetsServiceImpl implements AssetsService {
     @Override
     @Transactional
     public UploadConfirmResponse confirmUpload(Long userId, Long assetId) {
+        return new UploadConfirmEvent(assetId).record(() -> confirmUploadInTransaction(userId, assetId));
+    }
+
+    private UploadConfirmResponse confirmUploadInTransaction(Long userId, Long assetId) {
         // 1. Asset 존재 확인
         Asset asset = assetRepository.findById(assetId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.ASSET4041));
@@ -213,75 +234,30 @@ public class AssetsServiceImpl implements AssetsService {
         try {
             asset.markAsUploaded();
             assetRepository.saveAndFlush(asset);
+            eventPublisher.publishEvent(AssetUsageChangedEvent.statusChanged(asset, AssetStatus.PENDING));
         } catch (OptimisticLockingFailureException e) {
             // 동시 요청으로 인한 충돌 - 이미 다른 요청이 처리됨
             log.warn("[Asset] 업로드 확인 동시 요청 충돌 - assetId: {}", assetId);
             throw new BusinessException(ErrorCode.ASSET4091);
         }
 
-        // 6. OCR 처리 요청 (트랜잭션 커밋 후 비동기 실행)
-        // OCR 요청에 필요한 정보 저장 (트랜잭션 외부에서 사용)
-        final Long savedAssetId = asset.getId();
-        final String s3Key = asset.getS3Key();
-        final String mimeType = asset.getMimeType();
+        // 6. 콘텐츠 해시 기록 및 중복 제거 (체크섬과 함께 업로드된 경우)
+        String checksum = s3Service.getChecksumSha256(asset.getS3Key());
+        if (checksum != null) {
+            assetBlobService.register(asset, checksum)
+                    .ifPresent(duplicateS3Key -> appendS3Deletion(assetId, List.of(duplicateS3Key)));
+        }
 
-        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
-            @Override
-            public void afterCommit() {
-                requestOcrProcessingAsync(savedAssetId, s3Key, mimeType);
-            }
-        });
+        // 7. OCR 처리 요청 (공유 객체에 OCR 결과가 있으면 재사용, 없으면 아웃박스에 기록해 커밋 후 실행)
+        if (!reuseSharedOcrResult(asset)) {
+            appendOcrRequest(asset);
+        }
 
         log.info("[Asset] 업로드 확인 완료 - assetId: {}, userId: {}", assetId, userId);
 
         return UploadConfirmResponse.from(asset);
     }
 
-    /**
-     * AI 서버에 OCR 처리 요청 (비동기)
-     * 트랜잭션 커밋 후 afterCommit 콜백에서 호출됨
-     * 요청 실패 시 ocrStatus를 failed로 변경
-     *
-     * @param assetId  자산 ID
-     * @param s3Key    S3 저장 경로
-     * @param mimeType MIME 타입
-     */
-    private void requestOcrProcessingAsync(Long assetId, String s3Key, String mimeType) {
-        try {
-            log.info("[OCR] OCR 처리 요청 시작 - assetId: {}, s3Key: {}", assetId, s3Key);
-
-            webClient.post()
-                    .uri(aiServerUrl + "/api/ocr/process")
-                    .bodyValue(java.util.Map.of(
-                            "assetId", assetId,
-                            "s3Key", s3Key,
-                            "mimeType", mimeType
-                    ))
-                    .retrieve()
-                    .bodyToMono(Void.class)
-                    .subscribe(
-                            result -> log.info("[OCR] OCR 처리 요청 완료 - assetId: {}", assetId),
-                            error -> {
-                                log.error("[OCR] OCR 처리 요청 실패 - assetId: {}, error: {}", assetId, error.getMessage());
-                                // 별도 트랜잭션에서 OCR 실패 처리
-                                try {
-                                    getSelf().markOcrFailed(assetId);
-                                } catch (Exception e) {
-                                    log.error("[OCR] OCR 실패 상태 변경 중 오류 - assetId: {}, error: {}", assetId, e.getMessage());
-                                }
-                            }
-                    );
-        } catch (Exception e) {
-            log.error("[OCR] OCR 처리 요청 예외 - assetId: {}, error: {}", assetId, e.getMessage());
-            // 동기 예외 발생 시에도 실패 처리
-            try {
-                getSelf().markOcrFailed(assetId);
-            } catch (Exception ex) {
-                log.error("[OCR] OCR 실패 상태 변경 중 오류 - assetId: {}, error: {}", assetId, ex.getMessage());
-            }
-        }
-    }
-
     @Override
     public AssetDetailResponse getAssetDetail(Long userId, Long assetId) {
         // 1. Asset 존재 확인
@@ -310,41 +286,55 @@ public class AssetsServiceImpl implements AssetsService {
             throw new BusinessException(ErrorCode.ASSET4031);
         }
 
-        // S3 키 저장 (트랜잭션 커밋 후 삭제를 위해)
-        final String s3Key = asset.getS3Key();
-        final String thumbnailS3Key = asset.getThumbnailS3Key();
-
         // 3. DB Asset 레코드 삭제 (먼저 수행)
         assetRepository.delete(asset);
+        eventPublisher.publishEvent(AssetUsageChangedEvent.deleted(asset));
 
-        // 4. 트랜잭션 커밋 후 S3 파일 삭제 (afterCommit 콜백)
-        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
-            @Override
-            public void afterCommit() {
-                // S3 원본 파일 삭제
-                try {
-                    s3Service.deleteFile(s3Key);
-                    log.info("[Asset] S3 원본 파일 삭제 완료 - s3Key: {}", s3Key);
-                } catch (Exception e) {
-                    // S3 삭제 실패해도 DB는 이미 커밋됨 (로깅만 수행)
-                    log.error("[Asset] S3 원본 파일 삭제 실패 - s3Key: {}, error: {}", s3Key, e.getMessage());
-                }
-
-                // S3 썸네일 삭제 (있는 경우)
-                if (thumbnailS3Key != null) {
-                    try {
-                        s3Service.deleteFile(thumbnailS3Key);
-                        log.info("[Asset] S3 썸네일 삭제 완료 - s3Key: {}", thumbnailS3Key);
-                    } catch (Exception e) {
-                        log.error("[Asset] S3 썸네일 삭제 실패 - s3Key: {}, error: {}", thumbnailS3Key, e.getMessage());
-                    }
-                }
-            }
-        });
+        // 4. 공유 객체 참조 반환 → 더 이상 참조되지 않는 S3 키만 삭제 대상 (원본 + 썸네일)
+        List<String> s3KeysToDelete = assetBlobService.release(List.of(asset));
+
+        // 5. S3 파일 삭제는 아웃박스에 기록 (커밋 후 실행, 실패 시 재시도)
+        appendS3Deletion(assetId, s3KeysToDelete);
 
         log.info("[Asset] 자산 삭제 완료 (DB) - assetId: {}, userId: {}", assetId, userId);
     }
 
+    @Override
+    @Transactional
+    public void completeOcr(Long assetId, String ocrText, Integer totalPages) {
+        Asset asset = assetRepository.findById(assetId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.ASSET4041));
+
+        if (asset.getOcrStatus() == Asset.OcrStatus.completed) {
+            log.debug("[OCR] 이미 완료된 OCR - assetId: {}", assetId);
+            return;
+        }
+
+        asset.completeOcr(ocrText, totalPages);
+        ocrResultCacheService.store(asset.getChecksum(), ocrText, totalPages);
+        recordOcrTurnaround(asset);
+
+        log.info("[OCR] OCR 처리 완료 - assetId: {}, totalPages: {}", assetId, totalPages);
+    }
+
+    /**
+     * 업로드 확인부터 OCR 결과 반영까지의 시간 기록 (AI 서버 콜백 + 캐시 적중 포함)
+     */
+    private void recordOcrTurnaround(Asset asset) {
+        if (asset.getOcrRequestedAt() == null) {
+            return; // 요청 시각 기록 이전에 업로드된 자산
+        }
+        operationMetrics.timer(OCR_TURNAROUND_METRIC, Tags.empty(), OperationMetrics.OUTCOME_SUCCESS)
+                .record(Duration.between(asset.getOcrRequestedAt(), asset.getOcrProcessedAt()));
+    }
+
+    @Override
+    @Transactional
+    public void recordOcrFingerprint(Long assetId, String checksum) {
+        assetRepository.findById(assetId)
+                .ifPresent(asset -> asset.recordFingerprint(checksum));
+    }
+
     @Override
     @Transactional(propagation = Propagation.REQUIRES_NEW)
     public void markOcrFailed(Long assetId) {
@@ -363,20 +353,9 @@ public class AssetsServiceImpl implements AssetsService {
     public void markTimedOutOcrAsFailed() {
         LocalDateTime timeoutThreshold = LocalDateTime.now().minusMinutes(OCR_TIMEOUT_MINUTES);
 
-        List<Asset> timedOutAssets = assetRepository.findByOcrStatusAndUpdatedAtBefore(
-                Asset.OcrStatus.processing,
-                timeoutThreshold
-        );
-
-        if (!timedOutAssets.isEmpty()) {
-            log.info("[OCR] 타임아웃된 OCR 처리 자산 발견 - count: {}", timedOutAssets.size());
-
-            for (Asset asset : timedOutAssets) {
-                asset.failOcr();
-                assetRepository.save(asset);
-                log.warn("[OCR] OCR 타임아웃으로 failed 처리 - assetId: {}, updatedAt: {}",
-                        asset.getId(), asset.getUpdatedAt());
-            }
+        int failedCount = assetRepository.failTimedOutOcr(timeoutThreshold, LocalDateTime.now());
+        if (failedCount > 0) {
+            log.warn("[OCR] OCR 타임아웃으로 failed 처리 - count: {}, threshold: {}", failedCount, timeoutThreshold);
         }
     }
 }
@@ -0,0 +1,130 @@
+package com.proovy.domain.asset.service;
+
+import com.proovy.domain.ocr.entity.OcrResultCache;
+import com.proovy.domain.ocr.service.OcrFingerprintCalculator;
+import com.proovy.domain.ocr.service.OcrResultCacheService;
+import com.proovy.global.metrics.OperationMetrics;
+import com.proovy.global.outbox.OutboxHandler;
+import com.proovy.global.profiling.OcrDispatchEvent;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 아웃박스 OCR 처리 요청 (업로드 확인/중복 파일 공유 트랜잭션에 함께 기록)
+ * 문서 지문 기준 OCR 캐시에 결과가 있으면 AI 서버를 호출하지 않고 바로 완료 처리한다.
+ * AI 서버 요청 실패 시 재시도하고, 끝내 실패하면 ocrStatus를 failed로 변경한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OcrDispatchOutboxHandler implements OutboxHandler<OcrDispatchOutboxHandler.Payload> {
+
+    public static final String EVENT_TYPE = "ocr.dispatch";
+
+    private static final Duration DISPATCH_TIMEOUT = Duration.ofSeconds(30);
+    private static final String OCR_DISPATCH_METRIC = "proovy.ocr.dispatch";
+    private static final String OCR_OUTCOME_CACHE_HIT = "cache_hit";
+    private static final String OCR_OUTCOME_DISPATCHED = "dispatched";
+
+    private final AssetsService assetsService;
+    private final OcrFingerprintCalculator ocrFingerprintCalculator;
+    private final OcrResultCacheService ocrResultCacheService;
+    private final OperationMetrics operationMetrics;
+    private final WebClient webClient;
+
+    @Value("${proovy.ai.server-url:http://localhost:8081}")
+    private String aiServerUrl;
+
+    /**
+     * @param checksum 업로드 확인 시 기록된 SHA-256 (없으면 null)
+     */
+    public record Payload(Long assetId, String s3Key, String mimeType, String checksum) {
+    }
+
+    @Override
+    public String eventType() {
+        return EVENT_TYPE;
+    }
+
+    @Override
+    public Class<Payload> payloadType() {
+        return Payload.class;
+    }
+
+    // AI 서버 응답을 최대 30초 기다리므로 동시 처리 수를 제한 (다른 종류의 이벤트 처리에는 영향 없음)
+    @Override
+    public int concurrency() {
+        return 4;
+    }
+
+    /**
+     * 캐시 조회(지문 계산 포함) + AI 서버 요청 접수 (outcome: cache_hit / dispatched / error)
+     */
+    @Override
+    public void handle(Payload payload) {
+        Timer.Sample sample = Timer.start();
+        OcrDispatchEvent event = new OcrDispatchEvent(payload.assetId());
+        event.begin();
+        String outcome = OperationMetrics.OUTCOME_ERROR;
+        try {
+            log.info("[OCR] OCR 처리 요청 시작 - assetId: {}, s3Key: {}", payload.assetId(), payload.s3Key());
+            outcome = completeFromOcrCache(payload) ? OCR_OUTCOME_CACHE_HIT : dispatch(payload);
+            log.info("[OCR] OCR 처리 요청 완료 - assetId: {}, outcome: {}", payload.assetId(), outcome);
+        } finally {
+            sample.stop(operationMetrics.timer(OCR_DISPATCH_METRIC, Tags.empty(), outcome));
+            event.complete(outcome);
+        }
+    }
+
+    @Override
+    public void onGiveUp(Payload payload) {
+        assetsService.markOcrFailed(payload.assetId());
+    }
+
+    /**
+     * 문서 지문으로 OCR 캐시 조회 후 적중 시 완료 처리
+     * 캐시 조회 실패는 OCR 실패가 아니므로 AI 서버 요청으로 진행한다.
+     * @return 캐시 적중 여부
+     */
+    private boolean completeFromOcrCache(Payload payload) {
+        try {
+            String fileSha256 = ocrFingerprintCalculator.calculate(payload.s3Key(), payload.checksum());
+            assetsService.recordOcrFingerprint(payload.assetId(), fileSha256);
+
+            Optional<OcrResultCache> cached = ocrResultCacheService.lookup(fileSha256);
+            if (cached.isEmpty()) {
+                return false;
+            }
+
+            assetsService.completeOcr(payload.assetId(), cached.get().getOcrText(), cached.get().getTotalPages());
+            log.info("[OCR] OCR 캐시 적중 - assetId: {}, cacheId: {}", payload.assetId(), cached.get().getId());
+            return true;
+        } catch (Exception e) {
+            log.warn("[OCR] OCR 캐시 조회 실패 - assetId: {}, error: {}", payload.assetId(), e.getMessage());
+            return false;
+        }
+    }
+
+    private String dispatch(Payload payload) {
+        webClient.post()
+                .uri(aiServerUrl + "/api/ocr/process")
+                .bodyValue(Map.of(
+                        "assetId", payload.assetId(),
+                        "s3Key", payload.s3Key(),
+                        "mimeType", payload.mimeType()
+                ))
+                .retrieve()
+                .bodyToMono(Void.class)
+                .block(DISPATCH_TIMEOUT);
+        return OCR_OUTCOME_DISPATCHED;
+    }
+}
@@ -3,7 +3,9 @@ package com.proovy.domain.auth.provider;
 import com.proovy.domain.auth.dto.google.GoogleTokenResponse;
 import com.proovy.domain.auth.dto.google.GoogleUserResponse;
 import com.proovy.global.exception.BusinessException;
+import com.proovy.global.metrics.OperationMetrics;
 import com.proovy.global.response.ErrorCode;
+import io.micrometer.core.instrument.Tags;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
@@ -24,7 +26,11 @@ import java.nio.charset.StandardCharsets;
 @RequiredArgsConstructor
 public class GoogleOAuthClient {
 
+    private static final String METRIC_NAME = "proovy.oauth.requests";
+    private static final String PROVIDER = "google";
+
     private final WebClient webClient;
+    private final OperationMetrics operationMetrics;
 
     @Value("${oauth.google.client-id}")
     private String clientId;
@@ -46,6 +52,11 @@ public class GoogleOAuthClient {
      * redirectUri는 서버 설정값 사용
      */
     public GoogleTokenResponse getAccessToken(String authorizationCode) {
+        return operationMetrics.record(METRIC_NAME, Tags.of("provider", PROVIDER, "operation", "token"),
+                () -> requestAccessToken(authorizationCode));
+    }
+
+    private GoogleTokenResponse requestAccessToken(String authorizationCode) {
         // 구글 인가 코드는 '/'를 포함하므로 URL 디코딩 필요 (4%2F... -> 4/...)
         String decodedCode = URLDecoder.decode(authorizationCode, StandardCharsets.UTF_8);
 
@@ -82,6 +93,11 @@ public class GoogleOAuthClient {
      * 액세스 토큰으로 사용자 정보 조회
      */
     public GoogleUserResponse getUserInfo(String accessToken) {
+        return operationMetrics.record(METRIC_NAME, Tags.of("provider", PROVIDER, "operation", "user_info"),
+                () -> requestUserInfo(accessToken));
+    }
+
+    private GoogleUserResponse requestUserInfo(String accessToken) {
         try {
             return webClient.get()
                     .uri(userInfoUri)
@@ -3,7 +3,9 @@ package com.proovy.domain.auth.provider;
 import com.proovy.domain.auth.dto.kakao.KakaoTokenResponse;
 import com.proovy.domain.auth.dto.kakao.KakaoUserResponse;
 import com.proovy.global.exception.BusinessException;
+import com.proovy.global.metrics.OperationMetrics;
 import com.proovy.global.response.ErrorCode;
+import io.micrometer.core.instrument.Tags;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
@@ -21,7 +23,11 @@ import reactor.core.publisher.Mono;
 @RequiredArgsConstructor
 public class KakaoOAuthClient {
 
+    private static final String METRIC_NAME = "proovy.oauth.requests";
+    private static final String PROVIDER = "kakao";
+
     private final WebClient webClient;
+    private final OperationMetrics operationMetrics;
 
     @Value("${oauth.kakao.client-id}")
     private String clientId;
@@ -39,6 +45,11 @@ public class KakaoOAuthClient {
      * 인가 코드로 액세스 토큰 발급
      */
     public KakaoTokenResponse getAccessToken(String authorizationCode, String redirectUri) {
+        return operationMetrics.record(METRIC_NAME, Tags.of("provider", PROVIDER, "operation", "token"),
+                () -> requestAccessToken(authorizationCode, redirectUri));
+    }
+
+    private KakaoTokenResponse requestAccessToken(String authorizationCode, String redirectUri) {
         try {
             return webClient.post()
                     .uri(tokenUri)
@@ -72,6 +83,11 @@ public class KakaoOAuthClient {
      * 액세스 토큰으로 사용자 정보 조회
      */
     public KakaoUserResponse getUserInfo(String accessToken) {
+        return operationMetrics.record(METRIC_NAME, Tags.of("provider", PROVIDER, "operation", "user_info"),
+                () -> requestUserInfo(accessToken));
+    }
+
+    private KakaoUserResponse requestUserInfo(String accessToken) {
         try {
             return webClient.get()
                     .uri(userInfoUri)
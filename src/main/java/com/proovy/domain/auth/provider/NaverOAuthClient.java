@@ -3,7 +3,9 @@ package com.proovy.domain.auth.provider;
 import com.proovy.domain.auth.dto.naver.NaverTokenResponse;
 import com.proovy.domain.auth.dto.naver.NaverUserResponse;
 import com.proovy.global.exception.BusinessException;
+import com.proovy.global.metrics.OperationMetrics;
 import com.proovy.global.response.ErrorCode;
+import io.micrometer.core.instrument.Tags;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
@@ -20,7 +22,11 @@ import reactor.core.publisher.Mono;
 @RequiredArgsConstructor
 public class NaverOAuthClient {
 
+    private static final String METRIC_NAME = "proovy.oauth.requests";
+    private static final String PROVIDER = "naver";
+
     private final WebClient webClient;
+    private final OperationMetrics operationMetrics;
 
     @Value("${oauth.naver.client-id}")
     private String clientId;
@@ -56,6 +62,11 @@ public class NaverOAuthClient {
      * redirectUri는 서버 설정값
      */
     public NaverTokenResponse getAccessToken(String code, String state) {
+        return operationMetrics.record(METRIC_NAME, Tags.of("provider", PROVIDER, "operation", "token"),
+                () -> requestAccessToken(code, state));
+    }
+
+    private NaverTokenResponse requestAccessToken(String code, String state) {
         try {
             NaverTokenResponse response = webClient.post()
                     .uri(tokenUri)
@@ -103,6 +114,11 @@ public class NaverOAuthClient {
      * 액세스 토큰으로 사용자 정보 조회
      */
     public NaverUserResponse getUserInfo(String accessToken) {
+        return operationMetrics.record(METRIC_NAME, Tags.of("provider", PROVIDER, "operation", "user_info"),
+                () -> requestUserInfo(accessToken));
+    }
+
+    private NaverUserResponse requestUserInfo(String accessToken) {
         try {
             NaverUserResponse response = webClient.get()
                     .uri(userInfoUri)
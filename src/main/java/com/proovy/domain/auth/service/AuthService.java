@@ -22,6 +22,7 @@ import com.proovy.domain.auth.repository.RefreshTokenRepository;
 import com.proovy.domain.user.entity.OAuthProvider;
 import com.proovy.domain.user.entity.User;
 import com.proovy.domain.user.repository.UserRepository;
+import com.proovy.global.datasource.RecentWriteTracker;
 import com.proovy.global.exception.BusinessException;
 import com.proovy.global.response.ErrorCode;
 import jakarta.validation.Valid;
@@ -52,6 +53,7 @@ public class AuthService {
     private final RefreshTokenRepository refreshTokenRepository;
     private final AccessTokenBlacklistService accessTokenBlacklistService;
     private final StringRedisTemplate redisTemplate;
+    private final RecentWriteTracker recentWriteTracker;
 
     @Value("${oauth.naver.state-ttl:300}")
     private Long stateTtl;
@@ -250,6 +252,8 @@ public class AuthService {
 
         User savedUser = userRepository.save(user);
         log.info("신규 유저 가입 완료, userId: {}, provider: {}", savedUser.getId(), provider);
+        // 가입 직후 요청은 복제 지연과 무관하게 주 DB에서 조회
+        recentWriteTracker.markWrite(savedUser.getId());
 
         // 4. JWT 토큰 발급
         TokenDto tokens = jwtTokenProvider.generateTokens(savedUser.getId());
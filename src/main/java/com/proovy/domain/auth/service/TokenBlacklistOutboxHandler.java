@@ -0,0 +1,45 @@
+package com.proovy.domain.auth.service;
+
+import com.proovy.global.outbox.OutboxHandler;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * 아웃박스 Access Token 블랙리스트 등록 (회원 탈퇴 트랜잭션에 함께 기록)
+ * 블랙리스트는 Redis에 저장되므로 DB 트랜잭션과 묶지 않고 커밋 이후 등록한다.
+ * 같은 토큰을 다시 등록해도 같은 키를 덮어쓰므로 재시도해도 안전하다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TokenBlacklistOutboxHandler implements OutboxHandler<TokenBlacklistOutboxHandler.Payload> {
+
+    public static final String EVENT_TYPE = "token.blacklist";
+
+    private final AccessTokenBlacklistService accessTokenBlacklistService;
+
+    public record Payload(String accessToken, Long userId) {
+    }
+
+    @Override
+    public String eventType() {
+        return EVENT_TYPE;
+    }
+
+    @Override
+    public Class<Payload> payloadType() {
+        return Payload.class;
+    }
+
+    @Override
+    public void handle(Payload payload) {
+        accessTokenBlacklistService.blacklist(payload.accessToken(), payload.userId());
+    }
+
+    @Override
+    public void onGiveUp(Payload payload) {
+        // 탈퇴한 사용자는 인증 필터에서 차단되므로 토큰이 만료될 때까지 로그만 남긴다.
+        log.warn("[Auth] Access Token 블랙리스트 등록 포기 - userId: {}", payload.userId());
+    }
+}
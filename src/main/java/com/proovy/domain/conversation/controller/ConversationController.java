@@ -0,0 +1,57 @@
+package com.proovy.domain.conversation.controller;
+
+import com.proovy.domain.conversation.dto.response.ConversationHistoryResponse;
+import com.proovy.domain.conversation.service.ConversationService;
+import com.proovy.global.response.ApiResponse;
+import com.proovy.global.security.UserPrincipal;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/conversations")
+@RequiredArgsConstructor
+@Tag(name = "Conversations", description = "대화 API")
+public class ConversationController {
+
+    private final ConversationService conversationService;
+
+    @GetMapping("/{conversationId}/messages")
+    @Operation(
+            summary = "대화 기록 조회 (커서 기반)",
+            description = """
+                    대화의 메시지를 최신 페이지부터 조회합니다. 각 페이지의 메시지는 시간순(오래된 → 최신)으로 정렬됩니다.
+                    
+                    **커서**
+                    - 첫 요청은 cursor 없이 호출하면 가장 최근 메시지를 반환합니다.
+                    - 응답의 `nextCursor`를 다음 요청의 `cursor`로 전달하면 더 이전 메시지를 조회합니다.
+                    
+                    **페이지 크기**
+                    - 기본값: 30
+                    - 최대값: 100
+                    """
+    )
+    @ApiResponses({
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "대화 기록 조회 성공"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "401", description = "인증 토큰 없음/만료 (AUTH4011)"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "403", description = "노트 접근 권한 없음 (NOTE4031)"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "404", description = "대화를 찾을 수 없음 (CONVERSATION4041)")
+    })
+    public ApiResponse<ConversationHistoryResponse> getMessages(
+            @AuthenticationPrincipal UserPrincipal userPrincipal,
+            @Parameter(description = "대화 ID", example = "1")
+            @PathVariable Long conversationId,
+            @Parameter(description = "이전 응답의 nextCursor (첫 페이지는 생략)")
+            @RequestParam(required = false) Long cursor,
+            @Parameter(description = "페이지당 메시지 수 (최대 100)", example = "30")
+            @RequestParam(defaultValue = "" + ConversationService.DEFAULT_MESSAGE_PAGE_SIZE) int size
+    ) {
+        ConversationHistoryResponse response = conversationService.getMessages(
+                userPrincipal.getUserId(), conversationId, cursor, size);
+        return ApiResponse.success("대화 기록 조회에 성공했습니다.", response);
+    }
+}
@@ -0,0 +1,57 @@
+package com.proovy.domain.conversation.controller;
+
+import com.proovy.domain.conversation.dto.response.MessageStreamEvent;
+import com.proovy.domain.conversation.service.MessageStreamService;
+import com.proovy.global.security.UserPrincipal;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
+
+@RestController
+@RequestMapping("/api/messages")
+@RequiredArgsConstructor
+@Tag(name = "Messages", description = "메시지 API")
+public class MessageController {
+
+    private final MessageStreamService messageStreamService;
+
+    @GetMapping(value = "/{messageId}/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(
+            summary = "어시스턴트 응답 스트리밍 (SSE)",
+            description = """
+                    STREAMING 상태의 어시스턴트 메시지 응답을 Server-Sent Events로 실시간 전달합니다.
+                    
+                    **이벤트**
+                    - `token`: 새로 생성된 응답 조각 (`delta`)
+                    - `done`: 응답 완료 (`messageId`, `status`). 이미 완료된 메시지는 `content`를 포함한 done 하나만 전송
+                    - `error`: 응답 생성 실패 (`code`, `message`), 메시지는 FAILED로 저장됨
+                    
+                    연결이 끊기면 생성이 중단되고 메시지는 지금까지 생성된 내용과 함께 STREAMING 상태로 남습니다.
+                    다시 연결하면 저장된 내용을 `token` 이벤트 하나로 먼저 전달한 뒤 이어서 생성합니다.
+                    """
+    )
+    @ApiResponses({
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "스트리밍 시작"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "어시스턴트 메시지가 아님 (MESSAGE4001)"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "403", description = "노트 접근 권한 없음 (NOTE4031)"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "404", description = "메시지를 찾을 수 없음 (MESSAGE4041)"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "409", description = "이미 스트리밍 중인 메시지 (MESSAGE4091)")
+    })
+    public Flux<ServerSentEvent<MessageStreamEvent>> streamMessage(
+            @AuthenticationPrincipal UserPrincipal userPrincipal,
+            @Parameter(description = "어시스턴트 메시지 ID", example = "1")
+            @PathVariable Long messageId
+    ) {
+        return messageStreamService.stream(userPrincipal.getUserId(), messageId);
+    }
+}
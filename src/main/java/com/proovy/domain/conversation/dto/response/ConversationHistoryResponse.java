@@ -0,0 +1,30 @@
+package com.proovy.domain.conversation.dto.response;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 대화 기록 keyset 페이지 응답
+ * messages는 시간순(오래된 → 최신)이며, nextCursor를 다음 요청의 cursor로 전달하면 더 이전 메시지를 조회한다.
+ */
+public record ConversationHistoryResponse(
+        Long conversationId,
+        List<MessageDto> messages,
+        Long nextCursor,
+        Boolean hasNext
+) {
+    public record MessageDto(
+            Long messageId,
+            String role,
+            String content,
+            String status,
+            List<MentionedAssetDto> mentionedAssets,
+            List<String> toolCodes,
+            LocalDateTime createdAt
+    ) {}
+
+    public record MentionedAssetDto(
+            Long assetId,
+            String fileName
+    ) {}
+}
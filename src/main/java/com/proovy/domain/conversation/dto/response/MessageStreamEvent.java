@@ -0,0 +1,32 @@
+package com.proovy.domain.conversation.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.proovy.global.response.ErrorCode;
+
+/**
+ * 어시스턴트 메시지 SSE 이벤트 데이터
+ * - token: 새로 생성된 응답 조각 (delta)
+ * - done: 스트리밍 종료 (최종 status, content)
+ * - error: 응답 생성 실패 (code, message)
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record MessageStreamEvent(
+        String delta,
+        Long messageId,
+        String status,
+        String content,
+        String code,
+        String message
+) {
+    public static MessageStreamEvent token(String delta) {
+        return new MessageStreamEvent(delta, null, null, null, null, null);
+    }
+
+    public static MessageStreamEvent done(Long messageId, String status, String content) {
+        return new MessageStreamEvent(null, messageId, status, content, null, null);
+    }
+
+    public static MessageStreamEvent error(Long messageId, ErrorCode errorCode) {
+        return new MessageStreamEvent(null, messageId, null, null, errorCode.getCode(), errorCode.getMessage());
+    }
+}
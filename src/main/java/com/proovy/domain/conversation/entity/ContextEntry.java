@@ -0,0 +1,26 @@
+package com.proovy.domain.conversation.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * AI 컨텍스트 항목 (대화 메시지 또는 멘션된 자산의 OCR 텍스트)
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ContextEntry {
+
+    public static final String ROLE_ASSET = "ASSET";
+
+    private String role;      // USER, ASSISTANT, ASSET
+    private Long messageId;   // 메시지 항목이면 메시지 ID
+    private Long assetId;     // 자산 항목이면 자산 ID
+    private String content;
+    private Integer tokens;   // 추정 토큰 수
+
+    public boolean isAsset() {
+        return ROLE_ASSET.equals(role);
+    }
+}
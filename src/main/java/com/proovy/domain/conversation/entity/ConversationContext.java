@@ -0,0 +1,87 @@
+package com.proovy.domain.conversation.entity;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.redis.core.RedisHash;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 대화별 AI 컨텍스트 캐시 (Redis)
+ * lastMessageId까지 반영된 컨텍스트를 보관하고, 다음 질문에서는 그 이후 메시지만 이어 붙인다.
+ * 예산을 넘으면 오래된 항목부터 제거하므로 항목 수/토큰 수는 예산 이내로 유지된다.
+ */
+@Getter
+@NoArgsConstructor
+@RedisHash(value = "conversation_context", timeToLive = 3600) // 1시간
+public class ConversationContext {
+
+    @Id
+    private Long conversationId;
+
+    private Long lastMessageId;           // 반영된 마지막 메시지 ID
+
+    private Integer totalTokens;
+
+    private List<ContextEntry> entries;
+
+    private Set<Long> includedAssetIds;   // 컨텍스트에 OCR 텍스트가 포함된 자산
+
+    public static ConversationContext empty(Long conversationId) {
+        ConversationContext context = new ConversationContext();
+        context.conversationId = conversationId;
+        context.lastMessageId = 0L;
+        context.totalTokens = 0;
+        context.entries = new ArrayList<>();
+        context.includedAssetIds = new HashSet<>();
+        return context;
+    }
+
+    public void append(ContextEntry entry) {
+        ensureCollections();
+        entries.add(entry);
+        totalTokens += entry.getTokens();
+        if (entry.isAsset()) {
+            includedAssetIds.add(entry.getAssetId());
+        }
+    }
+
+    public void advanceTo(Long messageId) {
+        this.lastMessageId = messageId;
+    }
+
+    public boolean containsAsset(Long assetId) {
+        return includedAssetIds != null && includedAssetIds.contains(assetId);
+    }
+
+    /**
+     * 오래된 항목부터 제거해 토큰 예산 이내로 축소 (마지막 항목은 유지)
+     */
+    public void trimTo(int maxTokens) {
+        ensureCollections();
+        while (totalTokens > maxTokens && entries.size() > 1) {
+            ContextEntry removed = entries.remove(0);
+            totalTokens -= removed.getTokens();
+            if (removed.isAsset()) {
+                includedAssetIds.remove(removed.getAssetId());
+            }
+        }
+    }
+
+    // Redis에서 읽은 빈 컬렉션은 null로 복원된다
+    private void ensureCollections() {
+        if (entries == null) {
+            entries = new ArrayList<>();
+        }
+        if (includedAssetIds == null) {
+            includedAssetIds = new HashSet<>();
+        }
+        if (totalTokens == null) {
+            totalTokens = 0;
+        }
+    }
+}
@@ -11,14 +11,17 @@ import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "messages")
+@Table(name = "messages", indexes = {
+        @Index(name = "idx_messages_conversation", columnList = "conversation_id, message_id")
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @EntityListeners(AuditingEntityListener.class)
 public class Message {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "messages_seq")
+    @SequenceGenerator(name = "messages_seq", sequenceName = "messages_seq", allocationSize = 50)
     @Column(name = "message_id")
     private Long id;
 
@@ -35,7 +38,11 @@ public class Message {
 
     @Enumerated(EnumType.STRING)
     @Column(length = 20)
-    private MessageStatus status; // STREAMING, COMPLETED
+    private MessageStatus status; // STREAMING, COMPLETED, FAILED
+
+    // 스트리밍 중 중간 저장된 응답 길이 (0/null이면 content는 아직 임시 문구)
+    @Column(name = "streamed_length")
+    private Integer streamedLength;
 
     @CreatedDate
     @Column(name = "created_at", updatable = false)
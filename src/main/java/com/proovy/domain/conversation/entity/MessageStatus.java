@@ -2,6 +2,7 @@ package com.proovy.domain.conversation.entity;
 
 public enum MessageStatus {
     STREAMING,
-    COMPLETED
+    COMPLETED,
+    FAILED
 }
 
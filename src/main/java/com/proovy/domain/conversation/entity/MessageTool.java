@@ -7,13 +7,16 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 @Entity
-@Table(name = "message_tools")
+@Table(name = "message_tools", indexes = {
+        @Index(name = "idx_message_tools_message", columnList = "message_id")
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class MessageTool {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "message_tools_seq")
+    @SequenceGenerator(name = "message_tools_seq", sequenceName = "message_tools_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
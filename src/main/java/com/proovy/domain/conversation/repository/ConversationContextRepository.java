@@ -0,0 +1,7 @@
+package com.proovy.domain.conversation.repository;
+
+import com.proovy.domain.conversation.entity.ConversationContext;
+import org.springframework.data.repository.CrudRepository;
+
+public interface ConversationContextRepository extends CrudRepository<ConversationContext, Long> {
+}
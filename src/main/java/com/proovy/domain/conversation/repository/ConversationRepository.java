@@ -2,11 +2,11 @@ package com.proovy.domain.conversation.repository;
 
 import com.proovy.domain.conversation.entity.Conversation;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
-import java.util.List;
-import java.util.Map;
+import java.util.Optional;
 
 public interface ConversationRepository extends JpaRepository<Conversation, Long> {
 
@@ -16,14 +16,15 @@ public interface ConversationRepository extends JpaRepository<Conversation, Long
     long countByNoteId(Long noteId);
 
     /**
-     * 여러 노트의 대화 개수를 한 번에 조회 (배치 쿼리)
-     * @param noteIds 노트 ID 목록
-     * @return Map<노트ID, 대화개수>
+     * 대화 소유자 ID 조회 (권한 검증용)
      */
-    @Query("SELECT c.note.id AS noteId, COUNT(c) AS count " +
-           "FROM Conversation c " +
-           "WHERE c.note.id IN :noteIds " +
-           "GROUP BY c.note.id")
-    List<Map<String, Object>> countByNoteIdIn(@Param("noteIds") List<Long> noteIds);
-}
+    @Query("SELECT n.user.id FROM Conversation c JOIN c.note n WHERE c.id = :conversationId")
+    Optional<Long> findOwnerIdById(@Param("conversationId") Long conversationId);
 
+    /**
+     * 노트의 모든 대화 삭제 (메시지 삭제 후, 회원 탈퇴 처리용)
+     */
+    @Modifying
+    @Query("DELETE FROM Conversation c WHERE c.note.id = :noteId")
+    int deleteAllByNoteId(@Param("noteId") Long noteId);
+}
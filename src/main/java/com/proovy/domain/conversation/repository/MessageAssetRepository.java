@@ -1,8 +1,37 @@
 package com.proovy.domain.conversation.repository;
 
 import com.proovy.domain.conversation.entity.MessageAsset;
+import com.proovy.domain.conversation.repository.projection.MessageAssetView;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
 
 public interface MessageAssetRepository extends JpaRepository<MessageAsset, Long> {
-}
 
+    /**
+     * 여러 메시지의 멘션 자산을 한 번에 조회 (배치 쿼리)
+     */
+    @Query("SELECT ma.message.id AS messageId, a.id AS assetId, a.fileName AS fileName " +
+           "FROM MessageAsset ma JOIN ma.asset a " +
+           "WHERE ma.message.id IN :messageIds " +
+           "ORDER BY ma.id")
+    List<MessageAssetView> findViewsByMessageIdIn(@Param("messageIds") Collection<Long> messageIds);
+
+    /**
+     * 메시지들의 멘션 일괄 삭제 (회원 탈퇴 처리용)
+     */
+    @Modifying
+    @Query("DELETE FROM MessageAsset ma WHERE ma.message.id IN :messageIds")
+    int deleteAllByMessageIdIn(@Param("messageIds") Collection<Long> messageIds);
+
+    /**
+     * 자산들을 가리키는 멘션 일괄 삭제 (회원 탈퇴 처리용)
+     */
+    @Modifying
+    @Query("DELETE FROM MessageAsset ma WHERE ma.asset.id IN :assetIds")
+    int deleteAllByAssetIdIn(@Param("assetIds") Collection<Long> assetIds);
+}
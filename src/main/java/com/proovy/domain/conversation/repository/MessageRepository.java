@@ -1,8 +1,97 @@
 package com.proovy.domain.conversation.repository;
 
 import com.proovy.domain.conversation.entity.Message;
+import com.proovy.domain.conversation.entity.MessageRole;
+import com.proovy.domain.conversation.entity.MessageStatus;
+import com.proovy.domain.conversation.repository.projection.MessageView;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
 
 public interface MessageRepository extends JpaRepository<Message, Long> {
-}
 
+    /**
+     * 메시지 + 대화 + 노트 함께 조회 (소유자 검증용)
+     */
+    @Query("SELECT m FROM Message m JOIN FETCH m.conversation c JOIN FETCH c.note WHERE m.id = :id")
+    Optional<Message> findWithConversationById(@Param("id") Long id);
+
+    /**
+     * 대화 메시지 keyset 조회 (최신순, cursor보다 작은 ID)
+     * idx_messages_conversation (conversation_id, message_id)을 역순으로 읽는다.
+     */
+    @Query("SELECT m.id AS id, m.role AS role, m.content AS content, m.status AS status, m.createdAt AS createdAt " +
+           "FROM Message m " +
+           "WHERE m.conversation.id = :conversationId AND m.id < :cursor " +
+           "ORDER BY m.id DESC")
+    List<MessageView> findViewsByConversationId(@Param("conversationId") Long conversationId,
+                                                @Param("cursor") Long cursor,
+                                                Pageable pageable);
+
+    /**
+     * 대화에서 두 메시지 ID 사이의 메시지 조회 (시간순, AI 컨텍스트 증분 구성용)
+     */
+    @Query("SELECT m.id AS id, m.role AS role, m.content AS content, m.status AS status, m.createdAt AS createdAt " +
+           "FROM Message m " +
+           "WHERE m.conversation.id = :conversationId AND m.id > :afterId AND m.id < :beforeId " +
+           "ORDER BY m.id ASC")
+    List<MessageView> findViewsBetween(@Param("conversationId") Long conversationId,
+                                       @Param("afterId") Long afterId,
+                                       @Param("beforeId") Long beforeId);
+
+    /**
+     * 노트의 메시지 ID를 최대 limit개 조회 (회원 탈퇴 청크 삭제용)
+     */
+    @Query(value = "SELECT m.message_id FROM messages m " +
+                   "JOIN conversations c ON c.conversation_id = m.conversation_id " +
+                   "WHERE c.note_id = :noteId LIMIT :limit",
+           nativeQuery = true)
+    List<Long> findIdsByNoteId(@Param("noteId") Long noteId, @Param("limit") int limit);
+
+    /**
+     * 메시지 일괄 삭제 (멘션/도구 삭제 후, 회원 탈퇴 처리용)
+     */
+    @Modifying
+    @Query("DELETE FROM Message m WHERE m.id IN :ids")
+    int deleteAllByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * 대화에서 특정 메시지 직전의 역할별 메시지 조회 (어시스턴트 응답의 질문 조회용)
+     */
+    Optional<Message> findFirstByConversationIdAndRoleAndIdLessThanOrderByIdDesc(Long conversationId,
+                                                                                  MessageRole role,
+                                                                                  Long id);
+
+    /**
+     * 스트리밍 중인 메시지에 응답 조각 이어 붙이기 (write-behind 중간 저장)
+     * 첫 저장이면 임시 문구를 덮어쓰고, 이후에는 기존 내용 뒤에 붙인다.
+     * @return 갱신된 행 수 (이미 종료된 메시지면 0)
+     */
+    @Modifying
+    @Query(value = "UPDATE messages " +
+                   "SET content = CASE WHEN COALESCE(streamed_length, 0) > 0 THEN content || :chunk ELSE :chunk END, " +
+                   "    streamed_length = COALESCE(streamed_length, 0) + :length " +
+                   "WHERE message_id = :id AND status = 'STREAMING'",
+           nativeQuery = true)
+    int appendStreamedContent(@Param("id") Long id,
+                              @Param("chunk") String chunk,
+                              @Param("length") int length);
+
+    /**
+     * 스트리밍 중인 메시지의 최종 내용/상태 저장
+     * STREAMING 상태일 때만 갱신하므로 한 메시지의 최종 내용은 한 번만 저장된다.
+     * @return 갱신된 행 수 (이미 종료된 메시지면 0)
+     */
+    @Modifying
+    @Query("UPDATE Message m SET m.content = :content, m.status = :status " +
+           "WHERE m.id = :id AND m.status = com.proovy.domain.conversation.entity.MessageStatus.STREAMING")
+    int finishStreaming(@Param("id") Long id,
+                        @Param("content") String content,
+                        @Param("status") MessageStatus status);
+}
@@ -1,8 +1,30 @@
 package com.proovy.domain.conversation.repository;
 
 import com.proovy.domain.conversation.entity.MessageTool;
+import com.proovy.domain.conversation.repository.projection.MessageToolView;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
 
 public interface MessageToolRepository extends JpaRepository<MessageTool, Long> {
-}
 
+    /**
+     * 여러 메시지의 도구 코드를 한 번에 조회 (배치 쿼리)
+     */
+    @Query("SELECT mt.message.id AS messageId, mt.toolCode AS toolCode " +
+           "FROM MessageTool mt " +
+           "WHERE mt.message.id IN :messageIds " +
+           "ORDER BY mt.id")
+    List<MessageToolView> findViewsByMessageIdIn(@Param("messageIds") Collection<Long> messageIds);
+
+    /**
+     * 메시지들의 도구 일괄 삭제 (회원 탈퇴 처리용)
+     */
+    @Modifying
+    @Query("DELETE FROM MessageTool mt WHERE mt.message.id IN :messageIds")
+    int deleteAllByMessageIdIn(@Param("messageIds") Collection<Long> messageIds);
+}
@@ -0,0 +1,13 @@
+package com.proovy.domain.conversation.repository.projection;
+
+/**
+ * 메시지에 멘션된 자산 (ID/파일명만)
+ */
+public interface MessageAssetView {
+
+    Long getMessageId();
+
+    Long getAssetId();
+
+    String getFileName();
+}
@@ -0,0 +1,11 @@
+package com.proovy.domain.conversation.repository.projection;
+
+/**
+ * 메시지에 연결된 도구 코드
+ */
+public interface MessageToolView {
+
+    Long getMessageId();
+
+    String getToolCode();
+}
@@ -0,0 +1,22 @@
+package com.proovy.domain.conversation.repository.projection;
+
+import com.proovy.domain.conversation.entity.MessageRole;
+import com.proovy.domain.conversation.entity.MessageStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * 대화 기록 표시용 메시지 projection
+ */
+public interface MessageView {
+
+    Long getId();
+
+    MessageRole getRole();
+
+    String getContent();
+
+    MessageStatus getStatus();
+
+    LocalDateTime getCreatedAt();
+}
@@ -0,0 +1,31 @@
+package com.proovy.domain.conversation.service;
+
+import com.proovy.domain.conversation.entity.ConversationContext;
+import com.proovy.global.util.TokenEstimator;
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * AI 컨텍스트 토큰 예산 정책
+ * - 자산 OCR 텍스트는 자산당 상한까지만 포함
+ * - 전체 컨텍스트가 상한을 넘으면 오래된 항목부터 제외
+ */
+@Getter
+@Component
+public class ContextBudgetPolicy {
+
+    @Value("${proovy.ai.context.max-tokens:16000}")
+    private int maxTokens;
+
+    @Value("${proovy.ai.context.asset-max-tokens:4000}")
+    private int assetMaxTokens;
+
+    public String limitAssetText(String text) {
+        return TokenEstimator.truncate(text, assetMaxTokens);
+    }
+
+    public void apply(ConversationContext context) {
+        context.trimTo(maxTokens);
+    }
+}
@@ -0,0 +1,151 @@
+package com.proovy.domain.conversation.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.proovy.domain.asset.entity.Asset;
+import com.proovy.domain.asset.repository.AssetRepository;
+import com.proovy.domain.asset.repository.projection.AssetOcrTextView;
+import com.proovy.domain.conversation.entity.ContextEntry;
+import com.proovy.domain.conversation.entity.ConversationContext;
+import com.proovy.domain.conversation.entity.MessageStatus;
+import com.proovy.domain.conversation.repository.ConversationContextRepository;
+import com.proovy.domain.conversation.repository.MessageAssetRepository;
+import com.proovy.domain.conversation.repository.MessageRepository;
+import com.proovy.domain.conversation.repository.projection.MessageAssetView;
+import com.proovy.domain.conversation.repository.projection.MessageView;
+import com.proovy.global.util.TokenEstimator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 후속 질문용 AI 컨텍스트 증분 구성
+ * 캐시된 컨텍스트 이후의 메시지와 새로 멘션된 자산의 OCR 텍스트만 조회해 이어 붙이므로,
+ * 대화가 길어져도 질문당 조회량은 새 메시지 수에만 비례한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class ConversationContextService {
+
+    private final ConversationContextRepository conversationContextRepository;
+    private final MessageRepository messageRepository;
+    private final MessageAssetRepository messageAssetRepository;
+    private final AssetRepository assetRepository;
+    private final ContextBudgetPolicy contextBudgetPolicy;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 특정 메시지 직전까지의 컨텍스트 조회 (캐시 갱신 포함)
+     * 실패한 메시지는 건너뛰고, 아직 생성 중인 메시지나 OCR이 끝나지 않은 자산을 멘션한 메시지를 만나면
+     * 그 직전까지만 반영한다. (캐시에 반영하지 않아야 완료 후 다음 조회에서 포함된다)
+     * OCR에 실패한 자산은 텍스트 없이 건너뛴다.
+     * @param conversationId 대화 ID
+     * @param beforeMessageId 생성할 어시스턴트 메시지 ID (이 메시지 이전까지 포함)
+     */
+    public ConversationContext assemble(Long conversationId, Long beforeMessageId) {
+        ConversationContext context = conversationContextRepository.findById(conversationId)
+                .filter(cached -> cached.getLastMessageId() < beforeMessageId)
+                .orElseGet(() -> ConversationContext.empty(conversationId));
+
+        List<MessageView> newMessages = messageRepository.findViewsBetween(
+                conversationId, context.getLastMessageId(), beforeMessageId);
+        if (newMessages.isEmpty()) {
+            return context;
+        }
+
+        List<Long> messageIds = newMessages.stream().map(MessageView::getId).toList();
+        Map<Long, List<MessageAssetView>> mentionsByMessageId = messageAssetRepository.findViewsByMessageIdIn(messageIds)
+                .stream()
+                .collect(Collectors.groupingBy(MessageAssetView::getMessageId));
+        Map<Long, AssetOcrTextView> ocrByAssetId = loadNewOcrTexts(context, mentionsByMessageId);
+
+        Long lastReflectedId = null;
+        for (MessageView message : newMessages) {
+            List<MessageAssetView> mentions = mentionsByMessageId.getOrDefault(message.getId(), List.of());
+            if (message.getStatus() == MessageStatus.STREAMING || hasOcrInProgress(mentions, ocrByAssetId)) {
+                break;
+            }
+            lastReflectedId = message.getId();
+            if (message.getStatus() != MessageStatus.COMPLETED) {
+                continue;
+            }
+            // 메시지에서 처음 멘션된 자산의 OCR 텍스트를 메시지 앞에 추가
+            for (MessageAssetView mention : mentions) {
+                AssetOcrTextView ocr = ocrByAssetId.get(mention.getAssetId());
+                if (ocr != null && ocr.getOcrStatus() == Asset.OcrStatus.completed && !context.containsAsset(ocr.getId())) {
+                    String text = "[파일: " + ocr.getFileName() + "]\n"
+                            + contextBudgetPolicy.limitAssetText(extractText(ocr.getOcrText()));
+                    context.append(new ContextEntry(ContextEntry.ROLE_ASSET, null, ocr.getId(), text,
+                            TokenEstimator.estimate(text)));
+                }
+            }
+            String content = message.getContent() != null ? message.getContent() : "";
+            context.append(new ContextEntry(message.getRole().name(), message.getId(), null, content,
+                    TokenEstimator.estimate(content)));
+        }
+
+        if (lastReflectedId == null) {
+            return context;
+        }
+
+        context.advanceTo(lastReflectedId);
+        contextBudgetPolicy.apply(context);
+        conversationContextRepository.save(context);
+
+        log.debug("[AI] 컨텍스트 갱신 - conversationId: {}, added: {}, entries: {}, tokens: {}",
+                conversationId, newMessages.size(), context.getEntries().size(), context.getTotalTokens());
+        return context;
+    }
+
+    private boolean hasOcrInProgress(List<MessageAssetView> mentions, Map<Long, AssetOcrTextView> ocrByAssetId) {
+        return mentions.stream()
+                .map(mention -> ocrByAssetId.get(mention.getAssetId()))
+                .anyMatch(ocr -> ocr != null && ocr.isOcrInProgress());
+    }
+
+    private Map<Long, AssetOcrTextView> loadNewOcrTexts(ConversationContext context,
+                                                        Map<Long, List<MessageAssetView>> mentionsByMessageId) {
+        Set<Long> newAssetIds = mentionsByMessageId.values().stream()
+                .flatMap(List::stream)
+                .map(MessageAssetView::getAssetId)
+                .filter(assetId -> !context.containsAsset(assetId))
+                .collect(Collectors.toSet());
+        if (newAssetIds.isEmpty()) {
+            return Map.of();
+        }
+        return assetRepository.findOcrTextsByIdIn(newAssetIds).stream()
+                .collect(Collectors.toMap(AssetOcrTextView::getId, Function.identity()));
+    }
+
+    /**
+     * OCR 결과 JSON에서 본문 추출 (fullText 우선, 없으면 페이지 텍스트 연결)
+     */
+    private String extractText(String ocrJson) {
+        if (ocrJson == null) {
+            return "";
+        }
+        try {
+            JsonNode root = objectMapper.readTree(ocrJson);
+            if (root.hasNonNull("fullText")) {
+                return root.get("fullText").asText();
+            }
+            StringBuilder text = new StringBuilder();
+            for (JsonNode page : root.path("pages")) {
+                text.append(page.path("text").asText()).append('\n');
+            }
+            return text.toString();
+        } catch (JsonProcessingException e) {
+            return ocrJson;
+        }
+    }
+}
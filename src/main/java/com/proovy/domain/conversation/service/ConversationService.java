@@ -0,0 +1,106 @@
+package com.proovy.domain.conversation.service;
+
+import com.proovy.domain.conversation.dto.response.ConversationHistoryResponse;
+import com.proovy.domain.conversation.dto.response.ConversationHistoryResponse.MentionedAssetDto;
+import com.proovy.domain.conversation.dto.response.ConversationHistoryResponse.MessageDto;
+import com.proovy.domain.conversation.repository.ConversationRepository;
+import com.proovy.domain.conversation.repository.MessageAssetRepository;
+import com.proovy.domain.conversation.repository.MessageRepository;
+import com.proovy.domain.conversation.repository.MessageToolRepository;
+import com.proovy.domain.conversation.repository.projection.MessageAssetView;
+import com.proovy.domain.conversation.repository.projection.MessageToolView;
+import com.proovy.domain.conversation.repository.projection.MessageView;
+import com.proovy.global.exception.BusinessException;
+import com.proovy.global.response.ErrorCode;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class ConversationService {
+
+    public static final int DEFAULT_MESSAGE_PAGE_SIZE = 30;
+    private static final int MAX_MESSAGE_PAGE_SIZE = 100;
+
+    private final ConversationRepository conversationRepository;
+    private final MessageRepository messageRepository;
+    private final MessageAssetRepository messageAssetRepository;
+    private final MessageToolRepository messageToolRepository;
+
+    /**
+     * 대화 기록 조회 (메시지 ID 커서, 최신 페이지부터)
+     * 페이지 크기와 관계없이 소유자 확인 + 메시지 + 멘션 자산 + 도구 코드의 4개 쿼리로 조회한다.
+     * @param userId 사용자 ID
+     * @param conversationId 대화 ID
+     * @param cursor 이전 응답의 nextCursor (null이면 최신 메시지부터)
+     * @param size 페이지 크기
+     */
+    public ConversationHistoryResponse getMessages(Long userId, Long conversationId, Long cursor, int size) {
+        Long ownerId = conversationRepository.findOwnerIdById(conversationId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.CONVERSATION4041));
+        if (!ownerId.equals(userId)) {
+            throw new BusinessException(ErrorCode.NOTE4031);
+        }
+
+        int pageSize = Math.min(Math.max(size, 1), MAX_MESSAGE_PAGE_SIZE);
+
+        // 다음 페이지 존재 여부 확인을 위해 1개 더 조회
+        List<MessageView> rows = messageRepository.findViewsByConversationId(
+                conversationId,
+                cursor != null ? cursor : Long.MAX_VALUE,
+                PageRequest.of(0, pageSize + 1)
+        );
+
+        boolean hasNext = rows.size() > pageSize;
+        List<MessageView> page = hasNext ? rows.subList(0, pageSize) : rows;
+        Long nextCursor = hasNext ? page.get(page.size() - 1).getId() : null;
+
+        List<Long> messageIds = page.stream()
+                .map(MessageView::getId)
+                .toList();
+
+        Map<Long, List<MentionedAssetDto>> assetsByMessageId = messageIds.isEmpty()
+                ? Map.of()
+                : messageAssetRepository.findViewsByMessageIdIn(messageIds).stream()
+                        .collect(Collectors.groupingBy(
+                                MessageAssetView::getMessageId,
+                                Collectors.mapping(
+                                        view -> new MentionedAssetDto(view.getAssetId(), view.getFileName()),
+                                        Collectors.toList())));
+
+        Map<Long, List<String>> toolCodesByMessageId = messageIds.isEmpty()
+                ? Map.of()
+                : messageToolRepository.findViewsByMessageIdIn(messageIds).stream()
+                        .collect(Collectors.groupingBy(
+                                MessageToolView::getMessageId,
+                                Collectors.mapping(MessageToolView::getToolCode, Collectors.toList())));
+
+        // 최신순으로 조회한 페이지를 시간순으로 뒤집어 반환
+        List<MessageDto> messages = new ArrayList<>(page.size());
+        for (MessageView message : page) {
+            messages.add(new MessageDto(
+                    message.getId(),
+                    message.getRole().name(),
+                    message.getContent(),
+                    message.getStatus() != null ? message.getStatus().name() : null,
+                    assetsByMessageId.getOrDefault(message.getId(), List.of()),
+                    toolCodesByMessageId.getOrDefault(message.getId(), List.of()),
+                    message.getCreatedAt()
+            ));
+        }
+        Collections.reverse(messages);
+
+        return new ConversationHistoryResponse(conversationId, messages, nextCursor, hasNext);
+    }
+}
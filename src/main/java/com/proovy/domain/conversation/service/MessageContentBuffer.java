@@ -0,0 +1,114 @@
+package com.proovy.domain.conversation.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 스트리밍 응답의 write-behind 버퍼
+ * 토큰마다 UPDATE하지 않고 메시지별로 메모리에 모았다가 크기/시간 기준을 넘으면 한 번에 이어 붙인다.
+ * 메시지당 DB 쓰기 횟수는 토큰 수가 아니라 응답 길이/시간에 비례한다. (최종 내용은 완료 시 한 번 저장)
+ * 노드 장애로 잃는 것은 마지막 저장 이후의 조각뿐이며, 재연결 시 저장된 내용부터 이어서 생성한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MessageContentBuffer {
+
+    private static final int FLUSH_SIZE = 4096;                  // 문자 수
+    private static final long FLUSH_INTERVAL_NANOS = 2_000_000_000L; // 2초
+
+    private final MessageService messageService;
+
+    private final Map<Long, Pending> buffers = new ConcurrentHashMap<>();
+
+    private static final class Pending {
+        private final StringBuilder chunk = new StringBuilder();
+        private final ReentrantLock flushLock = new ReentrantLock();
+        private volatile long lastFlushNanos = System.nanoTime();
+    }
+
+    /**
+     * 응답 조각 추가 (호출 스레드에서 DB 쓰기를 하지 않음)
+     * 크기 기준을 넘으면 별도 스레드에서 저장한다.
+     */
+    public void append(Long messageId, String delta) {
+        Pending pending = buffers.computeIfAbsent(messageId, id -> new Pending());
+        boolean full;
+        synchronized (pending) {
+            pending.chunk.append(delta);
+            full = pending.chunk.length() >= FLUSH_SIZE;
+        }
+        if (full) {
+            Schedulers.boundedElastic().schedule(() -> flush(pending, messageId, true));
+        }
+    }
+
+    /**
+     * 남은 조각을 저장하고 버퍼 제거 (스트림 중단 시, 블로킹)
+     */
+    public void flushAndRemove(Long messageId) {
+        Pending pending = buffers.remove(messageId);
+        if (pending != null) {
+            flush(pending, messageId, true);
+        }
+    }
+
+    /**
+     * 저장하지 않고 버퍼 제거 (최종 내용을 별도로 저장하는 완료/실패 시)
+     */
+    public void discard(Long messageId) {
+        buffers.remove(messageId);
+    }
+
+    /**
+     * 시간 기준을 넘긴 버퍼 저장 (토큰이 느리게 오는 응답용)
+     */
+    @Scheduled(fixedDelay = 1000)
+    public void flushStale() {
+        long now = System.nanoTime();
+        buffers.forEach((messageId, pending) -> {
+            if (now - pending.lastFlushNanos >= FLUSH_INTERVAL_NANOS) {
+                flush(pending, messageId, false);
+            }
+        });
+    }
+
+    /**
+     * 메시지별로 한 번에 하나의 저장만 실행해 조각 순서를 보장한다.
+     * @param wait 다른 저장이 진행 중이면 기다릴지 여부 (false면 건너뛰고 다음 주기에 저장)
+     */
+    private void flush(Pending pending, Long messageId, boolean wait) {
+        if (wait) {
+            pending.flushLock.lock();
+        } else if (!pending.flushLock.tryLock()) {
+            return;
+        }
+
+        String chunk;
+        synchronized (pending) {
+            chunk = pending.chunk.toString();
+            pending.chunk.setLength(0);
+            pending.lastFlushNanos = System.nanoTime();
+        }
+        try {
+            if (!chunk.isEmpty()) {
+                messageService.appendStreamedContent(messageId, chunk);
+            }
+        } catch (Exception e) {
+            // 순서를 유지하도록 버퍼 앞에 되돌려 다음 저장에 포함
+            synchronized (pending) {
+                pending.chunk.insert(0, chunk);
+            }
+            log.error("[Message] 응답 중간 저장 실패 - messageId: {}, error: {}", messageId, e.getMessage());
+        } finally {
+            pending.flushLock.unlock();
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package com.proovy.domain.conversation.service;
+
+import com.proovy.domain.conversation.entity.Message;
+import com.proovy.domain.conversation.entity.MessageRole;
+import com.proovy.domain.conversation.entity.MessageStatus;
+import com.proovy.domain.conversation.repository.MessageRepository;
+import com.proovy.global.exception.BusinessException;
+import com.proovy.global.response.ErrorCode;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class MessageService {
+
+    private final MessageRepository messageRepository;
+
+    /**
+     * 스트리밍 대상 어시스턴트 메시지 정보
+     * @param prompt 직전 사용자 메시지 내용 (없으면 null)
+     * @param partialContent 이전 스트리밍에서 중간 저장된 응답 (없으면 null)
+     */
+    public record StreamTarget(Long messageId, Long conversationId, MessageStatus status, String content,
+                               String prompt, String partialContent) {
+    }
+
+    /**
+     * 스트리밍할 어시스턴트 메시지 조회 (소유자 검증 포함)
+     * @param userId 사용자 ID
+     * @param messageId 어시스턴트 메시지 ID
+     */
+    public StreamTarget getStreamTarget(Long userId, Long messageId) {
+        Message message = messageRepository.findWithConversationById(messageId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.MESSAGE4041));
+
+        Long conversationId = message.getConversation().getId();
+        if (!message.getConversation().getNote().getUser().getId().equals(userId)) {
+            throw new BusinessException(ErrorCode.NOTE4031);
+        }
+        if (message.getRole() != MessageRole.ASSISTANT) {
+            throw new BusinessException(ErrorCode.MESSAGE4001);
+        }
+
+        String prompt = message.getStatus() == MessageStatus.STREAMING
+                ? messageRepository.findFirstByConversationIdAndRoleAndIdLessThanOrderByIdDesc(
+                                conversationId, MessageRole.USER, messageId)
+                        .map(Message::getContent)
+                        .orElse(null)
+                : null;
+
+        String partialContent = message.getStatus() == MessageStatus.STREAMING
+                && message.getStreamedLength() != null && message.getStreamedLength() > 0
+                ? message.getContent()
+                : null;
+
+        return new StreamTarget(messageId, conversationId, message.getStatus(), message.getContent(),
+                prompt, partialContent);
+    }
+
+    /**
+     * 스트리밍 중 버퍼에 모인 응답 조각 중간 저장
+     */
+    @Transactional
+    public void appendStreamedContent(Long messageId, String chunk) {
+        messageRepository.appendStreamedContent(messageId, chunk, chunk.length());
+    }
+
+    /**
+     * 스트리밍 종료 시 최종 내용 저장 (STREAMING 상태일 때 한 번만 반영)
+     * @return 저장 여부 (이미 종료된 메시지면 false)
+     */
+    @Transactional
+    public boolean finishStreaming(Long messageId, String content, MessageStatus status) {
+        boolean updated = messageRepository.finishStreaming(messageId, content, status) > 0;
+        if (!updated) {
+            log.warn("[Message] 이미 종료된 스트리밍 메시지 - messageId: {}", messageId);
+        }
+        return updated;
+    }
+}
@@ -0,0 +1,176 @@
+package com.proovy.domain.conversation.service;
+
+import com.proovy.domain.conversation.dto.response.MessageStreamEvent;
+import com.proovy.domain.conversation.entity.ContextEntry;
+import com.proovy.domain.conversation.entity.ConversationContext;
+import com.proovy.domain.conversation.entity.MessageRole;
+import com.proovy.domain.conversation.entity.MessageStatus;
+import com.proovy.domain.conversation.service.MessageService.StreamTarget;
+import com.proovy.domain.credit.service.CreditService;
+import com.proovy.global.exception.BusinessException;
+import com.proovy.global.infra.http.AiServerClient;
+import com.proovy.global.response.ErrorCode;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 어시스턴트 메시지 SSE 스트리밍
+ * AI 서버의 응답 조각을 그대로 클라이언트로 전달하고, 스트림이 끝나면 최종 내용을 한 번 저장한다.
+ * 스트리밍 중에는 DB 커넥션/요청 스레드를 점유하지 않으며, 중간 내용은 MessageContentBuffer가 모아서 저장한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class MessageStreamService {
+
+    private static final String EVENT_TOKEN = "token";
+    private static final String EVENT_DONE = "done";
+    private static final String EVENT_ERROR = "error";
+
+    private static final int CHAT_CREDIT_COST = 1;
+
+    private final MessageService messageService;
+    private final AiServerClient aiServerClient;
+    private final MessageContentBuffer messageContentBuffer;
+    private final ConversationContextService conversationContextService;
+    private final CreditService creditService;
+
+    // 이 인스턴스에서 스트리밍 중인 메시지 (같은 메시지의 중복 생성 방지)
+    private final Set<Long> streamingMessageIds = ConcurrentHashMap.newKeySet();
+
+    /**
+     * 어시스턴트 메시지 스트리밍
+     * 이미 종료된 메시지는 최종 내용을 done 이벤트 하나로 반환한다.
+     * @param userId 사용자 ID
+     * @param messageId 어시스턴트 메시지 ID
+     */
+    public Flux<ServerSentEvent<MessageStreamEvent>> stream(Long userId, Long messageId) {
+        StreamTarget target = messageService.getStreamTarget(userId, messageId);
+
+        if (target.status() != MessageStatus.STREAMING) {
+            return Flux.just(event(EVENT_DONE,
+                    MessageStreamEvent.done(messageId, target.status().name(), target.content())));
+        }
+
+        // AI 호출 전 크레딧 차감 (메시지당 한 번, 재연결 시 다시 차감하지 않음)
+        creditService.debit(userId, String.valueOf(messageId), CHAT_CREDIT_COST);
+
+        if (streamingMessageIds.contains(messageId)) {
+            throw new BusinessException(ErrorCode.MESSAGE4091);
+        }
+
+        // 스트리밍 중 표시는 구독 시점에 설정 (구독되지 않고 버려진 Flux가 표시를 남기지 않도록)
+        return Flux.defer(() -> {
+            if (!streamingMessageIds.add(messageId)) {
+                return Flux.just(event(EVENT_ERROR, MessageStreamEvent.error(messageId, ErrorCode.MESSAGE4091)));
+            }
+            try {
+                return generate(userId, target, messageId);
+            } catch (RuntimeException e) {
+                streamingMessageIds.remove(messageId);
+                throw e;
+            }
+        });
+    }
+
+    /**
+     * AI 응답 생성 및 전달 (종료/취소 시 스트리밍 중 표시 해제)
+     */
+    private Flux<ServerSentEvent<MessageStreamEvent>> generate(Long userId, StreamTarget target, Long messageId) {
+        // 이전 스트림이 중간 저장한 내용이 있으면 먼저 전달하고 그 뒤부터 이어서 생성
+        String partialContent = target.partialContent();
+        StringBuilder content = new StringBuilder(partialContent != null ? partialContent : "");
+        Flux<ServerSentEvent<MessageStreamEvent>> replay = partialContent != null
+                ? Flux.just(event(EVENT_TOKEN, MessageStreamEvent.token(partialContent)))
+                : Flux.empty();
+
+        Flux<ServerSentEvent<MessageStreamEvent>> tokens = aiServerClient.streamChat(
+                        new AiServerClient.ChatStreamRequest(
+                                messageId, target.conversationId(), target.prompt(), partialContent,
+                                assembleContext(target, messageId)))
+                .doOnNext(delta -> {
+                    content.append(delta);
+                    messageContentBuffer.append(messageId, delta);
+                })
+                .map(delta -> event(EVENT_TOKEN, MessageStreamEvent.token(delta)));
+
+        Mono<ServerSentEvent<MessageStreamEvent>> done = Mono.fromRunnable(() -> messageContentBuffer.discard(messageId))
+                .then(finish(messageId, content, MessageStatus.COMPLETED))
+                .thenReturn(MessageStreamEvent.done(messageId, MessageStatus.COMPLETED.name(), null))
+                .map(data -> event(EVENT_DONE, data));
+
+        return replay
+                .concatWith(tokens)
+                .concatWith(done)
+                .onErrorResume(e -> {
+                    log.error("[Message] 응답 스트리밍 실패 - messageId: {}, received: {}, error: {}",
+                            messageId, content.length(), e.getMessage());
+                    messageContentBuffer.discard(messageId);
+                    return Mono.fromRunnable(() -> creditService.refund(userId, String.valueOf(messageId)))
+                            .subscribeOn(Schedulers.boundedElastic())
+                            .then(finish(messageId, content, MessageStatus.FAILED))
+                            .onErrorResume(saveError -> Mono.empty())
+                            .thenReturn(event(EVENT_ERROR, MessageStreamEvent.error(messageId, ErrorCode.MESSAGE5021)));
+                })
+                // 클라이언트가 연결을 끊으면 AI 요청도 취소되고, 남은 조각을 저장한 뒤 STREAMING으로 남긴다 (재연결 시 이어서 생성)
+                .doFinally(signal -> {
+                    if (signal == SignalType.CANCEL) {
+                        Schedulers.boundedElastic().schedule(() -> {
+                            messageContentBuffer.flushAndRemove(messageId);
+                            streamingMessageIds.remove(messageId);
+                        });
+                    } else {
+                        streamingMessageIds.remove(messageId);
+                    }
+                });
+    }
+
+    /**
+     * 이전 대화 컨텍스트 구성 (실패해도 스트리밍은 컨텍스트 없이 진행)
+     * 마지막 항목이 현재 질문이면 prompt로 따로 전달하므로 제외한다.
+     */
+    private List<AiServerClient.ContextTurn> assembleContext(StreamTarget target, Long messageId) {
+        try {
+            ConversationContext context = conversationContextService.assemble(target.conversationId(), messageId);
+            List<ContextEntry> entries = context.getEntries();
+            if (!entries.isEmpty()) {
+                ContextEntry last = entries.get(entries.size() - 1);
+                if (MessageRole.USER.name().equals(last.getRole()) && last.getContent().equals(target.prompt())) {
+                    entries = entries.subList(0, entries.size() - 1);
+                }
+            }
+            return entries.stream()
+                    .map(entry -> new AiServerClient.ContextTurn(entry.getRole(), entry.getContent()))
+                    .toList();
+        } catch (Exception e) {
+            log.warn("[Message] 컨텍스트 구성 실패 - conversationId: {}, error: {}",
+                    target.conversationId(), e.getMessage());
+            return List.of();
+        }
+    }
+
+    /**
+     * 최종 내용 저장 (JPA 호출이므로 boundedElastic에서 실행)
+     */
+    private Mono<Boolean> finish(Long messageId, StringBuilder content, MessageStatus status) {
+        return Mono.fromCallable(() -> messageService.finishStreaming(messageId, content.toString(), status))
+                .subscribeOn(Schedulers.boundedElastic());
+    }
+
+    private ServerSentEvent<MessageStreamEvent> event(String name, MessageStreamEvent data) {
+        return ServerSentEvent.<MessageStreamEvent>builder()
+                .event(name)
+                .data(data)
+                .build();
+    }
+}
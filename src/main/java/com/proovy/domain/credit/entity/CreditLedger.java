@@ -0,0 +1,59 @@
+package com.proovy.domain.credit.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 크레딧 사용 원장 (추가만 하고 수정/삭제하지 않음)
+ * 차감은 양수, 환불은 음수로 기록하며 일일/월간 크레딧에서 나간 양을 나눠 저장한다.
+ * 잔액은 Redis에서 관리하고, 원장은 CreditLedgerWriter가 모아서 저장한다.
+ */
+@Entity
+@Table(name = "credit_ledger", indexes = {
+        @Index(name = "idx_credit_ledger_user_created", columnList = "user_id, created_at")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class CreditLedger {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "credit_ledger_seq")
+    @SequenceGenerator(name = "credit_ledger_seq", sequenceName = "credit_ledger_seq", allocationSize = 50)
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "daily_amount", nullable = false)
+    private int dailyAmount;
+
+    @Column(name = "monthly_amount", nullable = false)
+    private int monthlyAmount;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private CreditReason reason;
+
+    @Column(name = "reference_id", length = 100)
+    private String referenceId;
+
+    // 잔액에 반영된 시각 (저장 시각이 아님, 일일/월간 집계 기준)
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Builder
+    public CreditLedger(Long userId, int dailyAmount, int monthlyAmount, CreditReason reason,
+                        String referenceId, LocalDateTime createdAt) {
+        this.userId = userId;
+        this.dailyAmount = dailyAmount;
+        this.monthlyAmount = monthlyAmount;
+        this.reason = reason;
+        this.referenceId = referenceId;
+        this.createdAt = createdAt;
+    }
+}
@@ -0,0 +1,9 @@
+package com.proovy.domain.credit.entity;
+
+/**
+ * 크레딧 원장 기록 사유
+ */
+public enum CreditReason {
+    CHAT,   // AI 응답 생성
+    REFUND  // 응답 생성 실패로 인한 환불
+}
@@ -0,0 +1,37 @@
+package com.proovy.domain.credit.repository;
+
+import com.proovy.domain.credit.entity.CreditLedger;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+
+public interface CreditLedgerRepository extends JpaRepository<CreditLedger, Long> {
+
+    /**
+     * 기간 내 일일 크레딧 사용량 (Redis 잔액 복구용)
+     */
+    @Query("SELECT COALESCE(SUM(l.dailyAmount), 0) FROM CreditLedger l " +
+           "WHERE l.userId = :userId AND l.createdAt >= :from AND l.createdAt < :to")
+    long sumDailyAmount(@Param("userId") Long userId,
+                        @Param("from") LocalDateTime from,
+                        @Param("to") LocalDateTime to);
+
+    /**
+     * 기간 내 월간 크레딧 사용량 (Redis 잔액 복구용)
+     */
+    @Query("SELECT COALESCE(SUM(l.monthlyAmount), 0) FROM CreditLedger l " +
+           "WHERE l.userId = :userId AND l.createdAt >= :from AND l.createdAt < :to")
+    long sumMonthlyAmount(@Param("userId") Long userId,
+                          @Param("from") LocalDateTime from,
+                          @Param("to") LocalDateTime to);
+
+    /**
+     * 특정 사용자의 원장 삭제 (회원 탈퇴용)
+     */
+    @Modifying
+    @Query("DELETE FROM CreditLedger l WHERE l.userId = :userId")
+    void deleteAllByUserId(@Param("userId") Long userId);
+}
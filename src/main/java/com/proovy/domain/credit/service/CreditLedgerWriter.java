@@ -0,0 +1,66 @@
+package com.proovy.domain.credit.service;
+
+import com.proovy.domain.credit.entity.CreditLedger;
+import com.proovy.domain.credit.repository.CreditLedgerRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * 크레딧 원장 write-behind
+ * 차감/환불마다 INSERT하지 않고 메모리에 모았다가 주기적으로 배치 저장한다.
+ * 저장에 실패한 기록은 다음 주기에 다시 시도하며, 종료 시 남은 기록을 저장한다.
+ * 프로세스가 강제 종료되면(kill -9, OOM) 마지막 주기 이후의 기록(최대 약 1초분)은 유실된다.
+ * 잔액은 Redis 사용량 키가 기준이므로 유실되어도 차감/환불 자체는 유지되며, 원장 합계만 그만큼 어긋난다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CreditLedgerWriter {
+
+    private static final int MAX_BATCH_SIZE = 500;
+
+    private final CreditLedgerRepository creditLedgerRepository;
+
+    private final Queue<CreditLedger> queue = new ConcurrentLinkedQueue<>();
+
+    public void append(CreditLedger entry) {
+        queue.add(entry);
+    }
+
+    @Scheduled(fixedDelay = 1000)
+    public void flush() {
+        while (!queue.isEmpty()) {
+            List<CreditLedger> batch = new ArrayList<>();
+            CreditLedger entry;
+            while (batch.size() < MAX_BATCH_SIZE && (entry = queue.poll()) != null) {
+                batch.add(entry);
+            }
+            try {
+                creditLedgerRepository.saveAll(batch);
+            } catch (Exception e) {
+                queue.addAll(batch);
+                log.error("[Credit] 크레딧 원장 저장 실패 - batch: {}, error: {}", batch.size(), e.getMessage());
+                return;
+            }
+        }
+    }
+
+    /**
+     * 종료 시 남은 기록 저장 (DB 빈보다 먼저 소멸되므로 저장소를 사용할 수 있다)
+     */
+    @PreDestroy
+    void flushOnShutdown() {
+        flush();
+        if (!queue.isEmpty()) {
+            log.error("[Credit] 종료 중 크레딧 원장 저장 실패, 기록 유실 - remaining: {}", queue.size());
+        }
+    }
+}
@@ -0,0 +1,251 @@
+package com.proovy.domain.credit.service;
+
+import com.proovy.domain.credit.entity.CreditLedger;
+import com.proovy.domain.credit.entity.CreditReason;
+import com.proovy.domain.credit.repository.CreditLedgerRepository;
+import com.proovy.domain.user.entity.PlanType;
+import com.proovy.domain.user.service.PlanResolver;
+import com.proovy.global.exception.BusinessException;
+import com.proovy.global.response.ErrorCode;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+/**
+ * 크레딧 잔액 관리 (Redis 사용량 카운터 + 원장 write-behind)
+ * 사용량은 사용자/기간별 Redis 키에 두고 Lua 스크립트로 확인과 차감을 원자적으로 처리하므로 DB 행 잠금이 없다.
+ * 기간이 바뀌면 새 키를 사용하므로 일일/월간 초기화 작업이 필요 없으며,
+ * Redis에 키가 없으면 원장 합계로 복구한 뒤 다시 시도한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CreditService {
+
+    private static final DateTimeFormatter DAY_FORMAT = DateTimeFormatter.BASIC_ISO_DATE;       // yyyyMMdd
+    private static final DateTimeFormatter MONTH_FORMAT = DateTimeFormatter.ofPattern("yyyyMM");
+    private static final DateTimeFormatter CHARGED_AT_FORMAT = DateTimeFormatter.ofPattern("yyyyMMddHHmmss");
+    private static final Duration DAILY_TTL = Duration.ofDays(2);
+    private static final Duration MONTHLY_TTL = Duration.ofDays(35);
+    private static final Duration CHARGED_TTL = Duration.ofDays(1);
+
+    private static final long NOT_SEEDED = -1L;
+    private static final long INSUFFICIENT = -2L;
+
+    // KEYS: 일일 사용량, 월간 사용량, 참조별 차감 기록 / ARGV: 차감량, 일일 한도, 월간 한도, 차감 기록 TTL(초), 차감 시각
+    // 차감 기록 값: "일일 차감량:월간 차감량:차감 시각(yyyyMMddHHmmss)" / 반환: {일일 차감량, 월간 차감량, 이미 차감됨(1/0)}
+    private static final RedisScript<List> DEBIT_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('EXISTS', KEYS[3]) == 1 then return {0, 0, 1} end
+            local daily = redis.call('GET', KEYS[1])
+            local monthly = redis.call('GET', KEYS[2])
+            if not daily or not monthly then return {-1, -1, 0} end
+            local amount = tonumber(ARGV[1])
+            local fromDaily = math.min(amount, math.max(tonumber(ARGV[2]) - tonumber(daily), 0))
+            local fromMonthly = amount - fromDaily
+            if tonumber(monthly) + fromMonthly > tonumber(ARGV[3]) then return {-2, -2, 0} end
+            redis.call('INCRBY', KEYS[1], fromDaily)
+            redis.call('INCRBY', KEYS[2], fromMonthly)
+            redis.call('SET', KEYS[3], fromDaily .. ':' .. fromMonthly .. ':' .. ARGV[5], 'EX', ARGV[4])
+            return {fromDaily, fromMonthly, 0}
+            """, List.class);
+
+    // KEYS: 차감 시점의 일일 사용량, 월간 사용량, 참조별 차감 기록 / ARGV: 조회한 차감 기록 값
+    // 반환: {일일 환불량, 월간 환불량} (그 사이 다른 요청이 환불했으면 {0, 0})
+    private static final RedisScript<List> REFUND_SCRIPT = new DefaultRedisScript<>("""
+            local charged = redis.call('GET', KEYS[3])
+            if charged ~= ARGV[1] then return {0, 0} end
+            redis.call('DEL', KEYS[3])
+            local fromDaily, fromMonthly = string.match(charged, '^(%d+):(%d+)')
+            fromDaily = tonumber(fromDaily)
+            fromMonthly = tonumber(fromMonthly)
+            if redis.call('EXISTS', KEYS[1]) == 1 then redis.call('DECRBY', KEYS[1], fromDaily) end
+            if redis.call('EXISTS', KEYS[2]) == 1 then redis.call('DECRBY', KEYS[2], fromMonthly) end
+            return {fromDaily, fromMonthly}
+            """, List.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final CreditLedgerRepository creditLedgerRepository;
+    private final CreditLedgerWriter creditLedgerWriter;
+    private final PlanResolver planResolver;
+
+    /**
+     * 크레딧 잔액
+     * @param dailyResetsAt 일일 크레딧이 다시 채워지는 시각
+     */
+    public record CreditBalance(int dailyBalance, int dailyLimit, LocalDateTime dailyResetsAt,
+                                int monthlyBalance, int monthlyLimit) {
+
+        public int totalAvailable() {
+            return dailyBalance + monthlyBalance;
+        }
+    }
+
+    /**
+     * 크레딧 차감 (일일 크레딧 우선, 부족분은 월간 크레딧)
+     * 같은 referenceId는 한 번만 차감하므로 재연결/재시도해도 중복 차감되지 않는다.
+     * Redis 장애 시에는 AI 호출을 막지 않고 차감 없이 통과시킨다.
+     * @param referenceId 차감 대상 식별자 (예: 어시스턴트 메시지 ID)
+     * @throws BusinessException 잔액이 부족하면 CREDIT4031
+     */
+    public void debit(Long userId, String referenceId, int amount) {
+        PlanType planType = planResolver.resolvePlanType(userId);
+        LocalDateTime now = LocalDateTime.now();
+        List<String> keys = keys(userId, referenceId, now.toLocalDate());
+
+        List<Long> result;
+        try {
+            result = executeDebit(keys, amount, planType, now);
+            if (result.get(0) == NOT_SEEDED) {
+                seed(userId, now.toLocalDate(), keys);
+                result = executeDebit(keys, amount, planType, now);
+            }
+        } catch (Exception e) {
+            log.error("[Credit] 크레딧 차감 실패, 차감 없이 진행 - userId: {}, referenceId: {}, error: {}",
+                    userId, referenceId, e.getMessage());
+            return;
+        }
+
+        if (result.get(0) == INSUFFICIENT) {
+            throw new BusinessException(ErrorCode.CREDIT4031);
+        }
+        if (result.get(2) == 1L) {
+            return; // 이미 차감됨
+        }
+
+        creditLedgerWriter.append(CreditLedger.builder()
+                .userId(userId)
+                .dailyAmount(result.get(0).intValue())
+                .monthlyAmount(result.get(1).intValue())
+                .reason(CreditReason.CHAT)
+                .referenceId(referenceId)
+                .createdAt(now)
+                .build());
+    }
+
+    /**
+     * 차감 취소 (AI 응답 생성 실패 시, 차감 기록이 없으면 무시)
+     * 차감한 기간의 사용량 키에서 되돌리고 원장에도 차감 시각으로 기록하므로,
+     * 자정/월말을 넘겨 환불해도 새 기간의 사용량이나 원장 합계가 틀어지지 않는다.
+     */
+    public void refund(Long userId, String referenceId) {
+        LocalDateTime chargedAt;
+        List<Long> result;
+        try {
+            String charged = redisTemplate.opsForValue().get(chargedKey(userId, referenceId));
+            if (charged == null) {
+                return;
+            }
+            chargedAt = chargedAt(charged);
+            result = executeRefund(keys(userId, referenceId, chargedAt.toLocalDate()), charged);
+        } catch (Exception e) {
+            log.error("[Credit] 크레딧 환불 실패 - userId: {}, referenceId: {}, error: {}",
+                    userId, referenceId, e.getMessage());
+            return;
+        }
+        if (result == null || (result.get(0) == 0 && result.get(1) == 0)) {
+            return;
+        }
+
+        creditLedgerWriter.append(CreditLedger.builder()
+                .userId(userId)
+                .dailyAmount(-result.get(0).intValue())
+                .monthlyAmount(-result.get(1).intValue())
+                .reason(CreditReason.REFUND)
+                .referenceId(referenceId)
+                .createdAt(chargedAt)
+                .build());
+    }
+
+    /**
+     * 현재 잔액 조회
+     */
+    public CreditBalance getBalance(Long userId, PlanType planType) {
+        LocalDate today = LocalDate.now();
+        List<String> keys = keys(userId, null, today);
+
+        long dailyUsed;
+        long monthlyUsed;
+        try {
+            List<String> used = redisTemplate.opsForValue().multiGet(keys.subList(0, 2));
+            if (used == null || used.get(0) == null || used.get(1) == null) {
+                seed(userId, today, keys);
+                used = redisTemplate.opsForValue().multiGet(keys.subList(0, 2));
+            }
+            dailyUsed = Long.parseLong(used.get(0));
+            monthlyUsed = Long.parseLong(used.get(1));
+        } catch (Exception e) {
+            log.warn("[Credit] 크레딧 잔액 조회 실패, 원장 기준으로 조회 - userId: {}, error: {}", userId, e.getMessage());
+            dailyUsed = creditLedgerRepository.sumDailyAmount(userId, today.atStartOfDay(), today.plusDays(1).atStartOfDay());
+            YearMonth month = YearMonth.from(today);
+            monthlyUsed = creditLedgerRepository.sumMonthlyAmount(userId,
+                    month.atDay(1).atStartOfDay(), month.plusMonths(1).atDay(1).atStartOfDay());
+        }
+
+        return new CreditBalance(
+                (int) Math.max(planType.getDailyCreditLimit() - dailyUsed, 0),
+                planType.getDailyCreditLimit(),
+                today.plusDays(1).atStartOfDay(),
+                (int) Math.max(planType.getMonthlyCreditLimit() - monthlyUsed, 0),
+                planType.getMonthlyCreditLimit()
+        );
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<Long> executeDebit(List<String> keys, int amount, PlanType planType, LocalDateTime now) {
+        return redisTemplate.execute(DEBIT_SCRIPT, keys,
+                String.valueOf(amount),
+                String.valueOf(planType.getDailyCreditLimit()),
+                String.valueOf(planType.getMonthlyCreditLimit()),
+                String.valueOf(CHARGED_TTL.toSeconds()),
+                now.format(CHARGED_AT_FORMAT));
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<Long> executeRefund(List<String> keys, String charged) {
+        return redisTemplate.execute(REFUND_SCRIPT, keys, charged);
+    }
+
+    // 차감 기록 값의 차감 시각 (값: "일일:월간:yyyyMMddHHmmss")
+    private static LocalDateTime chargedAt(String charged) {
+        return LocalDateTime.parse(charged.split(":")[2], CHARGED_AT_FORMAT);
+    }
+
+    /**
+     * 원장 합계로 기간 사용량 키 복구 (키가 없을 때만, 사용자/기간당 최초 1회)
+     * 아직 저장되지 않은 원장 기록은 반영되지 않으므로 복구 직후에는 사용량이 약간 적게 잡힐 수 있다.
+     */
+    private void seed(Long userId, LocalDate today, List<String> keys) {
+        long dailyUsed = creditLedgerRepository.sumDailyAmount(userId,
+                today.atStartOfDay(), today.plusDays(1).atStartOfDay());
+        YearMonth month = YearMonth.from(today);
+        long monthlyUsed = creditLedgerRepository.sumMonthlyAmount(userId,
+                month.atDay(1).atStartOfDay(), month.plusMonths(1).atDay(1).atStartOfDay());
+
+        redisTemplate.opsForValue().setIfAbsent(keys.get(0), String.valueOf(dailyUsed), DAILY_TTL);
+        redisTemplate.opsForValue().setIfAbsent(keys.get(1), String.valueOf(monthlyUsed), MONTHLY_TTL);
+    }
+
+    // 같은 사용자의 키는 같은 해시 슬롯에 두어 스크립트에서 함께 사용 ({userId} 해시 태그)
+    private List<String> keys(Long userId, String referenceId, LocalDate date) {
+        String prefix = "credit:{" + userId + "}:";
+        return List.of(
+                prefix + "daily:" + date.format(DAY_FORMAT),
+                prefix + "monthly:" + date.format(MONTH_FORMAT),
+                chargedKey(userId, referenceId)
+        );
+    }
+
+    private static String chargedKey(Long userId, String referenceId) {
+        return "credit:{" + userId + "}:charged:" + (referenceId != null ? referenceId : "");
+    }
+}
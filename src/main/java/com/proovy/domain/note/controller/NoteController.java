@@ -2,7 +2,10 @@ package com.proovy.domain.note.controller;
 
 import com.proovy.domain.note.dto.request.CreateNoteRequest;
 import com.proovy.domain.note.dto.response.CreateNoteResponse;
+import com.proovy.domain.note.dto.response.NoteCursorResponse;
 import com.proovy.domain.note.dto.response.NoteListResponse;
+import com.proovy.domain.note.dto.response.NoteTitleEvent;
+import com.proovy.domain.note.service.NoteEventBroadcaster;
 import com.proovy.domain.note.service.NoteService;
 import com.proovy.global.response.ApiResponse;
 import com.proovy.global.security.UserPrincipal;
@@ -13,8 +16,11 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
 
 @Slf4j
 @RestController
@@ -24,6 +30,7 @@ import org.springframework.web.bind.annotation.*;
 public class NoteController {
 
     private final NoteService noteService;
+    private final NoteEventBroadcaster noteEventBroadcaster;
 
     @PostMapping
     @Operation(
@@ -31,8 +38,8 @@ public class NoteController {
             description = """
                     첫 메시지를 전송하면 자동으로 새 노트가 생성됩니다.
                     
-                    노트 제목은 AI가 대화 내용을 요약하여 자동 생성합니다.
-                    (현재는 임시로 첫 메시지를 제목으로 사용)
+                    노트는 첫 메시지로 만든 임시 제목(`titleGeneratedBy`: PENDING)으로 생성되며,
+                    AI가 생성한 제목은 잠시 후 노트 이벤트 스트림(`/api/notes/events`)의 `title` 이벤트로 전달됩니다.
                     
                     **생성 제한 (요금제별)**
                     - Free: 2개
@@ -55,7 +62,7 @@ public class NoteController {
             ),
             @io.swagger.v3.oas.annotations.responses.ApiResponse(
                     responseCode = "403",
-                    description = "노트 생성 한도 초과 (NOTE4031)"
+                    description = "노트 생성 한도 초과 (NOTE4031), 노트당 대화 수 한도 초과 (NOTE4032)"
             ),
             @io.swagger.v3.oas.annotations.responses.ApiResponse(
                     responseCode = "404",
@@ -111,5 +118,119 @@ public class NoteController {
         NoteListResponse response = noteService.getNoteList(userPrincipal.getUserId(), page, size, sort);
         return ApiResponse.success("노트 목록 조회에 성공했습니다.", response);
     }
-}
 
+    @GetMapping("/scroll")
+    @Operation(
+            summary = "노트 목록 조회 (커서 기반 무한 스크롤)",
+            description = """
+                    사용자의 노트 목록을 커서 기반으로 조회합니다.
+                    전체 개수를 세지 않으며, 스크롤 깊이와 관계없이 페이지당 조회 비용이 일정합니다.
+                    
+                    **커서**
+                    - 첫 요청은 cursor 없이 호출합니다.
+                    - 응답의 `nextCursor`를 다음 요청의 `cursor`로 전달합니다. (`hasNext`가 false면 마지막 페이지)
+                    - 커서는 정렬 기준별로 발급되므로 정렬을 바꾸면 처음부터 다시 조회합니다.
+                    
+                    **정렬 옵션**
+                    - `lastUsedAt,desc`: 마지막 사용 시각 기준 최신순 (기본값)
+                    - `createdAt,desc`: 생성 시각 기준 최신순
+                    - `title,asc`: 제목 기준 오름차순
+                    
+                    **페이지 크기**
+                    - 기본값: 20
+                    - 최대값: 50
+                    """
+    )
+    @ApiResponses({
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "200",
+                    description = "노트 목록 조회 성공"
+            ),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "400",
+                    description = "유효하지 않은 커서 (NOTE4005)"
+            ),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "401",
+                    description = "인증 토큰 없음/만료 (AUTH4011)"
+            )
+    })
+    public ApiResponse<NoteCursorResponse> getNoteListByCursor(
+            @AuthenticationPrincipal UserPrincipal userPrincipal,
+            @Parameter(description = "이전 응답의 nextCursor (첫 페이지는 생략)")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "페이지당 노트 수 (최대 50)", example = "20")
+            @RequestParam(defaultValue = "20") int size,
+            @Parameter(description = "정렬 기준", example = "lastUsedAt,desc")
+            @RequestParam(defaultValue = "lastUsedAt,desc") String sort
+    ) {
+        NoteCursorResponse response = noteService.getNoteListByCursor(userPrincipal.getUserId(), cursor, size, sort);
+        return ApiResponse.success("노트 목록 조회에 성공했습니다.", response);
+    }
+
+    @GetMapping(value = "/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(
+            summary = "노트 이벤트 구독 (SSE)",
+            description = """
+                    사용자의 노트 변경 사항을 Server-Sent Events로 전달합니다.
+                    
+                    **이벤트**
+                    - `title`: 노트 제목이 확정됨 (`noteId`, `title`, `titleGeneratedBy`)
+                      - `titleGeneratedBy`: AI(생성된 제목) 또는 FALLBACK(생성 실패, 임시 제목 유지)
+                    
+                    연결 유지를 위해 약 15초마다 주석(`:ping`)을 보냅니다.
+                    
+                    연결이 끊긴 동안의 이벤트는 다시 전달되지 않으므로, 재연결 후에는 노트 목록을 다시 조회합니다.
+                    """
+    )
+    @ApiResponses({
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "구독 시작"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "401", description = "인증 토큰 없음/만료 (AUTH4011)")
+    })
+    public Flux<ServerSentEvent<NoteTitleEvent>> subscribeNoteEvents(
+            @AuthenticationPrincipal UserPrincipal userPrincipal
+    ) {
+        return noteEventBroadcaster.subscribe(userPrincipal.getUserId());
+    }
+
+    @GetMapping("/search")
+    @Operation(
+            summary = "노트 제목 검색",
+            description = """
+                    노트 제목에 검색어가 포함된 노트를 관련도순으로 조회합니다.
+                    
+                    **검색어**
+                    - 최소 2자, 대소문자 구분 없음 (한글 음절 단위 부분 일치)
+                    
+                    **페이지 크기**
+                    - 기본값: 20
+                    - 최대값: 50
+                    """
+    )
+    @ApiResponses({
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "200",
+                    description = "노트 검색 성공"
+            ),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "400",
+                    description = "검색어 2자 미만 (NOTE4004)"
+            ),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "401",
+                    description = "인증 토큰 없음/만료 (AUTH4011)"
+            )
+    })
+    public ApiResponse<NoteListResponse> searchNotes(
+            @AuthenticationPrincipal UserPrincipal userPrincipal,
+            @Parameter(description = "제목 검색어 (2자 이상)", example = "미적분")
+            @RequestParam String keyword,
+            @Parameter(description = "페이지 번호 (0부터 시작)", example = "0")
+            @RequestParam(defaultValue = "0") int page,
+            @Parameter(description = "페이지당 노트 수 (최대 50)", example = "20")
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        NoteListResponse response = noteService.searchNotes(userPrincipal.getUserId(), keyword, page, size);
+        return ApiResponse.success("노트 검색에 성공했습니다.", response);
+    }
+}
@@ -0,0 +1,14 @@
+package com.proovy.domain.note.dto.response;
+
+import java.util.List;
+
+/**
+ * 노트 목록 커서 페이지 응답 (무한 스크롤용)
+ * nextCursor를 다음 요청의 cursor로 전달한다. 전체 개수는 제공하지 않는다.
+ */
+public record NoteCursorResponse(
+        List<NoteListResponse.NoteDto> notes,
+        String nextCursor,
+        Boolean hasNext
+) {
+}
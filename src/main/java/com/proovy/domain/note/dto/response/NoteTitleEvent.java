@@ -0,0 +1,11 @@
+package com.proovy.domain.note.dto.response;
+
+/**
+ * 노트 제목 변경 SSE 이벤트 데이터
+ */
+public record NoteTitleEvent(
+        Long noteId,
+        String title,
+        String titleGeneratedBy
+) {
+}
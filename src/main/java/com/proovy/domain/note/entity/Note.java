@@ -3,6 +3,7 @@ package com.proovy.domain.note.entity;
 import com.proovy.domain.user.entity.User;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
@@ -10,14 +11,19 @@ import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "notes")
+@Table(name = "notes", indexes = {
+        @Index(name = "idx_notes_user_updated", columnList = "user_id, updated_at, note_id"),
+        @Index(name = "idx_notes_user_created", columnList = "user_id, created_at, note_id"),
+        @Index(name = "idx_notes_user_title", columnList = "user_id, title, note_id")
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @EntityListeners(AuditingEntityListener.class)
 public class Note {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "notes_seq")
+    @SequenceGenerator(name = "notes_seq", sequenceName = "notes_seq", allocationSize = 50)
     @Column(name = "note_id")
     private Long id;
 
@@ -28,9 +34,23 @@ public class Note {
     @Column(nullable = false, length = 200)
     private String title;
 
+    @ColumnDefault("'USER'")
+    @Enumerated(EnumType.STRING)
+    @Column(name = "title_source", nullable = false, length = 10)
+    private TitleSource titleSource;
+
     @Column(name = "content_md", columnDefinition = "TEXT")
     private String contentMd;
 
+    // 목록 조회용 비정규화 카운터 (NoteCounterService가 갱신, 매일 재계산으로 보정)
+    @ColumnDefault("0")
+    @Column(name = "conversation_count", nullable = false)
+    private int conversationCount;
+
+    @ColumnDefault("0")
+    @Column(name = "asset_count", nullable = false)
+    private int assetCount;
+
     @CreatedDate
     @Column(name = "created_at", updatable = false)
     private LocalDateTime createdAt;
@@ -40,17 +60,29 @@ public class Note {
     private LocalDateTime updatedAt;
 
     @Builder
-    public Note(User user, String title, String contentMd) {
+    public Note(User user, String title, TitleSource titleSource, String contentMd) {
         this.user = user;
         this.title = title;
+        this.titleSource = titleSource != null ? titleSource : TitleSource.USER;
         this.contentMd = contentMd;
     }
 
+    /**
+     * 사용자가 지정한 제목으로 변경 (이후 AI 제목으로 덮어쓰지 않음)
+     */
     public void updateTitle(String title) {
         this.title = title;
+        this.titleSource = TitleSource.USER;
     }
 
     public void updateContent(String contentMd) {
         this.contentMd = contentMd;
     }
+
+    /**
+     * 노트에 대화 추가 반영 (호출 측에서 플랜의 노트당 대화 한도를 먼저 확인)
+     */
+    public void increaseConversationCount() {
+        this.conversationCount++;
+    }
 }
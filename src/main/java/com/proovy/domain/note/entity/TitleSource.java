@@ -0,0 +1,11 @@
+package com.proovy.domain.note.entity;
+
+/**
+ * 노트 제목 출처
+ */
+public enum TitleSource {
+    PENDING,  // 첫 메시지로 만든 임시 제목 (AI 제목 생성 대기)
+    AI,       // AI가 생성한 제목
+    FALLBACK, // AI 제목 생성에 실패해 임시 제목을 그대로 사용
+    USER      // 사용자가 직접 지정한 제목
+}
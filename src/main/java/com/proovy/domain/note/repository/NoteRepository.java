@@ -1,6 +1,9 @@
 package com.proovy.domain.note.repository;
 
 import com.proovy.domain.note.entity.Note;
+import com.proovy.domain.note.repository.projection.NoteListView;
+import com.proovy.domain.note.repository.projection.NoteSearchView;
+import com.proovy.domain.note.repository.projection.NoteTitleView;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -8,28 +11,141 @@ import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 public interface NoteRepository extends JpaRepository<Note, Long> {
 
-    List<Note> findByUserIdOrderByCreatedAtDesc(Long userId);
+    /**
+     * 사용자의 노트 ID/제목 목록 조회 (스토리지 사용량 조회용)
+     */
+    @Query("SELECT n.id AS id, n.title AS title FROM Note n " +
+           "WHERE n.user.id = :userId " +
+           "ORDER BY n.createdAt DESC")
+    List<NoteTitleView> findTitlesByUserId(@Param("userId") Long userId);
 
-    long countByUserId(Long userId);
+    /**
+     * 제목 부분 검색 (관련도순)
+     * lower(title) trigram GIN 인덱스(idx_notes_title_trgm, db/migration/notes_title_trgm_index.sql)로 LIKE를 처리하고
+     * pg_trgm similarity로 정렬한다. 2자 검색어는 trigram이 나오지 않아 인덱스 없이 사용자 노트 범위만 스캔한다.
+     * @param pattern LIKE 패턴 (소문자, 특수문자 이스케이프 후 %keyword%)
+     * @param keyword 소문자 검색어 (관련도 계산용)
+     */
+    @Query(value = "SELECT n.note_id AS id, n.title AS title, " +
+                   "similarity(lower(n.title), :keyword) AS score " +
+                   "FROM notes n " +
+                   "WHERE n.user_id = :userId AND lower(n.title) LIKE :pattern ESCAPE '\\' " +
+                   "ORDER BY score DESC, n.updated_at DESC, n.note_id DESC",
+           countQuery = "SELECT COUNT(*) FROM notes n " +
+                        "WHERE n.user_id = :userId AND lower(n.title) LIKE :pattern ESCAPE '\\'",
+           nativeQuery = true)
+    Page<NoteSearchView> searchByTitle(@Param("userId") Long userId,
+                                       @Param("pattern") String pattern,
+                                       @Param("keyword") String keyword,
+                                       Pageable pageable);
 
-    @Query("SELECT n FROM Note n WHERE n.user.id = :userId " +
-           "AND LOWER(n.title) LIKE LOWER(CONCAT('%', :keyword, '%')) " +
-           "ORDER BY n.createdAt DESC")
-    List<Note> searchByTitleKeyword(@Param("userId") Long userId, @Param("keyword") String keyword);
+    /**
+     * 사용자의 노트 ID 목록 조회 (회원 탈퇴 처리용)
+     */
+    @Query("SELECT n.id FROM Note n WHERE n.user.id = :userId ORDER BY n.id")
+    List<Long> findIdsByUserId(@Param("userId") Long userId);
 
     /**
-     * 특정 사용자의 모든 노트 삭제 (회원 탈퇴용)
+     * 노트 삭제 (엔티티 로딩 없이, 회원 탈퇴 처리용)
      */
-    @Modifying(clearAutomatically = true)
-    @Query("DELETE FROM Note n WHERE n.user.id = :userId")
-    void deleteAllByUserId(@Param("userId") Long userId);
+    @Modifying
+    @Query("DELETE FROM Note n WHERE n.id = :noteId")
+    int deleteInBulkById(@Param("noteId") Long noteId);
+
+    /**
+     * 노트 자산 수 원자적 증감
+     */
+    @Modifying
+    @Query("UPDATE Note n SET n.assetCount = n.assetCount + :delta WHERE n.id = :noteId")
+    int addAssetCount(@Param("noteId") Long noteId, @Param("delta") int delta);
+
+    /**
+     * AI 생성 제목 반영 (임시 제목 상태인 노트만, 사용자가 먼저 바꾼 제목은 유지)
+     * @return 반영되었으면 1
+     */
+    @Modifying
+    @Query("UPDATE Note n SET n.title = :title, n.titleSource = com.proovy.domain.note.entity.TitleSource.AI " +
+           "WHERE n.id = :noteId AND n.titleSource = com.proovy.domain.note.entity.TitleSource.PENDING")
+    int applyGeneratedTitle(@Param("noteId") Long noteId, @Param("title") String title);
+
+    /**
+     * AI 제목 생성 포기 (임시 제목 상태인 노트만 임시 제목으로 확정)
+     * @return 확정되었으면 1
+     */
+    @Modifying
+    @Query("UPDATE Note n SET n.titleSource = com.proovy.domain.note.entity.TitleSource.FALLBACK " +
+           "WHERE n.id = :noteId AND n.titleSource = com.proovy.domain.note.entity.TitleSource.PENDING")
+    int keepTemporaryTitle(@Param("noteId") Long noteId);
+
+    @Query("SELECT COALESCE(MAX(n.id), 0) FROM Note n")
+    long findMaxId();
+
+    /**
+     * ID 구간 내 노트의 대화/자산 카운터를 실제 행 수로 보정
+     * @return 값이 달라 보정된 노트 수
+     */
+    @Modifying
+    @Query(value = "UPDATE notes n " +
+                   "SET conversation_count = counts.conversation_count, asset_count = counts.asset_count " +
+                   "FROM (SELECT t.note_id, " +
+                   "             (SELECT COUNT(*) FROM conversations c WHERE c.note_id = t.note_id) AS conversation_count, " +
+                   "             (SELECT COUNT(*) FROM assets a WHERE a.note_id = t.note_id) AS asset_count " +
+                   "      FROM notes t WHERE t.note_id > :fromId AND t.note_id <= :toId) counts " +
+                   "WHERE n.note_id = counts.note_id " +
+                   "AND (n.conversation_count <> counts.conversation_count OR n.asset_count <> counts.asset_count)",
+           nativeQuery = true)
+    int reconcileCounters(@Param("fromId") long fromId, @Param("toId") long toId);
 
     /**
      * 사용자의 노트 목록 페이지네이션 조회
      */
-    Page<Note> findByUserId(Long userId, Pageable pageable);
+    Page<NoteListView> findByUserId(Long userId, Pageable pageable);
+
+    /**
+     * 노트 목록 표시 정보 조회 (검색 결과 조립용)
+     */
+    List<NoteListView> findByIdIn(Collection<Long> ids);
+
+    /**
+     * 노트 목록 keyset 조회 - 마지막 사용순 (updatedAt DESC, id DESC)
+     * (updated_at, note_id) < (커서) 조건으로 idx_notes_user_updated를 따라 읽으므로 깊이와 무관하게 비용이 일정하다.
+     */
+    @Query("SELECT n.id AS id, n.title AS title, n.createdAt AS createdAt, n.updatedAt AS updatedAt, " +
+           "n.conversationCount AS conversationCount, n.assetCount AS assetCount FROM Note n " +
+           "WHERE n.user.id = :userId AND (n.updatedAt, n.id) < (:updatedAt, :id) " +
+           "ORDER BY n.updatedAt DESC, n.id DESC")
+    List<NoteListView> findSliceByUpdatedAt(@Param("userId") Long userId,
+                                            @Param("updatedAt") LocalDateTime updatedAt,
+                                            @Param("id") Long id,
+                                            Pageable pageable);
+
+    /**
+     * 노트 목록 keyset 조회 - 생성순 (createdAt DESC, id DESC)
+     */
+    @Query("SELECT n.id AS id, n.title AS title, n.createdAt AS createdAt, n.updatedAt AS updatedAt, " +
+           "n.conversationCount AS conversationCount, n.assetCount AS assetCount FROM Note n " +
+           "WHERE n.user.id = :userId AND (n.createdAt, n.id) < (:createdAt, :id) " +
+           "ORDER BY n.createdAt DESC, n.id DESC")
+    List<NoteListView> findSliceByCreatedAt(@Param("userId") Long userId,
+                                            @Param("createdAt") LocalDateTime createdAt,
+                                            @Param("id") Long id,
+                                            Pageable pageable);
+
+    /**
+     * 노트 목록 keyset 조회 - 제목순 (title ASC, id ASC)
+     */
+    @Query("SELECT n.id AS id, n.title AS title, n.createdAt AS createdAt, n.updatedAt AS updatedAt, " +
+           "n.conversationCount AS conversationCount, n.assetCount AS assetCount FROM Note n " +
+           "WHERE n.user.id = :userId AND (n.title, n.id) > (:title, :id) " +
+           "ORDER BY n.title ASC, n.id ASC")
+    List<NoteListView> findSliceByTitle(@Param("userId") Long userId,
+                                        @Param("title") String title,
+                                        @Param("id") Long id,
+                                        Pageable pageable);
 }
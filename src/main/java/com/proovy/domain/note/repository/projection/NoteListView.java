@@ -0,0 +1,17 @@
+package com.proovy.domain.note.repository.projection;
+
+import java.time.LocalDateTime;
+
+/**
+ * 노트 목록 표시용 projection (contentMd 제외)
+ */
+public interface NoteListView extends NoteTitleView {
+
+    LocalDateTime getCreatedAt();
+
+    LocalDateTime getUpdatedAt();
+
+    int getConversationCount();
+
+    int getAssetCount();
+}
@@ -0,0 +1,9 @@
+package com.proovy.domain.note.repository.projection;
+
+/**
+ * 노트 제목 검색 결과 (관련도 점수 포함)
+ */
+public interface NoteSearchView extends NoteTitleView {
+
+    Double getScore();
+}
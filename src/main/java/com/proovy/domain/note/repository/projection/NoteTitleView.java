@@ -0,0 +1,11 @@
+package com.proovy.domain.note.repository.projection;
+
+/**
+ * 노트 ID/제목만 조회하는 경량 projection
+ */
+public interface NoteTitleView {
+
+    Long getId();
+
+    String getTitle();
+}
@@ -0,0 +1,42 @@
+package com.proovy.domain.note.service;
+
+import com.proovy.domain.note.repository.NoteRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 노트 카운터 정기 보정
+ * 이벤트 누락/수동 데이터 변경으로 어긋난 카운터를 실제 행 수로 맞춘다.
+ * 노트 행 잠금 시간을 줄이기 위해 ID 구간별로 짧은 트랜잭션으로 나누어 실행한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NoteCounterReconciler {
+
+    private static final int RANGE_SIZE = 1000;
+
+    private final NoteRepository noteRepository;
+    private final NoteCounterService noteCounterService;
+
+    @Scheduled(cron = "0 0 5 * * *") // 매일 05:00
+    public void reconcileAll() {
+        long maxId = noteRepository.findMaxId();
+        int corrected = 0;
+
+        for (long fromId = 0; fromId < maxId; fromId += RANGE_SIZE) {
+            try {
+                corrected += noteCounterService.reconcile(fromId, fromId + RANGE_SIZE);
+            } catch (Exception e) {
+                log.error("[Note] 노트 카운터 보정 실패 - range: ({}, {}], error: {}",
+                        fromId, fromId + RANGE_SIZE, e.getMessage());
+            }
+        }
+
+        if (corrected > 0) {
+            log.warn("[Note] 노트 카운터 불일치 보정 완료 - count: {}", corrected);
+        }
+    }
+}
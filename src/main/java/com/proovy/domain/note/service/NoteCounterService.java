@@ -0,0 +1,63 @@
+package com.proovy.domain.note.service;
+
+import com.proovy.domain.asset.event.AssetUsageChangedEvent;
+import com.proovy.domain.note.repository.NoteRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 노트 대화/자산 카운터 관리
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class NoteCounterService {
+
+    private final NoteRepository noteRepository;
+
+    /**
+     * 자산 생성/삭제를 노트 자산 수에 반영 (상태 변경은 개수에 영향 없음)
+     */
+    public void applyAssetChange(AssetUsageChangedEvent event) {
+        int delta = countDelta(event);
+        if (delta == 0 || event.noteId() == null) {
+            return;
+        }
+        noteRepository.addAssetCount(event.noteId(), delta);
+    }
+
+    /**
+     * 여러 자산 변경을 노트별로 합산해 노트당 한 번만 반영 (일괄 삭제용)
+     */
+    public void applyAssetChanges(List<AssetUsageChangedEvent> events) {
+        Map<Long, Integer> deltaByNoteId = new HashMap<>();
+        for (AssetUsageChangedEvent event : events) {
+            int delta = countDelta(event);
+            if (delta != 0 && event.noteId() != null) {
+                deltaByNoteId.merge(event.noteId(), delta, Integer::sum);
+            }
+        }
+        deltaByNoteId.forEach((noteId, delta) -> {
+            if (delta != 0) {
+                noteRepository.addAssetCount(noteId, delta);
+            }
+        });
+    }
+
+    /**
+     * ID 구간 내 노트 카운터 보정
+     * @return 보정된 노트 수
+     */
+    public int reconcile(long fromId, long toId) {
+        return noteRepository.reconcileCounters(fromId, toId);
+    }
+
+    private static int countDelta(AssetUsageChangedEvent event) {
+        return (event.fromStatus() == null ? 1 : 0) - (event.toStatus() == null ? 1 : 0);
+    }
+}
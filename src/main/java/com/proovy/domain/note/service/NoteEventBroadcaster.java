@@ -0,0 +1,117 @@
+package com.proovy.domain.note.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.proovy.domain.note.dto.response.NoteTitleEvent;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Sinks;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 노트 이벤트 SSE 전달
+ * 이벤트는 Redis 채널로 발행하고, 각 인스턴스는 자신에게 연결된 사용자의 구독자에게만 전달한다.
+ * 연결이 없는 동안의 이벤트는 보관하지 않는다. (클라이언트는 재연결 후 목록을 다시 조회)
+ * 이벤트가 없어도 주기적으로 주석(ping)을 보내 프록시/로드밸런서의 유휴 연결 종료를 막는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NoteEventBroadcaster implements MessageListener {
+
+    private static final String CHANNEL = "note-events";
+    private static final String EVENT_TITLE = "title";
+    private static final Duration HEARTBEAT_INTERVAL = Duration.ofSeconds(15);
+
+    private final StringRedisTemplate redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final ObjectMapper objectMapper;
+
+    // 이 인스턴스에 연결된 사용자별 구독 (같은 사용자의 여러 탭이 함께 구독)
+    private final Map<Long, UserSink> sinks = new ConcurrentHashMap<>();
+
+    private record NoteEventMessage(Long userId, NoteTitleEvent event) {
+    }
+
+    // 사용자별 이벤트 전달 대상과 구독 수 (구독 수는 sinks.compute 안에서만 변경)
+    private static final class UserSink {
+        private final Sinks.Many<NoteTitleEvent> sink = Sinks.many().multicast().directBestEffort();
+        private int subscribers;
+    }
+
+    @PostConstruct
+    void subscribeChannel() {
+        listenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+    }
+
+    /**
+     * 사용자의 노트 이벤트 구독
+     */
+    public Flux<ServerSentEvent<NoteTitleEvent>> subscribe(Long userId) {
+        return Flux.defer(() -> {
+            // 마지막 구독 해제와 새 구독이 겹쳐도 사용 중인 대상이 제거되지 않도록 사용자 단위로 원자적으로 갱신
+            UserSink userSink = sinks.compute(userId, (id, existing) -> {
+                UserSink target = existing != null ? existing : new UserSink();
+                target.subscribers++;
+                return target;
+            });
+
+            Flux<ServerSentEvent<NoteTitleEvent>> events = userSink.sink.asFlux()
+                    .map(event -> ServerSentEvent.<NoteTitleEvent>builder()
+                            .event(EVENT_TITLE)
+                            .data(event)
+                            .build());
+            Flux<ServerSentEvent<NoteTitleEvent>> heartbeats = Flux.interval(HEARTBEAT_INTERVAL)
+                    .map(tick -> ServerSentEvent.<NoteTitleEvent>builder()
+                            .comment("ping")
+                            .build());
+
+            return Flux.merge(events, heartbeats)
+                    .doFinally(signal -> sinks.computeIfPresent(userId, (id, current) -> {
+                        if (current != userSink) {
+                            return current;
+                        }
+                        return --current.subscribers == 0 ? null : current;
+                    }));
+        });
+    }
+
+    /**
+     * 제목 변경 이벤트 발행 (모든 인스턴스로 전달)
+     */
+    public void publishTitle(Long userId, NoteTitleEvent event) {
+        try {
+            redisTemplate.convertAndSend(CHANNEL, objectMapper.writeValueAsString(new NoteEventMessage(userId, event)));
+        } catch (JsonProcessingException e) {
+            log.warn("[Note] 노트 이벤트 직렬화 실패 - noteId: {}", event.noteId());
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        try {
+            NoteEventMessage received = objectMapper.readValue(message.getBody(), NoteEventMessage.class);
+            UserSink userSink = sinks.get(received.userId());
+            if (userSink != null) {
+                synchronized (userSink.sink) { // 리스너 스레드 간 동시 emit 방지
+                    userSink.sink.tryEmitNext(received.event());
+                }
+            }
+        } catch (IOException e) {
+            log.warn("[Note] 노트 이벤트 수신 실패 - error: {}", e.getMessage());
+        }
+    }
+}
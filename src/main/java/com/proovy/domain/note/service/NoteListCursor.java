@@ -0,0 +1,87 @@
+package com.proovy.domain.note.service;
+
+import com.proovy.domain.note.repository.projection.NoteListView;
+import com.proovy.global.exception.BusinessException;
+import com.proovy.global.response.ErrorCode;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 노트 목록 keyset 커서 (정렬 키 값 + 노트 ID)
+ * 클라이언트에는 Base64URL로 인코딩한 불투명 문자열로 전달하며, 정렬 기준이 바뀌면 사용할 수 없다.
+ */
+record NoteListCursor(SortKey sortKey, String value, Long id) {
+
+    private static final String DELIMITER = "\n";
+
+    // 첫 페이지 조회용 경계값 (모든 행이 조건을 만족하도록)
+    private static final LocalDateTime MAX_TIMESTAMP = LocalDateTime.of(9999, 12, 31, 23, 59, 59);
+
+    enum SortKey {
+        LAST_USED_AT,  // updatedAt DESC
+        CREATED_AT,    // createdAt DESC
+        TITLE;         // title ASC
+
+        /**
+         * 정렬 파라미터 파싱 ("lastUsedAt,desc" 형식, 방향은 정렬 키별로 고정)
+         */
+        static SortKey from(String sort) {
+            String property = sort != null ? sort.split(",")[0].trim() : "";
+            return switch (property) {
+                case "createdAt" -> CREATED_AT;
+                case "title" -> TITLE;
+                default -> LAST_USED_AT;
+            };
+        }
+    }
+
+    static NoteListCursor first(SortKey sortKey) {
+        return switch (sortKey) {
+            case LAST_USED_AT, CREATED_AT -> new NoteListCursor(sortKey, MAX_TIMESTAMP.toString(), Long.MAX_VALUE);
+            case TITLE -> new NoteListCursor(sortKey, "", 0L);
+        };
+    }
+
+    static NoteListCursor after(SortKey sortKey, NoteListView last) {
+        String value = switch (sortKey) {
+            case LAST_USED_AT -> last.getUpdatedAt().toString();
+            case CREATED_AT -> last.getCreatedAt().toString();
+            case TITLE -> last.getTitle();
+        };
+        return new NoteListCursor(sortKey, value, last.getId());
+    }
+
+    /**
+     * 커서 문자열 해석
+     * @throws BusinessException 형식이 잘못되었거나 정렬 기준이 다르면 NOTE4005
+     */
+    static NoteListCursor decode(String cursor, SortKey expectedSortKey) {
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = decoded.split(DELIMITER, 3);
+            if (parts.length != 3 || !expectedSortKey.name().equals(parts[0])) {
+                throw new BusinessException(ErrorCode.NOTE4005);
+            }
+
+            NoteListCursor parsed = new NoteListCursor(expectedSortKey, parts[2], Long.parseLong(parts[1]));
+            if (expectedSortKey != SortKey.TITLE) {
+                parsed.timestamp(); // 형식 검증
+            }
+            return parsed;
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new BusinessException(ErrorCode.NOTE4005);
+        }
+    }
+
+    String encode() {
+        String raw = sortKey.name() + DELIMITER + id + DELIMITER + value;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    LocalDateTime timestamp() {
+        return LocalDateTime.parse(value);
+    }
+}
@@ -2,11 +2,16 @@ package com.proovy.domain.note.service;
 
 import com.proovy.domain.note.dto.request.CreateNoteRequest;
 import com.proovy.domain.note.dto.response.CreateNoteResponse;
+import com.proovy.domain.note.dto.response.NoteCursorResponse;
 import com.proovy.domain.note.dto.response.NoteListResponse;
 
 public interface NoteService {
     CreateNoteResponse createNote(Long userId, CreateNoteRequest request);
 
     NoteListResponse getNoteList(Long userId, int page, int size, String sort);
+
+    NoteCursorResponse getNoteListByCursor(Long userId, String cursor, int size, String sort);
+
+    NoteListResponse searchNotes(Long userId, String keyword, int page, int size);
 }
 
@@ -1,18 +1,30 @@
 package com.proovy.domain.note.service;
 
-import com.proovy.domain.asset.entity.Asset;
 import com.proovy.domain.asset.repository.AssetRepository;
+import com.proovy.domain.asset.repository.projection.AssetSummaryView;
 import com.proovy.domain.conversation.entity.*;
 import com.proovy.domain.conversation.repository.*;
 import com.proovy.domain.note.dto.request.CreateNoteRequest;
 import com.proovy.domain.note.dto.response.CreateNoteResponse;
+import com.proovy.domain.note.dto.response.NoteCursorResponse;
 import com.proovy.domain.note.dto.response.NoteListResponse;
 import com.proovy.domain.note.entity.Note;
+import com.proovy.domain.note.entity.TitleSource;
 import com.proovy.domain.note.repository.NoteRepository;
+import com.proovy.domain.note.repository.projection.NoteListView;
+import com.proovy.domain.note.repository.projection.NoteSearchView;
+import com.proovy.domain.user.entity.PlanType;
 import com.proovy.domain.user.entity.User;
 import com.proovy.domain.user.repository.UserRepository;
+import com.proovy.domain.user.service.PlanResolver;
+import com.proovy.domain.user.service.QuotaReservationService;
 import com.proovy.global.exception.BusinessException;
+import com.proovy.global.metrics.OperationMetrics;
+import com.proovy.global.outbox.OutboxPublisher;
+import com.proovy.global.profiling.NoteCreateEvent;
 import com.proovy.global.response.ErrorCode;
+import com.proovy.global.util.SearchKeywordUtils;
+import io.micrometer.core.instrument.Tags;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
@@ -22,9 +34,11 @@ import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -40,13 +54,26 @@ public class NoteServiceImpl implements NoteService {
     private final MessageAssetRepository messageAssetRepository;
     private final MessageToolRepository messageToolRepository;
     private final AssetRepository assetRepository;
-    private final com.proovy.domain.user.repository.UserPlanRepository userPlanRepository;
+    private final PlanResolver planResolver;
+    private final QuotaReservationService quotaReservationService;
+    private final OutboxPublisher outboxPublisher;
+    private final OperationMetrics operationMetrics;
 
     // 허용된 도구 코드 목록 (실제로는 별도 관리 필요)
     private static final Set<String> ALLOWED_TOOL_CODES = Set.of("SOLUTION", "GRAPH", "VARIATION");
+    private static final String AGGREGATE_NOTE = "note";
 
     @Override
     public CreateNoteResponse createNote(Long userId, CreateNoteRequest request) {
+        // 사용자의 활성 플랜 조회 (없거나 만료되었으면 FREE 플랜으로 간주)
+        PlanType planType = planResolver.resolvePlanType(userId);
+
+        return new NoteCreateEvent(planType.name()).record(() ->
+                operationMetrics.recordThroughCommit("proovy.note.create", Tags.of("plan", planType.name()),
+                        () -> createNote(userId, planType, request)));
+    }
+
+    private CreateNoteResponse createNote(Long userId, PlanType planType, CreateNoteRequest request) {
         log.info("노트 생성 요청 - userId: {}, firstMessage length: {}", userId,
                 request.firstMessage() != null ? request.firstMessage().length() : 0);
 
@@ -54,25 +81,16 @@ public class NoteServiceImpl implements NoteService {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.USER4041));
 
-        // 2. 노트 생성 한도 체크
-        // 사용자의 활성 플랜 조회 (없으면 FREE 플랜으로 간주)
-        com.proovy.domain.user.entity.PlanType planType = userPlanRepository.findActivePlanTypeByUserId(userId)
-                .orElse(com.proovy.domain.user.entity.PlanType.FREE);
-
-        long noteCount = noteRepository.countByUserId(userId);
-        int noteLimit = planType.getNoteLimit();
-
-        if (noteCount >= noteLimit) {
-            throw new BusinessException(ErrorCode.NOTE4031);
-        }
+        // 2. 노트 생성 한도 예약 (이후 단계에서 실패하면 트랜잭션과 함께 취소)
+        quotaReservationService.reserveNote(userId, planType);
 
-        // 3. mentionedAssetIds 검증
-        List<Asset> mentionedAssets = new ArrayList<>();
+        // 3. mentionedAssetIds 검증 (경량 정보만 조회, OCR 텍스트 등 자산 엔티티는 로딩하지 않음)
+        List<AssetSummaryView> mentionedAssets = List.of();
         if (request.mentionedAssetIds() != null && !request.mentionedAssetIds().isEmpty()) {
             List<Long> uniqueAssetIds = request.mentionedAssetIds().stream()
                     .distinct()
                     .toList();
-            mentionedAssets = assetRepository.findAllByIdInAndUserId(uniqueAssetIds, userId);
+            mentionedAssets = assetRepository.findSummariesByIdInAndUserId(uniqueAssetIds, userId);
             if (mentionedAssets.size() != uniqueAssetIds.size()) {
                 throw new BusinessException(ErrorCode.ASSET4041);
             }
@@ -87,20 +105,28 @@ public class NoteServiceImpl implements NoteService {
             }
         }
 
-        // 5. 노트 생성 (제목은 우선 간단하게 생성)
+        // 5. 노트 생성 (임시 제목으로 생성하고 AI 제목 생성은 아웃박스에 기록, 커밋 이후 비동기로 반영)
+        // 이후 저장되는 엔티티는 시퀀스로 ID만 할당받고, INSERT는 커밋 시 테이블별 배치로 실행된다.
         String simpleTitle = generateSimpleTitle(request.firstMessage());
         Note note = Note.builder()
                 .user(user)
                 .title(simpleTitle)
+                .titleSource(TitleSource.PENDING)
                 .contentMd("")
                 .build();
         note = noteRepository.save(note);
+        outboxPublisher.append(AGGREGATE_NOTE, note.getId(), NoteTitleOutboxHandler.EVENT_TYPE,
+                NoteTitleOutboxHandler.Payload.of(note.getId(), userId, request.firstMessage()));
 
-        // 6. Conversation 생성
+        // 6. Conversation 생성 (플랜의 노트당 대화 한도 확인)
+        if (note.getConversationCount() >= planType.getConversationLimit()) {
+            throw new BusinessException(ErrorCode.NOTE4032);
+        }
         Conversation conversation = Conversation.builder()
                 .note(note)
                 .build();
         conversation = conversationRepository.save(conversation);
+        note.increaseConversationCount();
 
         // 7. User Message 생성
         final Message userMessage = messageRepository.save(Message.builder()
@@ -115,7 +141,7 @@ public class NoteServiceImpl implements NoteService {
             List<MessageAsset> messageAssets = mentionedAssets.stream()
                     .map(asset -> MessageAsset.builder()
                             .message(userMessage)
-                            .asset(asset)
+                            .asset(assetRepository.getReferenceById(asset.getId()))
                             .build())
                     .toList();
             messageAssetRepository.saveAll(messageAssets);
@@ -161,12 +187,13 @@ public class NoteServiceImpl implements NoteService {
                 userMessage,
                 assistantMessage,
                 mentionedAssets,
-                request.mentionedToolCodes()
+                request.mentionedToolCodes(),
+                planType.getConversationLimit()
         );
     }
 
     /**
-     * 간단한 제목 생성 (AI 사용 전까지 임시)
+     * 임시 제목 생성 (AI 제목이 반영되기 전까지 표시)
      */
     private String generateSimpleTitle(String firstMessage) {
         // 첫 메시지에서 최대 50자까지 제목으로 사용
@@ -185,8 +212,9 @@ public class NoteServiceImpl implements NoteService {
             Conversation conversation,
             Message userMessage,
             Message assistantMessage,
-            List<Asset> mentionedAssets,
-            List<String> mentionedToolCodes
+            List<AssetSummaryView> mentionedAssets,
+            List<String> mentionedToolCodes,
+            int conversationLimit
     ) {
         // MentionedAssets DTO 변환
         List<CreateNoteResponse.MentionedAssetDto> mentionedAssetDtos = mentionedAssets.stream()
@@ -225,8 +253,8 @@ public class NoteServiceImpl implements NoteService {
         return new CreateNoteResponse(
                 note.getId(),
                 note.getTitle(),
-                "USER", // 현재는 AI 사용하지 않으므로 USER로 표시
-                50, // 기본 대화 제한
+                note.getTitleSource().name(), // PENDING: AI 제목 생성 후 노트 이벤트(title)로 전달
+                conversationLimit,
                 firstConversationDto,
                 note.getCreatedAt()
         );
@@ -247,68 +275,129 @@ public class NoteServiceImpl implements NoteService {
         Pageable pageable = PageRequest.of(page, size, sortOrder);
 
         // 4. 노트 페이지 조회
-        Page<Note> notePage = noteRepository.findByUserId(userId, pageable);
+        Page<NoteListView> notePage = noteRepository.findByUserId(userId, pageable);
 
-        // 5. 사용자의 활성 플랜 조회 (대화 제한 수 계산용)
-        int conversationLimit = 50; // 기본값
+        NoteListResponse response = buildNoteListResponse(userId, notePage.getContent(), notePage);
 
-        // 6. 노트 ID 목록 추출
-        List<Long> noteIds = notePage.getContent().stream()
-                .map(Note::getId)
-                .collect(Collectors.toList());
+        log.info("노트 목록 조회 완료 - 총 {}개 조회", response.notes().size());
 
-        // 7. 배치 쿼리로 대화 개수 조회 (N+1 문제 해결)
-        java.util.Map<Long, Long> conversationCountMap = new java.util.HashMap<>();
-        if (!noteIds.isEmpty()) {
-            List<java.util.Map<String, Object>> conversationCounts =
-                conversationRepository.countByNoteIdIn(noteIds);
-            for (java.util.Map<String, Object> row : conversationCounts) {
-                Long noteId = ((Number) row.get("noteId")).longValue();
-                Long count = ((Number) row.get("count")).longValue();
-                conversationCountMap.put(noteId, count);
-            }
-        }
+        return response;
+    }
 
-        // 8. 배치 쿼리로 자산 개수 조회 (N+1 문제 해결)
-        java.util.Map<Long, Long> assetCountMap = new java.util.HashMap<>();
-        if (!noteIds.isEmpty()) {
-            List<java.util.Map<String, Object>> assetCounts =
-                assetRepository.countByNoteIdIn(noteIds);
-            for (java.util.Map<String, Object> row : assetCounts) {
-                Long noteId = ((Number) row.get("noteId")).longValue();
-                Long count = ((Number) row.get("count")).longValue();
-                assetCountMap.put(noteId, count);
-            }
+    @Override
+    @Transactional(readOnly = true)
+    public NoteCursorResponse getNoteListByCursor(Long userId, String cursor, int size, String sort) {
+        log.info("노트 목록 커서 조회 요청 - userId: {}, size: {}, sort: {}", userId, size, sort);
+
+        // 1. 사이즈 제한 (1 ~ 50)
+        int pageSize = Math.min(Math.max(size, 1), 50);
+
+        // 2. 정렬 키 + 커서 해석 (없으면 첫 페이지)
+        NoteListCursor.SortKey sortKey = NoteListCursor.SortKey.from(sort);
+        NoteListCursor position = cursor != null && !cursor.isBlank()
+                ? NoteListCursor.decode(cursor, sortKey)
+                : NoteListCursor.first(sortKey);
+
+        // 3. 다음 페이지 존재 여부 확인을 위해 1개 더 조회 (COUNT 없음)
+        Pageable limit = PageRequest.of(0, pageSize + 1);
+        List<NoteListView> rows = switch (sortKey) {
+            case LAST_USED_AT -> noteRepository.findSliceByUpdatedAt(userId, position.timestamp(), position.id(), limit);
+            case CREATED_AT -> noteRepository.findSliceByCreatedAt(userId, position.timestamp(), position.id(), limit);
+            case TITLE -> noteRepository.findSliceByTitle(userId, position.value(), position.id(), limit);
+        };
+
+        boolean hasNext = rows.size() > pageSize;
+        List<NoteListView> notes = hasNext ? rows.subList(0, pageSize) : rows;
+        String nextCursor = hasNext
+                ? NoteListCursor.after(sortKey, notes.get(notes.size() - 1)).encode()
+                : null;
+
+        return new NoteCursorResponse(buildNoteDtos(userId, notes), nextCursor, hasNext);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public NoteListResponse searchNotes(Long userId, String keyword, int page, int size) {
+        log.info("노트 검색 요청 - userId: {}, page: {}, size: {}", userId, page, size);
+
+        // 1. 검색어 검증 (최소 2자)
+        if (keyword == null || keyword.trim().length() < 2) {
+            throw new BusinessException(ErrorCode.NOTE4004);
         }
 
-        // 9. DTO 변환 (미리 조회한 카운트 사용)
-        List<NoteListResponse.NoteDto> noteDtos = notePage.getContent().stream()
-                .map(note -> buildNoteDto(
-                    note,
-                    conversationLimit,
-                    conversationCountMap.getOrDefault(note.getId(), 0L),
-                    assetCountMap.getOrDefault(note.getId(), 0L)
-                ))
-                .collect(Collectors.toList());
+        // 2. 사이즈 제한 (최대 50)
+        size = Math.min(size, 50);
 
-        // 10. PageInfo 생성
+        // 3. 제목 trigram 검색 (관련도순)
+        String normalizedKeyword = SearchKeywordUtils.normalize(keyword);
+        Page<NoteSearchView> searchPage = noteRepository.searchByTitle(
+                userId,
+                SearchKeywordUtils.containsPattern(normalizedKeyword),
+                normalizedKeyword,
+                PageRequest.of(page, size)
+        );
+
+        // 4. 관련도 순서를 유지하며 노트 조회
+        List<Long> rankedIds = searchPage.getContent().stream()
+                .map(NoteSearchView::getId)
+                .toList();
+        Map<Long, NoteListView> noteById = noteRepository.findByIdIn(rankedIds).stream()
+                .collect(Collectors.toMap(NoteListView::getId, Function.identity()));
+        List<NoteListView> notes = rankedIds.stream()
+                .map(noteById::get)
+                .filter(Objects::nonNull)
+                .toList();
+
+        NoteListResponse response = buildNoteListResponse(userId, notes, searchPage);
+
+        log.info("노트 검색 완료 - 총 {}개 중 {}개 조회", searchPage.getTotalElements(), notes.size());
+
+        return response;
+    }
+
+    /**
+     * 노트 목록 응답 생성
+     * @param userId 사용자 ID (플랜별 대화 제한 조회용)
+     * @param notes 응답에 포함할 노트 (표시 순서대로)
+     * @param page 페이지 정보
+     */
+    private NoteListResponse buildNoteListResponse(Long userId, List<NoteListView> notes, Page<?> page) {
+        List<NoteListResponse.NoteDto> noteDtos = buildNoteDtos(userId, notes);
+
+        // PageInfo 생성
         NoteListResponse.PageInfo pageInfo = NoteListResponse.PageInfo.builder()
-                .page(notePage.getNumber())
-                .size(notePage.getSize())
-                .totalElements(notePage.getTotalElements())
-                .totalPages(notePage.getTotalPages())
-                .hasNext(notePage.hasNext())
-                .hasPrevious(notePage.hasPrevious())
+                .page(page.getNumber())
+                .size(page.getSize())
+                .totalElements(page.getTotalElements())
+                .totalPages(page.getTotalPages())
+                .hasNext(page.hasNext())
+                .hasPrevious(page.hasPrevious())
                 .build();
 
-        log.info("노트 목록 조회 완료 - 총 {}개 조회", noteDtos.size());
-
         return NoteListResponse.builder()
                 .notes(noteDtos)
                 .pageInfo(pageInfo)
                 .build();
     }
 
+    /**
+     * 노트 DTO 목록 생성 (노트에 저장된 대화/자산 카운터 사용)
+     * @param userId 사용자 ID (플랜별 대화 제한 조회용)
+     * @param notes 변환할 노트 (표시 순서대로)
+     */
+    private List<NoteListResponse.NoteDto> buildNoteDtos(Long userId, List<NoteListView> notes) {
+        if (notes.isEmpty()) {
+            return List.of();
+        }
+
+        // 사용자의 활성 플랜 기준 대화 제한 (없으면 FREE 플랜)
+        int conversationLimit = planResolver.resolvePlanType(userId).getConversationLimit();
+
+        return notes.stream()
+                .map(note -> buildNoteDto(note, conversationLimit))
+                .collect(Collectors.toList());
+    }
+
     /**
      * 정렬 파라미터 파싱
      * 예: "lastUsedAt,desc" -> Sort.by(Sort.Direction.DESC, "updatedAt")
@@ -345,19 +434,14 @@ public class NoteServiceImpl implements NoteService {
     }
 
     /**
-     * Note 엔티티를 NoteDto로 변환
+     * 노트 목록 projection을 NoteDto로 변환
      * updatedAt을 lastUsedAt으로 매핑하여 반환
-     * @param note 노트 엔티티
+     * @param note 노트 목록 projection
      * @param conversationLimit 대화 제한 수
-     * @param conversationCount 대화 개수 (미리 조회됨)
-     * @param assetCount 자산 개수 (미리 조회됨)
      */
-    private NoteListResponse.NoteDto buildNoteDto(
-            Note note,
-            int conversationLimit,
-            long conversationCount,
-            long assetCount
-    ) {
+    private NoteListResponse.NoteDto buildNoteDto(NoteListView note, int conversationLimit) {
+        int conversationCount = note.getConversationCount();
+
         // 대화 사용률 계산
         int conversationUsagePercent = conversationLimit > 0
                 ? Math.round((float) conversationCount / conversationLimit * 100)
@@ -367,10 +451,10 @@ public class NoteServiceImpl implements NoteService {
                 .noteId(note.getId())
                 .title(note.getTitle())
                 .thumbnailUrl(null) // TODO: 썸네일 기능 구현 시 추가
-                .conversationCount((int) conversationCount)
+                .conversationCount(conversationCount)
                 .conversationLimit(conversationLimit)
                 .conversationUsagePercent(conversationUsagePercent)
-                .assetCount((int) assetCount)
+                .assetCount(note.getAssetCount())
                 .createdAt(note.getCreatedAt())
                 .lastUsedAt(note.getUpdatedAt()) // updatedAt을 lastUsedAt으로 매핑
                 .build();
@@ -0,0 +1,134 @@
+package com.proovy.domain.note.service;
+
+import com.proovy.domain.note.dto.response.NoteTitleEvent;
+import com.proovy.domain.note.entity.TitleSource;
+import com.proovy.global.infra.http.AiServerClient;
+import com.proovy.global.infra.http.AiServerClient.TitleRequest;
+import com.proovy.global.infra.http.AiServerClient.TitleResult;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+
+/**
+ * 노트 제목 비동기 생성
+ * 요청을 대기열에 모았다가 주기마다 한 번의 AI 서버 호출로 일괄 생성하므로,
+ * 가입/노트 생성이 몰려도 AI 서버 호출은 인스턴스당 동시에 1건, 주기당 최대 1회로 제한된다.
+ * 요청은 아웃박스(NoteTitleOutboxHandler)에서 들어오며, 호출이 실패하면 아웃박스가 재시도한다.
+ * AI가 제목을 주지 않은 노트는 임시 제목으로 확정한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NoteTitleGenerator {
+
+    private static final int MAX_BATCH_SIZE = 50;
+
+    private final AiServerClient aiServerClient;
+    private final NoteTitleService noteTitleService;
+    private final NoteEventBroadcaster noteEventBroadcaster;
+
+    private final Queue<PendingTitle> queue = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean inFlight = new AtomicBoolean(false);
+
+    private record PendingTitle(Long noteId, Long userId, String firstMessage, CompletableFuture<Void> result) {
+    }
+
+    /**
+     * 제목 생성 요청 (다음 일괄 호출에 포함)
+     * @return 제목 반영(또는 임시 제목 확정) 시 완료, AI 서버 호출 실패 시 예외로 완료
+     */
+    public CompletableFuture<Void> submit(Long noteId, Long userId, String firstMessage) {
+        CompletableFuture<Void> result = new CompletableFuture<>();
+        queue.add(new PendingTitle(noteId, userId, firstMessage, result));
+        return result;
+    }
+
+    /**
+     * 대기 중인 노트 제목 일괄 생성
+     * 스케줄러 스레드를 막지 않도록 응답은 비동기로 처리하며, 이전 호출이 끝나기 전에는 새로 호출하지 않는다.
+     */
+    @Scheduled(fixedDelay = 300)
+    public void generatePendingTitles() {
+        if (!inFlight.compareAndSet(false, true)) {
+            return;
+        }
+
+        List<PendingTitle> batch = new ArrayList<>();
+        PendingTitle pending;
+        while (batch.size() < MAX_BATCH_SIZE && (pending = queue.poll()) != null) {
+            batch.add(pending);
+        }
+        if (batch.isEmpty()) {
+            inFlight.set(false);
+            return;
+        }
+
+        aiServerClient.generateTitles(batch.stream()
+                        .map(p -> new TitleRequest(p.noteId(), p.firstMessage()))
+                        .toList())
+                .publishOn(Schedulers.boundedElastic()) // 제목 반영은 JPA 호출
+                .doFinally(signal -> inFlight.set(false))
+                .subscribe(
+                        generated -> applyTitles(batch, generated),
+                        e -> fail(batch, e)
+                );
+    }
+
+    /**
+     * 제목 생성 포기 (임시 제목으로 확정하고 대기 중인 클라이언트에 알림)
+     */
+    public void keepTemporaryTitle(Long noteId, Long userId) {
+        publishTemporaryTitles(Map.of(noteId, userId));
+    }
+
+    private void applyTitles(List<PendingTitle> batch, List<TitleResult> generated) {
+        try {
+            Map<Long, Long> userIdByNoteId = batch.stream()
+                    .collect(Collectors.toMap(PendingTitle::noteId, PendingTitle::userId, (a, b) -> a));
+            List<TitleResult> applied = noteTitleService.applyGeneratedTitles(generated.stream()
+                    .filter(result -> userIdByNoteId.containsKey(result.noteId()))
+                    .toList());
+
+            applied.forEach(result -> noteEventBroadcaster.publishTitle(userIdByNoteId.get(result.noteId()),
+                    new NoteTitleEvent(result.noteId(), result.title(), TitleSource.AI.name())));
+
+            // AI가 제목을 주지 않은 노트는 다시 요청하지 않고 임시 제목으로 확정
+            Set<Long> appliedIds = applied.stream().map(TitleResult::noteId).collect(Collectors.toSet());
+            publishTemporaryTitles(userIdByNoteId.entrySet().stream()
+                    .filter(entry -> !appliedIds.contains(entry.getKey()))
+                    .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue)));
+
+            log.info("[AI] 노트 제목 생성 완료 - batch: {}, applied: {}", batch.size(), applied.size());
+            batch.forEach(pending -> pending.result().complete(null));
+        } catch (Exception e) {
+            fail(batch, e);
+        }
+    }
+
+    private void fail(List<PendingTitle> batch, Throwable error) {
+        log.warn("[AI] 노트 제목 생성 실패 - batch: {}, error: {}", batch.size(), error.getMessage());
+        batch.forEach(pending -> pending.result().completeExceptionally(error));
+    }
+
+    // 임시 제목 확정, 대기 중인 클라이언트에는 임시 제목을 확정 이벤트로 전달
+    private void publishTemporaryTitles(Map<Long, Long> userIdByNoteId) {
+        if (userIdByNoteId.isEmpty()) {
+            return;
+        }
+        noteTitleService.keepTemporaryTitles(List.copyOf(userIdByNoteId.keySet()))
+                .forEach(result -> noteEventBroadcaster.publishTitle(userIdByNoteId.get(result.noteId()),
+                        new NoteTitleEvent(result.noteId(), result.title(), TitleSource.FALLBACK.name())));
+    }
+}
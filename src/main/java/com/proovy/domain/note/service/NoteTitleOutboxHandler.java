@@ -0,0 +1,70 @@
+package com.proovy.domain.note.service;
+
+import com.proovy.global.outbox.OutboxHandler;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 아웃박스 노트 제목 생성 (노트 생성 트랜잭션에 함께 기록)
+ * NoteTitleGenerator의 다음 일괄 호출에 참여하고 결과가 나올 때까지 기다린다.
+ * 제목은 임시 제목 상태인 노트에만 반영되므로 재시도해도 안전하다.
+ */
+@Component
+@RequiredArgsConstructor
+public class NoteTitleOutboxHandler implements OutboxHandler<NoteTitleOutboxHandler.Payload> {
+
+    public static final String EVENT_TYPE = "note.title";
+
+    private static final int MAX_MESSAGE_LENGTH = 1000; // 제목 생성에 보내는 첫 메시지 최대 길이
+    private static final Duration GENERATE_TIMEOUT = Duration.ofSeconds(60);
+
+    private final NoteTitleGenerator noteTitleGenerator;
+
+    public record Payload(Long noteId, Long userId, String firstMessage) {
+
+        public static Payload of(Long noteId, Long userId, String firstMessage) {
+            String message = firstMessage.length() > MAX_MESSAGE_LENGTH
+                    ? firstMessage.substring(0, MAX_MESSAGE_LENGTH)
+                    : firstMessage;
+            return new Payload(noteId, userId, message);
+        }
+    }
+
+    @Override
+    public String eventType() {
+        return EVENT_TYPE;
+    }
+
+    @Override
+    public Class<Payload> payloadType() {
+        return Payload.class;
+    }
+
+    // 대기 중인 요청이 같은 일괄 호출에 모이도록 일괄 크기만큼 동시 처리
+    @Override
+    public int concurrency() {
+        return 16;
+    }
+
+    @Override
+    public void handle(Payload payload) throws Exception {
+        try {
+            noteTitleGenerator.submit(payload.noteId(), payload.userId(), payload.firstMessage())
+                    .get(GENERATE_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            throw e.getCause() instanceof Exception cause ? cause : e;
+        } catch (TimeoutException e) {
+            throw new IllegalStateException("note title generation timed out", e);
+        }
+    }
+
+    @Override
+    public void onGiveUp(Payload payload) {
+        noteTitleGenerator.keepTemporaryTitle(payload.noteId(), payload.userId());
+    }
+}
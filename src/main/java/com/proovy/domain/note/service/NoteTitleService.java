@@ -0,0 +1,51 @@
+package com.proovy.domain.note.service;
+
+import com.proovy.domain.note.repository.NoteRepository;
+import com.proovy.global.infra.http.AiServerClient.TitleResult;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * AI 생성 노트 제목 반영 (생성에 실패하면 임시 제목으로 확정)
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class NoteTitleService {
+
+    private static final int MAX_TITLE_LENGTH = 200;
+
+    private final NoteRepository noteRepository;
+
+    /**
+     * 생성된 제목 일괄 반영 (임시 제목 상태인 노트만)
+     * @return 실제로 반영된 제목
+     */
+    public List<TitleResult> applyGeneratedTitles(List<TitleResult> titles) {
+        return titles.stream()
+                .filter(result -> result.noteId() != null && result.title() != null && !result.title().isBlank())
+                .map(result -> new TitleResult(result.noteId(), normalize(result.title())))
+                .filter(result -> noteRepository.applyGeneratedTitle(result.noteId(), result.title()) == 1)
+                .toList();
+    }
+
+    /**
+     * 제목 생성을 포기한 노트의 임시 제목 확정 (임시 제목 상태인 노트만)
+     * @return 확정된 노트의 임시 제목
+     */
+    public List<TitleResult> keepTemporaryTitles(List<Long> noteIds) {
+        return noteIds.stream()
+                .filter(noteId -> noteRepository.keepTemporaryTitle(noteId) == 1)
+                .flatMap(noteId -> noteRepository.findById(noteId).stream())
+                .map(note -> new TitleResult(note.getId(), note.getTitle()))
+                .toList();
+    }
+
+    private String normalize(String title) {
+        String normalized = title.strip();
+        return normalized.length() > MAX_TITLE_LENGTH ? normalized.substring(0, MAX_TITLE_LENGTH) : normalized;
+    }
+}
@@ -0,0 +1,70 @@
+package com.proovy.domain.ocr.controller;
+
+import com.proovy.domain.asset.service.AssetsService;
+import com.proovy.domain.ocr.dto.request.OcrCallbackRequest;
+import com.proovy.global.exception.BusinessException;
+import com.proovy.global.metrics.OperationMetrics;
+import com.proovy.global.response.ApiResponse;
+import com.proovy.global.response.ErrorCode;
+import io.micrometer.core.instrument.Tags;
+import io.swagger.v3.oas.annotations.Hidden;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+
+/**
+ * AI 서버 → API 서버 OCR 결과 콜백 (내부 호출 전용)
+ */
+@Slf4j
+@Hidden
+@RestController
+@RequestMapping("/api/ocr")
+@RequiredArgsConstructor
+public class OcrCallbackController {
+
+    private static final String INTERNAL_TOKEN_HEADER = "X-Internal-Token";
+
+    private static final String METRIC_NAME = "proovy.ocr.callback";
+
+    private final AssetsService assetsService;
+    private final OperationMetrics operationMetrics;
+
+    @Value("${proovy.ai.callback-secret:}")
+    private String callbackSecret;
+
+    @PostMapping("/callback")
+    public ResponseEntity<ApiResponse<Void>> handleOcrCallback(
+            @RequestHeader(value = INTERNAL_TOKEN_HEADER, required = false) String internalToken,
+            @Valid @RequestBody OcrCallbackRequest request
+    ) {
+        boolean succeeded = Boolean.TRUE.equals(request.success()) && request.ocrText() != null;
+
+        operationMetrics.record(METRIC_NAME, Tags.of("result", succeeded ? "completed" : "failed"), () -> {
+            validateInternalToken(internalToken);
+
+            if (succeeded) {
+                assetsService.completeOcr(request.assetId(), request.ocrText().toString(), request.totalPages());
+            } else {
+                log.warn("[OCR] AI 서버 OCR 처리 실패 콜백 - assetId: {}", request.assetId());
+                assetsService.markOcrFailed(request.assetId());
+            }
+        });
+
+        return ResponseEntity.ok(ApiResponse.success());
+    }
+
+    private void validateInternalToken(String internalToken) {
+        if (callbackSecret.isBlank() || internalToken == null
+                || !MessageDigest.isEqual(
+                        callbackSecret.getBytes(StandardCharsets.UTF_8),
+                        internalToken.getBytes(StandardCharsets.UTF_8))) {
+            throw new BusinessException(ErrorCode.AUTH4014);
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package com.proovy.domain.ocr.dto.request;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import jakarta.validation.constraints.NotNull;
+
+/**
+ * AI 서버 OCR 처리 결과 콜백 요청
+ * @param assetId 자산 ID
+ * @param success OCR 성공 여부
+ * @param ocrText OCR 결과 (성공 시, Asset.ocrText에 JSON 문자열로 저장)
+ * @param totalPages 총 페이지 수
+ */
+public record OcrCallbackRequest(
+        @NotNull(message = "자산 ID는 필수입니다")
+        Long assetId,
+
+        @NotNull(message = "처리 결과는 필수입니다")
+        Boolean success,
+
+        JsonNode ocrText,
+
+        Integer totalPages
+) {
+}
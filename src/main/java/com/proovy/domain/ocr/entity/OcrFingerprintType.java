@@ -0,0 +1,5 @@
+package com.proovy.domain.ocr.entity;
+
+public enum OcrFingerprintType {
+    FILE_SHA256     // 파일 전체 SHA-256 (hex)
+}
@@ -0,0 +1,48 @@
+package com.proovy.domain.ocr.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 문서 지문(fingerprint) 기준 OCR 결과 캐시
+ * 사용자와 무관하게 같은 파일/이미지 페이지의 OCR 결과를 재사용한다.
+ * 행 등록은 OcrResultCacheRepository의 insert-if-absent 쿼리로만 수행한다.
+ */
+@Entity
+@Table(name = "ocr_result_cache", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_ocr_cache_fingerprint", columnNames = {"fingerprint_type", "fingerprint"})
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class OcrResultCache {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "fingerprint_type", nullable = false, length = 20)
+    private OcrFingerprintType fingerprintType;
+
+    @Column(nullable = false, length = 64)
+    private String fingerprint;
+
+    @Column(name = "ocr_text", columnDefinition = "TEXT", nullable = false)
+    private String ocrText; // OCR 결과 (JSON 형태, Asset.ocrText와 동일)
+
+    @Column(name = "total_pages")
+    private Integer totalPages;
+
+    @Column(name = "hit_count", nullable = false)
+    private Long hitCount;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "last_hit_at", nullable = false)
+    private LocalDateTime lastHitAt; // 마지막 사용 시각 (만료 기준)
+}
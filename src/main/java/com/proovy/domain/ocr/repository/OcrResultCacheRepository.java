@@ -0,0 +1,44 @@
+package com.proovy.domain.ocr.repository;
+
+import com.proovy.domain.ocr.entity.OcrFingerprintType;
+import com.proovy.domain.ocr.entity.OcrResultCache;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+public interface OcrResultCacheRepository extends JpaRepository<OcrResultCache, Long> {
+
+    Optional<OcrResultCache> findByFingerprintTypeAndFingerprint(OcrFingerprintType fingerprintType, String fingerprint);
+
+    /**
+     * 캐시 등록 (이미 있으면 무시)
+     * 동시에 같은 지문이 등록되어도 OCR 완료 트랜잭션이 실패하지 않도록 ON CONFLICT로 처리한다.
+     */
+    @Modifying
+    @Query(value = "INSERT INTO ocr_result_cache (fingerprint_type, fingerprint, ocr_text, total_pages, hit_count, created_at, last_hit_at) " +
+                   "VALUES (:fingerprintType, :fingerprint, :ocrText, :totalPages, 0, now(), now()) " +
+                   "ON CONFLICT (fingerprint_type, fingerprint) DO NOTHING",
+           nativeQuery = true)
+    int insertIfAbsent(@Param("fingerprintType") String fingerprintType,
+                       @Param("fingerprint") String fingerprint,
+                       @Param("ocrText") String ocrText,
+                       @Param("totalPages") Integer totalPages);
+
+    /**
+     * 캐시 적중 기록
+     */
+    @Modifying
+    @Query("UPDATE OcrResultCache c SET c.hitCount = c.hitCount + 1, c.lastHitAt = CURRENT_TIMESTAMP WHERE c.id = :id")
+    void recordHit(@Param("id") Long id);
+
+    /**
+     * 일정 기간 사용되지 않은 캐시 삭제
+     */
+    @Modifying
+    @Query("DELETE FROM OcrResultCache c WHERE c.lastHitAt < :threshold")
+    int deleteByLastHitAtBefore(@Param("threshold") LocalDateTime threshold);
+}
@@ -0,0 +1,49 @@
+package com.proovy.domain.ocr.service;
+
+import com.proovy.global.infra.s3.S3Service;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * OCR 캐시 조회용 문서 지문 계산 (파일 전체 SHA-256, 바이트 단위로 동일한 파일)
+ */
+@Component
+@RequiredArgsConstructor
+public class OcrFingerprintCalculator {
+
+    private final S3Service s3Service;
+
+    /**
+     * 파일 전체 SHA-256 계산
+     * 이미 알고 있는 SHA-256이 있으면 S3 다운로드 없이 반환한다.
+     * @param s3Key S3 저장 경로
+     * @param knownSha256 업로드 확인 시 기록된 SHA-256 (없으면 null)
+     * @return SHA-256 (hex)
+     */
+    public String calculate(String s3Key, String knownSha256) {
+        if (knownSha256 != null) {
+            return knownSha256;
+        }
+
+        try (InputStream in = new BufferedInputStream(s3Service.openFile(s3Key))) {
+            DigestInputStream digestStream = new DigestInputStream(in, MessageDigest.getInstance("SHA-256"));
+            digestStream.transferTo(OutputStream.nullOutputStream());
+            return HexFormat.of().formatHex(digestStream.getMessageDigest().digest());
+
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package com.proovy.domain.ocr.service;
+
+import com.proovy.domain.ocr.entity.OcrFingerprintType;
+import com.proovy.domain.ocr.entity.OcrResultCache;
+import com.proovy.domain.ocr.repository.OcrResultCacheRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * 문서 지문 기반 OCR 결과 캐시 (모든 사용자 공용)
+ * 다른 사용자의 OCR 결과가 섞이지 않도록 파일 전체 SHA-256이 같을 때만 재사용한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class OcrResultCacheService {
+
+    private static final int CACHE_RETENTION_DAYS = 90; // 마지막 사용 후 보관 기간
+
+    private final OcrResultCacheRepository ocrResultCacheRepository;
+
+    /**
+     * 캐시 조회 (적중 시 사용 기록 갱신)
+     * @param fileSha256 파일 전체 SHA-256 (hex)
+     * @return 캐시된 OCR 결과 (없으면 empty)
+     */
+    public Optional<OcrResultCache> lookup(String fileSha256) {
+        Optional<OcrResultCache> hit = find(OcrFingerprintType.FILE_SHA256, fileSha256);
+
+        hit.ifPresent(cache -> ocrResultCacheRepository.recordHit(cache.getId()));
+        return hit;
+    }
+
+    /**
+     * OCR 결과 캐시 등록 (이미 등록된 지문은 유지)
+     * @param fileSha256 파일 전체 SHA-256 (hex, 없으면 등록하지 않음)
+     * @param ocrText OCR 결과 (JSON)
+     * @param totalPages 총 페이지 수
+     */
+    public void store(String fileSha256, String ocrText, Integer totalPages) {
+        if (ocrText == null || fileSha256 == null) {
+            return;
+        }
+        ocrResultCacheRepository.insertIfAbsent(
+                OcrFingerprintType.FILE_SHA256.name(), fileSha256.toLowerCase(), ocrText, totalPages);
+    }
+
+    /**
+     * 오래 사용되지 않은 캐시 정리
+     */
+    @Scheduled(cron = "0 30 4 * * *") // 매일 04:30
+    public void purgeStaleEntries() {
+        LocalDateTime threshold = LocalDateTime.now().minusDays(CACHE_RETENTION_DAYS);
+        int deleted = ocrResultCacheRepository.deleteByLastHitAtBefore(threshold);
+        if (deleted > 0) {
+            log.info("[OCR] 미사용 OCR 캐시 정리 완료 - count: {}", deleted);
+        }
+    }
+
+    private Optional<OcrResultCache> find(OcrFingerprintType type, String fingerprint) {
+        if (fingerprint == null) {
+            return Optional.empty();
+        }
+        return ocrResultCacheRepository.findByFingerprintTypeAndFingerprint(type, fingerprint.toLowerCase());
+    }
+}
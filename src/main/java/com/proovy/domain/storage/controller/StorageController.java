@@ -1,7 +1,12 @@
 package com.proovy.domain.storage.controller;
 
+import com.proovy.domain.storage.dto.request.BulkDeleteJobRequest;
 import com.proovy.domain.storage.dto.request.BulkDeleteRequest;
+import com.proovy.domain.storage.dto.response.BulkDeleteJobResponse;
 import com.proovy.domain.storage.dto.response.BulkDeleteResponse;
+import com.proovy.domain.storage.dto.response.NoteAssetPageResponse;
+import com.proovy.domain.storage.dto.response.StorageResponse;
+import com.proovy.domain.storage.service.BulkDeleteJobService;
 import com.proovy.domain.storage.service.StorageService;
 import com.proovy.global.response.ApiResponse;
 import io.swagger.v3.oas.annotations.Operation;
@@ -10,6 +15,7 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
@@ -22,6 +28,51 @@ import com.proovy.global.security.UserPrincipal;
 public class StorageController {
 
     private final StorageService storageService;
+    private final BulkDeleteJobService bulkDeleteJobService;
+
+    @Operation(
+            summary = "스토리지 사용량 조회",
+            description = "전체/노트별 스토리지 사용량을 조회합니다. 각 노트에는 최신 자산 " + StorageService.DEFAULT_ASSET_PAGE_SIZE
+                    + "개까지만 포함되며, 나머지는 노트 자산 목록 API에 nextCursor를 전달해 조회합니다."
+    )
+    @ApiResponses({
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "조회 성공"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "검색어 2자 미만 (STORAGE4003)"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "401", description = "토큰 미제공 (AUTH4010), 토큰 만료 (AUTH4012), 유효하지 않은 토큰 (AUTH4013)"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "404", description = "사용자를 찾을 수 없음 (USER4041)")
+    })
+    @GetMapping
+    public ResponseEntity<ApiResponse<StorageResponse>> getStorageUsage(
+            @AuthenticationPrincipal UserPrincipal userPrincipal,
+            @Parameter(description = "노트 제목 검색어 (2자 이상)")
+            @RequestParam(required = false) String keyword
+    ) {
+        StorageResponse response = storageService.getStorageUsage(userPrincipal.getUserId(), keyword);
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+
+    @Operation(
+            summary = "노트 자산 목록 조회",
+            description = "노트의 자산을 최신순으로 조회합니다. 이전 응답의 nextCursor를 cursor로 전달하면 다음 페이지를 조회합니다."
+    )
+    @ApiResponses({
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "조회 성공"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "401", description = "토큰 미제공 (AUTH4010), 토큰 만료 (AUTH4012), 유효하지 않은 토큰 (AUTH4013)"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "403", description = "노트 접근 권한 없음 (NOTE4031)"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "404", description = "노트를 찾을 수 없음 (NOTE4041)")
+    })
+    @GetMapping("/notes/{noteId}/assets")
+    public ResponseEntity<ApiResponse<NoteAssetPageResponse>> getNoteAssets(
+            @AuthenticationPrincipal UserPrincipal userPrincipal,
+            @PathVariable Long noteId,
+            @Parameter(description = "이전 페이지의 nextCursor (첫 페이지는 생략)")
+            @RequestParam(required = false) Long cursor,
+            @Parameter(description = "페이지 크기 (최대 100)")
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        NoteAssetPageResponse response = storageService.getNoteAssets(userPrincipal.getUserId(), noteId, cursor, size);
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
 
     @Operation(
             summary = "자산 일괄 삭제",
@@ -44,4 +95,42 @@ public class StorageController {
         String message = response.deletedCount() + "개의 파일이 삭제되었습니다.";
         return ResponseEntity.ok(ApiResponse.success(message, response));
     }
+
+    @Operation(
+            summary = "자산 일괄 삭제 작업 등록",
+            description = "대량의 파일(최대 5000개)을 백그라운드에서 삭제합니다. 작업 ID를 즉시 반환하며, 진행 상태는 작업 조회 API로 확인합니다."
+    )
+    @ApiResponses({
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "202", description = "작업 등록 성공"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "필수 값 누락 (COMMON400)"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "401", description = "토큰 미제공 (AUTH4010), 토큰 만료 (AUTH4012), 유효하지 않은 토큰 (AUTH4013)"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "403", description = "자산 접근 권한 없음 (STORAGE4031)")
+    })
+    @PostMapping("/assets/delete-jobs")
+    public ResponseEntity<ApiResponse<BulkDeleteJobResponse>> createBulkDeleteJob(
+            @AuthenticationPrincipal UserPrincipal userPrincipal,
+            @Valid @RequestBody BulkDeleteJobRequest request
+    ) {
+        BulkDeleteJobResponse response = bulkDeleteJobService.createJob(userPrincipal.getUserId(), request);
+        return ResponseEntity.status(HttpStatus.ACCEPTED)
+                .body(ApiResponse.success("파일 삭제 작업이 등록되었습니다.", response));
+    }
+
+    @Operation(
+            summary = "자산 일괄 삭제 작업 조회",
+            description = "일괄 삭제 작업의 진행 상태(queued, running, completed, failed)와 처리 건수를 조회합니다. 작업 정보는 1일간 보관됩니다."
+    )
+    @ApiResponses({
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "조회 성공"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "401", description = "토큰 미제공 (AUTH4010), 토큰 만료 (AUTH4012), 유효하지 않은 토큰 (AUTH4013)"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "404", description = "작업을 찾을 수 없음 (STORAGE4041)")
+    })
+    @GetMapping("/assets/delete-jobs/{jobId}")
+    public ResponseEntity<ApiResponse<BulkDeleteJobResponse>> getBulkDeleteJob(
+            @AuthenticationPrincipal UserPrincipal userPrincipal,
+            @PathVariable String jobId
+    ) {
+        BulkDeleteJobResponse response = bulkDeleteJobService.getJob(userPrincipal.getUserId(), jobId);
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
 }
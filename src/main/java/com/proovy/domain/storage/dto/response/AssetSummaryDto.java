@@ -2,6 +2,7 @@ package com.proovy.domain.storage.dto.response;
 
 import com.proovy.domain.asset.entity.Asset;
 import com.proovy.domain.asset.entity.FileCategory;
+import com.proovy.domain.asset.repository.projection.AssetSummaryView;
 import lombok.Builder;
 
 @Builder
@@ -28,4 +29,20 @@ public record AssetSummaryDto(
                 .thumbnailUrl(category.hasThumbnail() ? thumbnailUrl : null)
                 .build();
     }
+
+    public static AssetSummaryDto from(AssetSummaryView asset, String thumbnailUrl) {
+        FileCategory category = FileCategory.fromMimeType(asset.getMimeType());
+        String source = asset.getSource() != null
+                ? asset.getSource().name().toLowerCase()
+                : "upload";
+
+        return AssetSummaryDto.builder()
+                .assetId(asset.getId())
+                .fileName(asset.getFileName())
+                .mimeType(asset.getMimeType())
+                .fileCategory(category.getValue())
+                .source(source)
+                .thumbnailUrl(category.hasThumbnail() ? thumbnailUrl : null)
+                .build();
+    }
 }
@@ -0,0 +1,34 @@
+package com.proovy.domain.storage.dto.response;
+
+import com.proovy.domain.storage.entity.BulkDeleteJob;
+
+import java.time.LocalDateTime;
+
+public record BulkDeleteJobResponse(
+        String jobId,
+        String status,
+        Integer totalCount,
+        Integer deletedCount,
+        Integer skippedCount,
+        Integer progressPercent,
+        LocalDateTime createdAt,
+        LocalDateTime completedAt
+) {
+    public static BulkDeleteJobResponse from(BulkDeleteJob job) {
+        int processed = job.getDeletedCount() + job.getSkippedCount();
+        int progressPercent = job.getTotalCount() > 0
+                ? Math.round((float) processed / job.getTotalCount() * 100)
+                : 100;
+
+        return new BulkDeleteJobResponse(
+                job.getJobId(),
+                job.getStatus().name().toLowerCase(),
+                job.getTotalCount(),
+                job.getDeletedCount(),
+                job.getSkippedCount(),
+                progressPercent,
+                job.getCreatedAt(),
+                job.getCompletedAt()
+        );
+    }
+}
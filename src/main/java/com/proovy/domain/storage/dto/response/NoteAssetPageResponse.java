@@ -0,0 +1,20 @@
+package com.proovy.domain.storage.dto.response;
+
+import java.util.List;
+
+/**
+ * 노트 자산 목록 keyset 페이지 응답
+ * nextCursor를 다음 요청의 cursor로 전달한다.
+ */
+public record NoteAssetPageResponse(
+        List<AssetSummaryDto> assets,
+        Long nextCursor,
+        Boolean hasNext
+) {
+    public static NoteAssetPageResponse of(List<AssetSummaryDto> assets, boolean hasNext) {
+        Long nextCursor = hasNext && !assets.isEmpty()
+                ? assets.get(assets.size() - 1).assetId()
+                : null;
+        return new NoteAssetPageResponse(assets, nextCursor, hasNext);
+    }
+}
@@ -12,7 +12,10 @@ public record NoteStorageDto(
         Integer storageLimit,
         String storageUsedDisplay,
         String storageLimitDisplay,
-        List<AssetSummaryDto> assets
+        Integer assetCount,
+        List<AssetSummaryDto> assets,
+        Long nextCursor,
+        Boolean hasNext
 ) {
     private static final int DEFAULT_NOTE_STORAGE_LIMIT_MB = 512;
 
@@ -20,8 +23,14 @@ public record NoteStorageDto(
             Long noteId,
             String title,
             int storageUsedMb,
+            int assetCount,
             List<AssetSummaryDto> assets
     ) {
+        boolean hasNext = assets.size() < assetCount;
+        Long nextCursor = hasNext && !assets.isEmpty()
+                ? assets.get(assets.size() - 1).assetId()
+                : null;
+
         return NoteStorageDto.builder()
                 .noteId(noteId)
                 .title(title)
@@ -29,7 +38,10 @@ public record NoteStorageDto(
                 .storageLimit(DEFAULT_NOTE_STORAGE_LIMIT_MB)
                 .storageUsedDisplay(formatStorage(storageUsedMb))
                 .storageLimitDisplay(formatStorage(DEFAULT_NOTE_STORAGE_LIMIT_MB))
+                .assetCount(assetCount)
                 .assets(assets)
+                .nextCursor(nextCursor)
+                .hasNext(hasNext)
                 .build();
     }
 
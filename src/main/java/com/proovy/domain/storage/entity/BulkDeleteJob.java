@@ -0,0 +1,81 @@
+package com.proovy.domain.storage.entity;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.redis.core.RedisHash;
+import org.springframework.data.redis.core.TimeToLive;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 자산 일괄 삭제 작업 진행 상태 (Redis)
+ * 작업을 실행하는 스레드만 갱신하며, 완료 후 TTL(1일) 동안 조회 가능하다.
+ */
+@Getter
+@NoArgsConstructor
+@RedisHash("bulk_delete_job")
+public class BulkDeleteJob {
+
+    private static final long TTL_SECONDS = 86400; // 1일
+
+    @Id
+    private String jobId;
+
+    private Long userId;
+
+    private Status status;
+
+    private Integer totalCount;      // 요청된 자산 수
+
+    private Integer deletedCount;    // DB에서 삭제된 자산 수
+
+    private Integer skippedCount;    // 이미 삭제되었거나 소유하지 않아 건너뛴 자산 수
+
+    private LocalDateTime createdAt;
+
+    private LocalDateTime completedAt;
+
+    @TimeToLive(unit = TimeUnit.SECONDS)
+    private Long ttl;
+
+    public enum Status {
+        QUEUED,
+        RUNNING,
+        COMPLETED,
+        FAILED
+    }
+
+    @Builder
+    public BulkDeleteJob(String jobId, Long userId, Integer totalCount) {
+        this.jobId = jobId;
+        this.userId = userId;
+        this.totalCount = totalCount;
+        this.status = Status.QUEUED;
+        this.deletedCount = 0;
+        this.skippedCount = 0;
+        this.createdAt = LocalDateTime.now();
+        this.ttl = TTL_SECONDS;
+    }
+
+    public void start() {
+        this.status = Status.RUNNING;
+    }
+
+    public void recordChunk(int deleted, int skipped) {
+        this.deletedCount += deleted;
+        this.skippedCount += skipped;
+    }
+
+    public void complete() {
+        this.status = Status.COMPLETED;
+        this.completedAt = LocalDateTime.now();
+    }
+
+    public void fail() {
+        this.status = Status.FAILED;
+        this.completedAt = LocalDateTime.now();
+    }
+}
@@ -0,0 +1,57 @@
+package com.proovy.domain.storage.entity;
+
+import com.proovy.domain.asset.entity.AssetStatus;
+import com.proovy.domain.asset.entity.FileCategory;
+
+/**
+ * StorageUsageSummary 한 행에 더할 증감량
+ */
+public record StorageUsageDelta(
+        long totalBytes, long totalCount,
+        long pendingBytes, long pendingCount,
+        long uploadedBytes, long uploadedCount,
+        long failedBytes, long failedCount,
+        long imageBytes, long imageCount,
+        long documentBytes, long documentCount,
+        long codeBytes, long codeCount,
+        long otherBytes, long otherCount
+) {
+    public static final StorageUsageDelta ZERO = new StorageUsageDelta(
+            0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0);
+
+    /**
+     * 특정 상태/카테고리의 자산 count개(총 bytes) 증감
+     * @param sign 1이면 추가, -1이면 차감
+     */
+    public static StorageUsageDelta of(AssetStatus status, FileCategory category, long bytes, long count, int sign) {
+        long b = bytes * sign;
+        long c = count * sign;
+        return new StorageUsageDelta(
+                b, c,
+                status == AssetStatus.PENDING ? b : 0, status == AssetStatus.PENDING ? c : 0,
+                status == AssetStatus.UPLOADED ? b : 0, status == AssetStatus.UPLOADED ? c : 0,
+                status == AssetStatus.FAILED ? b : 0, status == AssetStatus.FAILED ? c : 0,
+                category == FileCategory.IMAGE ? b : 0, category == FileCategory.IMAGE ? c : 0,
+                category == FileCategory.DOCUMENT ? b : 0, category == FileCategory.DOCUMENT ? c : 0,
+                category == FileCategory.CODE ? b : 0, category == FileCategory.CODE ? c : 0,
+                category == FileCategory.OTHER ? b : 0, category == FileCategory.OTHER ? c : 0
+        );
+    }
+
+    public StorageUsageDelta plus(StorageUsageDelta other) {
+        return new StorageUsageDelta(
+                totalBytes + other.totalBytes, totalCount + other.totalCount,
+                pendingBytes + other.pendingBytes, pendingCount + other.pendingCount,
+                uploadedBytes + other.uploadedBytes, uploadedCount + other.uploadedCount,
+                failedBytes + other.failedBytes, failedCount + other.failedCount,
+                imageBytes + other.imageBytes, imageCount + other.imageCount,
+                documentBytes + other.documentBytes, documentCount + other.documentCount,
+                codeBytes + other.codeBytes, codeCount + other.codeCount,
+                otherBytes + other.otherBytes, otherCount + other.otherCount
+        );
+    }
+
+    public boolean isZero() {
+        return this.equals(ZERO);
+    }
+}
@@ -0,0 +1,99 @@
+package com.proovy.domain.storage.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 사용자/노트별 스토리지 사용량 요약 (자산 이벤트로 갱신되는 집계 테이블)
+ * noteId가 USER_TOTAL_NOTE_ID(0)인 행은 사용자 전체 합계이다.
+ * 행 등록/갱신은 StorageUsageSummaryRepository의 upsert 쿼리로만 수행한다.
+ */
+@Entity
+@Table(name = "storage_usage_summaries", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_storage_usage_user_note", columnNames = {"user_id", "note_id"})
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class StorageUsageSummary {
+
+    public static final long USER_TOTAL_NOTE_ID = 0L;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "note_id", nullable = false)
+    private Long noteId;
+
+    // 전체
+    @Column(name = "total_bytes", nullable = false)
+    private Long totalBytes;
+
+    @Column(name = "total_count", nullable = false)
+    private Long totalCount;
+
+    // AssetStatus별
+    @Column(name = "pending_bytes", nullable = false)
+    private Long pendingBytes;
+
+    @Column(name = "pending_count", nullable = false)
+    private Long pendingCount;
+
+    @Column(name = "uploaded_bytes", nullable = false)
+    private Long uploadedBytes;
+
+    @Column(name = "uploaded_count", nullable = false)
+    private Long uploadedCount;
+
+    @Column(name = "failed_bytes", nullable = false)
+    private Long failedBytes;
+
+    @Column(name = "failed_count", nullable = false)
+    private Long failedCount;
+
+    // FileCategory별
+    @Column(name = "image_bytes", nullable = false)
+    private Long imageBytes;
+
+    @Column(name = "image_count", nullable = false)
+    private Long imageCount;
+
+    @Column(name = "document_bytes", nullable = false)
+    private Long documentBytes;
+
+    @Column(name = "document_count", nullable = false)
+    private Long documentCount;
+
+    @Column(name = "code_bytes", nullable = false)
+    private Long codeBytes;
+
+    @Column(name = "code_count", nullable = false)
+    private Long codeCount;
+
+    @Column(name = "other_bytes", nullable = false)
+    private Long otherBytes;
+
+    @Column(name = "other_count", nullable = false)
+    private Long otherCount;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    public boolean isUserTotal() {
+        return noteId == USER_TOTAL_NOTE_ID;
+    }
+
+    /**
+     * 실제 S3에 저장되었거나 저장 예정인 용량 (노트 용량 제한 검증용)
+     */
+    public long getReservedBytes() {
+        return uploadedBytes + pendingBytes;
+    }
+}
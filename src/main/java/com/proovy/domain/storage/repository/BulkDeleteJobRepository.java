@@ -0,0 +1,7 @@
+package com.proovy.domain.storage.repository;
+
+import com.proovy.domain.storage.entity.BulkDeleteJob;
+import org.springframework.data.repository.CrudRepository;
+
+public interface BulkDeleteJobRepository extends CrudRepository<BulkDeleteJob, String> {
+}
@@ -0,0 +1,62 @@
+package com.proovy.domain.storage.repository;
+
+import com.proovy.domain.storage.entity.StorageUsageDelta;
+import com.proovy.domain.storage.entity.StorageUsageSummary;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+import java.util.Optional;
+
+public interface StorageUsageSummaryRepository extends JpaRepository<StorageUsageSummary, Long> {
+
+    Optional<StorageUsageSummary> findByUserIdAndNoteId(Long userId, Long noteId);
+
+    /**
+     * 사용자의 전체 합계 행 + 노트별 행 조회
+     */
+    List<StorageUsageSummary> findAllByUserId(Long userId);
+
+    /**
+     * 요약 행에 증감량 반영 (행이 없으면 증감량으로 새로 등록, 원자적 upsert)
+     */
+    @Modifying
+    @Query(value = "INSERT INTO storage_usage_summaries (user_id, note_id, " +
+                   "total_bytes, total_count, pending_bytes, pending_count, uploaded_bytes, uploaded_count, " +
+                   "failed_bytes, failed_count, image_bytes, image_count, document_bytes, document_count, " +
+                   "code_bytes, code_count, other_bytes, other_count, updated_at) " +
+                   "VALUES (:userId, :noteId, " +
+                   ":#{#d.totalBytes}, :#{#d.totalCount}, :#{#d.pendingBytes}, :#{#d.pendingCount}, " +
+                   ":#{#d.uploadedBytes}, :#{#d.uploadedCount}, :#{#d.failedBytes}, :#{#d.failedCount}, " +
+                   ":#{#d.imageBytes}, :#{#d.imageCount}, :#{#d.documentBytes}, :#{#d.documentCount}, " +
+                   ":#{#d.codeBytes}, :#{#d.codeCount}, :#{#d.otherBytes}, :#{#d.otherCount}, now()) " +
+                   "ON CONFLICT (user_id, note_id) DO UPDATE SET " +
+                   "total_bytes = storage_usage_summaries.total_bytes + EXCLUDED.total_bytes, " +
+                   "total_count = storage_usage_summaries.total_count + EXCLUDED.total_count, " +
+                   "pending_bytes = storage_usage_summaries.pending_bytes + EXCLUDED.pending_bytes, " +
+                   "pending_count = storage_usage_summaries.pending_count + EXCLUDED.pending_count, " +
+                   "uploaded_bytes = storage_usage_summaries.uploaded_bytes + EXCLUDED.uploaded_bytes, " +
+                   "uploaded_count = storage_usage_summaries.uploaded_count + EXCLUDED.uploaded_count, " +
+                   "failed_bytes = storage_usage_summaries.failed_bytes + EXCLUDED.failed_bytes, " +
+                   "failed_count = storage_usage_summaries.failed_count + EXCLUDED.failed_count, " +
+                   "image_bytes = storage_usage_summaries.image_bytes + EXCLUDED.image_bytes, " +
+                   "image_count = storage_usage_summaries.image_count + EXCLUDED.image_count, " +
+                   "document_bytes = storage_usage_summaries.document_bytes + EXCLUDED.document_bytes, " +
+                   "document_count = storage_usage_summaries.document_count + EXCLUDED.document_count, " +
+                   "code_bytes = storage_usage_summaries.code_bytes + EXCLUDED.code_bytes, " +
+                   "code_count = storage_usage_summaries.code_count + EXCLUDED.code_count, " +
+                   "other_bytes = storage_usage_summaries.other_bytes + EXCLUDED.other_bytes, " +
+                   "other_count = storage_usage_summaries.other_count + EXCLUDED.other_count, " +
+                   "updated_at = now()",
+           nativeQuery = true)
+    void applyDelta(@Param("userId") Long userId, @Param("noteId") Long noteId, @Param("d") StorageUsageDelta d);
+
+    /**
+     * 사용자의 모든 요약 행 삭제 (재계산, 회원 탈퇴용)
+     */
+    @Modifying
+    @Query("DELETE FROM StorageUsageSummary s WHERE s.userId = :userId")
+    void deleteAllByUserId(@Param("userId") Long userId);
+}
@@ -0,0 +1,81 @@
+package com.proovy.domain.storage.service;
+
+import com.proovy.domain.asset.repository.AssetRepository;
+import com.proovy.domain.storage.dto.request.BulkDeleteJobRequest;
+import com.proovy.domain.storage.dto.response.BulkDeleteJobResponse;
+import com.proovy.domain.storage.entity.BulkDeleteJob;
+import com.proovy.domain.storage.repository.BulkDeleteJobRepository;
+import com.proovy.global.exception.BusinessException;
+import com.proovy.global.response.ErrorCode;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 자산 일괄 삭제 작업 등록/조회
+ * 실제 삭제는 BulkDeleteJobWorker가 별도 스레드에서 청크 단위로 수행한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class BulkDeleteJobService {
+
+    private final BulkDeleteJobRepository bulkDeleteJobRepository;
+    private final AssetRepository assetRepository;
+    private final BulkDeleteJobWorker bulkDeleteJobWorker;
+
+    /**
+     * 일괄 삭제 작업 등록 (즉시 반환)
+     * @param userId 사용자 ID
+     * @param request 삭제할 자산 ID 목록
+     * @return 등록된 작업 상태
+     */
+    public BulkDeleteJobResponse createJob(Long userId, BulkDeleteJobRequest request) {
+        List<Long> assetIds = request.assetIds().stream()
+                .distinct()
+                .toList();
+
+        // 권한 검증 (본인 소유 자산만 삭제 가능)
+        long ownedCount = assetRepository.countByIdInAndUserId(assetIds, userId);
+        if (ownedCount != assetIds.size()) {
+            throw new BusinessException(ErrorCode.STORAGE4031);
+        }
+
+        BulkDeleteJob job = BulkDeleteJob.builder()
+                .jobId(UUID.randomUUID().toString())
+                .userId(userId)
+                .totalCount(assetIds.size())
+                .build();
+        bulkDeleteJobRepository.save(job);
+
+        try {
+            bulkDeleteJobWorker.run(job.getJobId(), userId, assetIds);
+        } catch (TaskRejectedException e) {
+            log.error("[Storage] 일괄 삭제 작업 대기열 초과 - jobId: {}, userId: {}", job.getJobId(), userId);
+            job.fail();
+            bulkDeleteJobRepository.save(job);
+        }
+
+        log.info("[Storage] 일괄 삭제 작업 등록 - jobId: {}, userId: {}, count: {}",
+                job.getJobId(), userId, assetIds.size());
+
+        return BulkDeleteJobResponse.from(job);
+    }
+
+    /**
+     * 일괄 삭제 작업 진행 상태 조회
+     */
+    public BulkDeleteJobResponse getJob(Long userId, String jobId) {
+        BulkDeleteJob job = bulkDeleteJobRepository.findById(jobId)
+                .filter(found -> found.getUserId().equals(userId))
+                .orElseThrow(() -> new BusinessException(ErrorCode.STORAGE4041));
+
+        return BulkDeleteJobResponse.from(job);
+    }
+}
@@ -0,0 +1,61 @@
+package com.proovy.domain.storage.service;
+
+import com.proovy.domain.storage.entity.BulkDeleteJob;
+import com.proovy.domain.storage.repository.BulkDeleteJobRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 자산 일괄 삭제 작업 실행
+ * - DB 삭제: CHUNK_SIZE 단위로 나누어 청크마다 짧은 트랜잭션으로 커밋
+ * - S3 삭제: 청크 트랜잭션에서 아웃박스에 기록, 커밋 후 OutboxRelay가 처리 (실패 시 재시도)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BulkDeleteJobWorker {
+
+    private static final int CHUNK_SIZE = 200;
+
+    private final StorageService storageService;
+    private final BulkDeleteJobRepository bulkDeleteJobRepository;
+
+    @Async("bulkDeleteExecutor")
+    public void run(String jobId, Long userId, List<Long> assetIds) {
+        BulkDeleteJob job = bulkDeleteJobRepository.findById(jobId).orElse(null);
+        if (job == null) {
+            log.warn("[Storage] 일괄 삭제 작업을 찾을 수 없음 - jobId: {}", jobId);
+            return;
+        }
+
+        job.start();
+        bulkDeleteJobRepository.save(job);
+
+        try {
+            for (int from = 0; from < assetIds.size(); from += CHUNK_SIZE) {
+                List<Long> chunk = assetIds.subList(from, Math.min(from + CHUNK_SIZE, assetIds.size()));
+
+                int deleted = storageService.deleteAssetsChunk(userId, chunk);
+
+                job.recordChunk(deleted, chunk.size() - deleted);
+                bulkDeleteJobRepository.save(job);
+            }
+
+            job.complete();
+            bulkDeleteJobRepository.save(job);
+
+            log.info("[Storage] 일괄 삭제 작업 완료 - jobId: {}, deleted: {}, skipped: {}",
+                    jobId, job.getDeletedCount(), job.getSkippedCount());
+
+        } catch (Exception e) {
+            log.error("[Storage] 일괄 삭제 작업 실패 - jobId: {}, deleted: {}, error: {}",
+                    jobId, job.getDeletedCount(), e.getMessage());
+            job.fail();
+            bulkDeleteJobRepository.save(job);
+        }
+    }
+}
@@ -1,29 +1,43 @@
 package com.proovy.domain.storage.service;
 
-import com.proovy.domain.asset.entity.Asset;
+import com.proovy.domain.asset.event.AssetUsageBatchChangedEvent;
 import com.proovy.domain.asset.repository.AssetRepository;
+import com.proovy.domain.asset.repository.projection.AssetDeletionView;
+import com.proovy.domain.asset.repository.projection.AssetSummaryView;
+import com.proovy.domain.asset.service.AssetBlobService;
 import com.proovy.domain.note.entity.Note;
 import com.proovy.domain.note.repository.NoteRepository;
+import com.proovy.domain.note.repository.projection.NoteTitleView;
 import com.proovy.domain.storage.dto.request.BulkDeleteRequest;
 import com.proovy.domain.storage.dto.response.AssetSummaryDto;
 import com.proovy.domain.storage.dto.response.BulkDeleteResponse;
+import com.proovy.domain.storage.dto.response.NoteAssetPageResponse;
 import com.proovy.domain.storage.dto.response.NoteStorageDto;
 import com.proovy.domain.storage.dto.response.StorageResponse;
+import com.proovy.domain.storage.entity.StorageUsageSummary;
 import com.proovy.domain.user.entity.PlanType;
-import com.proovy.domain.user.entity.UserPlan;
-import com.proovy.domain.user.repository.UserPlanRepository;
 import com.proovy.domain.user.repository.UserRepository;
+import com.proovy.domain.user.service.PlanResolver;
+import com.proovy.domain.user.service.ResolvedPlan;
 import com.proovy.global.exception.BusinessException;
+import com.proovy.global.infra.s3.S3DeleteOutboxHandler;
 import com.proovy.global.infra.s3.S3Service;
+import com.proovy.global.metrics.OperationMetrics;
+import com.proovy.global.outbox.OutboxPublisher;
 import com.proovy.global.response.ErrorCode;
+import com.proovy.global.util.SearchKeywordUtils;
+import io.micrometer.core.instrument.Tags;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -35,8 +49,18 @@ public class StorageService {
     private final AssetRepository assetRepository;
     private final UserRepository userRepository;
     private final NoteRepository noteRepository;
-    private final UserPlanRepository userPlanRepository;
+    private final PlanResolver planResolver;
     private final S3Service s3Service;
+    private final AssetBlobService assetBlobService;
+    private final StorageUsageSummaryService storageUsageSummaryService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final OperationMetrics operationMetrics;
+    private final OutboxPublisher outboxPublisher;
+
+    private static final long BYTES_PER_MB = 1024L * 1024L;
+    public static final int DEFAULT_ASSET_PAGE_SIZE = 20;
+    private static final int MAX_ASSET_PAGE_SIZE = 100;
+    private static final String AGGREGATE_USER = "user";
 
     /**
      * 자산 일괄 삭제
@@ -50,38 +74,33 @@ public class StorageService {
     public BulkDeleteResponse bulkDeleteAssets(Long userId, BulkDeleteRequest request) {
         List<Long> assetIds = request.assetIds();
 
-        // 자산 존재 여부 확인
-        List<Asset> assets = assetRepository.findAllByIdIn(assetIds);
+        // 자산 존재 여부 확인 (삭제 정보만 조회하며 행 잠금, 엔티티 로딩 없이)
+        List<AssetDeletionView> assets = assetRepository.lockDeletionViewsByIdIn(assetIds);
         if (assets.size() != assetIds.size()) {
             throw new BusinessException(ErrorCode.STORAGE4001);
         }
 
         // 권한 검증 (본인 소유 자산만 삭제 가능)
-        long ownedCount = assetRepository.countByIdInAndUserId(assetIds, userId);
-        if (ownedCount != assetIds.size()) {
+        if (assets.stream().anyMatch(asset -> !asset.getUserId().equals(userId))) {
             throw new BusinessException(ErrorCode.STORAGE4031);
         }
 
-        // S3 키 수집 (원본 + 썸네일)
-        List<String> s3KeysToDelete = new ArrayList<>();
-        long totalFileSize = 0L;
-
-        for (Asset asset : assets) {
-            // 원본 파일
-            s3KeysToDelete.add(asset.getS3Key());
-            totalFileSize += asset.getFileSize();
-
-            // 썸네일 파일
-            if (asset.getThumbnailS3Key() != null) {
-                s3KeysToDelete.add(asset.getThumbnailS3Key());
-            }
-        }
+        long totalFileSize = assets.stream()
+                .mapToLong(AssetDeletionView::getFileSize)
+                .sum();
 
         // DB에서 자산 삭제
-        assetRepository.deleteAllInBatch(assets);
+        assetRepository.deleteAllByIdIn(assetIds);
+        eventPublisher.publishEvent(AssetUsageBatchChangedEvent.deleted(assets));
+
+        // 공유 객체 참조 반환 → 더 이상 참조되지 않는 S3 키만 수집 (원본 + 썸네일)
+        List<String> s3KeysToDelete = assetBlobService.releaseViews(assets);
 
-        // S3에서 파일 삭제
-        s3Service.deleteFiles(s3KeysToDelete);
+        // S3 파일 삭제는 아웃박스에 기록 (커밋 후 요청과 무관하게 실행, 실패 시 재시도)
+        if (!s3KeysToDelete.isEmpty()) {
+            outboxPublisher.append(AGGREGATE_USER, userId, S3DeleteOutboxHandler.EVENT_TYPE,
+                    new S3DeleteOutboxHandler.Payload(s3KeysToDelete));
+        }
 
         // 스토리지 용량 반환 로깅
         log.info("[Storage] 사용자 {} - {} 개 파일 삭제, 용량 반환: {} bytes",
@@ -90,15 +109,54 @@ public class StorageService {
         return BulkDeleteResponse.of(assetIds);
     }
 
+    /**
+     * 자산 일괄 삭제 작업의 청크 단위 DB 삭제 (청크마다 별도 트랜잭션)
+     * 이미 삭제되었거나 본인 소유가 아닌 자산은 건너뛴다.
+     *
+     * @param userId 사용자 ID
+     * @param assetIds 청크에 포함된 자산 ID 목록
+     * @return 삭제된 자산 수
+     */
+    @Transactional
+    public int deleteAssetsChunk(Long userId, List<Long> assetIds) {
+        List<AssetDeletionView> assets = assetRepository.lockDeletionViewsByIdIn(assetIds).stream()
+                .filter(asset -> asset.getUserId().equals(userId))
+                .toList();
+        if (assets.isEmpty()) {
+            return 0;
+        }
+
+        assetRepository.deleteAllByIdIn(assets.stream().map(AssetDeletionView::getId).toList());
+        eventPublisher.publishEvent(AssetUsageBatchChangedEvent.deleted(assets));
+
+        // S3 파일 삭제는 청크 트랜잭션의 아웃박스에 기록 (작업 실행 인스턴스가 중단되어도 유실되지 않음)
+        List<String> s3KeysToDelete = assetBlobService.releaseViews(assets);
+        if (!s3KeysToDelete.isEmpty()) {
+            outboxPublisher.append(AGGREGATE_USER, userId, S3DeleteOutboxHandler.EVENT_TYPE,
+                    new S3DeleteOutboxHandler.Payload(s3KeysToDelete));
+        }
+        return assets.size();
+    }
+
     /**
      * 스토리지 사용량 조회
-     * TODO: JWT 인증 구현 후 @AuthenticationPrincipal로 userId 추출
+     * 전체/노트별 용량과 개수는 스토리지 사용량 요약 테이블에서 읽고,
+     * 자산 목록은 노트당 첫 페이지만 포함한다. (다음 페이지는 getNoteAssets)
      *
      * @param userId 사용자 ID
      * @param keyword 검색어 (선택, 최소 2자 이상)
      * @return 스토리지 사용량 정보
      */
     public StorageResponse getStorageUsage(Long userId, String keyword) {
+        // 플랜 정보 조회 (없거나 만료되었으면 FREE 플랜)
+        ResolvedPlan plan = planResolver.resolve(userId);
+
+        return operationMetrics.recordThroughCommit("proovy.storage.usage",
+                Tags.of("plan", plan.planType().name(), "search", String.valueOf(keyword != null && !keyword.isBlank())),
+                () -> getStorageUsage(userId, keyword, plan));
+    }
+
+    private StorageResponse getStorageUsage(Long userId, String keyword, ResolvedPlan plan) {
         // 사용자 존재 확인
         userRepository.findById(userId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.USER4041));
@@ -108,55 +166,58 @@ public class StorageService {
             throw new BusinessException(ErrorCode.STORAGE4003);
         }
 
-        // 플랜 정보 조회 (없으면 FREE 플랜)
-        UserPlan userPlan = userPlanRepository.findActiveByUserId(userId)
-                .orElse(null);
-        PlanType planType = userPlan != null ? userPlan.getPlanType() : PlanType.FREE;
-        boolean isActive = userPlan != null ? userPlan.getIsActive() : true;
+        PlanType planType = plan.planType();
+        boolean isActive = plan.autoRenew();
 
-        // 노트 목록 조회 (검색어 있으면 필터링)
-        List<Note> notes;
+        // 노트 목록 조회 (검색어 있으면 제목 trigram 검색, 관련도순)
+        List<? extends NoteTitleView> notes;
         if (keyword != null && !keyword.isBlank()) {
-            notes = noteRepository.searchByTitleKeyword(userId, keyword);
+            String normalizedKeyword = SearchKeywordUtils.normalize(keyword);
+            notes = noteRepository.searchByTitle(
+                    userId,
+                    SearchKeywordUtils.containsPattern(normalizedKeyword),
+                    normalizedKeyword,
+                    Pageable.unpaged()
+            ).getContent();
         } else {
-            notes = noteRepository.findByUserIdOrderByCreatedAtDesc(userId);
+            notes = noteRepository.findTitlesByUserId(userId);
         }
 
-        // 전체 자산 조회
-        List<Asset> allAssets = assetRepository.findAllByUserId(userId);
+        // 사용량 요약 조회 (사용자 합계 행 + 노트별 행)
+        List<StorageUsageSummary> summaries = storageUsageSummaryService.getAllSummaries(userId);
+        Map<Long, StorageUsageSummary> usageByNoteId = summaries.stream()
+                .filter(summary -> !summary.isUserTotal())
+                .collect(Collectors.toMap(StorageUsageSummary::getNoteId, Function.identity()));
 
-        // 노트별 자산 그룹화
-        Map<Long, List<Asset>> assetsByNoteId = allAssets.stream()
-                .collect(Collectors.groupingBy(Asset::getNoteId));
+        // 전체 사용량 (bytes -> MB)
+        long totalUsedBytes = summaries.stream()
+                .filter(StorageUsageSummary::isUserTotal)
+                .mapToLong(StorageUsageSummary::getTotalBytes)
+                .findFirst()
+                .orElse(0L);
+        int totalUsedMb = (int) (totalUsedBytes / BYTES_PER_MB);
 
-        // 전체 사용량 계산 (bytes -> MB)
-        long totalUsedBytes = allAssets.stream()
-                .mapToLong(Asset::getFileSize)
-                .sum();
-        int totalUsedMb = (int) (totalUsedBytes / (1024 * 1024));
+        // 자산이 있는 노트만 첫 페이지 조회
+        List<Long> noteIdsWithAssets = notes.stream()
+                .map(NoteTitleView::getId)
+                .filter(noteId -> usageByNoteId.containsKey(noteId) && usageByNoteId.get(noteId).getTotalCount() > 0)
+                .toList();
+        Map<Long, List<AssetSummaryDto>> firstPageByNoteId = findFirstAssetPages(noteIdsWithAssets);
 
         // 노트별 스토리지 DTO 생성
         List<NoteStorageDto> noteStorageDtos = notes.stream()
                 .map(note -> {
-                    List<Asset> noteAssets = assetsByNoteId.getOrDefault(note.getId(), List.of());
-
-                    // 노트별 사용량 계산
-                    long noteUsedBytes = noteAssets.stream()
-                            .mapToLong(Asset::getFileSize)
-                            .sum();
-                    int noteUsedMb = (int) (noteUsedBytes / (1024 * 1024));
-
-                    // 자산 DTO 변환
-                    List<AssetSummaryDto> assetDtos = noteAssets.stream()
-                            .map(asset -> {
-                                String thumbnailUrl = asset.getThumbnailS3Key() != null
-                                        ? s3Service.getThumbnailUrl(asset.getThumbnailS3Key())
-                                        : null;
-                                return AssetSummaryDto.from(asset, thumbnailUrl);
-                            })
-                            .toList();
-
-                    return NoteStorageDto.of(note.getId(), note.getTitle(), noteUsedMb, assetDtos);
+                    StorageUsageSummary usage = usageByNoteId.get(note.getId());
+                    int noteUsedMb = usage != null ? (int) (usage.getTotalBytes() / BYTES_PER_MB) : 0;
+                    int assetCount = usage != null ? usage.getTotalCount().intValue() : 0;
+
+                    return NoteStorageDto.of(
+                            note.getId(),
+                            note.getTitle(),
+                            noteUsedMb,
+                            assetCount,
+                            firstPageByNoteId.getOrDefault(note.getId(), List.of())
+                    );
                 })
                 .toList();
 
@@ -168,4 +229,66 @@ public class StorageService {
                 noteStorageDtos
         );
     }
+
+    /**
+     * 노트 자산 목록 조회 (keyset 페이지네이션, 최신순)
+     *
+     * @param userId 사용자 ID
+     * @param noteId 노트 ID
+     * @param cursor 이전 페이지의 nextCursor (첫 페이지는 null)
+     * @param size 페이지 크기
+     * @return 자산 목록 페이지
+     */
+    public NoteAssetPageResponse getNoteAssets(Long userId, Long noteId, Long cursor, int size) {
+        Note note = noteRepository.findById(noteId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.NOTE4041));
+
+        if (!note.getUser().getId().equals(userId)) {
+            throw new BusinessException(ErrorCode.NOTE4031);
+        }
+
+        int pageSize = Math.min(Math.max(size, 1), MAX_ASSET_PAGE_SIZE);
+
+        // 다음 페이지 존재 여부 확인을 위해 1개 더 조회
+        List<AssetSummaryView> rows = assetRepository.findSummariesByNoteId(
+                noteId,
+                cursor != null ? cursor : Long.MAX_VALUE,
+                PageRequest.of(0, pageSize + 1)
+        );
+
+        boolean hasNext = rows.size() > pageSize;
+        List<AssetSummaryDto> assets = rows.stream()
+                .limit(pageSize)
+                .map(this::toAssetSummaryDto)
+                .toList();
+
+        return NoteAssetPageResponse.of(assets, hasNext);
+    }
+
+    /**
+     * 노트별 최신 자산 첫 페이지 조회 (노트 수와 무관하게 쿼리 2회)
+     */
+    private Map<Long, List<AssetSummaryDto>> findFirstAssetPages(List<Long> noteIds) {
+        if (noteIds.isEmpty()) {
+            return Map.of();
+        }
+
+        List<Long> assetIds = assetRepository.findTopIdsPerNote(noteIds, DEFAULT_ASSET_PAGE_SIZE);
+        if (assetIds.isEmpty()) {
+            return Map.of();
+        }
+
+        return assetRepository.findSummariesByIdIn(assetIds).stream()
+                .collect(Collectors.groupingBy(
+                        AssetSummaryView::getNoteId,
+                        Collectors.mapping(this::toAssetSummaryDto, Collectors.toList())
+                ));
+    }
+
+    private AssetSummaryDto toAssetSummaryDto(AssetSummaryView asset) {
+        String thumbnailUrl = asset.getThumbnailS3Key() != null
+                ? s3Service.getThumbnailUrl(asset.getThumbnailS3Key())
+                : null;
+        return AssetSummaryDto.from(asset, thumbnailUrl);
+    }
 }
@@ -0,0 +1,29 @@
+package com.proovy.domain.storage.service;
+
+import com.proovy.domain.asset.event.AssetUsageBatchChangedEvent;
+import com.proovy.domain.asset.event.AssetUsageChangedEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 자산 이벤트 → 스토리지 사용량 요약 갱신
+ * 이벤트를 발행한 트랜잭션의 커밋 직전에 실행되므로 자산 변경과 함께 커밋/롤백된다.
+ */
+@Component
+@RequiredArgsConstructor
+public class StorageUsageEventListener {
+
+    private final StorageUsageSummaryService storageUsageSummaryService;
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void onAssetUsageChanged(AssetUsageChangedEvent event) {
+        storageUsageSummaryService.apply(event);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void onAssetUsageBatchChanged(AssetUsageBatchChangedEvent event) {
+        storageUsageSummaryService.applyAll(event.changes());
+    }
+}
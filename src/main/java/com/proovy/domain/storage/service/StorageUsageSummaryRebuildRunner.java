@@ -0,0 +1,44 @@
+package com.proovy.domain.storage.service;
+
+import com.proovy.domain.user.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 스토리지 사용량 요약 전체 재계산
+ * 요약 테이블 도입 직후 또는 불일치 발견 시 --proovy.storage.rebuild-summaries=true 옵션으로 기동하면
+ * 모든 사용자의 요약을 자산 테이블 기준으로 다시 계산한다. (사용자 단위 트랜잭션)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "proovy.storage.rebuild-summaries", havingValue = "true")
+public class StorageUsageSummaryRebuildRunner implements ApplicationRunner {
+
+    private final UserRepository userRepository;
+    private final StorageUsageSummaryService storageUsageSummaryService;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        List<Long> userIds = userRepository.findAllIds();
+        log.info("[Storage] 스토리지 요약 전체 재계산 시작 - users: {}", userIds.size());
+
+        int failed = 0;
+        for (Long userId : userIds) {
+            try {
+                storageUsageSummaryService.rebuild(userId);
+            } catch (Exception e) {
+                failed++;
+                log.error("[Storage] 스토리지 요약 재계산 실패 - userId: {}, error: {}", userId, e.getMessage());
+            }
+        }
+
+        log.info("[Storage] 스토리지 요약 전체 재계산 완료 - users: {}, failed: {}", userIds.size(), failed);
+    }
+}
@@ -0,0 +1,144 @@
+package com.proovy.domain.storage.service;
+
+import com.proovy.domain.asset.entity.FileCategory;
+import com.proovy.domain.asset.event.AssetUsageChangedEvent;
+import com.proovy.domain.asset.repository.AssetRepository;
+import com.proovy.domain.asset.repository.projection.AssetUsageBreakdownView;
+import com.proovy.domain.storage.entity.StorageUsageDelta;
+import com.proovy.domain.storage.entity.StorageUsageSummary;
+import com.proovy.domain.storage.repository.StorageUsageSummaryRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 사용자/노트별 스토리지 사용량 요약 관리
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class StorageUsageSummaryService {
+
+    private final StorageUsageSummaryRepository storageUsageSummaryRepository;
+    private final AssetRepository assetRepository;
+
+    /**
+     * 자산 사용량 변경 반영 (노트 행 + 사용자 합계 행)
+     */
+    @Transactional
+    public void apply(AssetUsageChangedEvent event) {
+        StorageUsageDelta delta = deltaOf(event);
+        if (delta.isZero()) {
+            return;
+        }
+
+        storageUsageSummaryRepository.applyDelta(event.userId(), event.noteId(), delta);
+        storageUsageSummaryRepository.applyDelta(event.userId(), StorageUsageSummary.USER_TOTAL_NOTE_ID, delta);
+    }
+
+    /**
+     * 여러 자산 변경을 (사용자, 노트)별로 합산해 반영 (일괄 삭제용)
+     * 자산 수와 무관하게 노트당 1회 + 사용자 합계 1회만 갱신한다.
+     */
+    @Transactional
+    public void applyAll(List<AssetUsageChangedEvent> events) {
+        Map<Long, Map<Long, StorageUsageDelta>> deltaByUserAndNote = new HashMap<>();
+        for (AssetUsageChangedEvent event : events) {
+            StorageUsageDelta delta = deltaOf(event);
+            if (!delta.isZero()) {
+                deltaByUserAndNote.computeIfAbsent(event.userId(), userId -> new HashMap<>())
+                        .merge(event.noteId(), delta, StorageUsageDelta::plus);
+            }
+        }
+
+        deltaByUserAndNote.forEach((userId, deltaByNoteId) -> {
+            StorageUsageDelta userTotal = StorageUsageDelta.ZERO;
+            for (Map.Entry<Long, StorageUsageDelta> entry : deltaByNoteId.entrySet()) {
+                storageUsageSummaryRepository.applyDelta(userId, entry.getKey(), entry.getValue());
+                userTotal = userTotal.plus(entry.getValue());
+            }
+            storageUsageSummaryRepository.applyDelta(userId, StorageUsageSummary.USER_TOTAL_NOTE_ID, userTotal);
+        });
+    }
+
+    /**
+     * 사용자 전체 합계 조회
+     */
+    public Optional<StorageUsageSummary> getUserSummary(Long userId) {
+        return storageUsageSummaryRepository.findByUserIdAndNoteId(userId, StorageUsageSummary.USER_TOTAL_NOTE_ID);
+    }
+
+    /**
+     * 노트 합계 조회
+     */
+    public Optional<StorageUsageSummary> getNoteSummary(Long userId, Long noteId) {
+        return storageUsageSummaryRepository.findByUserIdAndNoteId(userId, noteId);
+    }
+
+    /**
+     * 사용자의 전체 합계 행 + 노트별 행 조회
+     */
+    public List<StorageUsageSummary> getAllSummaries(Long userId) {
+        return storageUsageSummaryRepository.findAllByUserId(userId);
+    }
+
+    /**
+     * 자산 테이블 기준 요약 재계산 (요약과 실제 자산 간 불일치 복구용)
+     * @return 재계산된 노트 수
+     */
+    @Transactional
+    public int rebuild(Long userId) {
+        List<AssetUsageBreakdownView> breakdowns = assetRepository.sumUsageBreakdownByUserId(userId);
+
+        Map<Long, StorageUsageDelta> deltaByNoteId = new HashMap<>();
+        StorageUsageDelta userTotal = StorageUsageDelta.ZERO;
+        for (AssetUsageBreakdownView breakdown : breakdowns) {
+            StorageUsageDelta delta = StorageUsageDelta.of(
+                    breakdown.getStatus(),
+                    FileCategory.fromMimeType(breakdown.getMimeType()),
+                    breakdown.getUsedBytes(),
+                    breakdown.getAssetCount(),
+                    1
+            );
+            deltaByNoteId.merge(breakdown.getNoteId(), delta, StorageUsageDelta::plus);
+            userTotal = userTotal.plus(delta);
+        }
+
+        storageUsageSummaryRepository.deleteAllByUserId(userId);
+        deltaByNoteId.forEach((noteId, delta) -> storageUsageSummaryRepository.applyDelta(userId, noteId, delta));
+        if (!deltaByNoteId.isEmpty()) {
+            storageUsageSummaryRepository.applyDelta(userId, StorageUsageSummary.USER_TOTAL_NOTE_ID, userTotal);
+        }
+
+        log.info("[Storage] 스토리지 요약 재계산 완료 - userId: {}, notes: {}", userId, deltaByNoteId.size());
+        return deltaByNoteId.size();
+    }
+
+    private static StorageUsageDelta deltaOf(AssetUsageChangedEvent event) {
+        FileCategory category = FileCategory.fromMimeType(event.mimeType());
+
+        StorageUsageDelta delta = StorageUsageDelta.ZERO;
+        if (event.fromStatus() != null) {
+            delta = delta.plus(StorageUsageDelta.of(event.fromStatus(), category, event.fileSize(), 1, -1));
+        }
+        if (event.toStatus() != null) {
+            delta = delta.plus(StorageUsageDelta.of(event.toStatus(), category, event.fileSize(), 1, 1));
+        }
+        return delta;
+    }
+
+    /**
+     * 사용자의 모든 요약 삭제 (회원 탈퇴용)
+     */
+    @Transactional
+    public void deleteAllByUserId(Long userId) {
+        storageUsageSummaryRepository.deleteAllByUserId(userId);
+    }
+}
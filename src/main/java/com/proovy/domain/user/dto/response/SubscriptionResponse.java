@@ -1,7 +1,7 @@
 package com.proovy.domain.user.dto.response;
 
 import com.proovy.domain.user.entity.PlanType;
-import com.proovy.domain.user.entity.UserPlan;
+import com.proovy.domain.user.service.ResolvedPlan;
 import lombok.Builder;
 
 import java.time.LocalDate;
@@ -60,8 +60,8 @@ public record SubscriptionResponse(
             BenefitsDto benefits
     ) {}
 
-    public static SubscriptionResponse from(UserPlan userPlan) {
-        PlanType planType = userPlan.getPlanType();
+    public static SubscriptionResponse from(ResolvedPlan userPlan) {
+        PlanType planType = userPlan.planType();
 
         return SubscriptionResponse.builder()
                 .currentPlan(buildCurrentPlan(planType))
@@ -82,13 +82,13 @@ public record SubscriptionResponse(
                 .build();
     }
 
-    private static PeriodDto buildPeriod(UserPlan userPlan) {
-        if (userPlan.getPlanType() == PlanType.FREE) {
+    private static PeriodDto buildPeriod(ResolvedPlan userPlan) {
+        if (userPlan.planType() == PlanType.FREE) {
             return null;
         }
 
-        LocalDateTime startedAt = userPlan.getStartedAt();
-        LocalDateTime expiredAt = userPlan.getExpiredAt();
+        LocalDateTime startedAt = userPlan.startedAt();
+        LocalDateTime expiredAt = userPlan.expiredAt();
 
         Integer daysRemaining = expiredAt != null
                 ? (int) ChronoUnit.DAYS.between(LocalDate.now(), expiredAt.toLocalDate())
@@ -114,17 +114,17 @@ public record SubscriptionResponse(
                 .build();
     }
 
-    private static BillingDto buildBilling(UserPlan userPlan) {
-        if (userPlan.getPlanType() == PlanType.FREE) {
+    private static BillingDto buildBilling(ResolvedPlan userPlan) {
+        if (userPlan.planType() == PlanType.FREE) {
             return null;
         }
 
-        LocalDateTime expiredAt = userPlan.getExpiredAt();
+        LocalDateTime expiredAt = userPlan.expiredAt();
 
         return BillingDto.builder()
                 .nextBillingDate(expiredAt != null
                         ? expiredAt.format(DateTimeFormatter.ISO_LOCAL_DATE) : null)
-                .autoRenew(userPlan.getIsActive())
+                .autoRenew(userPlan.autoRenew())
                 .build();
     }
 
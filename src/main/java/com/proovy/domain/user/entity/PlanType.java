@@ -7,9 +7,9 @@ import lombok.RequiredArgsConstructor;
 @Getter
 @RequiredArgsConstructor
 public enum PlanType {
-    FREE("Free", 0, "KRW", null, 100, 0, 2, 10, 1),
-    STANDARD("Standard", 6900, "KRW", "MONTHLY", 100, 2000, 10, 50, 5),
-    PRO("Pro", 14900, "KRW", "MONTHLY", 100, 5000, 20, 100, 10);
+    FREE("Free", 0, "KRW", null, 100, 0, 2, 50, 10, 1),
+    STANDARD("Standard", 6900, "KRW", "MONTHLY", 100, 2000, 10, 50, 50, 5),
+    PRO("Pro", 14900, "KRW", "MONTHLY", 100, 5000, 20, 50, 100, 10);
 
     private final String displayName;
     private final int price;
@@ -18,6 +18,7 @@ public enum PlanType {
     private final int dailyCreditLimit;
     private final int monthlyCreditLimit;
     private final int noteLimit;
+    private final int conversationLimit; // 노트당 대화 수 제한
     private final int singleFileLimitMb;
     private final int storageLimitGb;
 
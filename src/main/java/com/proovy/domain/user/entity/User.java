@@ -51,6 +51,9 @@ public class User {
     @Column(name = "updated_at")
     private LocalDateTime updatedAt;
 
+    @Column(name = "deleted_at")
+    private LocalDateTime deletedAt; // 탈퇴 시각 (null이 아니면 데이터 삭제 대기/진행 중)
+
     // JPA용 기본 생성자
     protected User() {
     }
@@ -78,6 +81,22 @@ public class User {
     public String getEmail() { return email; }
     public LocalDateTime getCreatedAt() { return createdAt; }
     public LocalDateTime getUpdatedAt() { return updatedAt; }
+    public LocalDateTime getDeletedAt() { return deletedAt; }
+
+    public boolean isDeleted() {
+        return deletedAt != null;
+    }
+
+    /**
+     * 탈퇴 처리 (데이터 삭제 전 즉시 호출)
+     * 개인정보와 OAuth 식별자를 비워 같은 계정으로 다시 가입할 수 있게 한다.
+     */
+    public void markDeleted() {
+        this.deletedAt = LocalDateTime.now();
+        this.name = null;
+        this.email = null;
+        this.providerUserId = null;
+    }
 
     // provider별 고정 로고 URL 반환
     public String getProfileImageUrl() {
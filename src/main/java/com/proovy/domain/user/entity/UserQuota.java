@@ -0,0 +1,31 @@
+package com.proovy.domain.user.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 사용자별 플랜 한도 예약 카운터
+ * 행 등록/갱신은 UserQuotaRepository의 조건부 UPDATE로만 수행하며,
+ * 행 잠금이 커밋까지 유지되므로 같은 사용자의 동시 요청은 순서대로 한도를 검사한다.
+ */
+@Entity
+@Table(name = "user_quotas")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class UserQuota {
+
+    @Id
+    @Column(name = "user_id")
+    private Long userId;
+
+    // 생성한 노트 수 (노트 개별 삭제 기능이 없으므로 감소하지 않고, 회원 탈퇴 시 행째 삭제)
+    @Column(name = "note_count", nullable = false)
+    private int noteCount;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,8 @@
+package com.proovy.domain.user.event;
+
+/**
+ * 사용자 플랜 등록/변경/해지/삭제를 알리는 도메인 이벤트
+ * 커밋 이후 플랜 캐시를 무효화한다.
+ */
+public record UserPlanChangedEvent(Long userId) {
+}
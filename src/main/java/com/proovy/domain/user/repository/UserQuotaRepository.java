@@ -0,0 +1,44 @@
+package com.proovy.domain.user.repository;
+
+import com.proovy.domain.user.entity.UserQuota;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface UserQuotaRepository extends JpaRepository<UserQuota, Long> {
+
+    /**
+     * 카운터 행 초기화 (없을 때만 현재 노트 수로 등록, 사용자당 최초 1회)
+     */
+    @Modifying
+    @Query(value = "INSERT INTO user_quotas (user_id, note_count, updated_at) " +
+                   "SELECT :userId, COUNT(*), now() FROM notes WHERE user_id = :userId " +
+                   "ON CONFLICT (user_id) DO NOTHING",
+           nativeQuery = true)
+    int initialize(@Param("userId") Long userId);
+
+    /**
+     * 한도 미만일 때만 노트 수 1 증가
+     * @return 예약 성공 시 1, 행이 없거나 한도에 도달했으면 0
+     */
+    @Modifying
+    @Query("UPDATE UserQuota q SET q.noteCount = q.noteCount + 1, q.updatedAt = CURRENT_TIMESTAMP " +
+           "WHERE q.userId = :userId AND q.noteCount < :limit")
+    int reserveNote(@Param("userId") Long userId, @Param("limit") int limit);
+
+    /**
+     * 카운터 행 잠금 (커밋/롤백 시 해제)
+     * @return 행이 없으면 0
+     */
+    @Modifying
+    @Query("UPDATE UserQuota q SET q.updatedAt = CURRENT_TIMESTAMP WHERE q.userId = :userId")
+    int lock(@Param("userId") Long userId);
+
+    /**
+     * 특정 사용자의 카운터 삭제 (회원 탈퇴용)
+     */
+    @Modifying
+    @Query("DELETE FROM UserQuota q WHERE q.userId = :userId")
+    void deleteByUserId(@Param("userId") Long userId);
+}
@@ -2,8 +2,13 @@ package com.proovy.domain.user.repository;
 
 import com.proovy.domain.user.entity.OAuthProvider;
 import com.proovy.domain.user.entity.User;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 public interface UserRepository extends JpaRepository<User, Long> {
@@ -19,4 +24,16 @@ public interface UserRepository extends JpaRepository<User, Long> {
      * 특정 Provider로 가입한 사용자 존재 여부 확인
      */
     boolean existsByProviderAndProviderUserId(OAuthProvider provider, String providerUserId);
+
+    /**
+     * 전체 사용자 ID 조회 (일괄 재계산용)
+     */
+    @Query("SELECT u.id FROM User u ORDER BY u.id")
+    List<Long> findAllIds();
+
+    /**
+     * 특정 시각 이전에 탈퇴했지만 아직 데이터가 남아 있는 사용자 ID 조회 (중단된 탈퇴 처리 재개용)
+     */
+    @Query("SELECT u.id FROM User u WHERE u.deletedAt < :before ORDER BY u.deletedAt")
+    List<Long> findDeletedIdsBefore(@Param("before") LocalDateTime before, Pageable pageable);
 }
@@ -0,0 +1,118 @@
+package com.proovy.domain.user.service;
+
+import com.proovy.domain.asset.repository.AssetRepository;
+import com.proovy.domain.asset.repository.projection.AssetBlobRefView;
+import com.proovy.domain.asset.service.AssetBlobService;
+import com.proovy.domain.conversation.repository.ConversationRepository;
+import com.proovy.domain.conversation.repository.MessageAssetRepository;
+import com.proovy.domain.conversation.repository.MessageRepository;
+import com.proovy.domain.conversation.repository.MessageToolRepository;
+import com.proovy.domain.credit.repository.CreditLedgerRepository;
+import com.proovy.domain.note.repository.NoteRepository;
+import com.proovy.domain.storage.service.StorageUsageSummaryService;
+import com.proovy.domain.user.event.UserPlanChangedEvent;
+import com.proovy.domain.user.repository.UserPlanRepository;
+import com.proovy.domain.user.repository.UserRepository;
+import com.proovy.global.infra.s3.S3DeleteOutboxHandler;
+import com.proovy.global.outbox.OutboxPublisher;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * 탈퇴 사용자 데이터 삭제 단계 (청크마다 짧은 트랜잭션)
+ * 모든 단계는 남아 있는 행만 삭제하므로 중간에 중단되어도 처음부터 다시 실행할 수 있다.
+ * 실행 순서는 AccountDeletionWorker가 관리한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class AccountDeletionService {
+
+    private final UserRepository userRepository;
+    private final UserPlanRepository userPlanRepository;
+    private final NoteRepository noteRepository;
+    private final ConversationRepository conversationRepository;
+    private final MessageRepository messageRepository;
+    private final MessageAssetRepository messageAssetRepository;
+    private final MessageToolRepository messageToolRepository;
+    private final AssetRepository assetRepository;
+    private final AssetBlobService assetBlobService;
+    private final StorageUsageSummaryService storageUsageSummaryService;
+    private final QuotaReservationService quotaReservationService;
+    private final CreditLedgerRepository creditLedgerRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final OutboxPublisher outboxPublisher;
+
+    private static final String AGGREGATE_NOTE = "note";
+
+    @Transactional(readOnly = true)
+    public List<Long> findNoteIds(Long userId) {
+        return noteRepository.findIdsByUserId(userId);
+    }
+
+    /**
+     * 노트의 메시지를 최대 limit개 삭제 (멘션/도구 → 메시지 순)
+     * @return 삭제된 메시지 수 (0이면 노트에 남은 메시지 없음)
+     */
+    public int deleteMessagesChunk(Long noteId, int limit) {
+        List<Long> messageIds = messageRepository.findIdsByNoteId(noteId, limit);
+        if (messageIds.isEmpty()) {
+            return 0;
+        }
+
+        messageAssetRepository.deleteAllByMessageIdIn(messageIds);
+        messageToolRepository.deleteAllByMessageIdIn(messageIds);
+        return messageRepository.deleteAllByIdIn(messageIds);
+    }
+
+    /**
+     * 노트의 자산을 최대 limit개 삭제 (다른 메시지의 멘션 → 공유 객체 참조 반환 → 자산 순)
+     * 더 이상 참조되지 않는 S3 객체(원본 + 썸네일)의 삭제는 같은 트랜잭션에서 아웃박스에 기록한다.
+     * @return 삭제된 자산 수 (0이면 노트에 남은 자산 없음)
+     */
+    public int deleteAssetsChunk(Long noteId, int limit) {
+        List<AssetBlobRefView> assets = assetRepository.lockBlobRefsByNoteId(noteId, limit);
+        if (assets.isEmpty()) {
+            return 0;
+        }
+
+        List<Long> assetIds = assets.stream()
+                .map(AssetBlobRefView::getId)
+                .toList();
+        messageAssetRepository.deleteAllByAssetIdIn(assetIds);
+        List<String> s3Keys = assetBlobService.releaseViews(assets);
+        assetRepository.deleteAllByIdIn(assetIds);
+
+        if (!s3Keys.isEmpty()) {
+            outboxPublisher.append(AGGREGATE_NOTE, noteId, S3DeleteOutboxHandler.EVENT_TYPE,
+                    new S3DeleteOutboxHandler.Payload(s3Keys));
+        }
+        return assets.size();
+    }
+
+    /**
+     * 메시지/자산을 모두 삭제한 노트의 대화와 노트 삭제
+     */
+    public void deleteNote(Long noteId) {
+        conversationRepository.deleteAllByNoteId(noteId);
+        noteRepository.deleteInBulkById(noteId);
+    }
+
+    /**
+     * 노트 삭제 후 남은 사용자 단위 데이터와 사용자 삭제 (마지막 단계)
+     */
+    public void deleteUser(Long userId) {
+        userPlanRepository.deleteAllByUserId(userId);
+        eventPublisher.publishEvent(new UserPlanChangedEvent(userId));
+        storageUsageSummaryService.deleteAllByUserId(userId);
+        quotaReservationService.deleteByUserId(userId);
+        creditLedgerRepository.deleteAllByUserId(userId);
+        userRepository.deleteById(userId);
+    }
+}
@@ -0,0 +1,102 @@
+package com.proovy.domain.user.service;
+
+import com.proovy.domain.user.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 탈퇴 사용자 데이터 백그라운드 삭제
+ * - 노트마다 메시지 → 자산 → 대화/노트 순으로 CHUNK_SIZE 단위 짧은 트랜잭션으로 삭제
+ * - S3 삭제: 자산 청크와 같은 트랜잭션에서 아웃박스에 기록 (커밋 후 OutboxRelay가 실행)
+ * - 처리 대상은 users.deleted_at으로 판단하므로, 재시작 등으로 중단된 작업은 주기적으로 다시 시작된다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AccountDeletionWorker {
+
+    private static final int CHUNK_SIZE = 500;
+    private static final int RESUME_BATCH_SIZE = 20;
+    private static final Duration RESUME_GRACE = Duration.ofMinutes(10); // 진행 중일 수 있는 최근 탈퇴는 건너뜀
+
+    private final AccountDeletionService accountDeletionService;
+    private final UserRepository userRepository;
+
+    private final ThreadPoolTaskExecutor bulkDeleteExecutor; // 빈 이름(bulkDeleteExecutor)으로 주입
+
+    // 이 인스턴스에서 삭제 중인 사용자 (같은 사용자 중복 실행 방지)
+    private final Set<Long> running = ConcurrentHashMap.newKeySet();
+
+    /**
+     * 탈퇴 사용자 데이터 삭제 시작 (탈퇴 트랜잭션 커밋 이후 호출)
+     * 대기열이 가득 차면 주기 작업에서 다시 시작된다.
+     */
+    public void submit(Long userId) {
+        if (!running.add(userId)) {
+            return;
+        }
+        try {
+            bulkDeleteExecutor.execute(() -> {
+                try {
+                    purge(userId);
+                } finally {
+                    running.remove(userId);
+                }
+            });
+        } catch (TaskRejectedException e) {
+            running.remove(userId);
+            log.warn("[User] 탈퇴 데이터 삭제 대기열 초과, 이후 재시도 - userId: {}", userId);
+        }
+    }
+
+    /**
+     * 중단된 탈퇴 데이터 삭제 재개
+     */
+    @Scheduled(fixedDelay = 600_000, initialDelay = 60_000)
+    public void resumePending() {
+        List<Long> userIds = userRepository.findDeletedIdsBefore(
+                LocalDateTime.now().minus(RESUME_GRACE), PageRequest.of(0, RESUME_BATCH_SIZE));
+        userIds.forEach(this::submit);
+    }
+
+    void purge(Long userId) {
+        long startedAt = System.currentTimeMillis();
+        int assetCount = 0;
+
+        try {
+            List<Long> noteIds = accountDeletionService.findNoteIds(userId);
+            for (Long noteId : noteIds) {
+                while (accountDeletionService.deleteMessagesChunk(noteId, CHUNK_SIZE) > 0) {
+                    // 남은 메시지가 없을 때까지 반복
+                }
+
+                int deleted;
+                while ((deleted = accountDeletionService.deleteAssetsChunk(noteId, CHUNK_SIZE)) > 0) {
+                    assetCount += deleted;
+                }
+
+                accountDeletionService.deleteNote(noteId);
+            }
+
+            accountDeletionService.deleteUser(userId);
+            log.info("[User] 탈퇴 데이터 삭제 완료 - userId: {}, notes: {}, assets: {}, elapsed: {}ms",
+                    userId, noteIds.size(), assetCount, System.currentTimeMillis() - startedAt);
+
+        } catch (Exception e) {
+            // 이미 삭제된 청크는 커밋되었으므로 다음 재개 시 남은 데이터부터 이어서 삭제
+            log.error("[User] 탈퇴 데이터 삭제 실패 - userId: {}, assets: {}, error: {}",
+                    userId, assetCount, e.getMessage());
+        }
+    }
+}
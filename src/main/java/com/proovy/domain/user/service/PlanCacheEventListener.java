@@ -0,0 +1,23 @@
+package com.proovy.domain.user.service;
+
+import com.proovy.domain.user.event.UserPlanChangedEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 플랜 변경 이벤트 → 플랜 캐시 무효화
+ * 커밋 이후에 실행되므로 무효화 직후의 조회는 변경된 플랜을 읽는다.
+ */
+@Component
+@RequiredArgsConstructor
+public class PlanCacheEventListener {
+
+    private final PlanResolver planResolver;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onUserPlanChanged(UserPlanChangedEvent event) {
+        planResolver.evict(event.userId());
+    }
+}
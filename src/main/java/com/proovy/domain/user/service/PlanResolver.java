@@ -0,0 +1,64 @@
+package com.proovy.domain.user.service;
+
+import com.proovy.domain.user.entity.PlanType;
+import com.proovy.domain.user.repository.UserPlanRepository;
+import com.proovy.global.cache.CacheSpec;
+import com.proovy.global.cache.TwoLevelCache;
+import com.proovy.global.cache.TwoLevelCacheFactory;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * 사용자 플랜 조회 (로컬 캐시 → Redis → DB, TwoLevelCache)
+ * 플랜 변경 이벤트로 모든 노드의 캐시를 무효화하며 (Redis 채널 cache-invalidation:plan), 만료일이 지난 유료 플랜은 조회 시점에 FREE로 내려간다.
+ * 캐시 장애 시에는 DB에서 직접 조회한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class PlanResolver {
+
+    private static final CacheSpec CACHE_SPEC = CacheSpec.builder()
+            .name("plan")
+            .localTtl(Duration.ofSeconds(30))
+            .localMaxSize(10_000)
+            .redisTtl(Duration.ofMinutes(10))
+            .build();
+
+    private final UserPlanRepository userPlanRepository;
+    private final TwoLevelCacheFactory cacheFactory;
+
+    private TwoLevelCache<Long, ResolvedPlan> cache;
+
+    @PostConstruct
+    void initCache() {
+        cache = cacheFactory.create(CACHE_SPEC, ResolvedPlan.class);
+    }
+
+    /**
+     * 현재 시점의 사용자 플랜 (활성 플랜이 없거나 만료되었으면 FREE)
+     */
+    public ResolvedPlan resolve(Long userId) {
+        return cache.get(userId, this::load).effectiveAt(LocalDateTime.now());
+    }
+
+    public PlanType resolvePlanType(Long userId) {
+        return resolve(userId).planType();
+    }
+
+    /**
+     * 사용자 플랜 캐시 무효화 (모든 노드)
+     */
+    public void evict(Long userId) {
+        cache.evict(userId);
+    }
+
+    private ResolvedPlan load(Long userId) {
+        return userPlanRepository.findActiveByUserId(userId)
+                .map(ResolvedPlan::from)
+                .orElse(ResolvedPlan.FREE);
+    }
+}
@@ -0,0 +1,86 @@
+package com.proovy.domain.user.service;
+
+import com.proovy.domain.storage.entity.StorageUsageSummary;
+import com.proovy.domain.storage.service.StorageUsageSummaryService;
+import com.proovy.domain.user.entity.PlanType;
+import com.proovy.domain.user.repository.UserQuotaRepository;
+import com.proovy.global.exception.BusinessException;
+import com.proovy.global.response.ErrorCode;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 플랜 한도 예약 (노트 수, 파일 크기, 스토리지 용량)
+ * 호출한 트랜잭션 안에서 사용자 카운터 행을 조건부로 갱신하므로,
+ * 동시 요청도 한도를 넘지 못하고 롤백되면 예약도 함께 취소된다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(propagation = Propagation.MANDATORY)
+public class QuotaReservationService {
+
+    private static final long BYTES_PER_MB = 1024L * 1024L;
+    private static final long NOTE_STORAGE_LIMIT = 536_870_912L; // 512MB
+
+    private final UserQuotaRepository userQuotaRepository;
+    private final StorageUsageSummaryService storageUsageSummaryService;
+
+    /**
+     * 노트 1개 예약
+     * @throws BusinessException 플랜의 노트 한도에 도달했으면 NOTE4031
+     */
+    public void reserveNote(Long userId, PlanType planType) {
+        if (userQuotaRepository.reserveNote(userId, planType.getNoteLimit()) == 1) {
+            return;
+        }
+        // 카운터 행이 없는 사용자만 초기화 후 재시도
+        userQuotaRepository.initialize(userId);
+        if (userQuotaRepository.reserveNote(userId, planType.getNoteLimit()) == 0) {
+            log.info("[Quota] 노트 한도 초과 - userId: {}, limit: {}", userId, planType.getNoteLimit());
+            throw new BusinessException(ErrorCode.NOTE4031);
+        }
+    }
+
+    /**
+     * 업로드할 파일의 용량 예약
+     * 사용자 카운터 행을 잠근 뒤 사용량 요약을 확인하므로, 같은 사용자의 업로드는 커밋 순서대로 검사된다.
+     * 사용량 요약은 자산 이벤트로 같은 트랜잭션에서 갱신되므로 별도 반환은 필요 없다.
+     * @throws BusinessException 파일 크기 초과 ASSET4002, 사용자 용량 초과 STORAGE4002, 노트 용량 초과 STORAGE4005
+     */
+    public void reserveStorage(Long userId, Long noteId, long fileSize, PlanType planType) {
+        if (fileSize > planType.getSingleFileLimitMb() * BYTES_PER_MB) {
+            throw new BusinessException(ErrorCode.ASSET4002);
+        }
+
+        if (userQuotaRepository.lock(userId) == 0) {
+            userQuotaRepository.initialize(userId);
+            userQuotaRepository.lock(userId);
+        }
+
+        long userUsage = storageUsageSummaryService.getUserSummary(userId)
+                .map(StorageUsageSummary::getReservedBytes)
+                .orElse(0L);
+        if (userUsage + fileSize > planType.getStorageLimitBytes()) {
+            log.info("[Quota] 스토리지 한도 초과 - userId: {}, usage: {}, fileSize: {}", userId, userUsage, fileSize);
+            throw new BusinessException(ErrorCode.STORAGE4002);
+        }
+
+        long noteUsage = storageUsageSummaryService.getNoteSummary(userId, noteId)
+                .map(StorageUsageSummary::getReservedBytes)
+                .orElse(0L);
+        if (noteUsage + fileSize > NOTE_STORAGE_LIMIT) {
+            throw new BusinessException(ErrorCode.STORAGE4005);
+        }
+    }
+
+    /**
+     * 사용자의 카운터 삭제 (회원 탈퇴용)
+     */
+    public void deleteByUserId(Long userId) {
+        userQuotaRepository.deleteByUserId(userId);
+    }
+}
@@ -0,0 +1,38 @@
+package com.proovy.domain.user.service;
+
+import com.proovy.domain.user.entity.PlanType;
+import com.proovy.domain.user.entity.UserPlan;
+
+import java.time.LocalDateTime;
+
+/**
+ * 조회 시점 기준 사용자 플랜 (캐시 저장용 값 객체)
+ * @param autoRenew 활성 플랜의 자동 갱신 여부 (UserPlan.isActive)
+ */
+public record ResolvedPlan(
+        PlanType planType,
+        LocalDateTime startedAt,
+        LocalDateTime expiredAt,
+        boolean autoRenew
+) {
+    public static final ResolvedPlan FREE = new ResolvedPlan(PlanType.FREE, null, null, true);
+
+    public static ResolvedPlan from(UserPlan userPlan) {
+        return new ResolvedPlan(
+                userPlan.getPlanType(),
+                userPlan.getStartedAt(),
+                userPlan.getExpiredAt(),
+                userPlan.getIsActive() == null || userPlan.getIsActive()
+        );
+    }
+
+    /**
+     * 만료된 유료 플랜은 FREE로 간주
+     */
+    public ResolvedPlan effectiveAt(LocalDateTime now) {
+        if (planType != PlanType.FREE && expiredAt != null && !now.isBefore(expiredAt)) {
+            return FREE;
+        }
+        return this;
+    }
+}
@@ -1,10 +1,6 @@
 package com.proovy.domain.user.service;
 
 import com.proovy.domain.user.dto.response.SubscriptionResponse;
-import com.proovy.domain.user.entity.PlanType;
-import com.proovy.domain.user.entity.User;
-import com.proovy.domain.user.entity.UserPlan;
-import com.proovy.domain.user.repository.UserPlanRepository;
 import com.proovy.domain.user.repository.UserRepository;
 import com.proovy.global.exception.BusinessException;
 import com.proovy.global.response.ErrorCode;
@@ -20,23 +16,13 @@ import org.springframework.transaction.annotation.Transactional;
 public class SubscriptionService {
 
     private final UserRepository userRepository;
-    private final UserPlanRepository userPlanRepository;
+    private final PlanResolver planResolver;
 
     public SubscriptionResponse getSubscription(Long userId) {
-        User user = userRepository.findById(userId)
+        userRepository.findById(userId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.USER4041));
 
-        UserPlan userPlan = userPlanRepository.findActiveByUserId(userId)
-                .orElseGet(() -> createDefaultFreePlan(user));
-
-        return SubscriptionResponse.from(userPlan);
-    }
-
-    private UserPlan createDefaultFreePlan(User user) {
-        return UserPlan.builder()
-                .user(user)
-                .planType(PlanType.FREE)
-                .isActive(true)
-                .build();
+        // 활성 플랜이 없거나 만료되었으면 FREE
+        return SubscriptionResponse.from(planResolver.resolve(userId));
     }
 }
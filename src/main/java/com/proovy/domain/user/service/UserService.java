@@ -1,19 +1,19 @@
 package com.proovy.domain.user.service;
 
-import com.proovy.domain.asset.repository.AssetRepository;
 import com.proovy.domain.auth.repository.RefreshTokenRepository;
-import com.proovy.domain.auth.service.AccessTokenBlacklistService;
-import com.proovy.domain.note.repository.NoteRepository;
+import com.proovy.domain.auth.service.TokenBlacklistOutboxHandler;
+import com.proovy.domain.credit.service.CreditService;
+import com.proovy.domain.credit.service.CreditService.CreditBalance;
+import com.proovy.domain.storage.entity.StorageUsageSummary;
+import com.proovy.domain.storage.service.StorageUsageSummaryService;
 import com.proovy.domain.user.dto.response.DeleteUserResponse;
 import com.proovy.domain.user.dto.response.MyProfileResponse;
 import com.proovy.domain.user.dto.response.MyProfileResponse.*;
 import com.proovy.domain.user.entity.PlanType;
 import com.proovy.domain.user.entity.User;
-import com.proovy.domain.user.entity.UserPlan;
-import com.proovy.domain.user.repository.UserPlanRepository;
 import com.proovy.domain.user.repository.UserRepository;
 import com.proovy.global.exception.BusinessException;
-import com.proovy.global.infra.s3.S3Service;
+import com.proovy.global.outbox.OutboxPublisher;
 import com.proovy.global.response.ErrorCode;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -22,12 +22,8 @@ import org.springframework.transaction.annotation.Transactional;
 import org.springframework.transaction.support.TransactionSynchronization;
 import org.springframework.transaction.support.TransactionSynchronizationManager;
 
-import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
-import java.util.List;
-import java.util.Optional;
-import java.util.stream.Collectors;
 
 @Slf4j
 @Service
@@ -36,12 +32,14 @@ import java.util.stream.Collectors;
 public class UserService {
 
     private final UserRepository userRepository;
-    private final UserPlanRepository userPlanRepository;
-    private final AssetRepository assetRepository;
-    private final NoteRepository noteRepository;
-    private final S3Service s3Service;
     private final RefreshTokenRepository refreshTokenRepository;
-    private final AccessTokenBlacklistService accessTokenBlacklistService;
+    private final StorageUsageSummaryService storageUsageSummaryService;
+    private final PlanResolver planResolver;
+    private final CreditService creditService;
+    private final AccountDeletionWorker accountDeletionWorker;
+    private final OutboxPublisher outboxPublisher;
+
+    private static final String AGGREGATE_USER = "user";
 
     /**
      * 내 프로필 조회
@@ -51,63 +49,55 @@ public class UserService {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.USER4041));
 
-        // 2. 구독 정보 조회
-        SubscriptionDto subscription = getSubscription(userId);
+        // 2. 구독 정보 조회 (활성 플랜이 없거나 만료되었으면 FREE)
+        ResolvedPlan plan = planResolver.resolve(userId);
+        SubscriptionDto subscription = getSubscription(plan);
 
-        // 3. 크레딧 정보 조회 (TODO: Credit 도메인 구현 후 연동)
-        CreditDto credit = getCreditInfo(userId);
+        // 3. 크레딧 정보 조회
+        CreditDto credit = getCreditInfo(userId, plan.planType());
 
         // 4. 스토리지 정보 조회
-        StorageDto storage = getStorageInfo(userId);
+        StorageDto storage = getStorageInfo(userId, plan.planType());
 
         return MyProfileResponse.from(user, subscription, credit, storage);
     }
 
-    private SubscriptionDto getSubscription(Long userId) {
-        return userPlanRepository.findActiveByUserId(userId)
-                .map(plan -> SubscriptionDto.builder()
-                        .plan(plan.getPlanType().getDisplayName())
-                        .startDate(formatDate(plan.getStartedAt()))
-                        .endDate(formatDate(plan.getExpiredAt()))
-                        .build())
-                .orElse(SubscriptionDto.builder()
-                        .plan(PlanType.FREE.getDisplayName())
-                        .startDate(null)
-                        .endDate(null)
-                        .build());
+    private SubscriptionDto getSubscription(ResolvedPlan plan) {
+        return SubscriptionDto.builder()
+                .plan(plan.planType().getDisplayName())
+                .startDate(formatDate(plan.startedAt()))
+                .endDate(formatDate(plan.expiredAt()))
+                .build();
     }
 
-    private CreditDto getCreditInfo(Long userId) {
-        // TODO: Credit 도메인 구현 후 실제 데이터로 교체
-        PlanType planType = userPlanRepository.findActivePlanTypeByUserId(userId)
-                .orElse(PlanType.FREE);
-        LocalDateTime tomorrow = LocalDate.now().plusDays(1).atStartOfDay();
+    private CreditDto getCreditInfo(Long userId, PlanType planType) {
+        CreditBalance balance = creditService.getBalance(userId, planType);
 
         DailyCreditDto dailyCredit = DailyCreditDto.builder()
-                .balance(100)
-                .limit(100)
-                .resetsAt(tomorrow.format(DateTimeFormatter.ISO_LOCAL_DATE_TIME))
+                .balance(balance.dailyBalance())
+                .limit(balance.dailyLimit())
+                .resetsAt(balance.dailyResetsAt().format(DateTimeFormatter.ISO_LOCAL_DATE_TIME))
                 .build();
 
         MonthlyCreditDto monthlyCredit = MonthlyCreditDto.builder()
-                .balance(planType.getMonthlyCreditLimit())
-                .limit(planType.getMonthlyCreditLimit())
+                .balance(balance.monthlyBalance())
+                .limit(balance.monthlyLimit())
                 .expiresAt(null)
                 .build();
 
         return CreditDto.builder()
                 .dailyCredit(dailyCredit)
                 .monthlyCredit(monthlyCredit)
-                .totalAvailable(dailyCredit.balance() + monthlyCredit.balance())
+                .totalAvailable(balance.totalAvailable())
                 .build();
     }
 
-    private StorageDto getStorageInfo(Long userId) {
-        Long usedBytes = assetRepository.sumFileSizeByUserId(userId);
-        double usedGb = usedBytes != null ? usedBytes / (1024.0 * 1024.0 * 1024.0) : 0.0;
-
-        PlanType planType = userPlanRepository.findActivePlanTypeByUserId(userId)
-                .orElse(PlanType.FREE);
+    private StorageDto getStorageInfo(Long userId, PlanType planType) {
+        // 사용자 스토리지 요약 (UPLOADED 상태만, PENDING/FAILED는 실제 S3에 저장되지 않음)
+        long usedBytes = storageUsageSummaryService.getUserSummary(userId)
+                .map(StorageUsageSummary::getUploadedBytes)
+                .orElse(0L);
+        double usedGb = usedBytes / (1024.0 * 1024.0 * 1024.0);
 
         double limitGb = planType.getStorageLimitGb();
 
@@ -129,38 +119,35 @@ public class UserService {
 
     /**
      * 회원 탈퇴
+     * 사용자를 즉시 탈퇴 처리(로그인/인증 차단)하고, 노트/대화/자산 등 데이터는 커밋 이후 백그라운드에서 삭제한다.
      */
     @Transactional
     public DeleteUserResponse deleteUser(Long userId, String accessToken) {
         // 1. 사용자 조회
         User user = userRepository.findById(userId)
+                .filter(found -> !found.isDeleted())
                 .orElseThrow(() -> new BusinessException(ErrorCode.USER4041));
 
-        // 2. 활성 구독 확인 (FREE가 아닌 플랜이 활성 상태면 탈퇴 불가)
-        Optional<UserPlan> activePlan = userPlanRepository.findActiveByUserId(userId);
-        if (activePlan.isPresent() && activePlan.get().getPlanType() != PlanType.FREE) {
+        // 2. 활성 구독 확인 (만료되지 않은 유료 플랜이 있으면 탈퇴 불가)
+        if (planResolver.resolvePlanType(userId) != PlanType.FREE) {
             throw new BusinessException(ErrorCode.USER4004);
         }
 
-        // 3. 사용자 관련 데이터 삭제
-        deleteUserData(userId);
+        // 3. 탈퇴 처리
+        user.markDeleted();
 
-        // 4. 사용자 삭제
-        userRepository.delete(user);
-
-        // 5. 토큰 무효화
+        // 4. 토큰 무효화 (Access Token 블랙리스트는 Redis 기반이므로 아웃박스에 기록해 커밋 후 등록)
         refreshTokenRepository.deleteByUserId(userId);
-        // Access Token 블랙리스트는 Redis 기반이므로 커밋 이후 실행
+        if (accessToken != null) {
+            outboxPublisher.append(AGGREGATE_USER, userId, TokenBlacklistOutboxHandler.EVENT_TYPE,
+                    new TokenBlacklistOutboxHandler.Payload(accessToken, userId));
+        }
+
+        // 5. 데이터 삭제는 커밋 이후 시작 (시작하지 못해도 AccountDeletionWorker 주기 작업이 다시 시작)
         TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
             @Override
             public void afterCommit() {
-                try {
-                    if (accessToken != null) {
-                        accessTokenBlacklistService.blacklist(accessToken, userId);
-                    }
-                } catch (Exception e) {
-                    log.warn("Access Token 블랙리스트 실패: userId={}", userId, e);
-                }
+                accountDeletionWorker.submit(userId);
             }
         });
 
@@ -170,36 +157,4 @@ public class UserService {
                 LocalDateTime.now().format(DateTimeFormatter.ISO_LOCAL_DATE_TIME)
         );
     }
-
-    private void deleteUserData(Long userId) {
-        // S3 키를 먼저 수집 (원본 + 썸네일)
-        List<String> s3Keys = new java.util.ArrayList<>();
-        assetRepository.findAllByUserId(userId).forEach(asset -> {
-            if (asset.getS3Key() != null) {
-                s3Keys.add(asset.getS3Key());
-            }
-            if (asset.getThumbnailS3Key() != null) {
-                s3Keys.add(asset.getThumbnailS3Key());
-            }
-        });
-
-        // DB 데이터 삭제
-        assetRepository.deleteAllByUserId(userId);
-        noteRepository.deleteAllByUserId(userId);
-        userPlanRepository.deleteAllByUserId(userId);
-
-        // 커밋 이후 S3 삭제 (best-effort)
-        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
-            @Override
-            public void afterCommit() {
-                s3Keys.forEach(key -> {
-                    try {
-                        s3Service.deleteFile(key);
-                    } catch (Exception e) {
-                        log.warn("S3 파일 삭제 실패: s3Key={}", key, e);
-                    }
-                });
-            }
-        });
-    }
 }
@@ -0,0 +1,21 @@
+package com.proovy.global.cache;
+
+import lombok.Builder;
+
+import java.time.Duration;
+
+/**
+ * 2단계 캐시 설정
+ * @param name         캐시 이름 (Redis 키 접두사, 무효화 채널, 측정값 태그로 사용)
+ * @param localTtl     노드 로컬(L1) 보관 시간 (다른 노드의 무효화를 놓쳤을 때의 최대 지연)
+ * @param localMaxSize 노드 로컬(L1) 최대 항목 수
+ * @param redisTtl     Redis(L2) 보관 시간
+ */
+@Builder
+public record CacheSpec(
+        String name,
+        Duration localTtl,
+        long localMaxSize,
+        Duration redisTtl
+) {
+}
@@ -0,0 +1,180 @@
+package com.proovy.global.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * 2단계 캐시 (노드 로컬 L1 → Redis L2 → 원본 조회)
+ * - 같은 노드에서 같은 키를 동시에 조회하면 원본 조회는 한 번만 실행하고 나머지는 그 결과를 기다린다. (스탬피드 방지)
+ * - 원본 조회는 호출 스레드에서 실행되므로 호출자의 트랜잭션/요청 컨텍스트를 그대로 사용한다.
+ * - 무효화는 Redis 키 삭제 후 채널로 전파해 모든 노드의 L1을 비우며, 전파를 놓친 노드는 localTtl 이내에 만료된다.
+ * - Redis 장애 시에는 L1과 원본 조회만으로 동작한다.
+ * - 원본 조회 결과가 null이면 캐시하지 않는다.
+ * TwoLevelCacheFactory로 생성한다.
+ */
+@Slf4j
+public class TwoLevelCache<K, V> implements MessageListener {
+
+    private static final String METRIC_REQUESTS = "proovy.cache.requests";
+    private static final String METRIC_LOAD = "proovy.cache.load";
+
+    private final CacheSpec spec;
+    private final Class<V> type;
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final AsyncCache<String, V> local;
+
+    // 이 노드에서 무효화가 일어날 때마다 증가 (조회 도중 무효화된 값은 저장하지 않음)
+    private final AtomicLong invalidations = new AtomicLong();
+
+    private final Counter localHits;
+    private final Counter redisHits;
+    private final Counter misses;
+    private final Timer loadTimer;
+
+    TwoLevelCache(CacheSpec spec, Class<V> type, StringRedisTemplate redisTemplate,
+                  ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        this.spec = spec;
+        this.type = type;
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.local = Caffeine.newBuilder()
+                .maximumSize(spec.localMaxSize())
+                .expireAfterWrite(spec.localTtl())
+                .buildAsync();
+
+        this.localHits = requests(meterRegistry, "l1_hit");
+        this.redisHits = requests(meterRegistry, "l2_hit");
+        this.misses = requests(meterRegistry, "miss");
+        this.loadTimer = Timer.builder(METRIC_LOAD)
+                .tag("cache", spec.name())
+                .register(meterRegistry);
+        Gauge.builder("proovy.cache.size", local, cache -> cache.synchronous().estimatedSize())
+                .tag("cache", spec.name())
+                .register(meterRegistry);
+    }
+
+    public String getName() {
+        return spec.name();
+    }
+
+    /**
+     * 캐시 조회 (없으면 loader로 원본 조회 후 저장)
+     */
+    public V get(K key, Function<K, V> loader) {
+        String localKey = String.valueOf(key);
+        CompletableFuture<V> loading = new CompletableFuture<>();
+        CompletableFuture<V> existing = local.asMap().putIfAbsent(localKey, loading);
+        if (existing != null) {
+            localHits.increment();
+            return join(existing);
+        }
+
+        long generation = invalidations.get();
+        try {
+            V value = readRedis(localKey);
+            if (value != null) {
+                redisHits.increment();
+            } else {
+                misses.increment();
+                value = loadTimer.record(() -> loader.apply(key));
+                if (value != null && generation == invalidations.get()) {
+                    writeRedis(localKey, value);
+                }
+            }
+            loading.complete(value); // null이면 L1에서 제거됨
+            if (generation != invalidations.get()) {
+                local.asMap().remove(localKey, loading);
+            }
+            return value;
+        } catch (RuntimeException e) {
+            local.asMap().remove(localKey, loading);
+            loading.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    /**
+     * 캐시 무효화 (모든 노드)
+     */
+    public void evict(K key) {
+        String localKey = String.valueOf(key);
+        evictLocal(localKey);
+        try {
+            redisTemplate.delete(redisKey(localKey));
+            redisTemplate.convertAndSend(channel(), localKey);
+        } catch (Exception e) {
+            // 다른 노드의 L1은 localTtl 이내에 만료된다
+            log.warn("[Cache] 캐시 무효화 실패 - cache: {}, key: {}, error: {}", spec.name(), localKey, e.getMessage());
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        evictLocal(new String(message.getBody(), StandardCharsets.UTF_8));
+    }
+
+    String channel() {
+        return "cache-invalidation:" + spec.name();
+    }
+
+    private void evictLocal(String localKey) {
+        invalidations.incrementAndGet();
+        local.synchronous().invalidate(localKey);
+    }
+
+    private V readRedis(String localKey) {
+        try {
+            String cached = redisTemplate.opsForValue().get(redisKey(localKey));
+            return cached != null ? objectMapper.readValue(cached, type) : null;
+        } catch (Exception e) {
+            log.warn("[Cache] 캐시 조회 실패 - cache: {}, key: {}, error: {}", spec.name(), localKey, e.getMessage());
+            return null;
+        }
+    }
+
+    private void writeRedis(String localKey, V value) {
+        try {
+            redisTemplate.opsForValue().set(redisKey(localKey), objectMapper.writeValueAsString(value), spec.redisTtl());
+        } catch (Exception e) {
+            log.warn("[Cache] 캐시 저장 실패 - cache: {}, key: {}, error: {}", spec.name(), localKey, e.getMessage());
+        }
+    }
+
+    private String redisKey(String localKey) {
+        return spec.name() + ":" + localKey;
+    }
+
+    private Counter requests(MeterRegistry meterRegistry, String result) {
+        return Counter.builder(METRIC_REQUESTS)
+                .tag("cache", spec.name())
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    private static <V> V join(CompletableFuture<V> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+}
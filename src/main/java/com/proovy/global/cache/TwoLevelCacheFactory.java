@@ -0,0 +1,37 @@
+package com.proovy.global.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+/**
+ * 2단계 캐시 생성 (무효화 채널 구독 포함)
+ * 캐시는 서비스 초기화 시(@PostConstruct) 한 번 생성해 필드로 보관한다.
+ * <pre>
+ * cache = cacheFactory.create(CacheSpec.builder()
+ *         .name("plan").localTtl(Duration.ofSeconds(30)).localMaxSize(10_000).redisTtl(Duration.ofMinutes(10))
+ *         .build(), ResolvedPlan.class);
+ * </pre>
+ */
+@Component
+@RequiredArgsConstructor
+public class TwoLevelCacheFactory {
+
+    private final StringRedisTemplate redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * @param type L2(Redis)에 JSON으로 저장할 값 타입
+     */
+    public <K, V> TwoLevelCache<K, V> create(CacheSpec spec, Class<V> type) {
+        TwoLevelCache<K, V> cache = new TwoLevelCache<>(spec, type, redisTemplate, objectMapper, meterRegistry);
+        listenerContainer.addMessageListener(cache, new ChannelTopic(cache.channel()));
+        return cache;
+    }
+}
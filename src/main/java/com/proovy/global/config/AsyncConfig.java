@@ -0,0 +1,45 @@
+package com.proovy.global.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@Configuration
+@EnableAsync
+public class AsyncConfig {
+
+    /**
+     * 자산 일괄 삭제 작업 실행용 (작업 1개 = 스레드 1개)
+     */
+    @Bean
+    public ThreadPoolTaskExecutor bulkDeleteExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(2);
+        executor.setMaxPoolSize(4);
+        executor.setQueueCapacity(100);
+        executor.setThreadNamePrefix("bulk-delete-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * 아웃박스 이벤트 전달용 (처리 루프 1개 + 이벤트 종류별 병렬 처리)
+     * 종료 시 처리 중이던 이벤트는 임대 만료 후 다른 인스턴스가 다시 처리한다.
+     */
+    @Bean
+    public ThreadPoolTaskExecutor outboxRelayExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        // 이벤트 종류별 동시 처리 한도 합 + 처리 루프 1개보다 크게 잡아, 처리 중인 이벤트마다 스레드가 바로 배정되도록 함
+        executor.setCorePoolSize(40);
+        executor.setMaxPoolSize(40);
+        executor.setQueueCapacity(100);
+        executor.setThreadNamePrefix("outbox-relay-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        executor.initialize();
+        return executor;
+    }
+}
@@ -0,0 +1,82 @@
+package com.proovy.global.config;
+
+import com.proovy.global.datasource.RecentWriteTracker;
+import com.proovy.global.datasource.ReplicaRoutingDataSource;
+import com.proovy.global.datasource.WriteTrackingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 읽기 전용 트랜잭션의 복제본 라우팅 (proovy.datasource.replica-urls가 있을 때만, 없으면 기본 DataSource 사용)
+ * 실제 연결은 첫 SQL 실행 시점에 가져오므로(LazyConnectionDataSourceProxy) 트랜잭션의 readOnly 여부로 대상을 고른다.
+ * - @Transactional(readOnly = true), 트랜잭션 밖의 리포지토리 조회 → 복제본 (최근 쓰기 사용자, PrimaryReads 범위는 주 DB)
+ * - 그 외 트랜잭션 → 주 DB
+ * 모든 풀은 spring.datasource.hikari 설정을 공유하며, 풀 이름(primary, replica-N)별로 hikaricp.* 측정값을 노출한다.
+ */
+@Slf4j
+@Configuration
+@ConditionalOnExpression("!'${proovy.datasource.replica-urls:}'.isBlank()")
+public class DataSourceConfig {
+
+    @Value("${proovy.datasource.replica-urls}")
+    private List<String> replicaUrls;
+
+    private final List<HikariDataSource> pools = new ArrayList<>();
+
+    @Bean
+    public DataSource dataSource(DataSourceProperties properties, Environment environment,
+                                 RecentWriteTracker recentWriteTracker, MeterRegistry meterRegistry) {
+        HikariDataSource primary = pool(properties, environment, meterRegistry, properties.getUrl(), "primary", false);
+
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+        for (int i = 0; i < replicaUrls.size(); i++) {
+            String name = "replica-" + (i + 1);
+            replicas.put(name, pool(properties, environment, meterRegistry, replicaUrls.get(i).trim(), name, true));
+        }
+
+        LazyConnectionDataSourceProxy dataSource =
+                new LazyConnectionDataSourceProxy(new WriteTrackingDataSource(primary, recentWriteTracker));
+        dataSource.setReadOnlyDataSource(
+                new ReplicaRoutingDataSource(primary, replicas, recentWriteTracker, meterRegistry));
+
+        log.info("[DB] 읽기 전용 트랜잭션 복제본 라우팅 사용 - replicas: {}", replicas.size());
+        return dataSource;
+    }
+
+    @PreDestroy
+    void closePools() {
+        pools.forEach(HikariDataSource::close);
+    }
+
+    private HikariDataSource pool(DataSourceProperties properties, Environment environment, MeterRegistry meterRegistry,
+                                  String url, String poolName, boolean readOnly) {
+        HikariDataSource pool = properties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .url(url)
+                .build();
+        Binder.get(environment).bind("spring.datasource.hikari", Bindable.ofInstance(pool));
+        pool.setPoolName(poolName);
+        pool.setReadOnly(readOnly);
+        pool.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+        pools.add(pool);
+        return pool;
+    }
+}
@@ -0,0 +1,50 @@
+package com.proovy.global.config;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 시퀀스 기반 ID 엔티티의 시퀀스 값 보정
+ * IDENTITY에서 전환된 테이블은 기존 행이 있는 상태에서 시퀀스가 1부터 생성되므로,
+ * 시퀀스가 현재 최대 ID보다 뒤처져 있으면 최대 ID로 맞춘다. (앞으로만 이동하므로 매 기동 시 실행해도 안전)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class IdSequenceInitializer implements ApplicationRunner {
+
+    private record SequenceTarget(String sequence, String table, String idColumn) {
+    }
+
+    private static final List<SequenceTarget> TARGETS = List.of(
+            new SequenceTarget("notes_seq", "notes", "note_id"),
+            new SequenceTarget("conversations_seq", "conversations", "conversation_id"),
+            new SequenceTarget("messages_seq", "messages", "message_id"),
+            new SequenceTarget("message_assets_seq", "message_assets", "id"),
+            new SequenceTarget("message_tools_seq", "message_tools", "id")
+    );
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        for (SequenceTarget target : TARGETS) {
+            try {
+                jdbcTemplate.queryForList(
+                        "SELECT setval('" + target.sequence() + "', m.max_id) " +
+                        "FROM (SELECT MAX(" + target.idColumn() + ") AS max_id FROM " + target.table() + ") m " +
+                        "WHERE m.max_id >= (SELECT last_value FROM " + target.sequence() + ")");
+            } catch (Exception e) {
+                // 보정에 실패하면 신규 ID가 기존 ID와 충돌할 수 있다 (DBA가 수동 보정 필요)
+                log.error("[DB] ID 시퀀스 보정 실패 - sequence: {}, error: {}", target.sequence(), e.getMessage());
+            }
+        }
+        log.info("[DB] ID 시퀀스 확인 완료");
+    }
+}
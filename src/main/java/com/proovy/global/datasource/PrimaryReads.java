@@ -0,0 +1,34 @@
+package com.proovy.global.datasource;
+
+import java.util.function.Supplier;
+
+/**
+ * 읽기 전용 트랜잭션을 주 DB로 고정하는 범위
+ * 복제 지연 때문에 방금 쓴 데이터가 복제본에 없을 수 있는 조회에 사용한다.
+ * 새 트랜잭션(또는 트랜잭션 밖의 리포지토리 호출)에만 적용되며, 이미 시작된 트랜잭션의 연결은 바꾸지 않는다.
+ */
+public final class PrimaryReads {
+
+    private static final ThreadLocal<Boolean> FORCED = new ThreadLocal<>();
+
+    private PrimaryReads() {
+    }
+
+    public static <T> T call(Supplier<T> work) {
+        Boolean previous = FORCED.get();
+        FORCED.set(Boolean.TRUE);
+        try {
+            return work.get();
+        } finally {
+            if (previous == null) {
+                FORCED.remove();
+            } else {
+                FORCED.set(previous);
+            }
+        }
+    }
+
+    static boolean isForced() {
+        return Boolean.TRUE.equals(FORCED.get());
+    }
+}
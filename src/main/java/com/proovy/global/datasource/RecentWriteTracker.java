@@ -0,0 +1,102 @@
+package com.proovy.global.datasource;
+
+import com.proovy.global.security.UserPrincipal;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.time.Duration;
+
+/**
+ * 사용자별 최근 쓰기 기록 (read-your-writes)
+ * 주 DB에 쓴 사용자는 일정 시간(read-your-writes-window) 동안 읽기 전용 트랜잭션도 주 DB에서 조회한다.
+ * 다음 요청이 다른 인스턴스로 갈 수 있으므로 기록은 Redis에 두고, 요청당 한 번만 조회/기록한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RecentWriteTracker {
+
+    private static final String KEY_PREFIX = "recent-write:";
+    private static final String RECENT_ATTRIBUTE = RecentWriteTracker.class.getName() + ".RECENT";
+    private static final String MARKED_ATTRIBUTE = RecentWriteTracker.class.getName() + ".MARKED";
+
+    private final StringRedisTemplate redisTemplate;
+
+    @Value("${proovy.datasource.read-your-writes-window:5s}")
+    private Duration window;
+
+    /**
+     * 사용자의 쓰기 기록 (인증 전 요청에서 사용자를 만든 경우 등 직접 호출)
+     */
+    public void markWrite(Long userId) {
+        setRequestAttribute(RECENT_ATTRIBUTE, Boolean.TRUE);
+        try {
+            redisTemplate.opsForValue().set(KEY_PREFIX + userId, "1", window);
+        } catch (Exception e) {
+            log.warn("[DB] 최근 쓰기 기록 실패 - userId: {}, error: {}", userId, e.getMessage());
+        }
+    }
+
+    /**
+     * 현재 인증된 사용자의 쓰기 기록 (주 DB 연결을 사용할 때 호출, 요청당 한 번)
+     */
+    void markCurrentUserWrite() {
+        Long userId = currentUserId();
+        if (userId == null || getRequestAttribute(MARKED_ATTRIBUTE) != null) {
+            return;
+        }
+        setRequestAttribute(MARKED_ATTRIBUTE, Boolean.TRUE);
+        markWrite(userId);
+    }
+
+    /**
+     * 현재 사용자가 최근에 쓴 적이 있는지 (Redis 장애 시 주 DB로 보내도록 true)
+     */
+    boolean hasCurrentUserWrittenRecently() {
+        Long userId = currentUserId();
+        if (userId == null) {
+            return false;
+        }
+        Object cached = getRequestAttribute(RECENT_ATTRIBUTE);
+        if (cached != null) {
+            return (Boolean) cached;
+        }
+
+        boolean recent;
+        try {
+            recent = Boolean.TRUE.equals(redisTemplate.hasKey(KEY_PREFIX + userId));
+        } catch (Exception e) {
+            log.warn("[DB] 최근 쓰기 조회 실패, 주 DB 사용 - userId: {}, error: {}", userId, e.getMessage());
+            recent = true;
+        }
+        setRequestAttribute(RECENT_ATTRIBUTE, recent);
+        return recent;
+    }
+
+    private Long currentUserId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof UserPrincipal principal) {
+            return principal.getUser().getId();
+        }
+        return null;
+    }
+
+    private Object getRequestAttribute(String name) {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        return attributes != null ? attributes.getAttribute(name, RequestAttributes.SCOPE_REQUEST) : null;
+    }
+
+    private void setRequestAttribute(String name, Object value) {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes != null) {
+            attributes.setAttribute(name, value, RequestAttributes.SCOPE_REQUEST);
+        }
+    }
+}
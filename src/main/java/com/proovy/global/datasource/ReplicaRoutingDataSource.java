@@ -0,0 +1,58 @@
+package com.proovy.global.datasource;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+import javax.sql.DataSource;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 읽기 전용 트랜잭션의 연결 대상 선택 (복제본 라운드 로빈, 최근 쓰기/강제 시 주 DB)
+ * LazyConnectionDataSourceProxy의 readOnlyDataSource로 사용된다.
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    private static final String PRIMARY = "primary";
+
+    private final List<String> replicaKeys;
+    private final RecentWriteTracker recentWriteTracker;
+    private final AtomicInteger next = new AtomicInteger();
+
+    private final Counter replicaRoutes;
+    private final Counter primaryFallbacks;
+
+    public ReplicaRoutingDataSource(DataSource primary, Map<String, DataSource> replicas,
+                                    RecentWriteTracker recentWriteTracker, MeterRegistry meterRegistry) {
+        this.replicaKeys = List.copyOf(replicas.keySet());
+        this.recentWriteTracker = recentWriteTracker;
+
+        Map<Object, Object> targets = new HashMap<>(replicas);
+        targets.put(PRIMARY, primary);
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+        afterPropertiesSet();
+
+        this.replicaRoutes = routes(meterRegistry, "replica");
+        this.primaryFallbacks = routes(meterRegistry, "primary");
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (PrimaryReads.isForced() || recentWriteTracker.hasCurrentUserWrittenRecently()) {
+            primaryFallbacks.increment();
+            return PRIMARY;
+        }
+        replicaRoutes.increment();
+        return replicaKeys.get(Math.floorMod(next.getAndIncrement(), replicaKeys.size()));
+    }
+
+    private static Counter routes(MeterRegistry meterRegistry, String target) {
+        return Counter.builder("proovy.datasource.read.routes")
+                .tag("target", target)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,26 @@
+package com.proovy.global.datasource;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * 읽기/쓰기 트랜잭션의 주 DB 연결 (연결을 사용하면 현재 사용자의 최근 쓰기로 기록)
+ */
+public class WriteTrackingDataSource extends DelegatingDataSource {
+
+    private final RecentWriteTracker recentWriteTracker;
+
+    public WriteTrackingDataSource(DataSource primary, RecentWriteTracker recentWriteTracker) {
+        super(primary);
+        this.recentWriteTracker = recentWriteTracker;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        recentWriteTracker.markCurrentUserWrite();
+        return super.getConnection();
+    }
+}
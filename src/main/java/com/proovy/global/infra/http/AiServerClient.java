@@ -0,0 +1,96 @@
+package com.proovy.global.infra.http;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.netty.http.client.HttpClientRequest;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * AI 서버 호출 클라이언트
+ */
+@Component
+@RequiredArgsConstructor
+public class AiServerClient {
+
+    // 응답 읽기 사이 최대 대기 시간 (첫 토큰 생성 시간 포함, 기본 WebClient의 10초보다 길게)
+    private static final Duration STREAM_READ_TIMEOUT = Duration.ofSeconds(60);
+
+    private static final Duration TITLE_TIMEOUT = Duration.ofSeconds(10);
+
+    private static final ParameterizedTypeReference<ServerSentEvent<String>> SSE_TYPE =
+            new ParameterizedTypeReference<>() {
+            };
+
+    private final WebClient webClient;
+
+    @Value("${proovy.ai.server-url:http://localhost:8081}")
+    private String aiServerUrl;
+
+    /**
+     * @param partialContent 이전 스트리밍에서 저장된 응답 (있으면 AI 서버가 이어서 생성)
+     * @param context 이전 대화 + 멘션된 자산 OCR 텍스트 (오래된 순, 토큰 예산 이내)
+     */
+    public record ChatStreamRequest(Long messageId, Long conversationId, String prompt, String partialContent,
+                                    List<ContextTurn> context) {
+    }
+
+    /**
+     * @param role USER, ASSISTANT, ASSET
+     */
+    public record ContextTurn(String role, String content) {
+    }
+
+    public record TitleRequest(Long noteId, String firstMessage) {
+    }
+
+    public record TitleResult(Long noteId, String title) {
+    }
+
+    private record TitleBatchRequest(List<TitleRequest> items) {
+    }
+
+    private record TitleBatchResponse(List<TitleResult> titles) {
+    }
+
+    /**
+     * 어시스턴트 응답 스트리밍 요청
+     * AI 서버의 text/event-stream 응답에서 data 조각만 순서대로 전달한다.
+     * 구독자가 요청한 만큼만 읽으므로 클라이언트가 느리면 AI 서버 연결의 읽기도 함께 멈춘다.
+     */
+    public Flux<String> streamChat(ChatStreamRequest request) {
+        return webClient.post()
+                .uri(aiServerUrl + "/api/chat/stream")
+                .accept(MediaType.TEXT_EVENT_STREAM)
+                .bodyValue(request)
+                .httpRequest(httpRequest -> {
+                    HttpClientRequest reactorRequest = httpRequest.getNativeRequest();
+                    reactorRequest.responseTimeout(STREAM_READ_TIMEOUT);
+                })
+                .retrieve()
+                .bodyToFlux(SSE_TYPE)
+                .mapNotNull(ServerSentEvent::data);
+    }
+
+    /**
+     * 노트 제목 일괄 생성 요청 (여러 노트를 한 번의 호출로 처리)
+     * @return 생성된 제목 (생성하지 못한 노트는 포함되지 않을 수 있음)
+     */
+    public Mono<List<TitleResult>> generateTitles(List<TitleRequest> requests) {
+        return webClient.post()
+                .uri(aiServerUrl + "/api/notes/titles")
+                .bodyValue(new TitleBatchRequest(requests))
+                .retrieve()
+                .bodyToMono(TitleBatchResponse.class)
+                .timeout(TITLE_TIMEOUT)
+                .map(response -> response.titles() != null ? response.titles() : List.<TitleResult>of());
+    }
+}
@@ -0,0 +1,46 @@
+package com.proovy.global.infra.s3;
+
+import com.proovy.global.outbox.OutboxHandler;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 아웃박스 S3 객체 삭제 (DB에서 자산/공유 객체 참조를 지운 트랜잭션에 함께 기록)
+ * 이미 없는 객체의 삭제도 성공으로 처리되므로 재시도해도 안전하다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class S3DeleteOutboxHandler implements OutboxHandler<S3DeleteOutboxHandler.Payload> {
+
+    public static final String EVENT_TYPE = "s3.delete";
+
+    private final S3Service s3Service;
+
+    public record Payload(List<String> s3Keys) {
+    }
+
+    @Override
+    public String eventType() {
+        return EVENT_TYPE;
+    }
+
+    @Override
+    public Class<Payload> payloadType() {
+        return Payload.class;
+    }
+
+    @Override
+    public void handle(Payload payload) {
+        s3Service.deleteFiles(payload.s3Keys());
+        log.info("[Storage] S3 파일 삭제 완료 - count: {}", payload.s3Keys().size());
+    }
+
+    @Override
+    public void onGiveUp(Payload payload) {
+        log.error("[Storage] S3 파일 삭제 포기, 수동 정리 필요 - s3Keys: {}", payload.s3Keys());
+    }
+}
@@ -27,6 +27,13 @@ public interface S3Service {
      */
     String uploadFile(String s3Key, InputStream inputStream, long contentLength, String contentType);
 
+    /**
+     * 파일 다운로드 스트림 열기 (호출자가 close 책임)
+     * @param s3Key S3 저장 경로
+     * @return 파일 내용 스트림
+     */
+    InputStream openFile(String s3Key);
+
     /**
      * 파일 URL 생성
      * @param s3Key S3 저장 경로
@@ -57,6 +64,25 @@ public interface S3Service {
      */
     String generatePresignedUploadUrl(String s3Key, String contentType, int durationMinutes);
 
+    /**
+     * 체크섬 검증이 포함된 파일 업로드용 Presigned URL 생성
+     * 클라이언트는 x-amz-checksum-sha256 헤더를 함께 전송해야 하며,
+     * S3는 내용이 체크섬과 다르면 업로드를 거부한다.
+     * @param s3Key S3 저장 경로
+     * @param contentType 파일 타입
+     * @param checksumSha256 콘텐츠 SHA-256 (hex)
+     * @param durationMinutes URL 유효 시간 (분)
+     * @return Presigned URL
+     */
+    String generatePresignedUploadUrl(String s3Key, String contentType, String checksumSha256, int durationMinutes);
+
+    /**
+     * S3에 저장된 파일의 SHA-256 체크섬 조회
+     * @param s3Key S3 저장 경로
+     * @return SHA-256 (hex, 소문자), 체크섬 없이 업로드된 경우 null
+     */
+    String getChecksumSha256(String s3Key);
+
     /**
      * 파일 다운로드용 Presigned URL 생성
      * @param s3Key S3 저장 경로
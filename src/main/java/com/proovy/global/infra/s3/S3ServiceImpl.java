@@ -1,7 +1,10 @@
 package com.proovy.global.infra.s3;
 
 import com.proovy.global.exception.BusinessException;
+import com.proovy.global.metrics.OperationMetrics;
+import com.proovy.global.metrics.RequestBudget;
 import com.proovy.global.response.ErrorCode;
+import io.micrometer.core.instrument.Tags;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
@@ -20,7 +23,10 @@ import java.time.Duration;
 import java.io.InputStream;
 import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.HexFormat;
 import java.util.List;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -28,8 +34,11 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class S3ServiceImpl implements S3Service {
 
+    private static final String METRIC_NAME = "proovy.s3.requests";
+
     private final S3Client s3Client;
     private final S3Presigner s3Presigner;
+    private final OperationMetrics operationMetrics;
 
     @Value("${aws.s3.bucket}")
     private String bucketName;
@@ -47,7 +56,7 @@ public class S3ServiceImpl implements S3Service {
                     .key(s3Key)
                     .build();
 
-            s3Client.deleteObject(request);
+            timed("delete", () -> s3Client.deleteObject(request));
             log.info("[S3] 파일 삭제 성공: {}", s3Key);
 
         } catch (S3Exception e) {
@@ -90,7 +99,7 @@ public class S3ServiceImpl implements S3Service {
                     .delete(delete)
                     .build();
 
-            DeleteObjectsResponse response = s3Client.deleteObjects(request);
+            DeleteObjectsResponse response = timed("delete_batch", () -> s3Client.deleteObjects(request));
 
             if (response.hasDeleted()) {
                 log.info("[S3] 파일 일괄 삭제 성공: {} 개", response.deleted().size());
@@ -128,7 +137,7 @@ public class S3ServiceImpl implements S3Service {
                     .contentLength(contentLength)
                     .build();
 
-            s3Client.putObject(request, RequestBody.fromInputStream(inputStream, contentLength));
+            timed("upload", () -> s3Client.putObject(request, RequestBody.fromInputStream(inputStream, contentLength)));
             log.info("[S3] 파일 업로드 성공: {}", s3Key);
 
             return getFileUrl(s3Key);
@@ -144,6 +153,29 @@ public class S3ServiceImpl implements S3Service {
         }
     }
 
+    /**
+     * 파일 다운로드 스트림 열기
+     */
+    @Override
+    public InputStream openFile(String s3Key) {
+        if (s3Key == null || s3Key.isBlank()) {
+            throw new BusinessException(ErrorCode.COMMON400);
+        }
+
+        try {
+            GetObjectRequest request = GetObjectRequest.builder()
+                    .bucket(bucketName)
+                    .key(s3Key)
+                    .build();
+
+            return timed("download", () -> s3Client.getObject(request));
+
+        } catch (S3Exception e) {
+            log.error("[S3] 파일 다운로드 실패: {}, message={}", s3Key, e.getMessage(), e);
+            throw new BusinessException(ErrorCode.COMMON500);
+        }
+    }
+
     /**
      * 파일 URL 생성
      */
@@ -181,7 +213,7 @@ public class S3ServiceImpl implements S3Service {
                     .key(s3Key)
                     .build();
 
-            s3Client.headObject(request);
+            timed("head", () -> s3Client.headObject(request));
             return true;
 
         } catch (S3Exception e) {
@@ -197,23 +229,37 @@ public class S3ServiceImpl implements S3Service {
      */
     @Override
     public String generatePresignedUploadUrl(String s3Key, String contentType, int durationMinutes) {
+        return generatePresignedUploadUrl(s3Key, contentType, null, durationMinutes);
+    }
+
+    /**
+     * 체크섬 검증이 포함된 파일 업로드용 Presigned URL 생성
+     */
+    @Override
+    public String generatePresignedUploadUrl(String s3Key, String contentType, String checksumSha256, int durationMinutes) {
         if (s3Key == null || s3Key.isBlank()) {
             throw new BusinessException(ErrorCode.COMMON400);
         }
 
         try {
-            PutObjectRequest putObjectRequest = PutObjectRequest.builder()
+            PutObjectRequest.Builder putObjectBuilder = PutObjectRequest.builder()
                     .bucket(bucketName)
                     .key(s3Key)
-                    .contentType(contentType)
-                    .build();
+                    .contentType(contentType);
+
+            if (checksumSha256 != null) {
+                putObjectBuilder.checksumSHA256(hexToBase64(checksumSha256));
+            }
+
+            PutObjectRequest putObjectRequest = putObjectBuilder.build();
 
             PutObjectPresignRequest presignRequest = PutObjectPresignRequest.builder()
                     .signatureDuration(Duration.ofMinutes(durationMinutes))
                     .putObjectRequest(putObjectRequest)
                     .build();
 
-            PresignedPutObjectRequest presignedRequest = s3Presigner.presignPutObject(presignRequest);
+            PresignedPutObjectRequest presignedRequest = timed("presign_upload",
+                    () -> s3Presigner.presignPutObject(presignRequest));
             String presignedUrl = presignedRequest.url().toString();
 
             log.info("[S3] Presigned URL 생성 성공: {}", s3Key);
@@ -230,6 +276,45 @@ public class S3ServiceImpl implements S3Service {
         }
     }
 
+    /**
+     * S3에 저장된 파일의 SHA-256 체크섬 조회
+     */
+    @Override
+    public String getChecksumSha256(String s3Key) {
+        if (s3Key == null || s3Key.isBlank()) return null;
+
+        try {
+            HeadObjectRequest request = HeadObjectRequest.builder()
+                    .bucket(bucketName)
+                    .key(s3Key)
+                    .checksumMode(ChecksumMode.ENABLED)
+                    .build();
+
+            String checksum = timed("checksum", () -> s3Client.headObject(request)).checksumSHA256();
+            return checksum != null ? base64ToHex(checksum) : null;
+
+        } catch (S3Exception e) {
+            log.error("[S3] 체크섬 조회 실패: {}, message={}", s3Key, e.getMessage(), e);
+            throw new BusinessException(ErrorCode.COMMON500);
+        }
+    }
+
+    /**
+     * S3 호출 소요 시간 측정 (operation, outcome 태그)
+     */
+    private <T> T timed(String operation, Supplier<T> call) {
+        RequestBudget.recordS3Call();
+        return operationMetrics.record(METRIC_NAME, Tags.of("operation", operation), call);
+    }
+
+    private String hexToBase64(String hex) {
+        return Base64.getEncoder().encodeToString(HexFormat.of().parseHex(hex));
+    }
+
+    private String base64ToHex(String base64) {
+        return HexFormat.of().formatHex(Base64.getDecoder().decode(base64));
+    }
+
     /**
      * 파일 다운로드용 Presigned URL 생성
      */
@@ -255,7 +340,8 @@ public class S3ServiceImpl implements S3Service {
                     .getObjectRequest(getObjectRequest)
                     .build();
 
-            PresignedGetObjectRequest presignedRequest = s3Presigner.presignGetObject(presignRequest);
+            PresignedGetObjectRequest presignedRequest = timed("presign_download",
+                    () -> s3Presigner.presignGetObject(presignRequest));
             String presignedUrl = presignedRequest.url().toString();
 
             log.debug("[S3] 다운로드 Presigned URL 생성 성공: {}", s3Key);
@@ -0,0 +1,87 @@
+package com.proovy.global.metrics;
+
+import com.proovy.global.exception.BusinessException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.function.Supplier;
+
+/**
+ * 작업 소요 시간 측정 (Micrometer Timer)
+ * 모든 측정값에 outcome 태그를 붙인다. (success / BusinessException 에러 코드 / error / rollback)
+ * 측정값 이름은 "proovy."로 시작하며, 히스토그램 설정은 application.yaml의 management.metrics를 따른다.
+ */
+@Component
+@RequiredArgsConstructor
+public class OperationMetrics {
+
+    public static final String OUTCOME_SUCCESS = "success";
+    public static final String OUTCOME_ERROR = "error";
+    private static final String OUTCOME_ROLLBACK = "rollback";
+
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * 호출 소요 시간 측정 (외부 호출 등 트랜잭션과 무관한 작업)
+     */
+    public <T> T record(String name, Tags tags, Supplier<T> call) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        try {
+            T result = call.get();
+            sample.stop(timer(name, tags, OUTCOME_SUCCESS));
+            return result;
+        } catch (RuntimeException e) {
+            sample.stop(timer(name, tags, outcome(e)));
+            throw e;
+        }
+    }
+
+    public void record(String name, Tags tags, Runnable call) {
+        record(name, tags, () -> {
+            call.run();
+            return null;
+        });
+    }
+
+    /**
+     * 서비스 작업 소요 시간 측정 (트랜잭션 안에서 호출되면 커밋/롤백까지 포함)
+     */
+    public <T> T recordThroughCommit(String name, Tags tags, Supplier<T> call) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        T result;
+        try {
+            result = call.get();
+        } catch (RuntimeException e) {
+            sample.stop(timer(name, tags, outcome(e)));
+            throw e;
+        }
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            sample.stop(timer(name, tags, OUTCOME_SUCCESS));
+            return result;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                sample.stop(timer(name, tags, status == STATUS_COMMITTED ? OUTCOME_SUCCESS : OUTCOME_ROLLBACK));
+            }
+        });
+        return result;
+    }
+
+    public Timer timer(String name, Tags tags, String outcome) {
+        return meterRegistry.timer(name, tags.and("outcome", outcome));
+    }
+
+    /**
+     * 예외의 outcome 태그 값 (비즈니스 예외는 에러 코드, 그 외는 error)
+     */
+    public static String outcome(Throwable e) {
+        return e instanceof BusinessException be ? be.getErrorCode().getCode() : OUTCOME_ERROR;
+    }
+}
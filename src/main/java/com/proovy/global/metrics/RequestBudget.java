@@ -0,0 +1,78 @@
+package com.proovy.global.metrics;
+
+import java.util.Locale;
+
+/**
+ * 요청 단위 리소스 사용량 (SQL 실행 수, JDBC 실행 시간, Redis/S3 호출 수)
+ * 요청 스레드에 묶여 있으므로 요청 밖(스케줄러, 비동기 작업)의 호출은 집계되지 않는다.
+ * RequestBudgetFilter가 요청 시작/종료 시 열고 닫는다.
+ */
+public final class RequestBudget {
+
+    public static final String HEADER = "X-Request-Budget";
+
+    private static final ThreadLocal<RequestBudget> CURRENT = new ThreadLocal<>();
+
+    private int sqlStatements;
+    private long jdbcNanos;
+    private int redisCalls;
+    private int s3Calls;
+
+    private RequestBudget() {
+    }
+
+    public static RequestBudget begin() {
+        RequestBudget budget = new RequestBudget();
+        CURRENT.set(budget);
+        return budget;
+    }
+
+    /**
+     * 현재 스레드의 사용량 (요청 밖이면 null)
+     */
+    public static RequestBudget current() {
+        return CURRENT.get();
+    }
+
+    public static void end() {
+        CURRENT.remove();
+    }
+
+    /**
+     * SQL 실행 기록 (배치 실행은 1회로 기록)
+     */
+    public static void recordStatement(long elapsedNanos) {
+        RequestBudget budget = CURRENT.get();
+        if (budget != null) {
+            budget.sqlStatements++;
+            budget.jdbcNanos += elapsedNanos;
+        }
+    }
+
+    public static void recordRedisCall() {
+        RequestBudget budget = CURRENT.get();
+        if (budget != null) {
+            budget.redisCalls++;
+        }
+    }
+
+    public static void recordS3Call() {
+        RequestBudget budget = CURRENT.get();
+        if (budget != null) {
+            budget.s3Calls++;
+        }
+    }
+
+    public int getSqlStatements() { return sqlStatements; }
+    public long getJdbcNanos() { return jdbcNanos; }
+    public int getRedisCalls() { return redisCalls; }
+    public int getS3Calls() { return s3Calls; }
+
+    /**
+     * 응답 헤더 값 (예: sql=3; jdbc=1.52ms; redis=2; s3=0)
+     */
+    public String toHeaderValue() {
+        return String.format(Locale.ROOT, "sql=%d; jdbc=%.2fms; redis=%d; s3=%d",
+                sqlStatements, jdbcNanos / 1_000_000.0, redisCalls, s3Calls);
+    }
+}
@@ -0,0 +1,69 @@
+package com.proovy.global.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청 단위 리소스 사용량 집계
+ * 요청이 끝나면 URI 패턴별 측정값(proovy.request.*)으로 기록하고, 기준을 넘은 요청은 경고 로그를 남긴다.
+ * SSE처럼 비동기로 이어지는 요청은 최초 요청 스레드에서 실행된 부분만 집계된다.
+ */
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@RequiredArgsConstructor
+public class RequestBudgetFilter extends OncePerRequestFilter {
+
+    private static final int WARN_SQL_STATEMENTS = 20;
+    private static final String UNKNOWN_URI = "UNKNOWN";
+
+    private final MeterRegistry meterRegistry;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        RequestBudget budget = RequestBudget.begin();
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            RequestBudget.end();
+            record(request, budget);
+        }
+    }
+
+    private void record(HttpServletRequest request, RequestBudget budget) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String uri = pattern != null ? pattern.toString() : UNKNOWN_URI;
+        Tags tags = Tags.of("method", request.getMethod(), "uri", uri);
+
+        summary("proovy.request.sql.statements", tags).record(budget.getSqlStatements());
+        summary("proovy.request.redis.calls", tags).record(budget.getRedisCalls());
+        summary("proovy.request.s3.calls", tags).record(budget.getS3Calls());
+        meterRegistry.timer("proovy.request.jdbc", tags).record(budget.getJdbcNanos(), TimeUnit.NANOSECONDS);
+
+        if (budget.getSqlStatements() > WARN_SQL_STATEMENTS) {
+            log.warn("[DB] 요청당 SQL 실행 수 기준 초과 - {} {}, {}", request.getMethod(), uri, budget.toHeaderValue());
+        }
+    }
+
+    private DistributionSummary summary(String name, Tags tags) {
+        return DistributionSummary.builder(name)
+                .tags(tags)
+                .register(meterRegistry);
+    }
+}
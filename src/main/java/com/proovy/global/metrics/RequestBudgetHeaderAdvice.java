@@ -0,0 +1,35 @@
+package com.proovy.global.metrics;
+
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+/**
+ * 요청 사용량 응답 헤더 (X-Request-Budget, 운영 환경 제외)
+ * 본문을 쓰기 직전에 추가하므로 컨트롤러/서비스 실행분까지 포함된다.
+ */
+@Profile("!prod")
+@RestControllerAdvice
+public class RequestBudgetHeaderAdvice implements ResponseBodyAdvice<Object> {
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return true;
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        RequestBudget budget = RequestBudget.current();
+        if (budget != null) {
+            response.getHeaders().set(RequestBudget.HEADER, budget.toHeaderValue());
+        }
+        return body;
+    }
+}
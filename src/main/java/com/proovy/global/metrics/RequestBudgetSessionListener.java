@@ -0,0 +1,33 @@
+package com.proovy.global.metrics;
+
+import org.hibernate.SessionEventListener;
+
+/**
+ * Hibernate 세션의 JDBC 실행을 요청 사용량에 기록
+ * hibernate.session.events.auto 설정으로 세션마다 생성되며, 세션은 한 스레드에서만 사용된다.
+ */
+public class RequestBudgetSessionListener implements SessionEventListener {
+
+    private long statementStartedAt;
+    private long batchStartedAt;
+
+    @Override
+    public void jdbcExecuteStatementStart() {
+        statementStartedAt = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteStatementEnd() {
+        RequestBudget.recordStatement(System.nanoTime() - statementStartedAt);
+    }
+
+    @Override
+    public void jdbcExecuteBatchStart() {
+        batchStartedAt = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteBatchEnd() {
+        RequestBudget.recordStatement(System.nanoTime() - batchStartedAt);
+    }
+}
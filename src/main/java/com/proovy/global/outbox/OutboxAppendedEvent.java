@@ -0,0 +1,8 @@
+package com.proovy.global.outbox;
+
+/**
+ * 아웃박스 이벤트 기록을 알리는 이벤트
+ * 커밋 이후 OutboxRelay가 주기를 기다리지 않고 바로 처리를 시작한다.
+ */
+public record OutboxAppendedEvent() {
+}
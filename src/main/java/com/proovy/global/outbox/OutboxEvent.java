@@ -0,0 +1,113 @@
+package com.proovy.global.outbox;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 트랜잭션 아웃박스 이벤트
+ * 부수 효과(S3 삭제, OCR 요청 등)를 비즈니스 데이터와 같은 트랜잭션에 기록하고, 커밋 이후 OutboxRelay가 처리한다.
+ * 처리에 성공하면 삭제하고, 최대 시도 횟수를 넘기면 FAILED로 남겼다가 보관 기간이 지나면 삭제한다.
+ */
+@Entity
+@Table(name = "outbox_events", indexes = {
+        @Index(name = "idx_outbox_events_status_next", columnList = "status, next_attempt_at"),
+        @Index(name = "idx_outbox_events_aggregate", columnList = "aggregate_type, aggregate_id, id")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class OutboxEvent {
+
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    // 같은 집계의 처리 순서 기준이므로 인스턴스별 ID 블록 할당 없이 기록 시점마다 발급 (allocationSize = 1)
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "outbox_events_seq")
+    @SequenceGenerator(name = "outbox_events_seq", sequenceName = "outbox_events_seq", allocationSize = 1)
+    private Long id;
+
+    // 같은 집계(aggregate)의 이벤트는 id 순서대로 하나씩 처리된다.
+    @Column(name = "aggregate_type", nullable = false, length = 50)
+    private String aggregateType;
+
+    @Column(name = "aggregate_id", nullable = false, length = 100)
+    private String aggregateId;
+
+    @Column(name = "event_type", nullable = false, length = 50)
+    private String eventType;
+
+    // JSON
+    @Column(nullable = false, columnDefinition = "TEXT")
+    private String payload;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private OutboxStatus status;
+
+    @Column(nullable = false)
+    private int attempts;
+
+    // 다음 처리 가능 시각 (처리 중에는 임대 만료 시각)
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Column(name = "last_error", length = MAX_ERROR_LENGTH)
+    private String lastError;
+
+    // 처리 포기 시각 (보관 기간 기준)
+    @Column(name = "failed_at")
+    private LocalDateTime failedAt;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Builder
+    public OutboxEvent(String aggregateType, String aggregateId, String eventType, String payload,
+                       LocalDateTime createdAt) {
+        this.aggregateType = aggregateType;
+        this.aggregateId = aggregateId;
+        this.eventType = eventType;
+        this.payload = payload;
+        this.status = OutboxStatus.PENDING;
+        this.attempts = 0;
+        this.nextAttemptAt = createdAt;
+        this.createdAt = createdAt;
+    }
+
+    /**
+     * 처리 임대 (임대 만료 전에는 다른 인스턴스가 가져가지 않음, 인스턴스 장애 시 만료 후 재처리)
+     */
+    public void lease(LocalDateTime leaseUntil) {
+        this.nextAttemptAt = leaseUntil;
+    }
+
+    /**
+     * 처리 실패 기록 후 재시도 예약
+     */
+    public void retryAt(LocalDateTime nextAttemptAt, String error) {
+        this.attempts++;
+        this.nextAttemptAt = nextAttemptAt;
+        this.lastError = truncate(error);
+    }
+
+    /**
+     * 처리 포기 (같은 집계의 다음 이벤트가 처리될 수 있도록 대기열에서 제외)
+     */
+    public void fail(String error, LocalDateTime failedAt) {
+        this.attempts++;
+        this.status = OutboxStatus.FAILED;
+        this.lastError = truncate(error);
+        this.failedAt = failedAt;
+    }
+
+    private static String truncate(String error) {
+        if (error == null || error.length() <= MAX_ERROR_LENGTH) {
+            return error;
+        }
+        return error.substring(0, MAX_ERROR_LENGTH);
+    }
+}
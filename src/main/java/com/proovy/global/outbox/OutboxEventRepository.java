@@ -0,0 +1,40 @@
+package com.proovy.global.outbox;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+
+    /**
+     * 처리할 이벤트 조회 및 행 잠금 (종류별, 다른 인스턴스가 잠근 행은 건너뜀)
+     * 집계마다 가장 앞선 대기 이벤트만 가져오므로 같은 집계의 이벤트는 순서대로 하나씩 처리된다.
+     * 앞선 이벤트가 재시도 대기 중이면 뒤의 이벤트도 함께 기다린다.
+     */
+    @Query(value = "SELECT * FROM outbox_events e " +
+                   "WHERE e.status = 'PENDING' AND e.event_type = :eventType AND e.next_attempt_at <= :now " +
+                   "AND NOT EXISTS (SELECT 1 FROM outbox_events p " +
+                   "                WHERE p.aggregate_type = e.aggregate_type AND p.aggregate_id = e.aggregate_id " +
+                   "                AND p.status = 'PENDING' AND p.id < e.id) " +
+                   "ORDER BY e.id LIMIT :limit FOR UPDATE SKIP LOCKED",
+           nativeQuery = true)
+    List<OutboxEvent> lockProcessable(@Param("eventType") String eventType,
+                                      @Param("now") LocalDateTime now,
+                                      @Param("limit") int limit);
+
+    @Modifying
+    @Query("DELETE FROM OutboxEvent e WHERE e.id IN :ids")
+    int deleteAllByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * 처리를 포기한 지 오래된 이벤트 삭제
+     */
+    @Modifying
+    @Query("DELETE FROM OutboxEvent e WHERE e.status = com.proovy.global.outbox.OutboxStatus.FAILED AND e.failedAt < :threshold")
+    int deleteFailedBefore(@Param("threshold") LocalDateTime threshold);
+}
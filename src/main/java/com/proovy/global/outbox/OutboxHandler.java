@@ -0,0 +1,32 @@
+package com.proovy.global.outbox;
+
+/**
+ * 아웃박스 이벤트 처리기 (이벤트 종류별 1개)
+ * 임대 만료나 재시도로 같은 이벤트가 두 번 이상 처리될 수 있으므로 멱등하게 구현한다.
+ *
+ * @param <T> 페이로드 타입 (JSON으로 저장)
+ */
+public interface OutboxHandler<T> {
+
+    String eventType();
+
+    Class<T> payloadType();
+
+    /**
+     * 인스턴스당 동시에 처리할 최대 이벤트 수 (느린 외부 호출은 작게)
+     */
+    default int concurrency() {
+        return 8;
+    }
+
+    /**
+     * 이벤트 처리 (예외를 던지면 지수 백오프로 재시도)
+     */
+    void handle(T payload) throws Exception;
+
+    /**
+     * 최대 시도 횟수를 넘겨 처리를 포기할 때 호출 (보상 처리)
+     */
+    default void onGiveUp(T payload) {
+    }
+}
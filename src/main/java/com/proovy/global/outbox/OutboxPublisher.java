@@ -0,0 +1,50 @@
+package com.proovy.global.outbox;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+/**
+ * 아웃박스 이벤트 기록
+ * 호출한 트랜잭션에 함께 기록되므로 롤백되면 부수 효과도 실행되지 않고, 커밋되면 재시작/장애와 무관하게 실행된다.
+ */
+@Component
+@RequiredArgsConstructor
+public class OutboxPublisher {
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final ObjectMapper objectMapper;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * @param aggregateType 집계 종류 (예: asset, user)
+     * @param aggregateId   집계 식별자 (같은 집계의 이벤트는 기록 순서대로 처리)
+     * @param eventType     OutboxHandler.eventType()
+     * @param payload       JSON으로 직렬화할 페이로드
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void append(String aggregateType, Object aggregateId, String eventType, Object payload) {
+        outboxEventRepository.save(OutboxEvent.builder()
+                .aggregateType(aggregateType)
+                .aggregateId(String.valueOf(aggregateId))
+                .eventType(eventType)
+                .payload(serialize(payload))
+                .createdAt(LocalDateTime.now())
+                .build());
+        eventPublisher.publishEvent(new OutboxAppendedEvent());
+    }
+
+    private String serialize(Object payload) {
+        try {
+            return objectMapper.writeValueAsString(payload);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("아웃박스 페이로드 직렬화 실패: " + payload.getClass().getSimpleName(), e);
+        }
+    }
+}
@@ -0,0 +1,214 @@
+package com.proovy.global.outbox;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.proovy.global.metrics.OperationMetrics;
+import io.micrometer.core.instrument.Tags;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+
+/**
+ * 아웃박스 이벤트 전달
+ * - 이벤트 기록 트랜잭션이 커밋되면 바로, 그 외에는 주기적으로 대기 이벤트를 가져와 처리한다.
+ * - 이벤트 종류마다 동시 처리 한도(OutboxHandler.concurrency)를 두고, 빈 자리만큼만 가져온다.
+ *   느린 처리기(예: AI 서버 OCR 요청)는 자기 한도만 채울 뿐 다른 종류의 이벤트 처리를 막지 않는다.
+ * - 가져올 때는 집계마다 가장 앞선 이벤트만 가져오므로 같은 집계의 이벤트는 순서대로 하나씩 처리된다.
+ * - 여러 인스턴스가 함께 실행되어도 행 잠금(SKIP LOCKED)과 임대로 같은 이벤트를 동시에 처리하지 않는다.
+ * - 처리 완료된 이벤트는 모았다가 다음 조회 전에 일괄 삭제한다.
+ */
+@Slf4j
+@Component
+public class OutboxRelay {
+
+    private static final String HANDLE_METRIC = "proovy.outbox.handle";
+
+    private final OutboxStore outboxStore;
+    private final ObjectMapper objectMapper;
+    private final OperationMetrics operationMetrics;
+    private final ThreadPoolTaskExecutor outboxRelayExecutor;
+    private final Map<String, Lane> lanes;
+
+    private final Queue<Long> completed = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean draining = new AtomicBoolean(false);
+    private final AtomicBoolean wakeRequested = new AtomicBoolean(false); // 처리 중에 새 이벤트 커밋 또는 처리 완료
+
+    // 이벤트 종류별 처리기와 남은 동시 처리 자리
+    private record Lane(OutboxHandler<?> handler, Semaphore permits) {
+    }
+
+    public OutboxRelay(OutboxStore outboxStore, ObjectMapper objectMapper, OperationMetrics operationMetrics,
+                       ThreadPoolTaskExecutor outboxRelayExecutor, List<OutboxHandler<?>> handlers) {
+        this.outboxStore = outboxStore;
+        this.objectMapper = objectMapper;
+        this.operationMetrics = operationMetrics;
+        this.outboxRelayExecutor = outboxRelayExecutor;
+        this.lanes = handlers.stream()
+                .collect(Collectors.toMap(OutboxHandler::eventType,
+                        handler -> new Lane(handler, new Semaphore(handler.concurrency()))));
+    }
+
+    /**
+     * 이벤트 기록 트랜잭션 커밋 직후 처리 시작 (요청 스레드는 기다리지 않음)
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onAppended(OutboxAppendedEvent event) {
+        wakeUp();
+    }
+
+    /**
+     * 재시도 대기 중이던 이벤트와 다른 인스턴스에서 기록된 이벤트 처리
+     */
+    @Scheduled(fixedDelay = 5000, initialDelay = 10_000)
+    public void poll() {
+        wakeUp();
+    }
+
+    private void wakeUp() {
+        wakeRequested.set(true);
+        if (!draining.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            outboxRelayExecutor.execute(() -> {
+                try {
+                    while (wakeRequested.getAndSet(false)) {
+                        drain();
+                    }
+                } finally {
+                    draining.set(false);
+                }
+                if (wakeRequested.get()) {
+                    wakeUp();
+                }
+            });
+        } catch (TaskRejectedException e) {
+            draining.set(false); // 다음 주기에 다시 시도
+        }
+    }
+
+    /**
+     * 완료된 이벤트 삭제 후, 종류마다 빈 자리만큼 이벤트를 가져와 처리 시작 (처리 완료를 기다리지 않음)
+     */
+    void drain() {
+        try {
+            flushCompleted();
+            lanes.values().forEach(this::claimAndDispatch);
+        } catch (Exception e) {
+            // 임대된 이벤트는 임대 만료 후 다시 처리됨
+            log.error("[Outbox] 아웃박스 이벤트 처리 중단 - error: {}", e.getMessage());
+        }
+    }
+
+    private void flushCompleted() {
+        List<Long> ids = new ArrayList<>();
+        Long id;
+        while ((id = completed.poll()) != null) {
+            ids.add(id);
+        }
+        if (ids.isEmpty()) {
+            return;
+        }
+        try {
+            outboxStore.complete(ids);
+        } catch (RuntimeException e) {
+            completed.addAll(ids); // 다음 처리 때 다시 삭제
+            throw e;
+        }
+    }
+
+    private void claimAndDispatch(Lane lane) {
+        int available = lane.permits().availablePermits();
+        if (available == 0) {
+            return;
+        }
+
+        List<OutboxEvent> events = outboxStore.claim(lane.handler().eventType(), available);
+        for (OutboxEvent event : events) {
+            lane.permits().acquireUninterruptibly(); // 자리는 이 스레드에서만 획득하므로 대기하지 않음
+            try {
+                outboxRelayExecutor.execute(() -> run(lane, event));
+            } catch (TaskRejectedException e) {
+                lane.permits().release();
+                log.warn("[Outbox] 아웃박스 처리 대기열 초과, 임대 만료 후 재처리 - id: {}", event.getId());
+            }
+        }
+    }
+
+    private void run(Lane lane, OutboxEvent event) {
+        try {
+            if (process(lane.handler(), event)) {
+                completed.add(event.getId());
+            }
+        } finally {
+            lane.permits().release();
+            wakeUp(); // 완료 반영 + 빈 자리 채우기
+        }
+    }
+
+    /**
+     * 이벤트 1건 처리
+     * @return 성공 여부 (실패 시 재시도 예약 또는 처리 포기)
+     */
+    private boolean process(OutboxHandler<?> handler, OutboxEvent event) {
+        try {
+            operationMetrics.record(HANDLE_METRIC, Tags.of("type", event.getEventType()), () -> handle(handler, event));
+            return true;
+        } catch (Exception e) {
+            handleFailure(handler, event, e);
+            return false;
+        }
+    }
+
+    private <T> void handle(OutboxHandler<T> handler, OutboxEvent event) {
+        try {
+            handler.handle(objectMapper.readValue(event.getPayload(), handler.payloadType()));
+        } catch (RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new IllegalStateException(e.getMessage(), e);
+        }
+    }
+
+    private void handleFailure(OutboxHandler<?> handler, OutboxEvent event, Exception cause) {
+        try {
+            boolean gaveUp = outboxStore.recordFailure(event.getId(), cause.getMessage());
+            if (!gaveUp) {
+                log.warn("[Outbox] 아웃박스 이벤트 처리 실패, 재시도 예약 - id: {}, type: {}, attempts: {}, error: {}",
+                        event.getId(), event.getEventType(), event.getAttempts() + 1, cause.getMessage());
+                return;
+            }
+
+            log.error("[Outbox] 아웃박스 이벤트 처리 포기 - id: {}, type: {}, aggregate: {}:{}, error: {}",
+                    event.getId(), event.getEventType(), event.getAggregateType(), event.getAggregateId(),
+                    cause.getMessage());
+        } catch (Exception e) {
+            // 실패 기록도 실패하면 임대 만료 후 다시 처리됨
+            log.error("[Outbox] 아웃박스 실패 기록 오류 - id: {}, error: {}", event.getId(), e.getMessage());
+            return;
+        }
+
+        giveUp(handler, event);
+    }
+
+    private <T> void giveUp(OutboxHandler<T> handler, OutboxEvent event) {
+        try {
+            handler.onGiveUp(objectMapper.readValue(event.getPayload(), handler.payloadType()));
+        } catch (Exception e) {
+            log.error("[Outbox] 아웃박스 보상 처리 실패 - id: {}, type: {}, error: {}",
+                    event.getId(), event.getEventType(), e.getMessage());
+        }
+    }
+}
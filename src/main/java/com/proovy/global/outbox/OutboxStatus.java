@@ -0,0 +1,6 @@
+package com.proovy.global.outbox;
+
+public enum OutboxStatus {
+    PENDING,    // 처리 대기 (재시도 대기 포함)
+    FAILED      // 최대 시도 횟수 초과, 더 이상 처리하지 않음
+}
@@ -0,0 +1,87 @@
+package com.proovy.global.outbox;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 아웃박스 이벤트 상태 변경 (OutboxRelay가 호출, 작업마다 짧은 트랜잭션)
+ * 이벤트 처리는 트랜잭션 밖에서 수행하므로 외부 호출 지연이 DB 커넥션/락을 잡지 않는다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class OutboxStore {
+
+    static final int MAX_ATTEMPTS = 8;
+    private static final Duration LEASE = Duration.ofMinutes(5);          // 처리 1건의 최대 예상 시간보다 길게
+    private static final Duration INITIAL_BACKOFF = Duration.ofSeconds(5);
+    private static final Duration MAX_BACKOFF = Duration.ofMinutes(10);
+    private static final int FAILED_RETENTION_DAYS = 14; // 처리 포기 이벤트 보관 기간 (원인 확인용)
+
+    private final OutboxEventRepository outboxEventRepository;
+
+    /**
+     * 처리할 이벤트를 종류별로 최대 limit개 가져와 임대
+     */
+    @Transactional
+    public List<OutboxEvent> claim(String eventType, int limit) {
+        LocalDateTime now = LocalDateTime.now();
+        List<OutboxEvent> events = outboxEventRepository.lockProcessable(eventType, now, limit);
+        events.forEach(event -> event.lease(now.plus(LEASE)));
+        return events;
+    }
+
+    /**
+     * 처리 완료된 이벤트 일괄 삭제
+     */
+    @Transactional
+    public void complete(Collection<Long> ids) {
+        if (!ids.isEmpty()) {
+            outboxEventRepository.deleteAllByIdIn(ids);
+        }
+    }
+
+    /**
+     * 처리 실패 기록 (지수 백오프로 재시도 예약, 최대 시도 횟수를 넘기면 FAILED)
+     * @return 처리를 포기했으면 true
+     */
+    @Transactional
+    public boolean recordFailure(Long id, String error) {
+        return outboxEventRepository.findById(id)
+                .map(event -> {
+                    if (event.getAttempts() + 1 >= MAX_ATTEMPTS) {
+                        event.fail(error, LocalDateTime.now());
+                        return true;
+                    }
+                    event.retryAt(LocalDateTime.now().plus(backoff(event.getAttempts())), error);
+                    return false;
+                })
+                .orElse(false);
+    }
+
+    /**
+     * 보관 기간이 지난 처리 포기 이벤트 정리
+     */
+    @Transactional
+    @Scheduled(cron = "0 0 5 * * *") // 매일 05:00
+    public void purgeFailed() {
+        int deleted = outboxEventRepository.deleteFailedBefore(LocalDateTime.now().minusDays(FAILED_RETENTION_DAYS));
+        if (deleted > 0) {
+            log.info("[Outbox] 처리 포기 이벤트 정리 완료 - count: {}", deleted);
+        }
+    }
+
+    // 5초, 10초, 20초 ... 최대 10분
+    static Duration backoff(int previousAttempts) {
+        Duration delay = INITIAL_BACKOFF.multipliedBy(1L << Math.min(previousAttempts, 16));
+        return delay.compareTo(MAX_BACKOFF) > 0 ? MAX_BACKOFF : delay;
+    }
+}
@@ -0,0 +1,200 @@
+package com.proovy.global.profiling;
+
+import com.proovy.global.profiling.ProfileSummary.OperationStats;
+import com.proovy.global.profiling.ProfileSummary.Site;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingFile;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 상시 JFR 기록 (JDK "default" 설정, 오버헤드 1% 내외)
+ * 환경 변수/시스템 프로퍼티/실행 인자처럼 비밀 값이 담길 수 있는 이벤트는 기록하지 않고, 내보낼 때도 한 번 더 제외한다.
+ * 최근 max-age 구간만 디스크에 보관하며, 요청 시 구간을 잘라 파일로 내보내거나 요약한다.
+ * 재배포나 에이전트 없이 운영 중 지연 원인(CPU/할당 상위 지점, 도메인 작업 소요 시간)을 확인하기 위한 용도다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "proovy.profiling", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class ContinuousProfiler {
+
+    private static final String RECORDING_NAME = "proovy-continuous";
+    private static final String EXECUTION_SAMPLE = "jdk.ExecutionSample";
+    private static final String ALLOCATION_SAMPLE = "jdk.ObjectAllocationSample";
+    private static final String UNKNOWN_FRAME = "unknown";
+
+    // DB 비밀번호, JWT/OAuth 시크릿 등이 포함될 수 있는 이벤트
+    static final Set<String> SENSITIVE_EVENTS = Set.of(
+            "jdk.InitialEnvironmentVariable",
+            "jdk.InitialSystemProperty",
+            "jdk.JVMInformation",
+            "jdk.SystemProcess"
+    );
+
+    @Value("${proovy.profiling.max-age:15m}")
+    private Duration maxAge;
+
+    @Value("${proovy.profiling.max-size-mb:256}")
+    private long maxSizeMb;
+
+    private Recording recording;
+
+    @PostConstruct
+    void start() throws IOException, ParseException {
+        recording = new Recording(settings());
+        recording.setName(RECORDING_NAME);
+        recording.setToDisk(true);
+        recording.setMaxAge(maxAge);
+        recording.setMaxSize(maxSizeMb * 1024 * 1024);
+        recording.start();
+        log.info("[Profiling] JFR 상시 기록 시작 - maxAge: {}, maxSize: {}MB", maxAge, maxSizeMb);
+    }
+
+    static Map<String, String> settings() throws IOException, ParseException {
+        Map<String, String> settings = new HashMap<>(Configuration.getConfiguration("default").getSettings());
+        SENSITIVE_EVENTS.forEach(event -> settings.put(event + "#enabled", "false"));
+        return settings;
+    }
+
+    @PreDestroy
+    void stop() {
+        if (recording != null) {
+            recording.close();
+        }
+    }
+
+    /**
+     * 최근 구간 기록을 임시 파일로 내보내기 (호출자가 파일 삭제, 민감 이벤트 제외)
+     * @param window 내보낼 구간 (null이면 보관 중인 전체)
+     */
+    public Path dump(Duration window) throws IOException {
+        Path retained = Files.createTempFile("proovy-", ".jfr");
+        recording.dump(retained);
+
+        Instant from = window != null ? Instant.now().minus(window) : Instant.MIN;
+        Path sliced = Files.createTempFile("proovy-window-", ".jfr");
+        try (RecordingFile file = new RecordingFile(retained)) {
+            file.write(sliced, event -> !event.getEndTime().isBefore(from)
+                    && !SENSITIVE_EVENTS.contains(event.getEventType().getName()));
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(sliced);
+            throw e;
+        } finally {
+            Files.deleteIfExists(retained);
+        }
+        return sliced;
+    }
+
+    /**
+     * 보관 구간 (요약/내보내기 구간의 상한)
+     */
+    public Duration getMaxAge() {
+        return maxAge;
+    }
+
+    /**
+     * 최근 구간 요약 (CPU/할당 상위 지점, 도메인 작업 통계)
+     */
+    public ProfileSummary summarize(Duration window, int limit) throws IOException {
+        Instant to = Instant.now();
+        Instant from = to.minus(window);
+        Map<String, Long> cpu = new HashMap<>();
+        Map<String, Long> allocation = new HashMap<>();
+        Map<String, OperationAccumulator> operations = new HashMap<>();
+
+        Path retained = Files.createTempFile("proovy-", ".jfr");
+        try {
+            recording.dump(retained);
+            try (RecordingFile file = new RecordingFile(retained)) {
+                while (file.hasMoreEvents()) {
+                    RecordedEvent event = file.readEvent();
+                    if (event.getEndTime().isBefore(from)) {
+                        continue;
+                    }
+                    String name = event.getEventType().getName();
+                    if (EXECUTION_SAMPLE.equals(name)) {
+                        cpu.merge(topFrame(event), 1L, Long::sum);
+                    } else if (ALLOCATION_SAMPLE.equals(name)) {
+                        allocation.merge(topFrame(event), event.getLong("weight"), Long::sum);
+                    } else if (name.startsWith(DomainOperationEvent.NAME_PREFIX)) {
+                        operations.computeIfAbsent(name, key -> new OperationAccumulator())
+                                .add(event.getDuration());
+                    }
+                }
+            }
+        } finally {
+            Files.deleteIfExists(retained);
+        }
+
+        long cpuSamples = total(cpu);
+        long allocatedBytes = total(allocation);
+        return new ProfileSummary(from, to, cpuSamples, allocatedBytes,
+                top(cpu, cpuSamples, limit),
+                top(allocation, allocatedBytes, limit),
+                operations.entrySet().stream()
+                        .map(entry -> entry.getValue().toStats(entry.getKey()))
+                        .sorted(Comparator.comparingLong(OperationStats::count).reversed())
+                        .toList());
+    }
+
+    private static String topFrame(RecordedEvent event) {
+        RecordedStackTrace stackTrace = event.getStackTrace();
+        if (stackTrace == null || stackTrace.getFrames().isEmpty()) {
+            return UNKNOWN_FRAME;
+        }
+        RecordedFrame frame = stackTrace.getFrames().get(0);
+        return frame.getMethod().getType().getName() + "." + frame.getMethod().getName()
+                + ":" + frame.getLineNumber();
+    }
+
+    private static long total(Map<String, Long> counts) {
+        return counts.values().stream().mapToLong(Long::longValue).sum();
+    }
+
+    private static List<Site> top(Map<String, Long> counts, long total, int limit) {
+        return counts.entrySet().stream()
+                .sorted(Map.Entry.<String, Long>comparingByValue().reversed())
+                .limit(limit)
+                .map(entry -> new Site(entry.getKey(), entry.getValue(),
+                        total > 0 ? (double) entry.getValue() / total : 0))
+                .toList();
+    }
+
+    private static final class OperationAccumulator {
+
+        private long count;
+        private long totalNanos;
+        private long maxNanos;
+
+        void add(Duration duration) {
+            long nanos = duration.toNanos();
+            count++;
+            totalNanos += nanos;
+            maxNanos = Math.max(maxNanos, nanos);
+        }
+
+        OperationStats toStats(String event) {
+            return new OperationStats(event, count, totalNanos / 1e6 / count, maxNanos / 1e6);
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package com.proovy.global.profiling;
+
+import com.proovy.global.metrics.OperationMetrics;
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.StackTrace;
+
+import java.util.function.Supplier;
+
+/**
+ * 도메인 작업 JFR 이벤트 공통 (이벤트 이름은 "proovy."으로 시작)
+ * outcome 값은 Micrometer 측정값과 같다. (success / 에러 코드 / error / 작업별 결과)
+ * 요청마다 기록되므로 스택 트레이스는 남기지 않는다.
+ */
+@Category("Proovy")
+@StackTrace(false)
+public abstract class DomainOperationEvent extends Event {
+
+    public static final String NAME_PREFIX = "proovy.";
+
+    @Label("Outcome")
+    private String outcome;
+
+    /**
+     * 작업 종료 기록 (begin()을 호출한 스레드와 달라도 된다)
+     */
+    public void complete(String outcome) {
+        this.outcome = outcome;
+        commit();
+    }
+
+    /**
+     * 호출 전체를 이벤트로 기록 (예외는 에러 코드로 기록하고 다시 던진다)
+     */
+    public <T> T record(Supplier<T> call) {
+        begin();
+        try {
+            T result = call.get();
+            complete(OperationMetrics.OUTCOME_SUCCESS);
+            return result;
+        } catch (RuntimeException e) {
+            complete(OperationMetrics.outcome(e));
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.proovy.global.profiling;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.OptionalParameter;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.web.WebEndpointResponse;
+import org.springframework.boot.actuate.endpoint.web.annotation.WebEndpoint;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Component;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * JFR 기록 내보내기 (GET /actuator/jfr?minutes=10, minutes가 없으면 보관 중인 전체)
+ * 받은 파일은 JDK Mission Control 또는 `jfr print`로 분석한다.
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "proovy.profiling", name = "enabled", havingValue = "true", matchIfMissing = true)
+@WebEndpoint(id = "jfr")
+public class JfrDumpEndpoint {
+
+    private final ContinuousProfiler continuousProfiler;
+
+    @ReadOperation(produces = "application/octet-stream")
+    public WebEndpointResponse<Resource> dump(@OptionalParameter Integer minutes) throws IOException {
+        Path file = continuousProfiler.dump(
+                minutes != null ? ProfilingWindows.resolve(minutes, continuousProfiler.getMaxAge()) : null);
+        return new WebEndpointResponse<>(new TemporaryFileResource(file));
+    }
+
+    /**
+     * 응답 전송이 끝나면 삭제되는 임시 파일
+     */
+    private static final class TemporaryFileResource extends FileSystemResource {
+
+        private TemporaryFileResource(Path path) {
+            super(path);
+        }
+
+        @Override
+        public InputStream getInputStream() throws IOException {
+            return new FilterInputStream(super.getInputStream()) {
+                @Override
+                public void close() throws IOException {
+                    try {
+                        super.close();
+                    } finally {
+                        Files.deleteIfExists(getFile().toPath());
+                    }
+                }
+            };
+        }
+    }
+}
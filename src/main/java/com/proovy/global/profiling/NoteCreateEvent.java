@@ -0,0 +1,16 @@
+package com.proovy.global.profiling;
+
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("proovy.NoteCreate")
+@Label("Note Create")
+public class NoteCreateEvent extends DomainOperationEvent {
+
+    @Label("Plan")
+    private String plan;
+
+    public NoteCreateEvent(String plan) {
+        this.plan = plan;
+    }
+}
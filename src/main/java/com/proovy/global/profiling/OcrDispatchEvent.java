@@ -0,0 +1,19 @@
+package com.proovy.global.profiling;
+
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * OCR 요청 이벤트 (캐시 조회 + AI 서버 요청 접수, outcome: cache_hit / dispatched / error)
+ */
+@Name("proovy.OcrDispatch")
+@Label("OCR Dispatch")
+public class OcrDispatchEvent extends DomainOperationEvent {
+
+    @Label("Asset ID")
+    private long assetId;
+
+    public OcrDispatchEvent(long assetId) {
+        this.assetId = assetId;
+    }
+}
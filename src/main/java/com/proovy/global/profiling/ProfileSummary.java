@@ -0,0 +1,33 @@
+package com.proovy.global.profiling;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * 최근 구간 프로파일 요약
+ * @param cpuSamples       CPU 샘플 수 (jdk.ExecutionSample)
+ * @param allocatedBytes   샘플링된 할당량 추정치 (jdk.ObjectAllocationSample weight 합)
+ * @param topCpuSites      CPU 샘플이 많은 메서드 (스택 최상단 기준)
+ * @param topAllocationSites 할당량이 많은 메서드 (스택 최상단 기준)
+ * @param operations       도메인 작업 이벤트 통계 (proovy.*)
+ */
+public record ProfileSummary(
+        Instant from,
+        Instant to,
+        long cpuSamples,
+        long allocatedBytes,
+        List<Site> topCpuSites,
+        List<Site> topAllocationSites,
+        List<OperationStats> operations
+) {
+
+    /**
+     * @param value CPU 샘플 수 또는 할당 바이트
+     * @param ratio 전체 대비 비율 (0~1)
+     */
+    public record Site(String frame, long value, double ratio) {
+    }
+
+    public record OperationStats(String event, long count, double avgMillis, double maxMillis) {
+    }
+}
@@ -0,0 +1,39 @@
+package com.proovy.global.profiling;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.InvalidEndpointRequestException;
+import org.springframework.boot.actuate.endpoint.annotation.OptionalParameter;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.web.annotation.WebEndpoint;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.time.Duration;
+
+/**
+ * 최근 구간 프로파일 요약 (GET /actuator/profiling?minutes=5&limit=20)
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "proovy.profiling", name = "enabled", havingValue = "true", matchIfMissing = true)
+@WebEndpoint(id = "profiling")
+public class ProfilingEndpoint {
+
+    private static final int DEFAULT_MINUTES = 5;
+    private static final int DEFAULT_LIMIT = 20;
+    private static final int MAX_LIMIT = 100;
+
+    private final ContinuousProfiler continuousProfiler;
+
+    @ReadOperation
+    public ProfileSummary summary(@OptionalParameter Integer minutes, @OptionalParameter Integer limit) throws IOException {
+        int resolvedLimit = limit != null ? limit : DEFAULT_LIMIT;
+        if (resolvedLimit < 1 || resolvedLimit > MAX_LIMIT) {
+            throw new InvalidEndpointRequestException("limit must be between 1 and " + MAX_LIMIT, "invalid limit");
+        }
+        return continuousProfiler.summarize(
+                ProfilingWindows.resolve(minutes != null ? minutes : DEFAULT_MINUTES, continuousProfiler.getMaxAge()),
+                resolvedLimit);
+    }
+}
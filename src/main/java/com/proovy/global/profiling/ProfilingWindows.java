@@ -0,0 +1,23 @@
+package com.proovy.global.profiling;
+
+import org.springframework.boot.actuate.endpoint.InvalidEndpointRequestException;
+
+import java.time.Duration;
+
+/**
+ * 프로파일링 엔드포인트의 minutes 파라미터 검증 (1분 이상, 보관 구간 이하)
+ */
+final class ProfilingWindows {
+
+    private ProfilingWindows() {
+    }
+
+    static Duration resolve(int minutes, Duration maxAge) {
+        long maxMinutes = Math.max(maxAge.toMinutes(), 1);
+        if (minutes < 1 || minutes > maxMinutes) {
+            throw new InvalidEndpointRequestException(
+                    "minutes must be between 1 and " + maxMinutes, "invalid minutes");
+        }
+        return Duration.ofMinutes(minutes);
+    }
+}
@@ -0,0 +1,12 @@
+package com.proovy.global.profiling;
+
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * 액세스 토큰 검증 이벤트 (블랙리스트 확인 + 서명 검증 + 사용자 조회)
+ */
+@Name("proovy.TokenVerify")
+@Label("Token Verify")
+public class TokenVerifyEvent extends DomainOperationEvent {
+}
@@ -0,0 +1,16 @@
+package com.proovy.global.profiling;
+
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("proovy.UploadConfirm")
+@Label("Upload Confirm")
+public class UploadConfirmEvent extends DomainOperationEvent {
+
+    @Label("Asset ID")
+    private long assetId;
+
+    public UploadConfirmEvent(long assetId) {
+        this.assetId = assetId;
+    }
+}
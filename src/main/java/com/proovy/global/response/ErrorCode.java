@@ -20,6 +20,7 @@ public enum ErrorCode {
     AUTH4011("AUTH4011", "유효하지 않은 인증 코드입니다.", HttpStatus.UNAUTHORIZED),
     AUTH4012("AUTH4012", "토큰이 만료되었습니다.", HttpStatus.UNAUTHORIZED),
     AUTH4013("AUTH4013", "유효하지 않은 토큰입니다.", HttpStatus.UNAUTHORIZED),
+    AUTH4014("AUTH4014", "유효하지 않은 내부 호출 토큰입니다.", HttpStatus.UNAUTHORIZED),
     AUTH4018("AUTH4018", "회원가입 세션이 만료되었습니다. 다시 시도해주세요.", HttpStatus.UNAUTHORIZED),
     AUTH4008("AUTH4008", "닉네임은 2~10자로 입력해주세요.", HttpStatus.BAD_REQUEST),
     AUTH4009("AUTH4009", "필수 정보를 모두 입력해주세요.", HttpStatus.BAD_REQUEST),
@@ -39,10 +40,14 @@ public enum ErrorCode {
     STORAGE4003("STORAGE4003", "검색어는 최소 2자 이상부터 입력 가능합니다.", HttpStatus.BAD_REQUEST),
     STORAGE4004("STORAGE4004", "허용되지 않은 파일 형식입니다.", HttpStatus.BAD_REQUEST),
     STORAGE4031("STORAGE4031", "자산 접근 권한이 없습니다.", HttpStatus.FORBIDDEN),
+    STORAGE4041("STORAGE4041", "삭제 작업을 찾을 수 없습니다.", HttpStatus.NOT_FOUND),
     STORAGE4005("STORAGE4005", "노트의 스토리지 용량(512MB)을 초과합니다.", HttpStatus.FORBIDDEN),
     // Note
     NOTE4041("NOTE4041", "노트를 찾을 수 없습니다.", HttpStatus.NOT_FOUND),
     NOTE4031("NOTE4031", "노트 접근 권한이 없습니다.", HttpStatus.FORBIDDEN),
+    NOTE4032("NOTE4032", "노트의 대화 수 한도에 도달했습니다.", HttpStatus.FORBIDDEN),
+    NOTE4004("NOTE4004", "검색어는 최소 2자 이상부터 입력 가능합니다.", HttpStatus.BAD_REQUEST),
+    NOTE4005("NOTE4005", "유효하지 않은 커서입니다.", HttpStatus.BAD_REQUEST),
 
     ASSET4001("ASSET4001", "지원하지 않는 파일 형식입니다. PDF, PNG, JPEG, WEBP만 업로드 가능합니다.", HttpStatus.BAD_REQUEST),
     ASSET4002("ASSET4002", "파일 크기가 플랜 제한을 초과합니다.", HttpStatus.BAD_REQUEST),
@@ -54,6 +59,18 @@ public enum ErrorCode {
     ASSET4091("ASSET4091", "이미 확인된 자산입니다.", HttpStatus.CONFLICT),
     ASSET4003("ASSET4003", "PDF 파일만 미리보기가 가능합니다.", HttpStatus.BAD_REQUEST),
 
+    // Conversation
+    CONVERSATION4041("CONVERSATION4041", "대화를 찾을 수 없습니다.", HttpStatus.NOT_FOUND),
+
+    // Message
+    MESSAGE4001("MESSAGE4001", "스트리밍할 수 없는 메시지입니다.", HttpStatus.BAD_REQUEST),
+    MESSAGE4041("MESSAGE4041", "메시지를 찾을 수 없습니다.", HttpStatus.NOT_FOUND),
+    MESSAGE4091("MESSAGE4091", "이미 응답을 스트리밍 중인 메시지입니다.", HttpStatus.CONFLICT),
+    MESSAGE5021("MESSAGE5021", "AI 서버 응답 생성 중 오류가 발생했습니다.", HttpStatus.INTERNAL_SERVER_ERROR),
+
+    // Credit
+    CREDIT4031("CREDIT4031", "크레딧이 부족합니다.", HttpStatus.FORBIDDEN),
+
     // Tool
     TOOL4001("TOOL4001", "유효하지 않은 도구 코드입니다.", HttpStatus.BAD_REQUEST);
 
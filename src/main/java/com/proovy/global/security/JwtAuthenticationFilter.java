@@ -5,9 +5,14 @@ import com.proovy.domain.auth.service.AccessTokenBlacklistService;
 import com.proovy.domain.auth.service.JwtTokenProvider;
 import com.proovy.domain.user.entity.User;
 import com.proovy.domain.user.repository.UserRepository;
+import com.proovy.global.datasource.PrimaryReads;
 import com.proovy.global.exception.BusinessException;
+import com.proovy.global.metrics.OperationMetrics;
+import com.proovy.global.profiling.TokenVerifyEvent;
 import com.proovy.global.response.ApiResponse;
 import com.proovy.global.response.ErrorCode;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -32,7 +37,9 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     private final AccessTokenBlacklistService accessTokenBlacklistService;
     private final UserRepository userRepository;
     private final ObjectMapper objectMapper;
+    private final OperationMetrics operationMetrics;
 
+    private static final String METRIC_NAME = "proovy.auth.jwt";
     private static final String AUTHORIZATION_HEADER = "Authorization";
     private static final String BEARER_PREFIX = "Bearer ";
     public static final String JWT_ERROR_ATTRIBUTE = "jwtError";
@@ -53,6 +60,10 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             return;
         }
 
+        // 인증 처리 시간만 측정 (이후 필터/컨트롤러 실행 시간 제외)
+        Timer.Sample sample = Timer.start();
+        TokenVerifyEvent event = new TokenVerifyEvent();
+        event.begin();
         try {
             if (accessTokenBlacklistService.isBlacklisted(token)) {
                 throw new BusinessException(ErrorCode.AUTH4013);
@@ -62,7 +73,10 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             }
             Long userId = jwtTokenProvider.getUserIdFromToken(token);
 
+            // 가입 직후에는 복제본에 아직 없을 수 있으므로 주 DB에서 다시 조회
             User user = userRepository.findById(userId)
+                    .or(() -> PrimaryReads.call(() -> userRepository.findById(userId)))
+                    .filter(found -> !found.isDeleted())
                     .orElseThrow(() -> new BusinessException(ErrorCode.USER4041));
 
             UserPrincipal principal = new UserPrincipal(user);
@@ -75,12 +89,15 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             );
 
             SecurityContextHolder.getContext().setAuthentication(authentication);
+            stop(sample, event, OperationMetrics.OUTCOME_SUCCESS);
             log.debug("[JWT] 인증 완료");
         } catch (BusinessException e) {
+            stop(sample, event, OperationMetrics.outcome(e));
             log.warn("[JWT] 인증 실패 - {}: {}", e.getErrorCode().getCode(), e.getMessage());
             sendErrorResponse(response, e.getErrorCode());
             return;
         } catch (Exception e) {
+            stop(sample, event, OperationMetrics.OUTCOME_ERROR);
             log.warn("[JWT] 예외 발생: {}", e.getMessage());
             sendErrorResponse(response, ErrorCode.AUTH4013);
             return;
@@ -97,6 +114,11 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         return null;
     }
 
+    private void stop(Timer.Sample sample, TokenVerifyEvent event, String outcome) {
+        sample.stop(operationMetrics.timer(METRIC_NAME, Tags.empty(), outcome));
+        event.complete(outcome);
+    }
+
     private void sendErrorResponse(HttpServletResponse response, ErrorCode errorCode) throws IOException {
         response.setContentType(MediaType.APPLICATION_JSON_VALUE);
         response.setCharacterEncoding("UTF-8");
@@ -1,8 +1,10 @@
 package com.proovy.global.security;
 
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.security.authorization.AuthorizationManager;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
@@ -10,6 +12,8 @@ import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.access.expression.WebExpressionAuthorizationManager;
+import org.springframework.security.web.access.intercept.RequestAuthorizationContext;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
@@ -22,6 +26,9 @@ import java.util.List;
 @RequiredArgsConstructor
 public class SecurityConfig {
 
+    private static final AuthorizationManager<RequestAuthorizationContext> LOCALHOST_ONLY =
+            new WebExpressionAuthorizationManager("hasIpAddress('127.0.0.1') or hasIpAddress('::1')");
+
     private final JwtAuthenticationFilter jwtAuthFilter;
     private final JwtAuthenticationEntryPoint jwtAuthEntryPoint;
 
@@ -35,11 +42,21 @@ public class SecurityConfig {
                 .exceptionHandling(exception ->
                         exception.authenticationEntryPoint(jwtAuthEntryPoint))
                 .authorizeHttpRequests(auth -> auth
+                        // 비동기 응답(SSE) 재디스패치는 최초 요청에서 이미 인증됨
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
                         // 인증 없이 접근 가능
                         .requestMatchers("/api/auth/logout").authenticated()
                         .requestMatchers("/api/auth/**").permitAll()
                         .requestMatchers("/swagger-ui.html", "/swagger-ui/**", "/api-docs/**", "/v3/api-docs/**").permitAll()
                         .requestMatchers("/health", "/actuator/health").permitAll()
+                        // Prometheus 수집 (관리 포트, 외부 노출은 로드밸런서에서 차단)
+                        .requestMatchers("/actuator/prometheus").permitAll()
+                        // JFR 요약/내보내기 (스택 정보가 포함되므로 인스턴스 내부에서만 호출, 포트 포워딩 등)
+                        // actuator는 프록시가 전달하지 않는 관리 포트(management.server.port)에서만 열리므로
+                        // 같은 호스트의 리버스 프록시를 거친 요청은 여기까지 오지 않는다.
+                        .requestMatchers("/actuator/profiling", "/actuator/jfr").access(LOCALHOST_ONLY)
+                        // AI 서버 콜백 (X-Internal-Token 헤더로 별도 검증)
+                        .requestMatchers("/api/ocr/callback").permitAll()
                         // 나머지는 인증 필요
                         .anyRequest().authenticated()
                 )
@@ -0,0 +1,31 @@
+package com.proovy.global.util;
+
+import java.util.Locale;
+
+/**
+ * 부분 검색어 처리 유틸
+ */
+public final class SearchKeywordUtils {
+
+    private SearchKeywordUtils() {
+    }
+
+    /**
+     * 검색어 정규화 (앞뒤 공백 제거, 소문자 변환)
+     */
+    public static String normalize(String keyword) {
+        return keyword.trim().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * 부분 일치 LIKE 패턴 생성 (%, _, \ 이스케이프)
+     * @param normalizedKeyword normalize()를 거친 검색어
+     */
+    public static String containsPattern(String normalizedKeyword) {
+        String escaped = normalizedKeyword
+                .replace("\\", "\\\\")
+                .replace("%", "\\%")
+                .replace("_", "\\_");
+        return "%" + escaped + "%";
+    }
+}
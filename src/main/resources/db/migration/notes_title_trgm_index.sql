@@ -0,0 +1,15 @@
+-- 노트 제목 부분 검색용 trigram 인덱스 (NoteRepository.searchByTitle)
+-- JPA ddl-auto로는 확장/함수 기반 GIN 인덱스를 만들 수 없어 별도 마이그레이션으로 적용한다.
+--
+-- 실행: psql -v ON_ERROR_STOP=1 -f notes_title_trgm_index.sql
+--   CREATE INDEX CONCURRENTLY는 트랜잭션 블록 안에서 실행할 수 없으므로 BEGIN/COMMIT으로 감싸거나 --single-transaction으로 실행하지 않는다.
+--   CONCURRENTLY로 만들므로 인덱스 생성 중에도 notes 쓰기가 막히지 않는다.
+--   생성이 중간에 실패하면 INVALID 인덱스가 남아 IF NOT EXISTS가 건너뛰므로, DROP INDEX CONCURRENTLY idx_notes_title_trgm; 후 다시 실행한다.
+--
+-- 한글 음절 trigram 추출을 위해 DB LC_CTYPE이 UTF-8 로케일이어야 한다. (C 로케일이면 한글이 무시됨)
+-- 검색어가 2자이면 온전한 trigram이 나오지 않아 인덱스 대신 사용자 노트 범위 스캔으로 처리된다. (user_id 조건으로 범위가 제한됨)
+
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_notes_title_trgm
+    ON notes USING gin (lower(title) gin_trgm_ops);
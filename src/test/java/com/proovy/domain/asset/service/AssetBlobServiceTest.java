@@ -0,0 +1,152 @@
+package com.proovy.domain.asset.service;
+
+import com.proovy.domain.asset.entity.Asset;
+import com.proovy.domain.asset.entity.AssetBlob;
+import com.proovy.domain.asset.repository.AssetBlobRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class AssetBlobServiceTest {
+
+    private static final String CHECKSUM = "a".repeat(64);
+
+    @InjectMocks
+    private AssetBlobService assetBlobService;
+
+    @Mock
+    private AssetBlobRepository assetBlobRepository;
+
+    private Asset createAsset(Long id, String s3Key, Long blobId) {
+        Asset asset = Asset.builder()
+                .userId(1L)
+                .noteId(1L)
+                .fileName("lecture.pdf")
+                .fileSize(1024L)
+                .mimeType("application/pdf")
+                .s3Key(s3Key)
+                .source(Asset.AssetSource.upload)
+                .build();
+        ReflectionTestUtils.setField(asset, "id", id);
+        ReflectionTestUtils.setField(asset, "blobId", blobId);
+        return asset;
+    }
+
+    private AssetBlob createBlob(Long id, String s3Key) {
+        AssetBlob blob = AssetBlob.builder()
+                .checksum(CHECKSUM)
+                .s3Key(s3Key)
+                .fileSize(1024L)
+                .mimeType("application/pdf")
+                .build();
+        ReflectionTestUtils.setField(blob, "id", id);
+        return blob;
+    }
+
+    @Nested
+    @DisplayName("register 메서드")
+    class Register {
+
+        @Test
+        @DisplayName("성공 - 처음 등록된 파일은 삭제할 사본이 없다")
+        void newBlob() {
+            // given
+            Asset asset = createAsset(1L, "users/1/a.pdf", null);
+            given(assetBlobRepository.upsertAndAcquire(eq(CHECKSUM), eq("users/1/a.pdf"), anyLong(), anyString()))
+                    .willReturn(createBlob(10L, "users/1/a.pdf"));
+
+            // when
+            Optional<String> duplicate = assetBlobService.register(asset, CHECKSUM);
+
+            // then
+            assertThat(duplicate).isEmpty();
+            assertThat(asset.getBlobId()).isEqualTo(10L);
+            assertThat(asset.getChecksum()).isEqualTo(CHECKSUM);
+        }
+
+        @Test
+        @DisplayName("성공 - 이미 있는 파일이면 기존 객체를 공유하고 새 사본 키를 반환한다")
+        void existingBlob() {
+            // given
+            Asset asset = createAsset(2L, "users/2/b.pdf", null);
+            given(assetBlobRepository.upsertAndAcquire(eq(CHECKSUM), eq("users/2/b.pdf"), anyLong(), anyString()))
+                    .willReturn(createBlob(10L, "users/1/a.pdf"));
+
+            // when
+            Optional<String> duplicate = assetBlobService.register(asset, CHECKSUM.toUpperCase());
+
+            // then
+            assertThat(duplicate).contains("users/2/b.pdf");
+            assertThat(asset.getS3Key()).isEqualTo("users/1/a.pdf");
+        }
+    }
+
+    @Nested
+    @DisplayName("release 메서드")
+    class Release {
+
+        @Test
+        @DisplayName("성공 - 공유되지 않은 자산은 원본 키를 그대로 삭제 대상으로 반환한다")
+        void unsharedAsset() {
+            // given
+            Asset asset = createAsset(1L, "users/1/a.pdf", null);
+
+            // when
+            List<String> keys = assetBlobService.release(List.of(asset));
+
+            // then
+            assertThat(keys).containsExactly("users/1/a.pdf");
+            then(assetBlobRepository).should(never()).release(anyLong(), anyInt());
+        }
+
+        @Test
+        @DisplayName("성공 - 공유 객체는 참조가 남아 있으면 삭제하지 않는다")
+        void sharedBlobStillReferenced() {
+            // given
+            Asset asset = createAsset(1L, "users/1/a.pdf", 10L);
+            given(assetBlobRepository.findUnreferencedByIdIn(Set.of(10L))).willReturn(List.of());
+
+            // when
+            List<String> keys = assetBlobService.release(List.of(asset));
+
+            // then
+            assertThat(keys).isEmpty();
+            then(assetBlobRepository).should().release(10L, 1);
+        }
+
+        @Test
+        @DisplayName("성공 - 마지막 참조가 반환되면 공유 객체의 키를 삭제 대상으로 반환한다")
+        void lastReferenceReleased() {
+            // given
+            Asset first = createAsset(1L, "users/1/a.pdf", 10L);
+            Asset second = createAsset(2L, "users/1/a.pdf", 10L);
+            AssetBlob blob = createBlob(10L, "users/1/a.pdf");
+            given(assetBlobRepository.findUnreferencedByIdIn(Set.of(10L))).willReturn(List.of(blob));
+
+            // when
+            List<String> keys = assetBlobService.release(List.of(first, second));
+
+            // then
+            assertThat(keys).containsExactly("users/1/a.pdf");
+            then(assetBlobRepository).should().release(10L, 2);
+            then(assetBlobRepository).should().deleteAllInBatch(List.of(blob));
+        }
+    }
+}
@@ -0,0 +1,234 @@
+package com.proovy.domain.conversation.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.proovy.domain.asset.entity.Asset;
+import com.proovy.domain.asset.repository.AssetRepository;
+import com.proovy.domain.asset.repository.projection.AssetOcrTextView;
+import com.proovy.domain.conversation.entity.ContextEntry;
+import com.proovy.domain.conversation.entity.ConversationContext;
+import com.proovy.domain.conversation.entity.MessageRole;
+import com.proovy.domain.conversation.entity.MessageStatus;
+import com.proovy.domain.conversation.repository.ConversationContextRepository;
+import com.proovy.domain.conversation.repository.MessageAssetRepository;
+import com.proovy.domain.conversation.repository.MessageRepository;
+import com.proovy.domain.conversation.repository.projection.MessageAssetView;
+import com.proovy.domain.conversation.repository.projection.MessageView;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class ConversationContextServiceTest {
+
+    @InjectMocks
+    private ConversationContextService conversationContextService;
+
+    @Mock
+    private ConversationContextRepository conversationContextRepository;
+
+    @Mock
+    private MessageRepository messageRepository;
+
+    @Mock
+    private MessageAssetRepository messageAssetRepository;
+
+    @Mock
+    private AssetRepository assetRepository;
+
+    @Mock
+    private ContextBudgetPolicy contextBudgetPolicy;
+
+    @Spy
+    private ObjectMapper objectMapper = new ObjectMapper();
+
+    @BeforeEach
+    void setUp() {
+        given(contextBudgetPolicy.limitAssetText(anyString())).willAnswer(invocation -> invocation.getArgument(0));
+    }
+
+    private MessageView message(Long id, MessageRole role, MessageStatus status) {
+        return new MessageView() {
+            public Long getId() { return id; }
+            public MessageRole getRole() { return role; }
+            public String getContent() { return "content-" + id; }
+            public MessageStatus getStatus() { return status; }
+            public LocalDateTime getCreatedAt() { return LocalDateTime.now(); }
+        };
+    }
+
+    private MessageAssetView mention(Long messageId, Long assetId) {
+        return new MessageAssetView() {
+            public Long getMessageId() { return messageId; }
+            public Long getAssetId() { return assetId; }
+            public String getFileName() { return "file-" + assetId + ".pdf"; }
+        };
+    }
+
+    private AssetOcrTextView ocr(Long assetId, String ocrText) {
+        return ocr(assetId, Asset.OcrStatus.completed, ocrText);
+    }
+
+    private AssetOcrTextView ocr(Long assetId, Asset.OcrStatus status, String ocrText) {
+        return new AssetOcrTextView() {
+            public Long getId() { return assetId; }
+            public String getFileName() { return "file-" + assetId + ".pdf"; }
+            public Asset.OcrStatus getOcrStatus() { return status; }
+            public String getOcrText() { return ocrText; }
+        };
+    }
+
+    @Test
+    @DisplayName("성공 - 캐시된 컨텍스트 이후의 메시지만 조회해 이어 붙인다")
+    void appendOnlyNewMessages() {
+        // given
+        ConversationContext cached = ConversationContext.empty(5L);
+        cached.append(new ContextEntry("USER", 1L, null, "content-1", 3));
+        cached.advanceTo(2L);
+        given(conversationContextRepository.findById(5L)).willReturn(Optional.of(cached));
+        given(messageRepository.findViewsBetween(5L, 2L, 10L)).willReturn(List.of(
+                message(3L, MessageRole.ASSISTANT, MessageStatus.COMPLETED),
+                message(4L, MessageRole.ASSISTANT, MessageStatus.FAILED),
+                message(9L, MessageRole.USER, MessageStatus.COMPLETED)));
+        given(messageAssetRepository.findViewsByMessageIdIn(List.of(3L, 4L, 9L))).willReturn(List.of());
+
+        // when
+        ConversationContext context = conversationContextService.assemble(5L, 10L);
+
+        // then
+        assertThat(context.getEntries()).extracting(ContextEntry::getMessageId).containsExactly(1L, 3L, 9L);
+        assertThat(context.getLastMessageId()).isEqualTo(9L);
+        then(assetRepository).shouldHaveNoInteractions();
+        then(conversationContextRepository).should().save(context);
+    }
+
+    @Test
+    @DisplayName("성공 - 생성 중인 메시지를 만나면 그 직전까지만 캐시에 반영한다")
+    void stopAtStreamingMessage() {
+        // given
+        given(conversationContextRepository.findById(5L)).willReturn(Optional.empty());
+        given(messageRepository.findViewsBetween(5L, 0L, 10L)).willReturn(List.of(
+                message(1L, MessageRole.USER, MessageStatus.COMPLETED),
+                message(2L, MessageRole.ASSISTANT, MessageStatus.STREAMING),
+                message(3L, MessageRole.USER, MessageStatus.COMPLETED)));
+        given(messageAssetRepository.findViewsByMessageIdIn(List.of(1L, 2L, 3L))).willReturn(List.of());
+
+        // when
+        ConversationContext context = conversationContextService.assemble(5L, 10L);
+
+        // then
+        assertThat(context.getEntries()).extracting(ContextEntry::getMessageId).containsExactly(1L);
+        assertThat(context.getLastMessageId()).isEqualTo(1L);
+        then(conversationContextRepository).should().save(context);
+    }
+
+    @Test
+    @DisplayName("성공 - 이미 포함된 자산은 OCR 텍스트를 다시 조회하지 않는다")
+    void includeAssetOnce() {
+        // given
+        ConversationContext cached = ConversationContext.empty(5L);
+        cached.append(new ContextEntry(ContextEntry.ROLE_ASSET, null, 100L, "[파일: file-100.pdf]", 5));
+        cached.advanceTo(2L);
+        given(conversationContextRepository.findById(5L)).willReturn(Optional.of(cached));
+        given(messageRepository.findViewsBetween(5L, 2L, 10L))
+                .willReturn(List.of(message(9L, MessageRole.USER, MessageStatus.COMPLETED)));
+        given(messageAssetRepository.findViewsByMessageIdIn(List.of(9L)))
+                .willReturn(List.of(mention(9L, 100L), mention(9L, 200L)));
+        given(assetRepository.findOcrTextsByIdIn(Set.of(200L)))
+                .willReturn(List.of(ocr(200L, "{\"fullText\":\"집합론 정리\"}")));
+
+        // when
+        ConversationContext context = conversationContextService.assemble(5L, 10L);
+
+        // then
+        assertThat(context.getEntries()).extracting(ContextEntry::getRole)
+                .containsExactly(ContextEntry.ROLE_ASSET, ContextEntry.ROLE_ASSET, "USER");
+        assertThat(context.getEntries().get(1).getContent()).isEqualTo("[파일: file-200.pdf]\n집합론 정리");
+        assertThat(context.containsAsset(200L)).isTrue();
+    }
+
+    @Test
+    @DisplayName("성공 - 멘션한 자산의 OCR이 진행 중이면 반영을 멈추고, 완료 후 다음 조회에서 포함한다")
+    void waitForOcrInProgress() {
+        // given - 첫 조회 시 OCR 진행 중
+        ConversationContext cached = ConversationContext.empty(5L);
+        cached.append(new ContextEntry("USER", 1L, null, "content-1", 3));
+        cached.advanceTo(2L);
+        given(conversationContextRepository.findById(5L)).willReturn(Optional.of(cached));
+        given(messageRepository.findViewsBetween(5L, 2L, 10L))
+                .willReturn(List.of(message(9L, MessageRole.USER, MessageStatus.COMPLETED)));
+        given(messageAssetRepository.findViewsByMessageIdIn(List.of(9L))).willReturn(List.of(mention(9L, 200L)));
+        given(assetRepository.findOcrTextsByIdIn(Set.of(200L))).willReturn(
+                List.of(ocr(200L, Asset.OcrStatus.processing, null)),
+                List.of(ocr(200L, "{\"fullText\":\"집합론 정리\"}")));
+
+        // when
+        ConversationContext first = conversationContextService.assemble(5L, 10L);
+
+        // then
+        assertThat(first.getLastMessageId()).isEqualTo(2L);
+        assertThat(first.containsAsset(200L)).isFalse();
+        then(conversationContextRepository).should(never()).save(any());
+
+        // when - OCR 완료 후 다시 조회
+        ConversationContext second = conversationContextService.assemble(5L, 10L);
+
+        // then
+        assertThat(second.getLastMessageId()).isEqualTo(9L);
+        assertThat(second.containsAsset(200L)).isTrue();
+        assertThat(second.getEntries()).extracting(ContextEntry::getMessageId).containsExactly(1L, null, 9L);
+    }
+
+    @Test
+    @DisplayName("성공 - OCR에 실패한 자산은 텍스트 없이 건너뛴다")
+    void skipFailedOcr() {
+        // given
+        given(conversationContextRepository.findById(5L)).willReturn(Optional.empty());
+        given(messageRepository.findViewsBetween(5L, 0L, 10L))
+                .willReturn(List.of(message(9L, MessageRole.USER, MessageStatus.COMPLETED)));
+        given(messageAssetRepository.findViewsByMessageIdIn(List.of(9L))).willReturn(List.of(mention(9L, 200L)));
+        given(assetRepository.findOcrTextsByIdIn(Set.of(200L)))
+                .willReturn(List.of(ocr(200L, Asset.OcrStatus.failed, null)));
+
+        // when
+        ConversationContext context = conversationContextService.assemble(5L, 10L);
+
+        // then
+        assertThat(context.getLastMessageId()).isEqualTo(9L);
+        assertThat(context.getEntries()).extracting(ContextEntry::getRole).containsExactly("USER");
+    }
+
+    @Test
+    @DisplayName("성공 - 캐시가 요청 메시지보다 앞서 있으면 처음부터 다시 구성한다")
+    void rebuildWhenCacheIsAhead() {
+        // given
+        ConversationContext cached = ConversationContext.empty(5L);
+        cached.advanceTo(20L);
+        given(conversationContextRepository.findById(5L)).willReturn(Optional.of(cached));
+        given(messageRepository.findViewsBetween(5L, 0L, 10L)).willReturn(List.of());
+
+        // when
+        ConversationContext context = conversationContextService.assemble(5L, 10L);
+
+        // then
+        assertThat(context.getEntries()).isEmpty();
+        then(messageRepository).should().findViewsBetween(5L, 0L, 10L);
+        then(conversationContextRepository).should(never()).save(any());
+    }
+}
@@ -0,0 +1,139 @@
+package com.proovy.domain.conversation.service;
+
+import com.proovy.domain.conversation.dto.response.ConversationHistoryResponse;
+import com.proovy.domain.conversation.entity.MessageRole;
+import com.proovy.domain.conversation.entity.MessageStatus;
+import com.proovy.domain.conversation.repository.ConversationRepository;
+import com.proovy.domain.conversation.repository.MessageAssetRepository;
+import com.proovy.domain.conversation.repository.MessageRepository;
+import com.proovy.domain.conversation.repository.MessageToolRepository;
+import com.proovy.domain.conversation.repository.projection.MessageAssetView;
+import com.proovy.domain.conversation.repository.projection.MessageToolView;
+import com.proovy.domain.conversation.repository.projection.MessageView;
+import com.proovy.global.exception.BusinessException;
+import com.proovy.global.response.ErrorCode;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class ConversationServiceTest {
+
+    @InjectMocks
+    private ConversationService conversationService;
+
+    @Mock
+    private ConversationRepository conversationRepository;
+
+    @Mock
+    private MessageRepository messageRepository;
+
+    @Mock
+    private MessageAssetRepository messageAssetRepository;
+
+    @Mock
+    private MessageToolRepository messageToolRepository;
+
+    private MessageView message(Long id, MessageRole role) {
+        return new MessageView() {
+            public Long getId() { return id; }
+            public MessageRole getRole() { return role; }
+            public String getContent() { return "content-" + id; }
+            public MessageStatus getStatus() { return MessageStatus.COMPLETED; }
+            public LocalDateTime getCreatedAt() { return LocalDateTime.now(); }
+        };
+    }
+
+    private MessageAssetView asset(Long messageId, Long assetId) {
+        return new MessageAssetView() {
+            public Long getMessageId() { return messageId; }
+            public Long getAssetId() { return assetId; }
+            public String getFileName() { return "file-" + assetId + ".pdf"; }
+        };
+    }
+
+    private MessageToolView tool(Long messageId, String toolCode) {
+        return new MessageToolView() {
+            public Long getMessageId() { return messageId; }
+            public String getToolCode() { return toolCode; }
+        };
+    }
+
+    @Nested
+    @DisplayName("getMessages 메서드")
+    class GetMessages {
+
+        @Test
+        @DisplayName("성공 - 메시지/자산/도구를 배치 조회해 시간순으로 조립하고 다음 커서를 반환한다")
+        void success() {
+            // given
+            given(conversationRepository.findOwnerIdById(5L)).willReturn(Optional.of(1L));
+            given(messageRepository.findViewsByConversationId(5L, Long.MAX_VALUE, PageRequest.of(0, 3)))
+                    .willReturn(List.of(
+                            message(12L, MessageRole.ASSISTANT),
+                            message(11L, MessageRole.USER),
+                            message(10L, MessageRole.ASSISTANT)));
+            given(messageAssetRepository.findViewsByMessageIdIn(List.of(12L, 11L)))
+                    .willReturn(List.of(asset(11L, 100L), asset(11L, 101L)));
+            given(messageToolRepository.findViewsByMessageIdIn(List.of(12L, 11L)))
+                    .willReturn(List.of(tool(11L, "SOLUTION"), tool(12L, "SOLUTION")));
+
+            // when
+            ConversationHistoryResponse response = conversationService.getMessages(1L, 5L, null, 2);
+
+            // then
+            assertThat(response.messages()).extracting(ConversationHistoryResponse.MessageDto::messageId)
+                    .containsExactly(11L, 12L);
+            assertThat(response.messages().get(0).mentionedAssets())
+                    .extracting(ConversationHistoryResponse.MentionedAssetDto::assetId)
+                    .containsExactly(100L, 101L);
+            assertThat(response.messages().get(1).mentionedAssets()).isEmpty();
+            assertThat(response.messages().get(1).toolCodes()).containsExactly("SOLUTION");
+            assertThat(response.hasNext()).isTrue();
+            assertThat(response.nextCursor()).isEqualTo(11L);
+        }
+
+        @Test
+        @DisplayName("실패 - 다른 사용자의 대화면 NOTE4031 예외")
+        void notOwner() {
+            // given
+            given(conversationRepository.findOwnerIdById(5L)).willReturn(Optional.of(2L));
+
+            // when & then
+            assertThatThrownBy(() -> conversationService.getMessages(1L, 5L, null, 30))
+                    .isInstanceOf(BusinessException.class)
+                    .extracting("errorCode")
+                    .isEqualTo(ErrorCode.NOTE4031);
+            then(messageRepository).shouldHaveNoInteractions();
+        }
+
+        @Test
+        @DisplayName("실패 - 대화가 없으면 CONVERSATION4041 예외")
+        void notFound() {
+            // given
+            given(conversationRepository.findOwnerIdById(5L)).willReturn(Optional.empty());
+
+            // when & then
+            assertThatThrownBy(() -> conversationService.getMessages(1L, 5L, null, 30))
+                    .isInstanceOf(BusinessException.class)
+                    .extracting("errorCode")
+                    .isEqualTo(ErrorCode.CONVERSATION4041);
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package com.proovy.domain.conversation.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class MessageContentBufferTest {
+
+    @InjectMocks
+    private MessageContentBuffer messageContentBuffer;
+
+    @Mock
+    private MessageService messageService;
+
+    @Test
+    @DisplayName("기준 미만의 조각은 저장하지 않고, 중단 시 모인 조각을 한 번에 저장한다")
+    void coalesceUntilFlush() {
+        // given
+        messageContentBuffer.append(10L, "집합");
+        messageContentBuffer.append(10L, "론 ");
+        messageContentBuffer.append(10L, "해설");
+        then(messageService).shouldHaveNoInteractions();
+
+        // when
+        messageContentBuffer.flushAndRemove(10L);
+
+        // then
+        then(messageService).should(times(1)).appendStreamedContent(10L, "집합론 해설");
+    }
+
+    @Test
+    @DisplayName("크기 기준을 넘으면 별도 스레드에서 한 번 저장한다")
+    void flushOnSize() {
+        // given
+        String token = "a".repeat(1024);
+
+        // when
+        for (int i = 0; i < 4; i++) {
+            messageContentBuffer.append(10L, token);
+        }
+
+        // then
+        then(messageService).should(timeout(1000).times(1)).appendStreamedContent(10L, token.repeat(4));
+    }
+
+    @Test
+    @DisplayName("완료/실패로 버퍼를 버리면 중간 저장하지 않는다")
+    void discard() {
+        // given
+        messageContentBuffer.append(10L, "해설");
+
+        // when
+        messageContentBuffer.discard(10L);
+        messageContentBuffer.flushAndRemove(10L);
+
+        // then
+        then(messageService).should(never()).appendStreamedContent(anyLong(), anyString());
+    }
+}
@@ -0,0 +1,187 @@
+package com.proovy.domain.conversation.service;
+
+import com.proovy.domain.conversation.dto.response.MessageStreamEvent;
+import com.proovy.domain.conversation.entity.ContextEntry;
+import com.proovy.domain.conversation.entity.ConversationContext;
+import com.proovy.domain.conversation.entity.MessageStatus;
+import com.proovy.domain.conversation.service.MessageService.StreamTarget;
+import com.proovy.domain.credit.service.CreditService;
+import com.proovy.global.exception.BusinessException;
+import com.proovy.global.infra.http.AiServerClient;
+import com.proovy.global.response.ErrorCode;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.codec.ServerSentEvent;
+import reactor.core.publisher.Flux;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class MessageStreamServiceTest {
+
+    @InjectMocks
+    private MessageStreamService messageStreamService;
+
+    @Mock
+    private MessageService messageService;
+
+    @Mock
+    private AiServerClient aiServerClient;
+
+    @Mock
+    private MessageContentBuffer messageContentBuffer;
+
+    @Mock
+    private ConversationContextService conversationContextService;
+
+    @Mock
+    private CreditService creditService;
+
+    @Test
+    @DisplayName("성공 - 응답 조각을 token 이벤트로 전달하고 완료 시 전체 내용을 한 번 저장한다")
+    void streamAndPersist() {
+        // given
+        given(messageService.getStreamTarget(1L, 10L))
+                .willReturn(new StreamTarget(10L, 5L, MessageStatus.STREAMING, "", "질문", null));
+        given(aiServerClient.streamChat(any())).willReturn(Flux.just("집합", "론 ", "해설"));
+
+        // when
+        List<ServerSentEvent<MessageStreamEvent>> events = messageStreamService.stream(1L, 10L)
+                .collectList()
+                .block();
+
+        // then
+        assertThat(events).extracting(ServerSentEvent::event)
+                .containsExactly("token", "token", "token", "done");
+        assertThat(events.get(0).data().delta()).isEqualTo("집합");
+        then(messageService).should(times(1)).finishStreaming(10L, "집합론 해설", MessageStatus.COMPLETED);
+        then(messageContentBuffer).should(times(3)).append(eq(10L), anyString());
+        then(messageContentBuffer).should().discard(10L);
+    }
+
+    @Test
+    @DisplayName("성공 - 중간 저장된 내용이 있으면 먼저 전달하고 AI 서버에 이어서 생성을 요청한다")
+    void resumeFromPartial() {
+        // given
+        given(messageService.getStreamTarget(1L, 10L))
+                .willReturn(new StreamTarget(10L, 5L, MessageStatus.STREAMING, "집합론 ", "질문", "집합론 "));
+        given(aiServerClient.streamChat(any())).willReturn(Flux.just("해설"));
+        given(conversationContextService.assemble(5L, 10L)).willReturn(ConversationContext.empty(5L));
+
+        // when
+        List<ServerSentEvent<MessageStreamEvent>> events = messageStreamService.stream(1L, 10L)
+                .collectList()
+                .block();
+
+        // then
+        assertThat(events).extracting(ServerSentEvent::event).containsExactly("token", "token", "done");
+        assertThat(events.get(0).data().delta()).isEqualTo("집합론 ");
+        then(aiServerClient).should().streamChat(
+                new AiServerClient.ChatStreamRequest(10L, 5L, "질문", "집합론 ", List.of()));
+        then(messageService).should().finishStreaming(10L, "집합론 해설", MessageStatus.COMPLETED);
+    }
+
+    @Test
+    @DisplayName("성공 - 이전 대화를 컨텍스트로 전달하고 현재 질문은 prompt로만 전달한다")
+    void sendContext() {
+        // given
+        ConversationContext context = ConversationContext.empty(5L);
+        context.append(new ContextEntry("USER", 1L, null, "이전 질문", 2));
+        context.append(new ContextEntry("ASSISTANT", 2L, null, "이전 답변", 2));
+        context.append(new ContextEntry("USER", 9L, null, "질문", 1));
+        given(messageService.getStreamTarget(1L, 10L))
+                .willReturn(new StreamTarget(10L, 5L, MessageStatus.STREAMING, "", "질문", null));
+        given(conversationContextService.assemble(5L, 10L)).willReturn(context);
+        given(aiServerClient.streamChat(any())).willReturn(Flux.just("답변"));
+
+        // when
+        messageStreamService.stream(1L, 10L).collectList().block();
+
+        // then
+        then(aiServerClient).should().streamChat(new AiServerClient.ChatStreamRequest(10L, 5L, "질문", null, List.of(
+                new AiServerClient.ContextTurn("USER", "이전 질문"),
+                new AiServerClient.ContextTurn("ASSISTANT", "이전 답변"))));
+    }
+
+    @Test
+    @DisplayName("실패 - AI 서버 오류 시 받은 내용까지 FAILED로 저장하고 error 이벤트로 종료한다")
+    void aiServerError() {
+        // given
+        given(messageService.getStreamTarget(1L, 10L))
+                .willReturn(new StreamTarget(10L, 5L, MessageStatus.STREAMING, "", "질문", null));
+        given(aiServerClient.streamChat(any()))
+                .willReturn(Flux.concat(Flux.just("부분"), Flux.error(new IllegalStateException("reset"))));
+
+        // when
+        List<ServerSentEvent<MessageStreamEvent>> events = messageStreamService.stream(1L, 10L)
+                .collectList()
+                .block();
+
+        // then
+        assertThat(events).extracting(ServerSentEvent::event).containsExactly("token", "error");
+        assertThat(events.get(1).data().code()).isEqualTo(ErrorCode.MESSAGE5021.getCode());
+        then(messageService).should().finishStreaming(10L, "부분", MessageStatus.FAILED);
+        then(creditService).should().refund(1L, "10");
+    }
+
+    @Test
+    @DisplayName("실패 - 크레딧이 부족하면 AI 서버를 호출하지 않는다")
+    void insufficientCredit() {
+        // given
+        given(messageService.getStreamTarget(1L, 10L))
+                .willReturn(new StreamTarget(10L, 5L, MessageStatus.STREAMING, "", "질문", null));
+        willThrow(new BusinessException(ErrorCode.CREDIT4031)).given(creditService).debit(1L, "10", 1);
+
+        // when & then
+        assertThatThrownBy(() -> messageStreamService.stream(1L, 10L))
+                .isInstanceOf(BusinessException.class)
+                .extracting("errorCode")
+                .isEqualTo(ErrorCode.CREDIT4031);
+        then(aiServerClient).shouldHaveNoInteractions();
+    }
+
+    @Test
+    @DisplayName("성공 - 구독하지 않은 스트림은 스트리밍 중으로 표시하지 않는다")
+    void markStreamingOnSubscribe() {
+        // given
+        given(messageService.getStreamTarget(1L, 10L))
+                .willReturn(new StreamTarget(10L, 5L, MessageStatus.STREAMING, "", "질문", null));
+        given(aiServerClient.streamChat(any())).willReturn(Flux.just("답변"));
+
+        // when - 첫 스트림은 구독 전에 버려짐
+        messageStreamService.stream(1L, 10L);
+        List<ServerSentEvent<MessageStreamEvent>> events = messageStreamService.stream(1L, 10L)
+                .collectList()
+                .block();
+
+        // then
+        assertThat(events).extracting(ServerSentEvent::event).containsExactly("token", "done");
+        then(aiServerClient).should(times(1)).streamChat(any());
+    }
+
+    @Test
+    @DisplayName("성공 - 이미 완료된 메시지는 AI 서버를 호출하지 않고 최종 내용을 done 이벤트로 반환한다")
+    void alreadyCompleted() {
+        // given
+        given(messageService.getStreamTarget(1L, 10L))
+                .willReturn(new StreamTarget(10L, 5L, MessageStatus.COMPLETED, "완성된 해설", null, null));
+
+        // when
+        List<ServerSentEvent<MessageStreamEvent>> events = messageStreamService.stream(1L, 10L)
+                .collectList()
+                .block();
+
+        // then
+        assertThat(events).hasSize(1);
+        assertThat(events.get(0).data().content()).isEqualTo("완성된 해설");
+        then(aiServerClient).shouldHaveNoInteractions();
+    }
+}
@@ -0,0 +1,73 @@
+package com.proovy.domain.credit.service;
+
+import com.proovy.domain.credit.entity.CreditLedger;
+import com.proovy.domain.credit.entity.CreditReason;
+import com.proovy.domain.credit.repository.CreditLedgerRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class CreditLedgerWriterTest {
+
+    @InjectMocks
+    private CreditLedgerWriter creditLedgerWriter;
+
+    @Mock
+    private CreditLedgerRepository creditLedgerRepository;
+
+    private CreditLedger entry(String referenceId) {
+        return CreditLedger.builder()
+                .userId(1L)
+                .dailyAmount(1)
+                .monthlyAmount(0)
+                .reason(CreditReason.CHAT)
+                .referenceId(referenceId)
+                .build();
+    }
+
+    @Test
+    @DisplayName("성공 - 종료 시 아직 저장되지 않은 기록을 저장한다")
+    void flushOnShutdown() {
+        // given
+        CreditLedger first = entry("10");
+        CreditLedger second = entry("11");
+        creditLedgerWriter.append(first);
+        creditLedgerWriter.append(second);
+
+        // when
+        creditLedgerWriter.flushOnShutdown();
+
+        // then
+        then(creditLedgerRepository).should().saveAll(List.of(first, second));
+    }
+
+    @Test
+    @DisplayName("실패 - 저장에 실패한 기록은 다음 주기에 다시 저장한다")
+    void retryAfterFailure() {
+        // given
+        CreditLedger first = entry("10");
+        creditLedgerWriter.append(first);
+        given(creditLedgerRepository.saveAll(anyList()))
+                .willThrow(new RuntimeException("db down"))
+                .willReturn(List.of(first));
+
+        // when
+        creditLedgerWriter.flush();
+        creditLedgerWriter.flush();
+
+        // then
+        then(creditLedgerRepository).should(times(2)).saveAll(List.of(first));
+    }
+}
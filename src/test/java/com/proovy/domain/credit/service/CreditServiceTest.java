@@ -0,0 +1,218 @@
+package com.proovy.domain.credit.service;
+
+import com.proovy.domain.credit.entity.CreditLedger;
+import com.proovy.domain.credit.entity.CreditReason;
+import com.proovy.domain.credit.repository.CreditLedgerRepository;
+import com.proovy.domain.user.entity.PlanType;
+import com.proovy.domain.user.service.PlanResolver;
+import com.proovy.global.exception.BusinessException;
+import com.proovy.global.response.ErrorCode;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class CreditServiceTest {
+
+    @InjectMocks
+    private CreditService creditService;
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    @Mock
+    private CreditLedgerRepository creditLedgerRepository;
+
+    @Mock
+    private CreditLedgerWriter creditLedgerWriter;
+
+    @Mock
+    private PlanResolver planResolver;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    @BeforeEach
+    void setUp() {
+        given(redisTemplate.opsForValue()).willReturn(valueOperations);
+        given(planResolver.resolvePlanType(1L)).willReturn(PlanType.FREE);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void givenDebitResults(List<Long> first, List<Long>... next) {
+        given(redisTemplate.execute(any(RedisScript.class), anyList(), any(), any(), any(), any(), any()))
+                .willReturn(first, (Object[]) next);
+    }
+
+    @Nested
+    @DisplayName("크레딧 차감")
+    class Debit {
+
+        @Test
+        @DisplayName("성공 - 차감 결과를 원장에 기록한다")
+        void success() {
+            // given
+            givenDebitResults(List.of(1L, 0L, 0L));
+
+            // when
+            creditService.debit(1L, "10", 1);
+
+            // then
+            ArgumentCaptor<CreditLedger> captor = ArgumentCaptor.forClass(CreditLedger.class);
+            then(creditLedgerWriter).should().append(captor.capture());
+            assertThat(captor.getValue().getDailyAmount()).isEqualTo(1);
+            assertThat(captor.getValue().getMonthlyAmount()).isZero();
+            assertThat(captor.getValue().getReason()).isEqualTo(CreditReason.CHAT);
+            assertThat(captor.getValue().getReferenceId()).isEqualTo("10");
+        }
+
+        @Test
+        @DisplayName("성공 - Redis에 사용량이 없으면 원장으로 복구한 뒤 다시 차감한다")
+        void seedAndRetry() {
+            // given
+            givenDebitResults(List.of(-1L, -1L, 0L), List.of(0L, 1L, 0L));
+            given(creditLedgerRepository.sumDailyAmount(eq(1L), any(), any())).willReturn(5L);
+            given(creditLedgerRepository.sumMonthlyAmount(eq(1L), any(), any())).willReturn(7L);
+
+            // when
+            creditService.debit(1L, "10", 1);
+
+            // then
+            then(valueOperations).should().setIfAbsent(startsWith("credit:{1}:daily:"), eq("5"), any(Duration.class));
+            then(valueOperations).should().setIfAbsent(startsWith("credit:{1}:monthly:"), eq("7"), any(Duration.class));
+            then(creditLedgerWriter).should().append(any(CreditLedger.class));
+        }
+
+        @Test
+        @DisplayName("성공 - 이미 차감된 참조는 원장에 다시 기록하지 않는다")
+        void alreadyCharged() {
+            // given
+            givenDebitResults(List.of(0L, 0L, 1L));
+
+            // when
+            creditService.debit(1L, "10", 1);
+
+            // then
+            then(creditLedgerWriter).should(never()).append(any());
+        }
+
+        @Test
+        @DisplayName("실패 - 잔액이 부족하면 CREDIT4031")
+        void insufficient() {
+            // given
+            givenDebitResults(List.of(-2L, -2L, 0L));
+
+            // when & then
+            assertThatThrownBy(() -> creditService.debit(1L, "10", 1))
+                    .isInstanceOf(BusinessException.class)
+                    .extracting("errorCode")
+                    .isEqualTo(ErrorCode.CREDIT4031);
+            then(creditLedgerWriter).should(never()).append(any());
+        }
+
+        @Test
+        @DisplayName("성공 - Redis 장애 시 차감 없이 통과한다")
+        void redisFailure() {
+            // given
+            given(redisTemplate.execute(any(RedisScript.class), anyList(), any(), any(), any(), any(), any()))
+                    .willThrow(new RedisConnectionFailureException("down"));
+
+            // when & then
+            assertThatCode(() -> creditService.debit(1L, "10", 1)).doesNotThrowAnyException();
+            then(creditLedgerWriter).should(never()).append(any());
+        }
+    }
+
+    @Nested
+    @DisplayName("크레딧 환불")
+    class Refund {
+
+        @Test
+        @DisplayName("성공 - 차감된 만큼 음수로 원장에 기록한다")
+        void success() {
+            // given
+            given(valueOperations.get("credit:{1}:charged:10")).willReturn("1:0:20261019120000");
+            given(redisTemplate.execute(any(RedisScript.class), anyList(), any())).willReturn(List.of(1L, 0L));
+
+            // when
+            creditService.refund(1L, "10");
+
+            // then
+            ArgumentCaptor<CreditLedger> captor = ArgumentCaptor.forClass(CreditLedger.class);
+            then(creditLedgerWriter).should().append(captor.capture());
+            assertThat(captor.getValue().getDailyAmount()).isEqualTo(-1);
+            assertThat(captor.getValue().getReason()).isEqualTo(CreditReason.REFUND);
+        }
+
+        @Test
+        @DisplayName("성공 - 자정을 넘겨 환불해도 차감한 날의 사용량과 원장에 반영한다")
+        void refundToChargedPeriod() {
+            // given
+            given(valueOperations.get("credit:{1}:charged:10")).willReturn("1:2:20261018235959");
+            given(redisTemplate.execute(any(RedisScript.class), anyList(), any())).willReturn(List.of(1L, 2L));
+
+            // when
+            creditService.refund(1L, "10");
+
+            // then
+            then(redisTemplate).should().execute(any(RedisScript.class), eq(List.of(
+                    "credit:{1}:daily:20261018",
+                    "credit:{1}:monthly:202610",
+                    "credit:{1}:charged:10")), eq("1:2:20261018235959"));
+            ArgumentCaptor<CreditLedger> captor = ArgumentCaptor.forClass(CreditLedger.class);
+            then(creditLedgerWriter).should().append(captor.capture());
+            assertThat(captor.getValue().getMonthlyAmount()).isEqualTo(-2);
+            assertThat(captor.getValue().getCreatedAt()).isEqualTo(LocalDateTime.of(2026, 10, 18, 23, 59, 59));
+        }
+
+        @Test
+        @DisplayName("성공 - 차감 기록이 없으면 무시한다")
+        void notCharged() {
+            // given
+            given(valueOperations.get("credit:{1}:charged:10")).willReturn(null);
+
+            // when
+            creditService.refund(1L, "10");
+
+            // then
+            then(redisTemplate).should(never()).execute(any(RedisScript.class), anyList(), any());
+            then(creditLedgerWriter).should(never()).append(any());
+        }
+    }
+
+    @Test
+    @DisplayName("성공 - 잔액은 플랜 한도에서 사용량을 뺀 값이다")
+    void getBalance() {
+        // given
+        given(valueOperations.multiGet(anyList())).willReturn(List.of("3", "10"));
+
+        // when
+        CreditService.CreditBalance balance = creditService.getBalance(1L, PlanType.FREE);
+
+        // then
+        assertThat(balance.dailyBalance()).isEqualTo(PlanType.FREE.getDailyCreditLimit() - 3);
+        assertThat(balance.monthlyBalance()).isEqualTo(Math.max(PlanType.FREE.getMonthlyCreditLimit() - 10, 0));
+        assertThat(balance.totalAvailable()).isEqualTo(balance.dailyBalance() + balance.monthlyBalance());
+    }
+}
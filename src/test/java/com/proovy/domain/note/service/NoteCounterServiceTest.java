@@ -0,0 +1,90 @@
+package com.proovy.domain.note.service;
+
+import com.proovy.domain.asset.entity.AssetStatus;
+import com.proovy.domain.asset.event.AssetUsageChangedEvent;
+import com.proovy.domain.note.repository.NoteRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class NoteCounterServiceTest {
+
+    @InjectMocks
+    private NoteCounterService noteCounterService;
+
+    @Mock
+    private NoteRepository noteRepository;
+
+    private AssetUsageChangedEvent event(AssetStatus fromStatus, AssetStatus toStatus) {
+        return new AssetUsageChangedEvent(1L, 10L, "application/pdf", 1024L, fromStatus, toStatus);
+    }
+
+    @Nested
+    @DisplayName("applyAssetChange 메서드")
+    class ApplyAssetChange {
+
+        @Test
+        @DisplayName("성공 - 자산 생성 시 노트 자산 수를 1 증가시킨다")
+        void created() {
+            // when
+            noteCounterService.applyAssetChange(event(null, AssetStatus.PENDING));
+
+            // then
+            then(noteRepository).should().addAssetCount(10L, 1);
+        }
+
+        @Test
+        @DisplayName("성공 - 자산 삭제 시 노트 자산 수를 1 감소시킨다")
+        void deleted() {
+            // when
+            noteCounterService.applyAssetChange(event(AssetStatus.UPLOADED, null));
+
+            // then
+            then(noteRepository).should().addAssetCount(10L, -1);
+        }
+
+        @Test
+        @DisplayName("성공 - 상태 변경은 자산 수를 바꾸지 않는다")
+        void statusChanged() {
+            // when
+            noteCounterService.applyAssetChange(event(AssetStatus.PENDING, AssetStatus.UPLOADED));
+
+            // then
+            then(noteRepository).should(never()).addAssetCount(anyLong(), anyInt());
+        }
+    }
+
+    @Nested
+    @DisplayName("applyAssetChanges 메서드")
+    class ApplyAssetChanges {
+
+        @Test
+        @DisplayName("성공 - 여러 자산 삭제를 노트별로 합산해 노트당 한 번만 반영한다")
+        void aggregatesPerNote() {
+            // given
+            List<AssetUsageChangedEvent> events = List.of(
+                    event(AssetStatus.UPLOADED, null),
+                    event(AssetStatus.UPLOADED, null),
+                    new AssetUsageChangedEvent(1L, 20L, "application/pdf", 1024L, AssetStatus.PENDING, null)
+            );
+
+            // when
+            noteCounterService.applyAssetChanges(events);
+
+            // then
+            then(noteRepository).should().addAssetCount(10L, -2);
+            then(noteRepository).should().addAssetCount(20L, -1);
+            then(noteRepository).shouldHaveNoMoreInteractions();
+        }
+    }
+}
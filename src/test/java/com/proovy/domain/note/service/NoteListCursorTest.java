@@ -0,0 +1,75 @@
+package com.proovy.domain.note.service;
+
+import com.proovy.global.exception.BusinessException;
+import com.proovy.global.response.ErrorCode;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.*;
+
+class NoteListCursorTest {
+
+    @Test
+    @DisplayName("인코딩한 커서를 같은 정렬 기준으로 해석하면 값과 ID가 복원된다")
+    void roundTrip() {
+        // given
+        LocalDateTime updatedAt = LocalDateTime.of(2025, 3, 1, 12, 30, 15, 123456000);
+        String cursor = new NoteListCursor(NoteListCursor.SortKey.LAST_USED_AT, updatedAt.toString(), 42L).encode();
+
+        // when
+        NoteListCursor decoded = NoteListCursor.decode(cursor, NoteListCursor.SortKey.LAST_USED_AT);
+
+        // then
+        assertThat(decoded.timestamp()).isEqualTo(updatedAt);
+        assertThat(decoded.id()).isEqualTo(42L);
+    }
+
+    @Test
+    @DisplayName("제목 커서는 구분자를 포함한 제목도 그대로 복원된다")
+    void titleWithDelimiter() {
+        // given
+        String title = "미적분\n정리";
+        String cursor = new NoteListCursor(NoteListCursor.SortKey.TITLE, title, 7L).encode();
+
+        // when
+        NoteListCursor decoded = NoteListCursor.decode(cursor, NoteListCursor.SortKey.TITLE);
+
+        // then
+        assertThat(decoded.value()).isEqualTo(title);
+        assertThat(decoded.id()).isEqualTo(7L);
+    }
+
+    @Test
+    @DisplayName("다른 정렬 기준으로 발급된 커서는 NOTE4005 예외")
+    void sortKeyMismatch() {
+        String cursor = new NoteListCursor(NoteListCursor.SortKey.TITLE, "a", 1L).encode();
+
+        assertThatThrownBy(() -> NoteListCursor.decode(cursor, NoteListCursor.SortKey.CREATED_AT))
+                .isInstanceOf(BusinessException.class)
+                .extracting("errorCode")
+                .isEqualTo(ErrorCode.NOTE4005);
+    }
+
+    @ParameterizedTest
+    @DisplayName("형식이 잘못된 커서는 NOTE4005 예외")
+    @ValueSource(strings = {"not-base64!", "TEFTVF9VU0VEX0FU", "TEFTVF9VU0VEX0FUCmFiYwp4"})
+    void malformed(String cursor) {
+        assertThatThrownBy(() -> NoteListCursor.decode(cursor, NoteListCursor.SortKey.LAST_USED_AT))
+                .isInstanceOf(BusinessException.class)
+                .extracting("errorCode")
+                .isEqualTo(ErrorCode.NOTE4005);
+    }
+
+    @Test
+    @DisplayName("정렬 파라미터는 정렬 키로 매핑되고, 알 수 없는 값은 마지막 사용순")
+    void sortKeyFrom() {
+        assertThat(NoteListCursor.SortKey.from("createdAt,desc")).isEqualTo(NoteListCursor.SortKey.CREATED_AT);
+        assertThat(NoteListCursor.SortKey.from("title,asc")).isEqualTo(NoteListCursor.SortKey.TITLE);
+        assertThat(NoteListCursor.SortKey.from("lastUsedAt,desc")).isEqualTo(NoteListCursor.SortKey.LAST_USED_AT);
+        assertThat(NoteListCursor.SortKey.from("unknown")).isEqualTo(NoteListCursor.SortKey.LAST_USED_AT);
+    }
+}
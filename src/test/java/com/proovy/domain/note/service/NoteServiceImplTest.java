@@ -0,0 +1,203 @@
+package com.proovy.domain.note.service;
+
+import com.proovy.domain.asset.repository.AssetRepository;
+import com.proovy.domain.asset.repository.projection.AssetSummaryView;
+import com.proovy.domain.conversation.repository.ConversationRepository;
+import com.proovy.domain.conversation.repository.MessageAssetRepository;
+import com.proovy.domain.conversation.repository.MessageRepository;
+import com.proovy.domain.conversation.repository.MessageToolRepository;
+import com.proovy.domain.note.dto.request.CreateNoteRequest;
+import com.proovy.domain.note.dto.response.NoteListResponse;
+import com.proovy.domain.note.repository.NoteRepository;
+import com.proovy.domain.note.repository.projection.NoteListView;
+import com.proovy.domain.note.repository.projection.NoteSearchView;
+import com.proovy.domain.user.entity.PlanType;
+import com.proovy.domain.user.entity.User;
+import com.proovy.domain.user.repository.UserRepository;
+import com.proovy.domain.user.service.PlanResolver;
+import com.proovy.domain.user.service.QuotaReservationService;
+import com.proovy.global.exception.BusinessException;
+import com.proovy.global.metrics.OperationMetrics;
+import com.proovy.global.metrics.RequestBudget;
+import com.proovy.global.outbox.OutboxPublisher;
+import com.proovy.global.response.ErrorCode;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.LongStream;
+
+import static com.proovy.global.metrics.RequestBudgetAssertions.*;
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.AdditionalAnswers.returnsFirstArg;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+class NoteServiceImplTest {
+
+    // 노트 생성 1건의 SQL 상한 (플랜, 사용자, 한도 예약, 자산 검증, 노트/아웃박스/대화/메시지 2건/자산 연결/도구 연결 2건)
+    private static final int CREATE_NOTE_SQL_BUDGET = 12;
+
+    private NoteServiceImpl noteService;
+
+    private NoteRepository noteRepository;
+    private UserRepository userRepository;
+    private ConversationRepository conversationRepository;
+    private MessageRepository messageRepository;
+    private AssetRepository assetRepository;
+    private PlanResolver planResolver;
+
+    @BeforeEach
+    void setUp() {
+        // DB를 사용하는 협력 객체는 호출마다 SQL 1회로 집계
+        noteRepository = mock(NoteRepository.class, countingStatements());
+        userRepository = mock(UserRepository.class, countingStatements());
+        conversationRepository = mock(ConversationRepository.class, countingStatements());
+        messageRepository = mock(MessageRepository.class, countingStatements());
+        assetRepository = mock(AssetRepository.class, countingStatements());
+        planResolver = mock(PlanResolver.class, countingStatements());
+
+        noteService = new NoteServiceImpl(
+                noteRepository,
+                userRepository,
+                conversationRepository,
+                messageRepository,
+                mock(MessageAssetRepository.class, countingStatements()),
+                mock(MessageToolRepository.class, countingStatements()),
+                assetRepository,
+                planResolver,
+                mock(QuotaReservationService.class, countingStatements()),
+                mock(OutboxPublisher.class, countingStatements()),
+                new OperationMetrics(new SimpleMeterRegistry())
+        );
+
+        User user = User.builder()
+                .nickname("테스트유저")
+                .build();
+        ReflectionTestUtils.setField(user, "id", 1L);
+
+        given(planResolver.resolvePlanType(1L)).willReturn(PlanType.FREE);
+        given(userRepository.findById(1L)).willReturn(Optional.of(user));
+        given(noteRepository.save(any())).willAnswer(returnsFirstArg());
+        given(conversationRepository.save(any())).willAnswer(returnsFirstArg());
+        given(messageRepository.save(any())).willAnswer(returnsFirstArg());
+        given(assetRepository.findSummariesByIdInAndUserId(anyList(), eq(1L))).willAnswer(invocation -> {
+            List<Long> ids = invocation.getArgument(0);
+            return ids.stream().map(id -> assetSummary(id)).toList();
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestBudget.end();
+    }
+
+    private AssetSummaryView assetSummary(Long id) {
+        AssetSummaryView view = mock(AssetSummaryView.class);
+        given(view.getId()).willReturn(id);
+        given(view.getFileName()).willReturn("file" + id + ".pdf");
+        return view;
+    }
+
+    private CreateNoteRequest request(int assetCount) {
+        List<Long> assetIds = LongStream.rangeClosed(1, assetCount).boxed().toList();
+        return new CreateNoteRequest("집합의 원소 개수를 구해줘", assetIds, List.of("SOLUTION", "GRAPH"));
+    }
+
+    @Nested
+    @DisplayName("createNote 요청 사용량")
+    class CreateNoteBudget {
+
+        @Test
+        @DisplayName("성공 - 자산과 도구를 언급한 노트 생성이 SQL 상한 이내로 끝난다")
+        void withinBudget() {
+            // when & then
+            assertSqlStatementsAtMost(CREATE_NOTE_SQL_BUDGET, () -> noteService.createNote(1L, request(3)));
+        }
+
+        @Test
+        @DisplayName("성공 - 언급한 자산 수가 늘어도 SQL 실행 수는 늘지 않는다")
+        void independentOfAssetCount() {
+            // when
+            RequestBudget single = measure(() -> noteService.createNote(1L, request(1)));
+            RequestBudget many = measure(() -> noteService.createNote(1L, request(20)));
+
+            // then
+            assertThat(many.getSqlStatements()).isEqualTo(single.getSqlStatements());
+        }
+    }
+
+    @Nested
+    @DisplayName("searchNotes 메서드")
+    class SearchNotes {
+
+        private NoteSearchView searchView(Long id, double score) {
+            NoteSearchView view = mock(NoteSearchView.class);
+            given(view.getId()).willReturn(id);
+            given(view.getScore()).willReturn(score);
+            return view;
+        }
+
+        private NoteListView listView(Long id, String title) {
+            NoteListView view = mock(NoteListView.class);
+            given(view.getId()).willReturn(id);
+            given(view.getTitle()).willReturn(title);
+            given(view.getConversationCount()).willReturn(5);
+            return view;
+        }
+
+        @Test
+        @DisplayName("성공 - 정규화한 검색어와 이스케이프한 패턴으로 검색하고 관련도 순서를 유지한다")
+        void rankedByScore() {
+            // given
+            given(noteRepository.searchByTitle(eq(1L), anyString(), anyString(), any()))
+                    .willReturn(new PageImpl<>(List.of(searchView(20L, 0.9), searchView(10L, 0.4)),
+                            PageRequest.of(0, 20), 2));
+            given(noteRepository.findByIdIn(List.of(20L, 10L)))
+                    .willReturn(List.of(listView(10L, "100% 집합 정리"), listView(20L, "100% 집합")));
+
+            // when
+            NoteListResponse response = noteService.searchNotes(1L, "  100% 집합 ", 0, 20);
+
+            // then
+            then(noteRepository).should().searchByTitle(1L, "%100\\% 집합%", "100% 집합", PageRequest.of(0, 20));
+            assertThat(response.notes()).extracting(NoteListResponse.NoteDto::noteId).containsExactly(20L, 10L);
+            assertThat(response.notes().get(0).conversationLimit())
+                    .isEqualTo(PlanType.FREE.getConversationLimit());
+            assertThat(response.pageInfo().totalElements()).isEqualTo(2L);
+        }
+
+        @Test
+        @DisplayName("성공 - 페이지 크기는 최대 50으로 제한한다")
+        void limitPageSize() {
+            // given
+            given(noteRepository.searchByTitle(eq(1L), anyString(), anyString(), any()))
+                    .willReturn(new PageImpl<>(List.of(), PageRequest.of(0, 50), 0));
+
+            // when
+            noteService.searchNotes(1L, "집합", 0, 500);
+
+            // then
+            then(noteRepository).should().searchByTitle(1L, "%집합%", "집합", PageRequest.of(0, 50));
+        }
+
+        @Test
+        @DisplayName("실패 - 공백을 제외한 검색어가 2자 미만이면 예외가 발생한다")
+        void tooShortKeyword() {
+            // when & then
+            assertThatThrownBy(() -> noteService.searchNotes(1L, " 집 ", 0, 20))
+                    .isInstanceOf(BusinessException.class)
+                    .extracting("errorCode")
+                    .isEqualTo(ErrorCode.NOTE4004);
+            then(noteRepository).should(never()).searchByTitle(anyLong(), anyString(), anyString(), any());
+        }
+    }
+}
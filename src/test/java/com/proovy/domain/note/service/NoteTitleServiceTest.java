@@ -0,0 +1,66 @@
+package com.proovy.domain.note.service;
+
+import com.proovy.domain.note.entity.Note;
+import com.proovy.domain.note.entity.TitleSource;
+import com.proovy.domain.note.repository.NoteRepository;
+import com.proovy.global.infra.http.AiServerClient.TitleResult;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class NoteTitleServiceTest {
+
+    @InjectMocks
+    private NoteTitleService noteTitleService;
+
+    @Mock
+    private NoteRepository noteRepository;
+
+    @Test
+    @DisplayName("성공 - 임시 제목 상태인 노트에만 반영하고 반영된 제목만 반환한다")
+    void applyOnlyPendingNotes() {
+        // given
+        given(noteRepository.applyGeneratedTitle(1L, "집합론 기초")).willReturn(1);
+        given(noteRepository.applyGeneratedTitle(2L, "사용자가 바꾼 노트")).willReturn(0);
+
+        // when
+        List<TitleResult> applied = noteTitleService.applyGeneratedTitles(List.of(
+                new TitleResult(1L, "  집합론 기초 "),
+                new TitleResult(2L, "사용자가 바꾼 노트"),
+                new TitleResult(3L, " ")));
+
+        // then
+        assertThat(applied).containsExactly(new TitleResult(1L, "집합론 기초"));
+        then(noteRepository).should(never()).applyGeneratedTitle(eq(3L), anyString());
+    }
+
+    @Test
+    @DisplayName("성공 - 제목 생성을 포기하면 임시 제목 상태인 노트만 임시 제목으로 확정한다")
+    void keepTemporaryTitlesOfPendingNotes() {
+        // given
+        Note note = Note.builder().title("집합론 질문").titleSource(TitleSource.PENDING).contentMd("").build();
+        ReflectionTestUtils.setField(note, "id", 1L);
+        given(noteRepository.keepTemporaryTitle(1L)).willReturn(1);
+        given(noteRepository.keepTemporaryTitle(2L)).willReturn(0);
+        given(noteRepository.findById(1L)).willReturn(Optional.of(note));
+
+        // when
+        List<TitleResult> kept = noteTitleService.keepTemporaryTitles(List.of(1L, 2L));
+
+        // then
+        assertThat(kept).containsExactly(new TitleResult(1L, "집합론 질문"));
+        then(noteRepository).should(never()).findById(2L);
+    }
+}
@@ -0,0 +1,102 @@
+package com.proovy.domain.ocr.service;
+
+import com.proovy.domain.ocr.entity.OcrFingerprintType;
+import com.proovy.domain.ocr.entity.OcrResultCache;
+import com.proovy.domain.ocr.repository.OcrResultCacheRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class OcrResultCacheServiceTest {
+
+    private static final String SHA256 = "b".repeat(64);
+
+    @InjectMocks
+    private OcrResultCacheService ocrResultCacheService;
+
+    @Mock
+    private OcrResultCacheRepository ocrResultCacheRepository;
+
+    private OcrResultCache createCache(Long id) {
+        OcrResultCache cache = mock(OcrResultCache.class);
+        given(cache.getId()).willReturn(id);
+        return cache;
+    }
+
+    @Nested
+    @DisplayName("lookup 메서드")
+    class Lookup {
+
+        @Test
+        @DisplayName("성공 - 파일 해시가 적중하면 캐시된 결과를 반환한다")
+        void fileHashHit() {
+            // given
+            OcrResultCache cache = createCache(1L);
+            given(ocrResultCacheRepository.findByFingerprintTypeAndFingerprint(OcrFingerprintType.FILE_SHA256, SHA256))
+                    .willReturn(Optional.of(cache));
+
+            // when
+            Optional<OcrResultCache> result = ocrResultCacheService.lookup(SHA256);
+
+            // then
+            assertThat(result).contains(cache);
+            then(ocrResultCacheRepository).should().recordHit(1L);
+        }
+
+        @Test
+        @DisplayName("실패 - 적중하지 않으면 사용 기록을 남기지 않는다")
+        void miss() {
+            // given
+            given(ocrResultCacheRepository.findByFingerprintTypeAndFingerprint(any(), anyString()))
+                    .willReturn(Optional.empty());
+
+            // when
+            Optional<OcrResultCache> result = ocrResultCacheService.lookup(SHA256);
+
+            // then
+            assertThat(result).isEmpty();
+            then(ocrResultCacheRepository).should(never()).recordHit(anyLong());
+        }
+    }
+
+    @Nested
+    @DisplayName("store 메서드")
+    class Store {
+
+        @Test
+        @DisplayName("성공 - 파일 해시로 등록한다")
+        void storeFileHash() {
+            // when
+            ocrResultCacheService.store(SHA256.toUpperCase(), "{\"pages\":[]}", 1);
+
+            // then
+            then(ocrResultCacheRepository).should()
+                    .insertIfAbsent("FILE_SHA256", SHA256, "{\"pages\":[]}", 1);
+        }
+
+        @Test
+        @DisplayName("실패 - 파일 해시가 없으면 등록하지 않는다")
+        void skipWithoutFileHash() {
+            // when
+            ocrResultCacheService.store(null, "{\"pages\":[]}", 1);
+
+            // then
+            then(ocrResultCacheRepository).should(never()).insertIfAbsent(any(), any(), any(), any());
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package com.proovy.domain.storage.service;
+
+import com.proovy.domain.asset.repository.AssetRepository;
+import com.proovy.domain.storage.dto.request.BulkDeleteJobRequest;
+import com.proovy.domain.storage.dto.response.BulkDeleteJobResponse;
+import com.proovy.domain.storage.entity.BulkDeleteJob;
+import com.proovy.domain.storage.repository.BulkDeleteJobRepository;
+import com.proovy.global.exception.BusinessException;
+import com.proovy.global.response.ErrorCode;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.core.task.TaskRejectedException;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class BulkDeleteJobServiceTest {
+
+    @InjectMocks
+    private BulkDeleteJobService bulkDeleteJobService;
+
+    @Mock
+    private BulkDeleteJobRepository bulkDeleteJobRepository;
+
+    @Mock
+    private AssetRepository assetRepository;
+
+    @Mock
+    private BulkDeleteJobWorker bulkDeleteJobWorker;
+
+    @Nested
+    @DisplayName("createJob 메서드")
+    class CreateJob {
+
+        @Test
+        @DisplayName("성공 - 작업을 등록하고 중복 제거된 ID로 워커를 실행한다")
+        void success() {
+            // given
+            given(assetRepository.countByIdInAndUserId(List.of(1L, 2L), 1L)).willReturn(2L);
+
+            // when
+            BulkDeleteJobResponse response = bulkDeleteJobService.createJob(
+                    1L, new BulkDeleteJobRequest(List.of(1L, 2L, 2L)));
+
+            // then
+            assertThat(response.status()).isEqualTo("queued");
+            assertThat(response.totalCount()).isEqualTo(2);
+            then(bulkDeleteJobRepository).should().save(any(BulkDeleteJob.class));
+            then(bulkDeleteJobWorker).should().run(eq(response.jobId()), eq(1L), eq(List.of(1L, 2L)));
+        }
+
+        @Test
+        @DisplayName("실패 - 소유하지 않은 자산이 포함되면 STORAGE4031 예외")
+        void notOwned() {
+            // given
+            given(assetRepository.countByIdInAndUserId(anyList(), eq(1L))).willReturn(1L);
+
+            // when & then
+            assertThatThrownBy(() -> bulkDeleteJobService.createJob(1L, new BulkDeleteJobRequest(List.of(1L, 2L))))
+                    .isInstanceOf(BusinessException.class)
+                    .extracting("errorCode")
+                    .isEqualTo(ErrorCode.STORAGE4031);
+            then(bulkDeleteJobWorker).shouldHaveNoInteractions();
+        }
+
+        @Test
+        @DisplayName("실패 - 실행 대기열이 가득 차면 작업을 실패 상태로 기록한다")
+        void rejected() {
+            // given
+            given(assetRepository.countByIdInAndUserId(anyList(), eq(1L))).willReturn(1L);
+            willThrow(new TaskRejectedException("full"))
+                    .given(bulkDeleteJobWorker).run(anyString(), eq(1L), anyList());
+
+            // when
+            BulkDeleteJobResponse response = bulkDeleteJobService.createJob(1L, new BulkDeleteJobRequest(List.of(1L)));
+
+            // then
+            assertThat(response.status()).isEqualTo("failed");
+        }
+    }
+
+    @Nested
+    @DisplayName("getJob 메서드")
+    class GetJob {
+
+        @Test
+        @DisplayName("실패 - 다른 사용자의 작업이면 STORAGE4041 예외")
+        void otherUser() {
+            // given
+            BulkDeleteJob job = BulkDeleteJob.builder().jobId("job-1").userId(2L).totalCount(1).build();
+            given(bulkDeleteJobRepository.findById("job-1")).willReturn(Optional.of(job));
+
+            // when & then
+            assertThatThrownBy(() -> bulkDeleteJobService.getJob(1L, "job-1"))
+                    .isInstanceOf(BusinessException.class)
+                    .extracting("errorCode")
+                    .isEqualTo(ErrorCode.STORAGE4041);
+        }
+    }
+}
@@ -2,17 +2,25 @@ package com.proovy.domain.storage.service;
 
 import com.proovy.domain.asset.entity.Asset;
 import com.proovy.domain.asset.repository.AssetRepository;
+import com.proovy.domain.asset.repository.projection.AssetSummaryView;
 import com.proovy.domain.note.entity.Note;
 import com.proovy.domain.note.repository.NoteRepository;
+import com.proovy.domain.note.repository.projection.NoteSearchView;
+import com.proovy.domain.note.repository.projection.NoteTitleView;
+import com.proovy.domain.storage.dto.response.NoteAssetPageResponse;
 import com.proovy.domain.storage.dto.response.StorageResponse;
+import com.proovy.domain.storage.entity.StorageUsageSummary;
 import com.proovy.domain.user.entity.PlanType;
 import com.proovy.domain.user.entity.User;
 import com.proovy.domain.user.entity.UserPlan;
-import com.proovy.domain.user.repository.UserPlanRepository;
 import com.proovy.domain.user.repository.UserRepository;
+import com.proovy.domain.user.service.PlanResolver;
+import com.proovy.domain.user.service.ResolvedPlan;
 import com.proovy.global.exception.BusinessException;
 import com.proovy.global.infra.s3.S3Service;
+import com.proovy.global.metrics.OperationMetrics;
 import com.proovy.global.response.ErrorCode;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -20,9 +28,12 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
 import org.springframework.test.util.ReflectionTestUtils;
 
 import java.util.List;
@@ -49,11 +60,17 @@ class StorageServiceTest {
     private NoteRepository noteRepository;
 
     @Mock
-    private UserPlanRepository userPlanRepository;
+    private PlanResolver planResolver;
 
     @Mock
     private S3Service s3Service;
 
+    @Mock
+    private StorageUsageSummaryService storageUsageSummaryService;
+
+    @Spy
+    private OperationMetrics operationMetrics = new OperationMetrics(new SimpleMeterRegistry());
+
     private User testUser;
     private Note testNote;
     private Asset testAsset;
@@ -95,6 +112,85 @@ class StorageServiceTest {
                 .planType(PlanType.PRO)
                 .isActive(true)
                 .build();
+
+        // 활성 플랜이 없는 사용자 (테스트별로 재정의)
+        given(planResolver.resolve(anyLong())).willReturn(ResolvedPlan.FREE);
+    }
+
+    private NoteTitleView noteTitle(Long id, String title) {
+        return new NoteTitleView() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public String getTitle() {
+                return title;
+            }
+        };
+    }
+
+    private NoteSearchView noteSearch(Long id, String title) {
+        return new NoteSearchView() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public String getTitle() {
+                return title;
+            }
+
+            @Override
+            public Double getScore() {
+                return 1.0;
+            }
+        };
+    }
+
+    private StorageUsageSummary summary(Long noteId, long totalBytes, long totalCount) {
+        StorageUsageSummary summary = mock(StorageUsageSummary.class);
+        given(summary.getNoteId()).willReturn(noteId);
+        given(summary.isUserTotal()).willReturn(noteId == StorageUsageSummary.USER_TOTAL_NOTE_ID);
+        given(summary.getTotalBytes()).willReturn(totalBytes);
+        given(summary.getTotalCount()).willReturn(totalCount);
+        return summary;
+    }
+
+    private AssetSummaryView assetSummary(Asset asset) {
+        return new AssetSummaryView() {
+            @Override
+            public Long getId() {
+                return asset.getId();
+            }
+
+            @Override
+            public Long getNoteId() {
+                return asset.getNoteId();
+            }
+
+            @Override
+            public String getFileName() {
+                return asset.getFileName();
+            }
+
+            @Override
+            public String getMimeType() {
+                return asset.getMimeType();
+            }
+
+            @Override
+            public Asset.AssetSource getSource() {
+                return asset.getSource();
+            }
+
+            @Override
+            public String getThumbnailS3Key() {
+                return asset.getThumbnailS3Key();
+            }
+        };
     }
 
     @Nested
@@ -107,9 +203,13 @@ class StorageServiceTest {
             // given
             Long userId = 1L;
             given(userRepository.findById(userId)).willReturn(Optional.of(testUser));
-            given(userPlanRepository.findActiveByUserId(userId)).willReturn(Optional.of(freePlan));
-            given(noteRepository.findByUserIdOrderByCreatedAtDesc(userId)).willReturn(List.of(testNote));
-            given(assetRepository.findAllByUserId(userId)).willReturn(List.of(testAsset));
+            given(planResolver.resolve(userId)).willReturn(ResolvedPlan.from(freePlan));
+            given(noteRepository.findTitlesByUserId(userId)).willReturn(List.of(noteTitle(1L, "테스트 노트")));
+            given(storageUsageSummaryService.getAllSummaries(userId)).willReturn(List.of(
+                    summary(StorageUsageSummary.USER_TOTAL_NOTE_ID, testAsset.getFileSize(), 1),
+                    summary(1L, testAsset.getFileSize(), 1)));
+            given(assetRepository.findTopIdsPerNote(List.of(1L), StorageService.DEFAULT_ASSET_PAGE_SIZE)).willReturn(List.of(1L));
+            given(assetRepository.findSummariesByIdIn(List.of(1L))).willReturn(List.of(assetSummary(testAsset)));
             given(s3Service.getThumbnailUrl(any())).willReturn(null);
 
             // when
@@ -129,9 +229,14 @@ class StorageServiceTest {
             Long userId = 1L;
             String keyword = "테스트";
             given(userRepository.findById(userId)).willReturn(Optional.of(testUser));
-            given(userPlanRepository.findActiveByUserId(userId)).willReturn(Optional.of(freePlan));
-            given(noteRepository.searchByTitleKeyword(userId, keyword)).willReturn(List.of(testNote));
-            given(assetRepository.findAllByUserId(userId)).willReturn(List.of(testAsset));
+            given(planResolver.resolve(userId)).willReturn(ResolvedPlan.from(freePlan));
+            given(noteRepository.searchByTitle(eq(userId), eq("%테스트%"), eq(keyword), any(Pageable.class)))
+                    .willReturn(new PageImpl<>(List.of(noteSearch(1L, "테스트 노트"))));
+            given(storageUsageSummaryService.getAllSummaries(userId)).willReturn(List.of(
+                    summary(StorageUsageSummary.USER_TOTAL_NOTE_ID, testAsset.getFileSize(), 1),
+                    summary(1L, testAsset.getFileSize(), 1)));
+            given(assetRepository.findTopIdsPerNote(List.of(1L), StorageService.DEFAULT_ASSET_PAGE_SIZE)).willReturn(List.of(1L));
+            given(assetRepository.findSummariesByIdIn(List.of(1L))).willReturn(List.of(assetSummary(testAsset)));
             given(s3Service.getThumbnailUrl(any())).willReturn(null);
 
             // when
@@ -177,9 +282,9 @@ class StorageServiceTest {
             // given
             Long userId = 1L;
             given(userRepository.findById(userId)).willReturn(Optional.of(testUser));
-            given(userPlanRepository.findActiveByUserId(userId)).willReturn(Optional.of(proPlan));
-            given(noteRepository.findByUserIdOrderByCreatedAtDesc(userId)).willReturn(List.of());
-            given(assetRepository.findAllByUserId(userId)).willReturn(List.of());
+            given(planResolver.resolve(userId)).willReturn(ResolvedPlan.from(proPlan));
+            given(noteRepository.findTitlesByUserId(userId)).willReturn(List.of());
+            given(storageUsageSummaryService.getAllSummaries(userId)).willReturn(List.of());
 
             // when
             StorageResponse response = storageService.getStorageUsage(userId, null);
@@ -195,9 +300,9 @@ class StorageServiceTest {
             // given
             Long userId = 1L;
             given(userRepository.findById(userId)).willReturn(Optional.of(testUser));
-            given(userPlanRepository.findActiveByUserId(userId)).willReturn(Optional.empty());
-            given(noteRepository.findByUserIdOrderByCreatedAtDesc(userId)).willReturn(List.of());
-            given(assetRepository.findAllByUserId(userId)).willReturn(List.of());
+            given(planResolver.resolve(userId)).willReturn(ResolvedPlan.FREE);
+            given(noteRepository.findTitlesByUserId(userId)).willReturn(List.of());
+            given(storageUsageSummaryService.getAllSummaries(userId)).willReturn(List.of());
 
             // when
             StorageResponse response = storageService.getStorageUsage(userId, null);
@@ -235,9 +340,15 @@ class StorageServiceTest {
             ReflectionTestUtils.setField(asset2, "id", 3L);
 
             given(userRepository.findById(userId)).willReturn(Optional.of(testUser));
-            given(userPlanRepository.findActiveByUserId(userId)).willReturn(Optional.of(freePlan));
-            given(noteRepository.findByUserIdOrderByCreatedAtDesc(userId)).willReturn(List.of(testNote));
-            given(assetRepository.findAllByUserId(userId)).willReturn(List.of(asset1, asset2));
+            given(planResolver.resolve(userId)).willReturn(ResolvedPlan.from(freePlan));
+            given(noteRepository.findTitlesByUserId(userId)).willReturn(List.of(noteTitle(1L, "테스트 노트")));
+            long totalBytes = asset1.getFileSize() + asset2.getFileSize();
+            given(storageUsageSummaryService.getAllSummaries(userId)).willReturn(List.of(
+                    summary(StorageUsageSummary.USER_TOTAL_NOTE_ID, totalBytes, 2),
+                    summary(1L, totalBytes, 2)));
+            given(assetRepository.findTopIdsPerNote(List.of(1L), StorageService.DEFAULT_ASSET_PAGE_SIZE)).willReturn(List.of(3L, 2L));
+            given(assetRepository.findSummariesByIdIn(List.of(3L, 2L)))
+                    .willReturn(List.of(assetSummary(asset2), assetSummary(asset1)));
             given(s3Service.getThumbnailUrl(any())).willReturn(null);
 
             // when
@@ -245,6 +356,10 @@ class StorageServiceTest {
 
             // then
             assertThat(response.totalUsed()).isEqualTo(250); // 200 + 50 = 250MB
+            assertThat(response.notes().get(0).storageUsed()).isEqualTo(250);
+            assertThat(response.notes().get(0).assetCount()).isEqualTo(2);
+            assertThat(response.notes().get(0).assets()).hasSize(2);
+            assertThat(response.notes().get(0).hasNext()).isFalse();
         }
 
         @Test
@@ -253,9 +368,9 @@ class StorageServiceTest {
             // given
             Long userId = 1L;
             given(userRepository.findById(userId)).willReturn(Optional.of(testUser));
-            given(userPlanRepository.findActiveByUserId(userId)).willReturn(Optional.of(freePlan));
-            given(noteRepository.findByUserIdOrderByCreatedAtDesc(userId)).willReturn(List.of());
-            given(assetRepository.findAllByUserId(userId)).willReturn(List.of());
+            given(planResolver.resolve(userId)).willReturn(ResolvedPlan.from(freePlan));
+            given(noteRepository.findTitlesByUserId(userId)).willReturn(List.of());
+            given(storageUsageSummaryService.getAllSummaries(userId)).willReturn(List.of());
 
             // when
             StorageResponse response = storageService.getStorageUsage(userId, null);
@@ -265,4 +380,67 @@ class StorageServiceTest {
             assertThat(response.totalUsed()).isEqualTo(0);
         }
     }
+
+    @Nested
+    @DisplayName("getNoteAssets 메서드")
+    class GetNoteAssets {
+
+        @Test
+        @DisplayName("성공 - 페이지 크기보다 많으면 마지막 자산 ID를 nextCursor로 반환한다")
+        void successHasNext() {
+            // given
+            Asset second = Asset.builder()
+                    .userId(1L)
+                    .noteId(1L)
+                    .fileName("second.png")
+                    .fileSize(1024L)
+                    .mimeType("image/png")
+                    .s3Key("key2")
+                    .source(Asset.AssetSource.upload)
+                    .build();
+            ReflectionTestUtils.setField(second, "id", 2L);
+
+            given(noteRepository.findById(1L)).willReturn(Optional.of(testNote));
+            given(assetRepository.findSummariesByNoteId(eq(1L), eq(Long.MAX_VALUE), any(Pageable.class)))
+                    .willReturn(List.of(assetSummary(second), assetSummary(testAsset)));
+
+            // when
+            NoteAssetPageResponse response = storageService.getNoteAssets(1L, 1L, null, 1);
+
+            // then
+            assertThat(response.assets()).hasSize(1);
+            assertThat(response.hasNext()).isTrue();
+            assertThat(response.nextCursor()).isEqualTo(2L);
+        }
+
+        @Test
+        @DisplayName("성공 - 마지막 페이지면 nextCursor가 없다")
+        void successLastPage() {
+            // given
+            given(noteRepository.findById(1L)).willReturn(Optional.of(testNote));
+            given(assetRepository.findSummariesByNoteId(eq(1L), eq(2L), any(Pageable.class)))
+                    .willReturn(List.of(assetSummary(testAsset)));
+
+            // when
+            NoteAssetPageResponse response = storageService.getNoteAssets(1L, 1L, 2L, 20);
+
+            // then
+            assertThat(response.assets()).hasSize(1);
+            assertThat(response.hasNext()).isFalse();
+            assertThat(response.nextCursor()).isNull();
+        }
+
+        @Test
+        @DisplayName("실패 - 다른 사용자의 노트면 예외를 던진다")
+        void failNotOwner() {
+            // given
+            given(noteRepository.findById(1L)).willReturn(Optional.of(testNote));
+
+            // when & then
+            assertThatThrownBy(() -> storageService.getNoteAssets(2L, 1L, null, 20))
+                    .isInstanceOf(BusinessException.class)
+                    .extracting("errorCode")
+                    .isEqualTo(ErrorCode.NOTE4031);
+        }
+    }
 }
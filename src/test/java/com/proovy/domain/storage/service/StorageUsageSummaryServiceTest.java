@@ -0,0 +1,152 @@
+package com.proovy.domain.storage.service;
+
+import com.proovy.domain.asset.entity.AssetStatus;
+import com.proovy.domain.asset.event.AssetUsageChangedEvent;
+import com.proovy.domain.asset.repository.AssetRepository;
+import com.proovy.domain.storage.entity.StorageUsageDelta;
+import com.proovy.domain.storage.entity.StorageUsageSummary;
+import com.proovy.domain.storage.repository.StorageUsageSummaryRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class StorageUsageSummaryServiceTest {
+
+    private static final long FILE_SIZE = 1024L;
+
+    @InjectMocks
+    private StorageUsageSummaryService storageUsageSummaryService;
+
+    @Mock
+    private StorageUsageSummaryRepository storageUsageSummaryRepository;
+
+    @Mock
+    private AssetRepository assetRepository;
+
+    private AssetUsageChangedEvent event(AssetStatus fromStatus, AssetStatus toStatus) {
+        return new AssetUsageChangedEvent(1L, 10L, "application/pdf", FILE_SIZE, fromStatus, toStatus);
+    }
+
+    @Nested
+    @DisplayName("apply 메서드")
+    class Apply {
+
+        @Test
+        @DisplayName("성공 - 생성 시 노트 행과 사용자 합계 행에 같은 증감량을 반영한다")
+        void created() {
+            // when
+            storageUsageSummaryService.apply(event(null, AssetStatus.PENDING));
+
+            // then
+            ArgumentCaptor<StorageUsageDelta> captor = ArgumentCaptor.forClass(StorageUsageDelta.class);
+            then(storageUsageSummaryRepository).should().applyDelta(eq(1L), eq(10L), captor.capture());
+            then(storageUsageSummaryRepository).should()
+                    .applyDelta(1L, StorageUsageSummary.USER_TOTAL_NOTE_ID, captor.getValue());
+
+            StorageUsageDelta delta = captor.getValue();
+            assertThat(delta.totalBytes()).isEqualTo(FILE_SIZE);
+            assertThat(delta.pendingCount()).isEqualTo(1);
+            assertThat(delta.documentBytes()).isEqualTo(FILE_SIZE);
+        }
+
+        @Test
+        @DisplayName("성공 - 업로드 확인 시 전체 용량은 그대로 두고 상태별 용량만 옮긴다")
+        void confirmed() {
+            // when
+            storageUsageSummaryService.apply(event(AssetStatus.PENDING, AssetStatus.UPLOADED));
+
+            // then
+            ArgumentCaptor<StorageUsageDelta> captor = ArgumentCaptor.forClass(StorageUsageDelta.class);
+            then(storageUsageSummaryRepository).should().applyDelta(eq(1L), eq(10L), captor.capture());
+
+            StorageUsageDelta delta = captor.getValue();
+            assertThat(delta.totalBytes()).isZero();
+            assertThat(delta.documentBytes()).isZero();
+            assertThat(delta.pendingBytes()).isEqualTo(-FILE_SIZE);
+            assertThat(delta.uploadedBytes()).isEqualTo(FILE_SIZE);
+        }
+
+        @Test
+        @DisplayName("성공 - 삭제 시 해당 상태의 용량과 개수를 차감한다")
+        void deleted() {
+            // when
+            storageUsageSummaryService.apply(event(AssetStatus.UPLOADED, null));
+
+            // then
+            ArgumentCaptor<StorageUsageDelta> captor = ArgumentCaptor.forClass(StorageUsageDelta.class);
+            then(storageUsageSummaryRepository).should().applyDelta(eq(1L), eq(10L), captor.capture());
+
+            StorageUsageDelta delta = captor.getValue();
+            assertThat(delta.totalCount()).isEqualTo(-1);
+            assertThat(delta.uploadedBytes()).isEqualTo(-FILE_SIZE);
+        }
+
+        @Test
+        @DisplayName("성공 - 상태가 바뀌지 않으면 반영하지 않는다")
+        void noChange() {
+            // when
+            storageUsageSummaryService.apply(event(AssetStatus.UPLOADED, AssetStatus.UPLOADED));
+
+            // then
+            then(storageUsageSummaryRepository).should(never()).applyDelta(anyLong(), anyLong(), any());
+        }
+    }
+
+    @Nested
+    @DisplayName("applyAll 메서드")
+    class ApplyAll {
+
+        @Test
+        @DisplayName("성공 - 같은 노트의 여러 자산 삭제를 합산해 노트 행 1회, 사용자 합계 행 1회만 반영한다")
+        void aggregatesPerNote() {
+            // given
+            List<AssetUsageChangedEvent> events = List.of(
+                    new AssetUsageChangedEvent(1L, 10L, "application/pdf", FILE_SIZE, AssetStatus.UPLOADED, null),
+                    new AssetUsageChangedEvent(1L, 10L, "application/pdf", FILE_SIZE, AssetStatus.UPLOADED, null),
+                    new AssetUsageChangedEvent(1L, 20L, "application/pdf", FILE_SIZE, AssetStatus.UPLOADED, null)
+            );
+
+            // when
+            storageUsageSummaryService.applyAll(events);
+
+            // then
+            ArgumentCaptor<StorageUsageDelta> noteCaptor = ArgumentCaptor.forClass(StorageUsageDelta.class);
+            then(storageUsageSummaryRepository).should().applyDelta(eq(1L), eq(10L), noteCaptor.capture());
+            assertThat(noteCaptor.getValue().totalCount()).isEqualTo(-2);
+            assertThat(noteCaptor.getValue().uploadedBytes()).isEqualTo(-2 * FILE_SIZE);
+
+            ArgumentCaptor<StorageUsageDelta> totalCaptor = ArgumentCaptor.forClass(StorageUsageDelta.class);
+            then(storageUsageSummaryRepository).should()
+                    .applyDelta(eq(1L), eq(StorageUsageSummary.USER_TOTAL_NOTE_ID), totalCaptor.capture());
+            assertThat(totalCaptor.getValue().totalCount()).isEqualTo(-3);
+            assertThat(totalCaptor.getValue().totalBytes()).isEqualTo(-3 * FILE_SIZE);
+
+            then(storageUsageSummaryRepository).should(times(3)).applyDelta(anyLong(), anyLong(), any());
+        }
+
+        @Test
+        @DisplayName("성공 - 변경이 없으면 반영하지 않는다")
+        void empty() {
+            // when
+            storageUsageSummaryService.applyAll(List.of());
+
+            // then
+            then(storageUsageSummaryRepository).should(never()).applyDelta(anyLong(), anyLong(), any());
+        }
+    }
+}
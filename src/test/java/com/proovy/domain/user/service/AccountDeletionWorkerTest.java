@@ -0,0 +1,87 @@
+package com.proovy.domain.user.service;
+
+import com.proovy.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class AccountDeletionWorkerTest {
+
+    private AccountDeletionWorker accountDeletionWorker;
+
+    @Mock
+    private AccountDeletionService accountDeletionService;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private ThreadPoolTaskExecutor bulkDeleteExecutor;
+
+    @BeforeEach
+    void setUp() {
+        accountDeletionWorker = new AccountDeletionWorker(accountDeletionService, userRepository, bulkDeleteExecutor);
+    }
+
+    @Test
+    @DisplayName("성공 - 노트마다 메시지, 자산, 노트 순으로 청크 삭제 후 사용자를 삭제한다")
+    void purge() {
+        // given
+        given(accountDeletionService.findNoteIds(1L)).willReturn(List.of(10L));
+        given(accountDeletionService.deleteMessagesChunk(eq(10L), anyInt())).willReturn(500, 3, 0);
+        given(accountDeletionService.deleteAssetsChunk(eq(10L), anyInt())).willReturn(2, 0);
+
+        // when
+        accountDeletionWorker.purge(1L);
+
+        // then
+        InOrder inOrder = inOrder(accountDeletionService);
+        inOrder.verify(accountDeletionService, times(3)).deleteMessagesChunk(eq(10L), anyInt());
+        inOrder.verify(accountDeletionService, times(2)).deleteAssetsChunk(eq(10L), anyInt());
+        inOrder.verify(accountDeletionService).deleteNote(10L);
+        inOrder.verify(accountDeletionService).deleteUser(1L);
+    }
+
+    @Test
+    @DisplayName("실패 - 중간에 실패하면 사용자를 삭제하지 않고 다음 재개를 기다린다")
+    void stopOnFailure() {
+        // given
+        given(accountDeletionService.findNoteIds(1L)).willReturn(List.of(10L, 11L));
+        given(accountDeletionService.deleteMessagesChunk(eq(10L), anyInt()))
+                .willThrow(new RuntimeException("statement timeout"));
+
+        // when
+        accountDeletionWorker.purge(1L);
+
+        // then
+        then(accountDeletionService).should(never()).deleteNote(anyLong());
+        then(accountDeletionService).should(never()).deleteUser(anyLong());
+    }
+
+    @Test
+    @DisplayName("성공 - 탈퇴 후 일정 시간이 지난 사용자의 삭제를 다시 시작한다")
+    void resumePending() {
+        // given
+        given(userRepository.findDeletedIdsBefore(any(), any())).willReturn(List.of(1L, 2L));
+
+        // when
+        accountDeletionWorker.resumePending();
+
+        // then
+        then(bulkDeleteExecutor).should(times(2)).execute(any(Runnable.class));
+    }
+}
@@ -0,0 +1,131 @@
+package com.proovy.domain.user.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.proovy.domain.user.entity.PlanType;
+import com.proovy.domain.user.entity.UserPlan;
+import com.proovy.domain.user.repository.UserPlanRepository;
+import com.proovy.global.cache.TwoLevelCacheFactory;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class PlanResolverTest {
+
+    private PlanResolver planResolver;
+
+    @Mock
+    private UserPlanRepository userPlanRepository;
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    @Mock
+    private RedisMessageListenerContainer listenerContainer;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+
+    @BeforeEach
+    void setUp() {
+        given(redisTemplate.opsForValue()).willReturn(valueOperations);
+        TwoLevelCacheFactory cacheFactory = new TwoLevelCacheFactory(
+                redisTemplate, listenerContainer, objectMapper, new SimpleMeterRegistry());
+        planResolver = new PlanResolver(userPlanRepository, cacheFactory);
+        planResolver.initCache();
+    }
+
+    private UserPlan plan(PlanType planType, LocalDateTime expiredAt) {
+        return UserPlan.builder()
+                .planType(planType)
+                .startedAt(LocalDateTime.now().minusDays(30))
+                .expiredAt(expiredAt)
+                .isActive(true)
+                .build();
+    }
+
+    @Test
+    @DisplayName("성공 - 두 번째 조회부터는 로컬 캐시를 사용한다")
+    void localCacheHit() {
+        // given
+        given(userPlanRepository.findActiveByUserId(1L))
+                .willReturn(Optional.of(plan(PlanType.PRO, LocalDateTime.now().plusDays(10))));
+
+        // when
+        planResolver.resolve(1L);
+        ResolvedPlan resolved = planResolver.resolve(1L);
+
+        // then
+        assertThat(resolved.planType()).isEqualTo(PlanType.PRO);
+        then(userPlanRepository).should(times(1)).findActiveByUserId(1L);
+        then(valueOperations).should(times(1)).set(eq("plan:1"), anyString(), any(Duration.class));
+    }
+
+    @Test
+    @DisplayName("성공 - 만료일이 지난 유료 플랜은 FREE로 조회된다")
+    void downgradeExpiredPlan() {
+        // given
+        given(userPlanRepository.findActiveByUserId(1L))
+                .willReturn(Optional.of(plan(PlanType.STANDARD, LocalDateTime.now().minusMinutes(1))));
+
+        // when
+        ResolvedPlan resolved = planResolver.resolve(1L);
+
+        // then
+        assertThat(resolved).isEqualTo(ResolvedPlan.FREE);
+    }
+
+    @Test
+    @DisplayName("성공 - 무효화하면 다음 조회에서 다시 읽는다")
+    void evict() {
+        // given
+        given(userPlanRepository.findActiveByUserId(1L)).willReturn(Optional.empty());
+        planResolver.resolve(1L);
+
+        // when
+        planResolver.evict(1L);
+        planResolver.resolve(1L);
+
+        // then
+        then(redisTemplate).should().delete("plan:1");
+        then(redisTemplate).should().convertAndSend("cache-invalidation:plan", "1");
+        then(userPlanRepository).should(times(2)).findActiveByUserId(1L);
+    }
+
+    @Test
+    @DisplayName("성공 - Redis 장애 시 DB에서 조회한다")
+    void redisFailure() {
+        // given
+        given(valueOperations.get("plan:1")).willThrow(new RedisConnectionFailureException("down"));
+        given(userPlanRepository.findActiveByUserId(1L))
+                .willReturn(Optional.of(plan(PlanType.PRO, LocalDateTime.now().plusDays(10))));
+
+        // when
+        ResolvedPlan resolved = planResolver.resolve(1L);
+
+        // then
+        assertThat(resolved.planType()).isEqualTo(PlanType.PRO);
+    }
+}
@@ -0,0 +1,133 @@
+package com.proovy.domain.user.service;
+
+import com.proovy.domain.storage.entity.StorageUsageSummary;
+import com.proovy.domain.storage.service.StorageUsageSummaryService;
+import com.proovy.domain.user.entity.PlanType;
+import com.proovy.domain.user.repository.UserQuotaRepository;
+import com.proovy.global.exception.BusinessException;
+import com.proovy.global.response.ErrorCode;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class QuotaReservationServiceTest {
+
+    @InjectMocks
+    private QuotaReservationService quotaReservationService;
+
+    @Mock
+    private UserQuotaRepository userQuotaRepository;
+
+    @Mock
+    private StorageUsageSummaryService storageUsageSummaryService;
+
+    private static final long MB = 1024L * 1024L;
+
+    @Nested
+    @DisplayName("reserveNote 메서드")
+    class ReserveNote {
+
+        @Test
+        @DisplayName("성공 - 카운터가 있으면 조건부 UPDATE 한 번으로 예약한다")
+        void reserveWithExistingCounter() {
+            // given
+            given(userQuotaRepository.reserveNote(1L, PlanType.FREE.getNoteLimit())).willReturn(1);
+
+            // when
+            quotaReservationService.reserveNote(1L, PlanType.FREE);
+
+            // then
+            then(userQuotaRepository).should(times(1)).reserveNote(1L, 2);
+            then(userQuotaRepository).should(never()).initialize(anyLong());
+        }
+
+        @Test
+        @DisplayName("성공 - 카운터가 없으면 초기화 후 다시 예약한다")
+        void initializeAndReserve() {
+            // given
+            given(userQuotaRepository.reserveNote(1L, 2)).willReturn(0, 1);
+
+            // when
+            quotaReservationService.reserveNote(1L, PlanType.FREE);
+
+            // then
+            then(userQuotaRepository).should().initialize(1L);
+            then(userQuotaRepository).should(times(2)).reserveNote(1L, 2);
+        }
+
+        @Test
+        @DisplayName("실패 - 한도에 도달했으면 NOTE4031 예외")
+        void limitReached() {
+            // given
+            given(userQuotaRepository.reserveNote(1L, 2)).willReturn(0);
+
+            // when & then
+            assertThatThrownBy(() -> quotaReservationService.reserveNote(1L, PlanType.FREE))
+                    .isInstanceOf(BusinessException.class)
+                    .extracting("errorCode")
+                    .isEqualTo(ErrorCode.NOTE4031);
+        }
+    }
+
+    @Nested
+    @DisplayName("reserveStorage 메서드")
+    class ReserveStorage {
+
+        @Test
+        @DisplayName("실패 - 플랜의 파일 크기 제한을 넘으면 ASSET4002 예외")
+        void fileTooLarge() {
+            // when & then
+            assertThatThrownBy(() -> quotaReservationService.reserveStorage(1L, 10L, 11 * MB, PlanType.FREE))
+                    .isInstanceOf(BusinessException.class)
+                    .extracting("errorCode")
+                    .isEqualTo(ErrorCode.ASSET4002);
+            then(userQuotaRepository).shouldHaveNoInteractions();
+        }
+
+        @Test
+        @DisplayName("실패 - 사용자 전체 용량을 넘으면 STORAGE4002 예외")
+        void userStorageExceeded() {
+            // given
+            StorageUsageSummary summary = mock(StorageUsageSummary.class);
+            given(summary.getReservedBytes()).willReturn(PlanType.FREE.getStorageLimitBytes() - MB);
+            given(userQuotaRepository.lock(1L)).willReturn(1);
+            given(storageUsageSummaryService.getUserSummary(1L)).willReturn(Optional.of(summary));
+
+            // when & then
+            assertThatThrownBy(() -> quotaReservationService.reserveStorage(1L, 10L, 2 * MB, PlanType.FREE))
+                    .isInstanceOf(BusinessException.class)
+                    .extracting("errorCode")
+                    .isEqualTo(ErrorCode.STORAGE4002);
+        }
+
+        @Test
+        @DisplayName("성공 - 카운터 행을 잠근 뒤 사용량을 확인한다")
+        void lockBeforeCheck() {
+            // given
+            given(userQuotaRepository.lock(1L)).willReturn(0, 1);
+            given(storageUsageSummaryService.getUserSummary(1L)).willReturn(Optional.empty());
+            given(storageUsageSummaryService.getNoteSummary(1L, 10L)).willReturn(Optional.empty());
+
+            // when
+            quotaReservationService.reserveStorage(1L, 10L, MB, PlanType.FREE);
+
+            // then
+            then(userQuotaRepository).should().initialize(1L);
+            then(userQuotaRepository).should(times(2)).lock(1L);
+        }
+    }
+}
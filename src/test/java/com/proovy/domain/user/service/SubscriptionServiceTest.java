@@ -4,7 +4,6 @@ import com.proovy.domain.user.dto.response.SubscriptionResponse;
 import com.proovy.domain.user.entity.PlanType;
 import com.proovy.domain.user.entity.User;
 import com.proovy.domain.user.entity.UserPlan;
-import com.proovy.domain.user.repository.UserPlanRepository;
 import com.proovy.domain.user.repository.UserRepository;
 import com.proovy.global.exception.BusinessException;
 import com.proovy.global.response.ErrorCode;
@@ -37,7 +36,7 @@ class SubscriptionServiceTest {
     private UserRepository userRepository;
 
     @Mock
-    private UserPlanRepository userPlanRepository;
+    private PlanResolver planResolver;
 
     private User testUser;
     private UserPlan freePlan;
@@ -87,7 +86,7 @@ class SubscriptionServiceTest {
             // given
             Long userId = 1L;
             given(userRepository.findById(userId)).willReturn(Optional.of(testUser));
-            given(userPlanRepository.findActiveByUserId(userId)).willReturn(Optional.of(freePlan));
+            given(planResolver.resolve(userId)).willReturn(ResolvedPlan.from(freePlan));
 
             // when
             SubscriptionResponse response = subscriptionService.getSubscription(userId);
@@ -108,7 +107,7 @@ class SubscriptionServiceTest {
             // given
             Long userId = 1L;
             given(userRepository.findById(userId)).willReturn(Optional.of(testUser));
-            given(userPlanRepository.findActiveByUserId(userId)).willReturn(Optional.of(standardPlan));
+            given(planResolver.resolve(userId)).willReturn(ResolvedPlan.from(standardPlan));
 
             // when
             SubscriptionResponse response = subscriptionService.getSubscription(userId);
@@ -129,7 +128,7 @@ class SubscriptionServiceTest {
             // given
             Long userId = 1L;
             given(userRepository.findById(userId)).willReturn(Optional.of(testUser));
-            given(userPlanRepository.findActiveByUserId(userId)).willReturn(Optional.of(proPlan));
+            given(planResolver.resolve(userId)).willReturn(ResolvedPlan.from(proPlan));
 
             // when
             SubscriptionResponse response = subscriptionService.getSubscription(userId);
@@ -149,7 +148,7 @@ class SubscriptionServiceTest {
             // given
             Long userId = 1L;
             given(userRepository.findById(userId)).willReturn(Optional.of(testUser));
-            given(userPlanRepository.findActiveByUserId(userId)).willReturn(Optional.empty());
+            given(planResolver.resolve(userId)).willReturn(ResolvedPlan.FREE);
 
             // when
             SubscriptionResponse response = subscriptionService.getSubscription(userId);
@@ -166,7 +165,7 @@ class SubscriptionServiceTest {
             // given
             Long userId = 1L;
             given(userRepository.findById(userId)).willReturn(Optional.of(testUser));
-            given(userPlanRepository.findActiveByUserId(userId)).willReturn(Optional.of(proPlan));
+            given(planResolver.resolve(userId)).willReturn(ResolvedPlan.from(proPlan));
 
             // when
             SubscriptionResponse response = subscriptionService.getSubscription(userId);
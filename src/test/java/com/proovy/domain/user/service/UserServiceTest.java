@@ -0,0 +1,90 @@
+package com.proovy.domain.user.service;
+
+import com.proovy.domain.auth.repository.RefreshTokenRepository;
+import com.proovy.domain.credit.service.CreditService;
+import com.proovy.domain.credit.service.CreditService.CreditBalance;
+import com.proovy.domain.storage.entity.StorageUsageSummary;
+import com.proovy.domain.storage.service.StorageUsageSummaryService;
+import com.proovy.domain.user.dto.response.MyProfileResponse;
+import com.proovy.domain.user.entity.PlanType;
+import com.proovy.domain.user.entity.User;
+import com.proovy.domain.user.repository.UserRepository;
+import com.proovy.global.metrics.RequestBudget;
+import com.proovy.global.outbox.OutboxPublisher;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static com.proovy.global.metrics.RequestBudgetAssertions.*;
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+class UserServiceTest {
+
+    private UserService userService;
+
+    private UserRepository userRepository;
+    private StorageUsageSummaryService storageUsageSummaryService;
+    private PlanResolver planResolver;
+    private CreditService creditService;
+
+    @BeforeEach
+    void setUp() {
+        // DB를 조회하는 협력 객체는 호출마다 SQL 1회로 집계
+        userRepository = mock(UserRepository.class, countingStatements());
+        storageUsageSummaryService = mock(StorageUsageSummaryService.class, countingStatements());
+        planResolver = mock(PlanResolver.class, countingStatements());
+        creditService = mock(CreditService.class);
+
+        userService = new UserService(
+                userRepository,
+                mock(RefreshTokenRepository.class),
+                storageUsageSummaryService,
+                planResolver,
+                creditService,
+                mock(AccountDeletionWorker.class),
+                mock(OutboxPublisher.class)
+        );
+
+        User user = User.builder()
+                .nickname("테스트유저")
+                .build();
+        ReflectionTestUtils.setField(user, "id", 1L);
+
+        given(userRepository.findById(1L)).willReturn(Optional.of(user));
+        given(planResolver.resolve(1L)).willReturn(ResolvedPlan.FREE);
+        given(creditService.getBalance(1L, PlanType.FREE))
+                .willReturn(new CreditBalance(10, 10, LocalDateTime.of(2026, 1, 16, 0, 0), 0, 0));
+        given(storageUsageSummaryService.getUserSummary(1L))
+                .willReturn(Optional.of(mock(StorageUsageSummary.class)));
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestBudget.end();
+    }
+
+    @Nested
+    @DisplayName("getMyProfile 요청 사용량")
+    class GetMyProfileBudget {
+
+        @Test
+        @DisplayName("성공 - 사용자, 플랜, 스토리지 요약을 각각 한 번씩만 조회한다 (SQL 3회 이하)")
+        void withinBudget() {
+            // when
+            RequestBudget budget = assertSqlStatementsAtMost(3, () -> {
+                MyProfileResponse response = userService.getMyProfile(1L);
+                assertThat(response).isNotNull();
+            });
+
+            // then
+            assertThat(budget.getSqlStatements()).isEqualTo(3);
+        }
+    }
+}
@@ -0,0 +1,198 @@
+package com.proovy.global.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class TwoLevelCacheTest {
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    @Mock
+    private RedisMessageListenerContainer listenerContainer;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private TwoLevelCache<Long, Profile> cache;
+
+    record Profile(String name) {
+    }
+
+    @BeforeEach
+    void setUp() {
+        given(redisTemplate.opsForValue()).willReturn(valueOperations);
+        TwoLevelCacheFactory cacheFactory = new TwoLevelCacheFactory(
+                redisTemplate, listenerContainer, new ObjectMapper(), meterRegistry);
+        cache = cacheFactory.create(CacheSpec.builder()
+                .name("profile")
+                .localTtl(Duration.ofSeconds(30))
+                .localMaxSize(100)
+                .redisTtl(Duration.ofMinutes(10))
+                .build(), Profile.class);
+    }
+
+    private double requests(String result) {
+        return meterRegistry.counter("proovy.cache.requests", "cache", "profile", "result", result).count();
+    }
+
+    @Test
+    @DisplayName("성공 - 원본 조회 결과를 Redis와 로컬에 저장한다")
+    void loadAndStore() {
+        // given
+        AtomicInteger loads = new AtomicInteger();
+
+        // when
+        cache.get(1L, id -> new Profile("user-" + loads.incrementAndGet()));
+        Profile cached = cache.get(1L, id -> new Profile("user-" + loads.incrementAndGet()));
+
+        // then
+        assertThat(cached.name()).isEqualTo("user-1");
+        assertThat(loads).hasValue(1);
+        then(valueOperations).should().set("profile:1", "{\"name\":\"user-1\"}", Duration.ofMinutes(10));
+        assertThat(requests("miss")).isEqualTo(1);
+        assertThat(requests("l1_hit")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("성공 - Redis에 있으면 원본을 조회하지 않는다")
+    void redisHit() {
+        // given
+        given(valueOperations.get("profile:1")).willReturn("{\"name\":\"cached\"}");
+
+        // when
+        Profile profile = cache.get(1L, id -> {
+            throw new IllegalStateException("원본 조회가 실행되면 안 됨");
+        });
+
+        // then
+        assertThat(profile.name()).isEqualTo("cached");
+        assertThat(requests("l2_hit")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("성공 - 같은 키를 동시에 조회하면 원본 조회는 한 번만 실행한다")
+    void singleFlight() throws Exception {
+        // given
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger loads = new AtomicInteger();
+        CompletableFuture<Profile> first = CompletableFuture.supplyAsync(() -> cache.get(1L, id -> {
+            loads.incrementAndGet();
+            loading.countDown();
+            await(release);
+            return new Profile("loaded");
+        }));
+        assertThat(loading.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // when
+        CompletableFuture<Profile> second = CompletableFuture.supplyAsync(() -> cache.get(1L, id -> {
+            loads.incrementAndGet();
+            return new Profile("duplicate");
+        }));
+        release.countDown();
+
+        // then
+        assertThat(first.get(5, TimeUnit.SECONDS).name()).isEqualTo("loaded");
+        assertThat(second.get(5, TimeUnit.SECONDS).name()).isEqualTo("loaded");
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("성공 - 무효화하면 Redis 키를 지우고 다른 노드에 전파한다")
+    void evict() {
+        // given
+        cache.get(1L, id -> new Profile("old"));
+
+        // when
+        cache.evict(1L);
+        Profile reloaded = cache.get(1L, id -> new Profile("new"));
+
+        // then
+        assertThat(reloaded.name()).isEqualTo("new");
+        then(redisTemplate).should().delete("profile:1");
+        then(redisTemplate).should().convertAndSend("cache-invalidation:profile", "1");
+    }
+
+    @Test
+    @DisplayName("성공 - 다른 노드의 무효화 메시지를 받으면 로컬 캐시를 비운다")
+    void onInvalidationMessage() {
+        // given
+        cache.get(1L, id -> new Profile("old"));
+
+        // when
+        cache.onMessage(new DefaultMessage("cache-invalidation:profile".getBytes(StandardCharsets.UTF_8),
+                "1".getBytes(StandardCharsets.UTF_8)), null);
+        Profile reloaded = cache.get(1L, id -> new Profile("new"));
+
+        // then
+        assertThat(reloaded.name()).isEqualTo("new");
+    }
+
+    @Test
+    @DisplayName("성공 - 원본 조회 결과가 없으면 캐시하지 않는다")
+    void nullNotCached() {
+        // given
+        AtomicInteger loads = new AtomicInteger();
+
+        // when
+        cache.get(1L, id -> {
+            loads.incrementAndGet();
+            return null;
+        });
+        Profile profile = cache.get(1L, id -> {
+            loads.incrementAndGet();
+            return null;
+        });
+
+        // then
+        assertThat(profile).isNull();
+        assertThat(loads).hasValue(2);
+        then(valueOperations).should(never()).set(anyString(), anyString(), any(Duration.class));
+    }
+
+    @Test
+    @DisplayName("실패 - 원본 조회 예외는 그대로 전달하고 캐시하지 않는다")
+    void loaderFailure() {
+        // when & then
+        assertThatThrownBy(() -> cache.get(1L, id -> {
+            throw new IllegalStateException("db down");
+        })).isInstanceOf(IllegalStateException.class);
+        assertThat(cache.get(1L, id -> new Profile("recovered")).name()).isEqualTo("recovered");
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,170 @@
+package com.proovy.global.datasource;
+
+import com.proovy.domain.user.entity.User;
+import com.proovy.global.security.UserPrincipal;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class ReplicaRoutingDataSourceTest {
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    @Mock
+    private DataSource primary;
+
+    @Mock
+    private DataSource replica1;
+
+    @Mock
+    private DataSource replica2;
+
+    @Mock
+    private Connection primaryConnection;
+
+    @Mock
+    private Connection replica1Connection;
+
+    @Mock
+    private Connection replica2Connection;
+
+    private RecentWriteTracker recentWriteTracker;
+    private ReplicaRoutingDataSource routingDataSource;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        given(redisTemplate.opsForValue()).willReturn(valueOperations);
+        given(primary.getConnection()).willReturn(primaryConnection);
+        given(replica1.getConnection()).willReturn(replica1Connection);
+        given(replica2.getConnection()).willReturn(replica2Connection);
+
+        recentWriteTracker = new RecentWriteTracker(redisTemplate);
+        ReflectionTestUtils.setField(recentWriteTracker, "window", Duration.ofSeconds(5));
+
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+        replicas.put("replica-1", replica1);
+        replicas.put("replica-2", replica2);
+        routingDataSource = new ReplicaRoutingDataSource(primary, replicas, recentWriteTracker, new SimpleMeterRegistry());
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    private void authenticate(Long userId) {
+        User user = mock(User.class);
+        given(user.getId()).willReturn(userId);
+        UserPrincipal principal = new UserPrincipal(user);
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities()));
+    }
+
+    @Nested
+    @DisplayName("읽기 전용 연결 라우팅")
+    class Routing {
+
+        @Test
+        @DisplayName("성공 - 복제본을 번갈아 사용한다")
+        void roundRobin() throws Exception {
+            // when & then
+            assertThat(routingDataSource.getConnection()).isSameAs(replica1Connection);
+            assertThat(routingDataSource.getConnection()).isSameAs(replica2Connection);
+            assertThat(routingDataSource.getConnection()).isSameAs(replica1Connection);
+        }
+
+        @Test
+        @DisplayName("성공 - PrimaryReads 범위에서는 주 DB를 사용한다")
+        void forcedPrimary() throws Exception {
+            // when
+            Connection connection = PrimaryReads.call(() -> {
+                try {
+                    return routingDataSource.getConnection();
+                } catch (Exception e) {
+                    throw new IllegalStateException(e);
+                }
+            });
+
+            // then
+            assertThat(connection).isSameAs(primaryConnection);
+            assertThat(routingDataSource.getConnection()).isSameAs(replica1Connection);
+        }
+
+        @Test
+        @DisplayName("성공 - 최근에 쓴 사용자는 주 DB를 사용한다")
+        void recentWriter() throws Exception {
+            // given
+            authenticate(1L);
+            given(redisTemplate.hasKey("recent-write:1")).willReturn(true);
+
+            // when & then
+            assertThat(routingDataSource.getConnection()).isSameAs(primaryConnection);
+        }
+
+        @Test
+        @DisplayName("성공 - 최근 쓰기가 없는 사용자는 복제본을 사용한다")
+        void noRecentWrite() throws Exception {
+            // given
+            authenticate(1L);
+            given(redisTemplate.hasKey("recent-write:1")).willReturn(false);
+
+            // when & then
+            assertThat(routingDataSource.getConnection()).isSameAs(replica1Connection);
+        }
+
+        @Test
+        @DisplayName("성공 - Redis 장애 시 주 DB를 사용한다")
+        void redisFailure() throws Exception {
+            // given
+            authenticate(1L);
+            given(redisTemplate.hasKey("recent-write:1")).willThrow(new RedisConnectionFailureException("down"));
+
+            // when & then
+            assertThat(routingDataSource.getConnection()).isSameAs(primaryConnection);
+        }
+    }
+
+    @Test
+    @DisplayName("성공 - 주 DB 연결을 사용하면 현재 사용자의 최근 쓰기로 기록한다")
+    void markWriteOnPrimaryConnection() throws Exception {
+        // given
+        authenticate(1L);
+        WriteTrackingDataSource writeDataSource = new WriteTrackingDataSource(primary, recentWriteTracker);
+
+        // when
+        Connection connection = writeDataSource.getConnection();
+
+        // then
+        assertThat(connection).isSameAs(primaryConnection);
+        then(valueOperations).should().set("recent-write:1", "1", Duration.ofSeconds(5));
+    }
+}
@@ -0,0 +1,67 @@
+package com.proovy.global.metrics;
+
+import com.proovy.global.exception.BusinessException;
+import com.proovy.global.response.ErrorCode;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import static org.assertj.core.api.Assertions.*;
+
+class OperationMetricsTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final OperationMetrics operationMetrics = new OperationMetrics(meterRegistry);
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    private long count(String outcome) {
+        return meterRegistry.timer("proovy.test", Tags.of("plan", "FREE", "outcome", outcome)).count();
+    }
+
+    @Test
+    @DisplayName("성공 - 정상 완료는 success로 기록한다")
+    void success() {
+        // when
+        String result = operationMetrics.record("proovy.test", Tags.of("plan", "FREE"), () -> "ok");
+
+        // then
+        assertThat(result).isEqualTo("ok");
+        assertThat(count("success")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("실패 - 비즈니스 예외는 에러 코드로 기록하고 다시 던진다")
+    void businessException() {
+        // when & then
+        assertThatThrownBy(() -> operationMetrics.record("proovy.test", Tags.of("plan", "FREE"), () -> {
+            throw new BusinessException(ErrorCode.NOTE4031);
+        })).isInstanceOf(BusinessException.class);
+        assertThat(count("NOTE4031")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("성공 - 트랜잭션 안에서는 커밋 이후에 기록한다")
+    void throughCommit() {
+        // given
+        TransactionSynchronizationManager.initSynchronization();
+
+        // when
+        operationMetrics.recordThroughCommit("proovy.test", Tags.of("plan", "FREE"), () -> "ok");
+
+        // then
+        assertThat(count("success")).isZero();
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+        assertThat(count("rollback")).isEqualTo(1);
+    }
+}
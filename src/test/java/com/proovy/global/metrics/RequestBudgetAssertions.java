@@ -0,0 +1,78 @@
+package com.proovy.global.metrics;
+
+import org.mockito.MockSettings;
+import org.mockito.invocation.InvocationOnMock;
+import org.springframework.test.web.servlet.ResultMatcher;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.withSettings;
+
+/**
+ * 요청 사용량 검증 도우미
+ * 서비스 호출은 measure/assertSqlStatementsAtMost로, MockMvc 요청은 X-Request-Budget 헤더(sqlStatementsAtMost)로 검증한다.
+ * SQL 실행 수는 Hibernate 세션 리스너가 기록하므로 JPA가 연결된 테스트(@SpringBootTest, @DataJpaTest)에서만 집계된다.
+ * DB 없는 서비스 테스트는 countingStatements()로 만든 Mock의 호출 수를 SQL 실행 수로 집계한다.
+ */
+public final class RequestBudgetAssertions {
+
+    private static final Pattern SQL_PATTERN = Pattern.compile("sql=(\\d+)");
+
+    private RequestBudgetAssertions() {
+    }
+
+    /**
+     * 호출 중 사용량 측정
+     */
+    public static RequestBudget measure(Runnable call) {
+        RequestBudget budget = RequestBudget.begin();
+        try {
+            call.run();
+        } finally {
+            RequestBudget.end();
+        }
+        return budget;
+    }
+
+    /**
+     * 호출 중 SQL 실행 수가 기준 이하인지 검증
+     */
+    public static RequestBudget assertSqlStatementsAtMost(int max, Runnable call) {
+        RequestBudget budget = measure(call);
+        assertThat(budget.getSqlStatements())
+                .as("SQL 실행 수 (%s)", budget.toHeaderValue())
+                .isLessThanOrEqualTo(max);
+        return budget;
+    }
+
+    /**
+     * 호출마다 SQL 1회로 기록하는 Mock 설정 (DB 없는 서비스 테스트의 리포지토리 왕복 수 검증용)
+     * 커밋 시 배치로 묶이는 INSERT도 호출마다 1회로 세므로 실제 실행 수의 상한이다.
+     * 프록시만 만드는 getReferenceById는 SQL을 실행하지 않으므로 제외한다.
+     */
+    public static MockSettings countingStatements() {
+        return withSettings().invocationListeners(report -> {
+            InvocationOnMock invocation = (InvocationOnMock) report.getInvocation();
+            if (!"getReferenceById".equals(invocation.getMethod().getName())) {
+                RequestBudget.recordStatement(0);
+            }
+        });
+    }
+
+    /**
+     * MockMvc 응답의 SQL 실행 수가 기준 이하인지 검증 (prod 외 프로필에서만 헤더가 붙는다)
+     */
+    public static ResultMatcher sqlStatementsAtMost(int max) {
+        return result -> {
+            String header = result.getResponse().getHeader(RequestBudget.HEADER);
+            assertThat(header).as(RequestBudget.HEADER + " 헤더").isNotNull();
+            Matcher matcher = SQL_PATTERN.matcher(header);
+            assertThat(matcher.find()).as("SQL 실행 수 (%s)", header).isTrue();
+            assertThat(Integer.parseInt(matcher.group(1)))
+                    .as("SQL 실행 수 (%s)", header)
+                    .isLessThanOrEqualTo(max);
+        };
+    }
+}
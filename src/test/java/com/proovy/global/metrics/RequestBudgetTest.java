@@ -0,0 +1,90 @@
+package com.proovy.global.metrics;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.servlet.MvcResult;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+class RequestBudgetTest {
+
+    private final RequestBudgetSessionListener listener = new RequestBudgetSessionListener();
+
+    @AfterEach
+    void tearDown() {
+        RequestBudget.end();
+    }
+
+    private void executeStatement() {
+        listener.jdbcExecuteStatementStart();
+        listener.jdbcExecuteStatementEnd();
+    }
+
+    @Test
+    @DisplayName("성공 - 요청 중 SQL/Redis/S3 호출을 집계한다")
+    void collect() {
+        // when
+        RequestBudget budget = RequestBudgetAssertions.measure(() -> {
+            executeStatement();
+            listener.jdbcExecuteBatchStart();
+            listener.jdbcExecuteBatchEnd();
+            RequestBudget.recordRedisCall();
+            RequestBudget.recordRedisCall();
+            RequestBudget.recordS3Call();
+        });
+
+        // then
+        assertThat(budget.getSqlStatements()).isEqualTo(2);
+        assertThat(budget.getJdbcNanos()).isGreaterThanOrEqualTo(0);
+        assertThat(budget.getRedisCalls()).isEqualTo(2);
+        assertThat(budget.getS3Calls()).isEqualTo(1);
+        assertThat(budget.toHeaderValue()).startsWith("sql=2; jdbc=").endsWith("redis=2; s3=1");
+        assertThat(RequestBudget.current()).isNull();
+    }
+
+    @Test
+    @DisplayName("성공 - 요청 밖의 호출은 집계하지 않는다")
+    void outsideRequest() {
+        // when & then
+        assertThatCode(() -> {
+            executeStatement();
+            RequestBudget.recordRedisCall();
+            RequestBudget.recordS3Call();
+        }).doesNotThrowAnyException();
+        assertThat(RequestBudget.current()).isNull();
+    }
+
+    @Test
+    @DisplayName("실패 - SQL 실행 수가 기준을 넘으면 검증에 실패한다")
+    void exceedSqlBudget() {
+        // when & then
+        assertThatCode(() -> RequestBudgetAssertions.assertSqlStatementsAtMost(2, () -> {
+            executeStatement();
+            executeStatement();
+        })).doesNotThrowAnyException();
+        assertThatThrownBy(() -> RequestBudgetAssertions.assertSqlStatementsAtMost(2, () -> {
+            executeStatement();
+            executeStatement();
+            executeStatement();
+        })).isInstanceOf(AssertionError.class)
+                .hasMessageContaining("sql=3");
+    }
+
+    @Test
+    @DisplayName("성공 - 응답 헤더의 SQL 실행 수를 검증한다")
+    void headerMatcher() throws Exception {
+        // given
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        response.setHeader(RequestBudget.HEADER, "sql=3; jdbc=1.20ms; redis=1; s3=0");
+        MvcResult result = mock(MvcResult.class);
+        given(result.getResponse()).willReturn(response);
+
+        // when & then
+        RequestBudgetAssertions.sqlStatementsAtMost(3).match(result);
+        assertThatThrownBy(() -> RequestBudgetAssertions.sqlStatementsAtMost(2).match(result))
+                .isInstanceOf(AssertionError.class);
+    }
+}
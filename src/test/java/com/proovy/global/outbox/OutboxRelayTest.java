@@ -0,0 +1,200 @@
+package com.proovy.global.outbox;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.proovy.global.metrics.OperationMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class OutboxRelayTest {
+
+    @Mock
+    private OutboxStore outboxStore;
+
+    @Mock
+    private ThreadPoolTaskExecutor outboxRelayExecutor;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final RecordingHandler handler = new RecordingHandler();
+
+    private OutboxRelay outboxRelay;
+
+    record TestPayload(String value) {
+    }
+
+    static class RecordingHandler implements OutboxHandler<TestPayload> {
+
+        final List<String> handled = new ArrayList<>();
+        final List<String> gaveUp = new ArrayList<>();
+        boolean failing;
+
+        @Override
+        public String eventType() {
+            return "test";
+        }
+
+        @Override
+        public Class<TestPayload> payloadType() {
+            return TestPayload.class;
+        }
+
+        @Override
+        public void handle(TestPayload payload) {
+            if (failing) {
+                throw new IllegalStateException("unavailable");
+            }
+            handled.add(payload.value());
+        }
+
+        @Override
+        public void onGiveUp(TestPayload payload) {
+            gaveUp.add(payload.value());
+        }
+    }
+
+    @BeforeEach
+    void setUp() {
+        outboxRelay = new OutboxRelay(outboxStore, objectMapper,
+                new OperationMetrics(new SimpleMeterRegistry()), outboxRelayExecutor, List.of(handler));
+
+        // 테스트에서는 현재 스레드에서 바로 실행
+        willAnswer(invocation -> {
+            invocation.<Runnable>getArgument(0).run();
+            return null;
+        }).given(outboxRelayExecutor).execute(any(Runnable.class));
+    }
+
+    private OutboxEvent event(long id, String eventType, String payload) {
+        OutboxEvent event = OutboxEvent.builder()
+                .aggregateType("asset")
+                .aggregateId(String.valueOf(id))
+                .eventType(eventType)
+                .payload(payload)
+                .createdAt(LocalDateTime.now())
+                .build();
+        ReflectionTestUtils.setField(event, "id", id);
+        return event;
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<Long> completedIds() {
+        return mockingDetails(outboxStore).getInvocations().stream()
+                .filter(invocation -> invocation.getMethod().getName().equals("complete"))
+                .flatMap(invocation -> ((Collection<Long>) invocation.getArgument(0)).stream())
+                .toList();
+    }
+
+    @Test
+    @DisplayName("성공 - 처리에 성공한 이벤트는 다음 조회 전에 일괄 삭제한다")
+    void completeHandledEvents() {
+        // given
+        given(outboxStore.claim(eq("test"), anyInt())).willReturn(List.of(
+                event(1L, "test", "{\"value\":\"a\"}"),
+                event(2L, "test", "{\"value\":\"b\"}")), List.of());
+
+        // when
+        outboxRelay.drain();
+
+        // then
+        assertThat(handler.handled).containsExactlyInAnyOrder("a", "b");
+        assertThat(completedIds()).containsExactlyInAnyOrder(1L, 2L);
+        then(outboxStore).should(never()).recordFailure(anyLong(), any());
+    }
+
+    @Test
+    @DisplayName("성공 - 이벤트 종류마다 동시 처리 한도 안에서만 가져온다")
+    void claimWithinConcurrency() {
+        // given
+        given(outboxStore.claim(eq("test"), anyInt())).willReturn(List.of());
+
+        // when
+        outboxRelay.drain();
+
+        // then
+        then(outboxStore).should().claim("test", handler.concurrency());
+    }
+
+    @Test
+    @DisplayName("성공 - 처리 중인 이벤트를 기다리지 않고 다음 조회를 진행한다")
+    void doNotWaitForInFlightEvents() {
+        // given
+        List<Runnable> pending = new ArrayList<>();
+        willAnswer(invocation -> {
+            pending.add(invocation.getArgument(0));
+            return null;
+        }).given(outboxRelayExecutor).execute(any(Runnable.class));
+        given(outboxStore.claim(eq("test"), anyInt())).willReturn(
+                List.of(event(1L, "test", "{\"value\":\"a\"}")), List.of());
+
+        // when
+        outboxRelay.drain();
+        outboxRelay.drain();
+
+        // then - 1건이 처리 중이어도 남은 자리만큼 다시 조회
+        then(outboxStore).should().claim("test", handler.concurrency());
+        then(outboxStore).should().claim("test", handler.concurrency() - 1);
+        assertThat(handler.handled).isEmpty();
+    }
+
+    @Test
+    @DisplayName("실패 - 처리에 실패하면 재시도를 예약하고 삭제하지 않는다")
+    void retryOnFailure() {
+        // given
+        handler.failing = true;
+        given(outboxStore.claim(eq("test"), anyInt())).willReturn(
+                List.of(event(1L, "test", "{\"value\":\"a\"}")), List.of());
+        given(outboxStore.recordFailure(eq(1L), any())).willReturn(false);
+
+        // when
+        outboxRelay.drain();
+
+        // then
+        then(outboxStore).should().recordFailure(1L, "unavailable");
+        assertThat(completedIds()).doesNotContain(1L);
+        assertThat(handler.gaveUp).isEmpty();
+    }
+
+    @Test
+    @DisplayName("실패 - 최대 시도 횟수를 넘기면 보상 처리를 호출한다")
+    void giveUpAfterMaxAttempts() {
+        // given
+        handler.failing = true;
+        given(outboxStore.claim(eq("test"), anyInt())).willReturn(
+                List.of(event(1L, "test", "{\"value\":\"a\"}")), List.of());
+        given(outboxStore.recordFailure(eq(1L), any())).willReturn(true);
+
+        // when
+        outboxRelay.drain();
+
+        // then
+        assertThat(handler.gaveUp).containsExactly("a");
+    }
+
+    @Test
+    @DisplayName("성공 - 재시도 간격은 지수로 늘어나고 상한을 넘지 않는다")
+    void backoff() {
+        assertThat(OutboxStore.backoff(0)).isEqualTo(Duration.ofSeconds(5));
+        assertThat(OutboxStore.backoff(3)).isEqualTo(Duration.ofSeconds(40));
+        assertThat(OutboxStore.backoff(30)).isEqualTo(Duration.ofMinutes(10));
+    }
+}
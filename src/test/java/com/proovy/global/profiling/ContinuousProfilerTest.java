@@ -0,0 +1,94 @@
+package com.proovy.global.profiling;
+
+import com.proovy.global.exception.BusinessException;
+import com.proovy.global.response.ErrorCode;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+class ContinuousProfilerTest {
+
+    private final ContinuousProfiler continuousProfiler = new ContinuousProfiler();
+
+    @BeforeEach
+    void setUp() throws Exception {
+        ReflectionTestUtils.setField(continuousProfiler, "maxAge", Duration.ofMinutes(5));
+        ReflectionTestUtils.setField(continuousProfiler, "maxSizeMb", 64L);
+        continuousProfiler.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        continuousProfiler.stop();
+    }
+
+    @Test
+    @DisplayName("성공 - 도메인 작업 이벤트를 요약에 포함한다")
+    void summarizeOperations() throws Exception {
+        // given
+        new NoteCreateEvent("FREE").record(() -> "ok");
+        assertThatThrownBy(() -> new NoteCreateEvent("FREE").record(() -> {
+            throw new BusinessException(ErrorCode.NOTE4031);
+        })).isInstanceOf(BusinessException.class);
+
+        // when
+        ProfileSummary summary = continuousProfiler.summarize(Duration.ofMinutes(1), 10);
+
+        // then
+        assertThat(summary.operations())
+                .filteredOn(stats -> stats.event().equals("proovy.NoteCreate"))
+                .singleElement()
+                .satisfies(stats -> assertThat(stats.count()).isEqualTo(2));
+        assertThat(summary.topCpuSites()).hasSizeLessThanOrEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("성공 - 최근 구간을 JFR 파일로 내보낸다")
+    void dumpWindow() throws Exception {
+        // given
+        TokenVerifyEvent event = new TokenVerifyEvent();
+        event.begin();
+        event.complete("AUTH4013");
+
+        // when
+        Path file = continuousProfiler.dump(Duration.ofMinutes(1));
+
+        // then
+        try {
+            List<RecordedEvent> events = RecordingFile.readAllEvents(file);
+            assertThat(events)
+                    .filteredOn(recorded -> recorded.getEventType().getName().equals("proovy.TokenVerify"))
+                    .singleElement()
+                    .satisfies(recorded -> assertThat(recorded.getString("outcome")).isEqualTo("AUTH4013"));
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    @Test
+    @DisplayName("성공 - 환경 변수와 시스템 프로퍼티 이벤트는 내보내지 않는다")
+    void dumpExcludesSensitiveEvents() throws Exception {
+        // when
+        Path file = continuousProfiler.dump(null);
+
+        // then
+        try {
+            assertThat(RecordingFile.readAllEvents(file))
+                    .extracting(recorded -> recorded.getEventType().getName())
+                    .doesNotContainAnyElementsOf(ContinuousProfiler.SENSITIVE_EVENTS);
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+}
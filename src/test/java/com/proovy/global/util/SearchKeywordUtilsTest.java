@@ -0,0 +1,48 @@
+package com.proovy.global.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+class SearchKeywordUtilsTest {
+
+    @Nested
+    @DisplayName("normalize 메서드")
+    class Normalize {
+
+        @Test
+        @DisplayName("성공 - 앞뒤 공백을 제거하고 소문자로 바꾼다")
+        void trimAndLowerCase() {
+            // when & then
+            assertThat(SearchKeywordUtils.normalize("  Linear Algebra ")).isEqualTo("linear algebra");
+        }
+    }
+
+    @Nested
+    @DisplayName("containsPattern 메서드")
+    class ContainsPattern {
+
+        @Test
+        @DisplayName("성공 - 검색어를 %로 감싼 부분 일치 패턴을 만든다")
+        void wrap() {
+            // when & then
+            assertThat(SearchKeywordUtils.containsPattern("집합")).isEqualTo("%집합%");
+        }
+
+        @Test
+        @DisplayName("성공 - %와 _는 와일드카드가 아닌 문자로 검색되도록 이스케이프한다")
+        void escapeWildcards() {
+            // when & then
+            assertThat(SearchKeywordUtils.containsPattern("100%_done")).isEqualTo("%100\\%\\_done%");
+        }
+
+        @Test
+        @DisplayName("성공 - 이스케이프 문자(\\)를 먼저 이스케이프해 와일드카드 이스케이프와 섞이지 않는다")
+        void escapeBackslash() {
+            // when & then
+            assertThat(SearchKeywordUtils.containsPattern("a\\%b")).isEqualTo("%a\\\\\\%b%");
+        }
+    }
+}